@@ -17,6 +17,7 @@ import modelengine.fel.community.model.openai.entity.chat.OpenAiChatCompletionRe
 import modelengine.fel.community.model.openai.entity.embed.OpenAiEmbedding;
 import modelengine.fel.community.model.openai.entity.embed.OpenAiEmbeddingRequest;
 import modelengine.fel.community.model.openai.entity.embed.OpenAiEmbeddingResponse;
+import modelengine.fel.community.model.openai.stream.OpenAiStreamAccumulator;
 import modelengine.fel.community.model.openai.util.HttpUtils;
 import modelengine.fel.core.chat.ChatMessage;
 import modelengine.fel.core.chat.ChatModel;
@@ -33,6 +34,7 @@ import modelengine.fit.http.protocol.HttpRequestMethod;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.exception.FitException;
 import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Publisher;
 import modelengine.fitframework.resource.UrlUtils;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.CollectionUtils;
@@ -40,6 +42,7 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 表示 openai 模型服务。
@@ -106,11 +109,22 @@ public class OpenAiModel implements EmbedModel, ChatModel {
     }
 
     private Choir<ChatMessage> createChatStream(HttpClassicClientRequest request) {
-        return request.<String>exchangeStream(String.class)
-                .filter(str -> !StringUtils.equals(str, "[DONE]"))
-                .map(str -> this.serializer.<OpenAiChatCompletionResponse>deserialize(str,
-                        OpenAiChatCompletionResponse.class))
-                .map(OpenAiChatCompletionResponse::message);
+        return accumulate(request.exchangeStream(String.class));
+    }
+
+    /**
+     * 将流式响应的数据块转换为消息。
+     * <p>转换通过操作符组合完成，因此下游的请求数量和取消都会传递给上游。上游正常结束后再输出累积器中剩余的消息，
+     * 服务端没有发送结束标记就结束响应时，同样可以输出未完成的工具调用和 token 消耗数量。</p>
+     *
+     * @param chunks 表示流式响应数据块的 {@link Choir}{@code <}{@link String}{@code >}。
+     * @return 表示转换后的消息的 {@link Choir}{@code <}{@link ChatMessage}{@code >}。
+     */
+    static Choir<ChatMessage> accumulate(Choir<String> chunks) {
+        OpenAiStreamAccumulator accumulator = new OpenAiStreamAccumulator();
+        Choir<ChatMessage> messages = chunks.flatMap(data -> Choir.fromIterable(accumulator.accept(data)));
+        Choir<ChatMessage> rest = Choir.fromIterable(() -> accumulator.finish().iterator());
+        return Choir.<Publisher<ChatMessage>>just(messages, rest).flatMap(Function.identity(), 1);
     }
 
     private Choir<ChatMessage> createChatCompletion(HttpClassicClientRequest request) {
@@ -12,7 +12,9 @@ import modelengine.fitframework.annotation.Property;
 import modelengine.fitframework.serialization.annotation.SerializeStrategy;
 import modelengine.fitframework.util.CollectionUtils;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +36,8 @@ public class OpenAiChatCompletionRequest {
     private final Double presencePenalty;
     private final List<String> stop;
     private final boolean stream;
+    @Property(name = "stream_options")
+    private final Map<String, Object> streamOptions;
     private final Double temperature;
     @Property(name = "top_p")
     private final Double topP;
@@ -55,6 +59,7 @@ public class OpenAiChatCompletionRequest {
         this.presencePenalty = chatOption.presencePenalty();
         this.stop = chatOption.stop();
         this.stream = chatOption.stream();
+        this.streamOptions = this.stream ? Collections.singletonMap("include_usage", true) : null;
         this.temperature = chatOption.temperature();
         this.topP = chatOption.topP();
         if (CollectionUtils.isEmpty(chatOption.tools())) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.community.model.openai.entity.chat;
+
+/**
+ * 表示 openai 会话补全请求消耗的 token 数量。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class OpenAiUsage {
+    private final long promptTokens;
+    private final long completionTokens;
+    private final long totalTokens;
+
+    /**
+     * 创建 {@link OpenAiUsage} 的实例。
+     *
+     * @param promptTokens 表示提示词消耗的 token 数量的 {@code long}。
+     * @param completionTokens 表示模型回复消耗的 token 数量的 {@code long}。
+     * @param totalTokens 表示消耗的 token 总量的 {@code long}。
+     */
+    public OpenAiUsage(long promptTokens, long completionTokens, long totalTokens) {
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+        this.totalTokens = totalTokens;
+    }
+
+    /**
+     * 获取提示词消耗的 token 数量。
+     *
+     * @return 表示提示词消耗的 token 数量的 {@code long}。
+     */
+    public long promptTokens() {
+        return this.promptTokens;
+    }
+
+    /**
+     * 获取模型回复消耗的 token 数量。
+     *
+     * @return 表示模型回复消耗的 token 数量的 {@code long}。
+     */
+    public long completionTokens() {
+        return this.completionTokens;
+    }
+
+    /**
+     * 获取消耗的 token 总量。
+     *
+     * @return 表示消耗的 token 总量的 {@code long}。
+     */
+    public long totalTokens() {
+        return this.totalTokens;
+    }
+
+    @Override
+    public String toString() {
+        return "Usage{" + "promptTokens=" + this.promptTokens + ", completionTokens=" + this.completionTokens
+                + ", totalTokens=" + this.totalTokens + '}';
+    }
+}
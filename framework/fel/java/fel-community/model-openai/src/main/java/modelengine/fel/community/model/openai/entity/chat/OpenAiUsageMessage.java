@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.community.model.openai.entity.chat;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.chat.support.AiMessage;
+import modelengine.fel.core.tool.ToolCall;
+
+import java.util.List;
+
+/**
+ * 表示携带 token 消耗数量的模型回复消息，作为流式回复的最后一条消息。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class OpenAiUsageMessage extends AiMessage {
+    private final OpenAiUsage usage;
+
+    /**
+     * 创建 {@link OpenAiUsageMessage} 的实例。
+     *
+     * @param text 表示消息文本的 {@link String}。
+     * @param toolCalls 表示工具调用的 {@link List}{@code <}{@link ToolCall}{@code >}。
+     * @param usage 表示 token 消耗数量的 {@link OpenAiUsage}。
+     * @throws IllegalArgumentException 当 {@code usage} 为 {@code null} 时。
+     */
+    public OpenAiUsageMessage(String text, List<ToolCall> toolCalls, OpenAiUsage usage) {
+        super(text, toolCalls);
+        this.usage = notNull(usage, "The usage cannot be null.");
+    }
+
+    /**
+     * 获取本次请求的 token 消耗数量。
+     *
+     * @return 表示 token 消耗数量的 {@link OpenAiUsage}。
+     */
+    public OpenAiUsage usage() {
+        return this.usage;
+    }
+}
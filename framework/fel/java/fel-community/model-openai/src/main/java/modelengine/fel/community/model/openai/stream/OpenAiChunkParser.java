@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.community.model.openai.stream;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示 openai 流式会话补全数据块的解析器。
+ * <p>解析器只识别数据块中需要的字段：第一个候选回复的文本、工具调用片段、结束原因以及 token 消耗数量，其余字段直接跳过，
+ * 不会为数据块创建完整的对象结构。解析结果通过 {@link Handler} 回调，回调中的 {@link CharSequence} 为解析器内部复用的缓冲区，
+ * 只在回调期间有效。解析器可以重复使用，但不是线程安全的。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class OpenAiChunkParser {
+    private final StringBuilder key = new StringBuilder();
+    private final StringBuilder content = new StringBuilder();
+    private final StringBuilder finishReason = new StringBuilder();
+    private final StringBuilder toolCallId = new StringBuilder();
+    private final StringBuilder toolCallName = new StringBuilder();
+    private final StringBuilder arguments = new StringBuilder();
+    private String input;
+    private int position;
+
+    /**
+     * 解析一个数据块。
+     *
+     * @param chunk 表示数据块的 {@link String}。
+     * @param handler 表示解析结果的处理器的 {@link Handler}。
+     * @throws IllegalArgumentException 当 {@code chunk} 或 {@code handler} 为 {@code null} 时。
+     * @throws SerializationException 当数据块不是合法的 json 对象时。
+     */
+    void parse(String chunk, Handler handler) {
+        this.input = notNull(chunk, "The chunk cannot be null.");
+        notNull(handler, "The handler cannot be null.");
+        this.position = 0;
+        try {
+            this.expect('{');
+            while (this.nextField()) {
+                if (this.isKey("choices")) {
+                    this.parseChoices(handler);
+                } else if (this.isKey("usage")) {
+                    this.parseUsage(handler);
+                } else {
+                    this.skipValue();
+                }
+            }
+            this.skipWhitespace();
+            if (this.position != this.input.length()) {
+                throw this.malformed();
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new SerializationException(StringUtils.format("The chunk is malformed. [chunk={0}]", chunk), e);
+        } finally {
+            this.input = null;
+        }
+    }
+
+    private void parseChoices(Handler handler) {
+        if (this.skipNull()) {
+            return;
+        }
+        this.expect('[');
+        boolean isFirst = true;
+        while (this.nextElement()) {
+            if (isFirst) {
+                this.parseChoice(handler);
+                isFirst = false;
+            } else {
+                this.skipValue();
+            }
+        }
+    }
+
+    private void parseChoice(Handler handler) {
+        if (this.skipNull()) {
+            return;
+        }
+        this.expect('{');
+        boolean hasFinishReason = false;
+        while (this.nextField()) {
+            if (this.isKey("delta") || this.isKey("message")) {
+                this.parseDelta(handler);
+            } else if (this.isKey("finish_reason")) {
+                hasFinishReason = this.readNullableString(this.finishReason);
+            } else {
+                this.skipValue();
+            }
+        }
+        if (hasFinishReason) {
+            handler.onFinish(this.finishReason);
+        }
+    }
+
+    private void parseDelta(Handler handler) {
+        if (this.skipNull()) {
+            return;
+        }
+        this.expect('{');
+        while (this.nextField()) {
+            if (this.isKey("content")) {
+                if (this.readNullableString(this.content) && this.content.length() > 0) {
+                    handler.onContent(this.content);
+                }
+            } else if (this.isKey("tool_calls")) {
+                this.parseToolCalls(handler);
+            } else {
+                this.skipValue();
+            }
+        }
+    }
+
+    private void parseToolCalls(Handler handler) {
+        if (this.skipNull()) {
+            return;
+        }
+        this.expect('[');
+        int ordinal = 0;
+        while (this.nextElement()) {
+            this.parseToolCall(ordinal++, handler);
+        }
+    }
+
+    private void parseToolCall(int ordinal, Handler handler) {
+        this.expect('{');
+        int index = ordinal;
+        boolean hasId = false;
+        boolean hasName = false;
+        this.arguments.setLength(0);
+        while (this.nextField()) {
+            if (this.isKey("index")) {
+                index = (int) this.readLong();
+            } else if (this.isKey("id")) {
+                hasId = this.readNullableString(this.toolCallId);
+            } else if (this.isKey("function")) {
+                if (this.skipNull()) {
+                    continue;
+                }
+                this.expect('{');
+                while (this.nextField()) {
+                    if (this.isKey("name")) {
+                        hasName = this.readNullableString(this.toolCallName);
+                    } else if (this.isKey("arguments")) {
+                        this.readNullableString(this.arguments);
+                    } else {
+                        this.skipValue();
+                    }
+                }
+            } else {
+                this.skipValue();
+            }
+        }
+        handler.onToolCall(index, hasId ? this.toolCallId : null, hasName ? this.toolCallName : null, this.arguments);
+    }
+
+    private void parseUsage(Handler handler) {
+        if (this.skipNull()) {
+            return;
+        }
+        this.expect('{');
+        long promptTokens = 0;
+        long completionTokens = 0;
+        long totalTokens = 0;
+        while (this.nextField()) {
+            if (this.isKey("prompt_tokens")) {
+                promptTokens = this.readLong();
+            } else if (this.isKey("completion_tokens")) {
+                completionTokens = this.readLong();
+            } else if (this.isKey("total_tokens")) {
+                totalTokens = this.readLong();
+            } else {
+                this.skipValue();
+            }
+        }
+        handler.onUsage(promptTokens, completionTokens, totalTokens);
+    }
+
+    private boolean nextField() {
+        this.skipWhitespace();
+        char c = this.input.charAt(this.position);
+        if (c == '}') {
+            this.position++;
+            return false;
+        }
+        if (c == ',') {
+            this.position++;
+        }
+        this.skipWhitespace();
+        this.readString(this.key);
+        this.expect(':');
+        this.skipWhitespace();
+        return true;
+    }
+
+    private boolean nextElement() {
+        this.skipWhitespace();
+        char c = this.input.charAt(this.position);
+        if (c == ']') {
+            this.position++;
+            return false;
+        }
+        if (c == ',') {
+            this.position++;
+        }
+        this.skipWhitespace();
+        return true;
+    }
+
+    private boolean isKey(String name) {
+        return CharSequence.compare(this.key, name) == 0;
+    }
+
+    private boolean skipNull() {
+        this.skipWhitespace();
+        if (this.input.startsWith("null", this.position)) {
+            this.position += 4;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean readNullableString(StringBuilder target) {
+        if (this.skipNull()) {
+            return false;
+        }
+        this.readString(target);
+        return true;
+    }
+
+    private void readString(StringBuilder target) {
+        target.setLength(0);
+        this.expect('"');
+        int start = this.position;
+        while (true) {
+            char c = this.input.charAt(this.position);
+            if (c == '"') {
+                target.append(this.input, start, this.position++);
+                return;
+            }
+            if (c != '\\') {
+                this.position++;
+                continue;
+            }
+            target.append(this.input, start, this.position);
+            char escaped = this.input.charAt(this.position + 1);
+            this.position += 2;
+            switch (escaped) {
+                case 'b':
+                    target.append('\b');
+                    break;
+                case 'f':
+                    target.append('\f');
+                    break;
+                case 'n':
+                    target.append('\n');
+                    break;
+                case 'r':
+                    target.append('\r');
+                    break;
+                case 't':
+                    target.append('\t');
+                    break;
+                case 'u':
+                    target.append((char) Integer.parseInt(this.input, this.position, this.position + 4, 16));
+                    this.position += 4;
+                    break;
+                case '"':
+                case '\\':
+                case '/':
+                    target.append(escaped);
+                    break;
+                default:
+                    throw this.malformed();
+            }
+            start = this.position;
+        }
+    }
+
+    private long readLong() {
+        this.skipWhitespace();
+        int start = this.position;
+        boolean isIntegral = true;
+        while (this.position < this.input.length()) {
+            char c = this.input.charAt(this.position);
+            if (c == '.' || c == 'e' || c == 'E' || c == '+') {
+                isIntegral = false;
+            } else if (c != '-' && (c < '0' || c > '9')) {
+                break;
+            }
+            this.position++;
+        }
+        if (isIntegral) {
+            return Long.parseLong(this.input, start, this.position, 10);
+        }
+        return (long) Double.parseDouble(this.input.substring(start, this.position));
+    }
+
+    private void skipValue() {
+        this.skipWhitespace();
+        char c = this.input.charAt(this.position);
+        if (c == '{') {
+            this.position++;
+            while (this.nextField()) {
+                this.skipValue();
+            }
+        } else if (c == '[') {
+            this.position++;
+            while (this.nextElement()) {
+                this.skipValue();
+            }
+        } else if (c == '"') {
+            this.skipString();
+        } else if (this.skipNull()) {
+            return;
+        } else if (this.input.startsWith("true", this.position)) {
+            this.position += 4;
+        } else if (this.input.startsWith("false", this.position)) {
+            this.position += 5;
+        } else {
+            this.readLong();
+        }
+    }
+
+    private void skipString() {
+        this.position++;
+        while (true) {
+            char c = this.input.charAt(this.position++);
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                this.position++;
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.input.length() && Character.isWhitespace(this.input.charAt(this.position))) {
+            this.position++;
+        }
+    }
+
+    private void expect(char expected) {
+        this.skipWhitespace();
+        if (this.input.charAt(this.position) != expected) {
+            throw this.malformed();
+        }
+        this.position++;
+    }
+
+    private SerializationException malformed() {
+        return new SerializationException(StringUtils.format("The chunk is malformed. [position={0}, chunk={1}]",
+                this.position,
+                this.input));
+    }
+
+    /**
+     * 表示数据块解析结果的处理器。
+     */
+    interface Handler {
+        /**
+         * 处理回复文本的片段。
+         *
+         * @param content 表示文本片段的 {@link CharSequence}。
+         */
+        void onContent(CharSequence content);
+
+        /**
+         * 处理工具调用的片段。
+         *
+         * @param index 表示工具调用序号的 {@code int}。
+         * @param id 表示工具调用唯一标识的 {@link CharSequence}，片段中不包含时为 {@code null}。
+         * @param name 表示工具名称的 {@link CharSequence}，片段中不包含时为 {@code null}。
+         * @param arguments 表示参数片段的 {@link CharSequence}，片段中不包含时为空。
+         */
+        void onToolCall(int index, CharSequence id, CharSequence name, CharSequence arguments);
+
+        /**
+         * 处理回复的结束原因。
+         *
+         * @param reason 表示结束原因的 {@link CharSequence}。
+         */
+        void onFinish(CharSequence reason);
+
+        /**
+         * 处理 token 消耗数量。
+         *
+         * @param promptTokens 表示提示词消耗的 token 数量的 {@code long}。
+         * @param completionTokens 表示模型回复消耗的 token 数量的 {@code long}。
+         * @param totalTokens 表示消耗的 token 总量的 {@code long}。
+         */
+        void onUsage(long promptTokens, long completionTokens, long totalTokens);
+    }
+}
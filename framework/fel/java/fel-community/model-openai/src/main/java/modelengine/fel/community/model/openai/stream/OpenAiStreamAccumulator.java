@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.community.model.openai.stream;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.community.model.openai.entity.chat.OpenAiToolCall;
+import modelengine.fel.community.model.openai.entity.chat.OpenAiUsage;
+import modelengine.fel.community.model.openai.entity.chat.OpenAiUsageMessage;
+import modelengine.fel.core.chat.ChatMessage;
+import modelengine.fel.core.chat.support.AiMessage;
+import modelengine.fel.core.tool.ToolCall;
+import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 表示 openai 流式会话补全的累加器，将服务端推送的数据块转换为完整的消息。
+ * <p>每个数据块中的文本片段原样转换为消息；工具调用的片段按照序号合并，参数构成完整的 json 值、出现序号更大的工具调用，
+ * 或者回复结束时，该工具调用即完成，并在当前数据块对应的消息中输出，每个工具调用只输出一次。收到结束标记 {@code [DONE]} 时，
+ * 输出所有未完成的工具调用，如果服务端上报了 token 消耗数量，最后一条消息为 {@link OpenAiUsageMessage}，多次上报时以最后一次为准。</p>
+ * <p>每个流式响应需要使用单独的累加器，累加器不是线程安全的。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public final class OpenAiStreamAccumulator {
+    /** 表示流式响应的结束标记。 */
+    public static final String DONE = "[DONE]";
+
+    private final OpenAiChunkParser parser = new OpenAiChunkParser();
+    private final ChunkHandler handler = new ChunkHandler();
+    private final TreeMap<Integer, PendingToolCall> pending = new TreeMap<>();
+    private final BitSet completedIndexes = new BitSet();
+    private final StringBuilder text = new StringBuilder();
+    private final List<ToolCall> completed = new ArrayList<>();
+    private OpenAiUsage usage;
+    private boolean isFinished;
+
+    /**
+     * 接收一个数据块。
+     *
+     * @param data 表示数据块的 {@link String}，为 {@link #DONE} 时等价于调用 {@link #finish()}。
+     * @return 表示该数据块产生的消息的 {@link List}{@code <}{@link ChatMessage}{@code >}，数据块中没有文本且没有完成的工具调用时
+     * 为空。
+     * @throws IllegalArgumentException 当 {@code data} 为 {@code null} 时。
+     * @throws SerializationException 当数据块不是合法的 json 对象时。
+     */
+    public List<ChatMessage> accept(String data) {
+        notNull(data, "The data cannot be null.");
+        if (StringUtils.equals(data.trim(), DONE)) {
+            return this.finish();
+        }
+        if (this.isFinished) {
+            return Collections.emptyList();
+        }
+        this.parser.parse(data, this.handler);
+        return this.drain(null);
+    }
+
+    /**
+     * 结束流式响应，输出所有未完成的工具调用和 token 消耗数量。重复调用时返回空列表。
+     *
+     * @return 表示剩余消息的 {@link List}{@code <}{@link ChatMessage}{@code >}。
+     */
+    public List<ChatMessage> finish() {
+        if (this.isFinished) {
+            return Collections.emptyList();
+        }
+        this.isFinished = true;
+        this.completeBefore(Integer.MAX_VALUE);
+        return this.drain(this.usage);
+    }
+
+    private List<ChatMessage> drain(OpenAiUsage finalUsage) {
+        if (this.text.length() == 0 && this.completed.isEmpty() && finalUsage == null) {
+            return Collections.emptyList();
+        }
+        String content = this.text.toString();
+        List<ToolCall> toolCalls = new ArrayList<>(this.completed);
+        this.text.setLength(0);
+        this.completed.clear();
+        ChatMessage message = finalUsage == null
+                ? new AiMessage(content, toolCalls)
+                : new OpenAiUsageMessage(content, toolCalls, finalUsage);
+        return Collections.singletonList(message);
+    }
+
+    private void completeBefore(int index) {
+        Iterator<PendingToolCall> iterator = this.pending.headMap(index, false).values().iterator();
+        while (iterator.hasNext()) {
+            this.complete(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private void complete(PendingToolCall call) {
+        this.completedIndexes.set(call.index);
+        this.completed.add(OpenAiToolCall.from(ToolCall.custom()
+                .id(call.id)
+                .name(call.name)
+                .arguments(call.arguments.toString())
+                .build()));
+    }
+
+    /**
+     * 表示数据块解析结果的处理器。
+     */
+    private class ChunkHandler implements OpenAiChunkParser.Handler {
+        @Override
+        public void onContent(CharSequence content) {
+            OpenAiStreamAccumulator.this.text.append(content);
+        }
+
+        @Override
+        public void onToolCall(int index, CharSequence id, CharSequence name, CharSequence arguments) {
+            if (OpenAiStreamAccumulator.this.completedIndexes.get(index)) {
+                return;
+            }
+            OpenAiStreamAccumulator.this.completeBefore(index);
+            PendingToolCall call = OpenAiStreamAccumulator.this.pending.computeIfAbsent(index, PendingToolCall::new);
+            call.merge(id, name, arguments);
+            if (call.isComplete()) {
+                OpenAiStreamAccumulator.this.pending.remove(index);
+                OpenAiStreamAccumulator.this.complete(call);
+            }
+        }
+
+        @Override
+        public void onFinish(CharSequence reason) {
+            OpenAiStreamAccumulator.this.completeBefore(Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void onUsage(long promptTokens, long completionTokens, long totalTokens) {
+            OpenAiStreamAccumulator.this.usage = new OpenAiUsage(promptTokens, completionTokens, totalTokens);
+        }
+    }
+
+    /**
+     * 表示正在合并的工具调用。
+     * <p>合并参数片段的同时跟踪 json 的嵌套层次，最外层的对象或数组闭合时参数即完整。</p>
+     */
+    private static class PendingToolCall {
+        private final int index;
+        private final StringBuilder arguments = new StringBuilder();
+        private String id;
+        private String name;
+        private int depth;
+        private boolean isStarted;
+        private boolean isClosed;
+        private boolean isInsideString;
+        private boolean isEscaped;
+
+        PendingToolCall(int index) {
+            this.index = index;
+        }
+
+        void merge(CharSequence id, CharSequence name, CharSequence fragment) {
+            if (this.id == null && id != null && id.length() > 0) {
+                this.id = id.toString();
+            }
+            if (this.name == null && name != null && name.length() > 0) {
+                this.name = name.toString();
+            }
+            this.arguments.append(fragment);
+            for (int i = 0; i < fragment.length() && !this.isClosed; i++) {
+                this.track(fragment.charAt(i));
+            }
+        }
+
+        private void track(char c) {
+            if (this.isInsideString) {
+                if (this.isEscaped) {
+                    this.isEscaped = false;
+                } else if (c == '\\') {
+                    this.isEscaped = true;
+                } else if (c == '"') {
+                    this.isInsideString = false;
+                }
+                return;
+            }
+            if (c == '"') {
+                this.isInsideString = true;
+            } else if (c == '{' || c == '[') {
+                this.depth++;
+                this.isStarted = true;
+            } else if (c == '}' || c == ']') {
+                this.depth--;
+                this.isClosed = this.isStarted && this.depth == 0;
+            }
+        }
+
+        boolean isComplete() {
+            return this.isClosed && this.name != null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.community.model.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fel.core.chat.ChatMessage;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscription;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link OpenAiModel} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 OpenAiModel")
+public class OpenAiModelTest {
+    @Test
+    @DisplayName("下游在流式响应中途取消时，取消上游并且不再读取数据块")
+    void shouldCancelUpstreamWhenDownstreamCancelled() {
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Publisher<String> upstream = subscriber -> subscriber.onSubscribed(new Subscription() {
+            @Override
+            public void request(long count) {
+                for (long i = 0; i < count && !cancelled.get() && emitted.get() < 10; ++i) {
+                    subscriber.consume(content("m" + emitted.getAndIncrement()));
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return cancelled.get();
+            }
+        });
+        List<String> received = new ArrayList<>();
+        AtomicBoolean terminated = new AtomicBoolean();
+        OpenAiModel.accumulate(Choir.fromPublisher(upstream))
+                .subscribe(subscription -> subscription.request(1), (subscription, message) -> {
+                    received.add(message.text());
+                    if (received.size() == 2) {
+                        subscription.cancel();
+                    } else {
+                        subscription.request(1);
+                    }
+                }, subscription -> terminated.set(true), (subscription, cause) -> terminated.set(true));
+
+        assertThat(received).containsExactly("m0", "m1");
+        assertThat(cancelled).isTrue();
+        assertThat(emitted.get()).isLessThan(10);
+        assertThat(terminated).isFalse();
+    }
+
+    @Test
+    @DisplayName("上游没有发送结束标记就结束时，输出未完成的工具调用")
+    void shouldFlushPendingToolCallWhenUpstreamCompleted() {
+        List<ChatMessage> messages = OpenAiModel.accumulate(Choir.just(content("hello"),
+                "{\"choices\":[{\"delta\":{\"tool_calls\":[{\"index\":0,\"id\":\"call_1\",\"type\":\"function\","
+                        + "\"function\":{\"name\":\"weather\",\"arguments\":\"\"}}]}}]}")).blockAll();
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(0).text()).isEqualTo("hello");
+        assertThat(messages.get(1).toolCalls()).hasSize(1);
+        assertThat(messages.get(1).toolCalls().get(0).id()).isEqualTo("call_1");
+    }
+
+    private static String content(String content) {
+        return "{\"choices\":[{\"index\":0,\"delta\":{\"content\":\"" + content + "\"}}]}";
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.community.model.openai.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.community.model.openai.entity.chat.OpenAiUsage;
+import modelengine.fel.community.model.openai.entity.chat.OpenAiUsageMessage;
+import modelengine.fel.core.chat.ChatMessage;
+import modelengine.fel.core.tool.ToolCall;
+import modelengine.fitframework.serialization.SerializationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * 表示 {@link OpenAiStreamAccumulator} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 OpenAiStreamAccumulator")
+public class OpenAiStreamAccumulatorTest {
+    private final OpenAiStreamAccumulator accumulator = new OpenAiStreamAccumulator();
+
+    @Test
+    @DisplayName("文本片段按照数据块依次输出，忽略不需要的字段")
+    void givenContentChunksThenEmitText() {
+        assertThat(this.accumulator.accept("{\"id\":\"chatcmpl-1\",\"created\":1,\"choices\":[{\"index\":0,"
+                + "\"delta\":{\"role\":\"assistant\",\"content\":\"\"},\"logprobs\":null,\"finish_reason\":null}]}"))
+                .isEmpty();
+        List<ChatMessage> messages =
+                this.accumulator.accept("{\"choices\":[{\"index\":0,\"delta\":{\"content\":\"he\\nllo \\u4f60\"}}]}");
+        assertThat(messages).extracting(ChatMessage::text).containsExactly("he\nllo 你");
+        assertThat(this.accumulator.accept(OpenAiStreamAccumulator.DONE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("工具调用的参数片段按照序号合并，参数完整时立即输出")
+    void givenToolCallDeltasThenEmitWhenArgumentsComplete() {
+        assertThat(this.accumulator.accept("{\"choices\":[{\"delta\":{\"tool_calls\":[{\"index\":0,\"id\":\"call_1\","
+                + "\"type\":\"function\",\"function\":{\"name\":\"weather\",\"arguments\":\"\"}}]}}]}")).isEmpty();
+        assertThat(this.accumulator.accept("{\"choices\":[{\"delta\":{\"tool_calls\":[{\"index\":0,"
+                + "\"function\":{\"arguments\":\"{\\\"city\\\":\\\"}\"}}]}}]}")).isEmpty();
+        List<ChatMessage> messages = this.accumulator.accept("{\"choices\":[{\"delta\":{\"tool_calls\":[{\"index\":0,"
+                + "\"function\":{\"arguments\":\"\\\"}\"}}]}}]}");
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).toolCalls()).hasSize(1);
+        ToolCall toolCall = messages.get(0).toolCalls().get(0);
+        assertThat(toolCall.id()).isEqualTo("call_1");
+        assertThat(toolCall.name()).isEqualTo("weather");
+        assertThat(toolCall.arguments()).isEqualTo("{\"city\":\"}\"}");
+    }
+
+    @Test
+    @DisplayName("出现序号更大的工具调用或回复结束时，输出之前未完成的工具调用")
+    void givenNextIndexOrFinishThenEmitPendingToolCalls() {
+        assertThat(this.accumulator.accept("{\"choices\":[{\"delta\":{\"tool_calls\":[{\"index\":0,\"id\":\"a\","
+                + "\"function\":{\"name\":\"first\",\"arguments\":\"{\\\"x\\\":1\"}}]}}]}")).isEmpty();
+        List<ChatMessage> messages = this.accumulator.accept("{\"choices\":[{\"delta\":{\"tool_calls\":[{\"index\":1,"
+                + "\"id\":\"b\",\"function\":{\"name\":\"second\",\"arguments\":\"\"}}]}}]}");
+        assertThat(messages.get(0).toolCalls()).extracting(ToolCall::name).containsExactly("first");
+
+        messages = this.accumulator.accept("{\"choices\":[{\"delta\":{},\"finish_reason\":\"tool_calls\"}]}");
+        assertThat(messages.get(0).toolCalls()).extracting(ToolCall::name).containsExactly("second");
+        assertThat(this.accumulator.finish()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("流式响应结束时，最后一条消息携带最后一次上报的 token 消耗数量")
+    void givenUsageThenReportAtStreamEnd() {
+        this.accumulator.accept("{\"choices\":[{\"delta\":{\"content\":\"hi\"}}],\"usage\":{\"prompt_tokens\":1,"
+                + "\"completion_tokens\":1,\"total_tokens\":2}}");
+        assertThat(this.accumulator.accept("{\"choices\":[],\"usage\":{\"prompt_tokens\":12,\"completion_tokens\":34,"
+                + "\"total_tokens\":46,\"completion_tokens_details\":{\"reasoning_tokens\":0}}}")).isEmpty();
+        List<ChatMessage> messages = this.accumulator.accept(OpenAiStreamAccumulator.DONE);
+        assertThat(messages).hasSize(1).first().isInstanceOf(OpenAiUsageMessage.class);
+        OpenAiUsage usage = ((OpenAiUsageMessage) messages.get(0)).usage();
+        assertThat(usage.promptTokens()).isEqualTo(12);
+        assertThat(usage.completionTokens()).isEqualTo(34);
+        assertThat(usage.totalTokens()).isEqualTo(46);
+    }
+
+    @Test
+    @DisplayName("数据块不是合法的 json 对象时，抛出异常")
+    void givenMalformedChunkThenThrowException() {
+        assertThatThrownBy(() -> this.accumulator.accept("{\"choices\":[}")).isInstanceOf(
+                SerializationException.class);
+        assertThatThrownBy(() -> this.accumulator.accept("{\"choices\":[{\"delta\":{\"content\":\"x")).isInstanceOf(
+                SerializationException.class);
+    }
+}
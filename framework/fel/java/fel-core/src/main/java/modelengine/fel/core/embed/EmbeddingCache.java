@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.embed;
+
+import java.util.Optional;
+
+/**
+ * 表示嵌入向量的缓存。
+ * <p>缓存按照模型名称和输入内容索引嵌入向量，相同的内容在同一个模型下只需要生成一次嵌入向量。实现需要保证线程安全。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public interface EmbeddingCache {
+    /**
+     * 获取指定模型下输入内容的嵌入向量。
+     *
+     * @param model 表示模型名称的 {@link String}。
+     * @param input 表示输入内容的 {@link String}。
+     * @return 表示缓存的嵌入向量的 {@link Optional}{@code <}{@link Embedding}{@code >}。
+     */
+    Optional<Embedding> get(String model, String input);
+
+    /**
+     * 缓存指定模型下输入内容的嵌入向量。
+     *
+     * @param model 表示模型名称的 {@link String}。
+     * @param input 表示输入内容的 {@link String}。
+     * @param embedding 表示嵌入向量的 {@link Embedding}。
+     */
+    void put(String model, String input, Embedding embedding);
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.embed.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.embed.EmbedModel;
+import modelengine.fel.core.embed.EmbedOption;
+import modelengine.fel.core.embed.Embedding;
+import modelengine.fel.core.embed.EmbeddingCache;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 表示分批调用的 {@link EmbedModel}。
+ * <p>输入内容先去除重复，再从缓存中查找已经生成过的嵌入向量，剩余的内容按照指定的批次大小拆分后调用实际的嵌入模型，生成的嵌入向量
+ * 写入缓存。指定了执行器时，最多同时调用指定数量的批次，调用线程本身也参与执行；否则所有批次在调用线程中依次执行。任意批次调用失败
+ * 时，尚未开始的批次不再执行，异常被抛给调用方。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class BatchingEmbedModel implements EmbedModel {
+    /** 表示默认的批次大小。 */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final EmbedModel delegate;
+    private final EmbeddingCache cache;
+    private final int batchSize;
+    private final int concurrency;
+    private final Executor executor;
+
+    /**
+     * 创建在调用线程中依次执行所有批次的 {@link BatchingEmbedModel} 的实例。
+     *
+     * @param delegate 表示实际生成嵌入向量的 {@link EmbedModel}。
+     * @param cache 表示嵌入向量缓存的 {@link EmbeddingCache}，为 {@code null} 时不使用缓存。
+     * @param batchSize 表示每次调用的最多输入数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code delegate} 为 {@code null} 或 {@code batchSize} 不大于 {@code 0} 时。
+     */
+    public BatchingEmbedModel(EmbedModel delegate, EmbeddingCache cache, int batchSize) {
+        this(delegate, cache, batchSize, 1, null);
+    }
+
+    /**
+     * 创建 {@link BatchingEmbedModel} 的实例。
+     *
+     * @param delegate 表示实际生成嵌入向量的 {@link EmbedModel}。
+     * @param cache 表示嵌入向量缓存的 {@link EmbeddingCache}，为 {@code null} 时不使用缓存。
+     * @param batchSize 表示每次调用的最多输入数量的 {@code int}。
+     * @param concurrency 表示最多同时执行的批次数量的 {@code int}。
+     * @param executor 表示执行批次的 {@link Executor}，为 {@code null} 时所有批次在调用线程中依次执行。
+     * @throws IllegalArgumentException 当 {@code delegate} 为 {@code null}，或 {@code batchSize}、{@code concurrency}
+     * 不大于 {@code 0} 时。
+     */
+    public BatchingEmbedModel(EmbedModel delegate, EmbeddingCache cache, int batchSize, int concurrency,
+            Executor executor) {
+        this.delegate = notNull(delegate, "The delegate embed model cannot be null.");
+        this.cache = cache;
+        this.batchSize = greaterThan(batchSize, 0, "The batch size must be positive. [batchSize={0}]", batchSize);
+        this.concurrency =
+                greaterThan(concurrency, 0, "The concurrency must be positive. [concurrency={0}]", concurrency);
+        this.executor = executor;
+    }
+
+    @Override
+    public List<Embedding> generate(List<String> inputs, EmbedOption option) {
+        notNull(inputs, "The inputs cannot be null.");
+        notNull(option, "The embed option cannot be null.");
+        Embedding[] results = new Embedding[inputs.size()];
+        Map<String, List<Integer>> pending = new LinkedHashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            pending.computeIfAbsent(notNull(inputs.get(i), "The input cannot be null."), key -> new ArrayList<>())
+                    .add(i);
+        }
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : pending.entrySet()) {
+            Optional<Embedding> cached =
+                    this.cache == null ? Optional.empty() : this.cache.get(option.model(), entry.getKey());
+            if (cached.isPresent()) {
+                entry.getValue().forEach(index -> results[index] = cached.get());
+            } else {
+                missing.add(entry.getKey());
+            }
+        }
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < missing.size(); from += this.batchSize) {
+            batches.add(missing.subList(from, Math.min(from + this.batchSize, missing.size())));
+        }
+        this.execute(batches, batch -> {
+            List<Embedding> embeddings = this.delegate.generate(batch, option);
+            if (embeddings == null || embeddings.size() != batch.size()) {
+                throw new IllegalStateException(StringUtils.format(
+                        "The embedding count does not match the input count. [inputs={0}, embeddings={1}]",
+                        batch.size(),
+                        embeddings == null ? 0 : embeddings.size()));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                Embedding embedding = embeddings.get(i);
+                if (this.cache != null) {
+                    this.cache.put(option.model(), batch.get(i), embedding);
+                }
+                pending.get(batch.get(i)).forEach(index -> results[index] = embedding);
+            }
+        });
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private void execute(List<List<String>> batches, Consumer<List<String>> handler) {
+        int workers = this.executor == null ? 1 : Math.min(this.concurrency, batches.size());
+        if (workers <= 1) {
+            batches.forEach(handler);
+            return;
+        }
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < batches.size()) {
+                try {
+                    handler.accept(batches.get(index));
+                } catch (RuntimeException e) {
+                    next.set(batches.size());
+                    throw e;
+                }
+            }
+        };
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 1; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(worker, this.executor));
+        }
+        futures.add(CompletableFuture.runAsync(worker, Runnable::run));
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
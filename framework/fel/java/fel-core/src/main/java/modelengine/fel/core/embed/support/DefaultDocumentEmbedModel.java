@@ -13,12 +13,14 @@ import modelengine.fel.core.document.DocumentEmbedModel;
 import modelengine.fel.core.embed.EmbedModel;
 import modelengine.fel.core.embed.EmbedOption;
 import modelengine.fel.core.embed.Embedding;
+import modelengine.fel.core.embed.EmbeddingCache;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * 表示 {@link DocumentEmbedModel} 的默认实现。
+ * <p>需要分批调用嵌入模型或复用已经生成的嵌入向量时，使用 {@link BatchingEmbedModel} 包装嵌入模型。</p>
  *
  * @author 易文渊
  * @since 2024-08-12
@@ -39,6 +41,22 @@ public class DefaultDocumentEmbedModel implements DocumentEmbedModel {
         this.embedOption = notNull(embedOption, "The embed option cannot be null.");
     }
 
+    /**
+     * 构造使用嵌入向量缓存的 {@link DefaultDocumentEmbedModel} 的实例。
+     * <p>文档按照 {@link BatchingEmbedModel#DEFAULT_BATCH_SIZE} 分批调用嵌入模型，相同内容的文档只生成一次嵌入向量，已经缓存的
+     * 文档不再调用嵌入模型。</p>
+     *
+     * @param embedModel 表示用于嵌入生成服务的 {@link EmbedModel}。
+     * @param embedOption 表示嵌入可选参数的 {@link EmbedOption}。
+     * @param cache 表示嵌入向量缓存的 {@link EmbeddingCache}。
+     * @throws IllegalArgumentException 当 {@code embedModel}、{@code embedOption}、{@code cache} 为 {@code null} 时。
+     */
+    public DefaultDocumentEmbedModel(EmbedModel embedModel, EmbedOption embedOption, EmbeddingCache cache) {
+        this(new BatchingEmbedModel(embedModel,
+                notNull(cache, "The embedding cache cannot be null."),
+                BatchingEmbedModel.DEFAULT_BATCH_SIZE), embedOption);
+    }
+
     @Override
     public List<Embedding> embed(List<Document> documents) {
         return documents.stream()
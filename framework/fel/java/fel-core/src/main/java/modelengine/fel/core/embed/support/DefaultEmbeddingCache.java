@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.embed.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.embed.Embedding;
+import modelengine.fel.core.embed.EmbeddingCache;
+import modelengine.fitframework.util.FileUtils;
+import modelengine.fitframework.util.LockUtils;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 表示 {@link EmbeddingCache} 的默认实现。
+ * <p>缓存以模型名称和输入内容的 {@code SHA-256} 摘要作为键，不保存输入内容本身。内存中最多保存指定数量的嵌入向量，超过时淘汰最久
+ * 未使用的嵌入向量。指定了磁盘分段文件时，所有嵌入向量同时追加写入该文件，内存中只保存每条记录在文件中的位置，被淘汰的嵌入向量
+ * 在下次获取时从文件中读取；重新创建缓存时从文件中恢复索引，使重启后只需要为变化的内容生成嵌入向量。</p>
+ * <p>分段文件中的每条记录依次包含：模型名称的字节数和 {@code UTF-8} 编码的模型名称、输入内容的摘要、嵌入向量的维度和每个维度的值。
+ * 文件末尾不完整的记录在恢复时被截断。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class DefaultEmbeddingCache implements EmbeddingCache, Closeable {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int DIGEST_LENGTH = 32;
+    private static final int READ_BUFFER = 64 * 1024;
+
+    private final Map<String, float[]> entries;
+    private final Map<String, Long> offsets = new HashMap<>();
+    private final FileChannel segment;
+    private final Lock lock = LockUtils.newReentrantLock();
+    private long segmentEnd;
+
+    /**
+     * 创建仅保存在内存中的嵌入向量缓存。
+     *
+     * @param capacity 表示内存中最多保存的嵌入向量数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code capacity} 不大于 {@code 0} 时。
+     */
+    public DefaultEmbeddingCache(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * 创建带有磁盘分段文件的嵌入向量缓存。
+     *
+     * @param capacity 表示内存中最多保存的嵌入向量数量的 {@code int}。
+     * @param segment 表示磁盘分段文件的 {@link File}，为 {@code null} 时仅保存在内存中，文件不存在时自动创建。
+     * @throws IllegalArgumentException 当 {@code capacity} 不大于 {@code 0} 时。
+     * @throws IllegalStateException 当打开或恢复磁盘分段文件失败时。
+     */
+    public DefaultEmbeddingCache(int capacity, File segment) {
+        greaterThan(capacity, 0, "The capacity must be positive. [capacity={0}]", capacity);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return this.size() > capacity;
+            }
+        };
+        this.segment = segment == null ? null : openSegment(segment);
+        if (this.segment != null) {
+            try {
+                this.recover();
+            } catch (IOException e) {
+                this.close();
+                throw new IllegalStateException(StringUtils.format(
+                        "Failed to recover the embedding cache segment. [file={0}]",
+                        FileUtils.path(segment)), e);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Embedding> get(String model, String input) {
+        byte[] digest = digest(input);
+        String key = keyOf(model, digest);
+        float[] vector = LockUtils.synchronize(this.lock, () -> this.lookup(key));
+        return Optional.ofNullable(vector).map(DefaultEmbeddingCache::toEmbedding);
+    }
+
+    @Override
+    public void put(String model, String input, Embedding embedding) {
+        notNull(embedding, "The embedding cannot be null.");
+        float[] vector = toVector(notNull(embedding.embedding(), "The embedding vector cannot be null."));
+        String actualModel = ObjectUtils.nullIf(model, StringUtils.EMPTY);
+        byte[] digest = digest(input);
+        String key = keyOf(actualModel, digest);
+        LockUtils.synchronize(this.lock, () -> {
+            this.entries.put(key, vector);
+            if (this.segment != null && !this.offsets.containsKey(key)) {
+                this.append(key, actualModel, digest, vector);
+            }
+        });
+    }
+
+    private float[] lookup(String key) {
+        float[] vector = this.entries.get(key);
+        if (vector != null || this.segment == null) {
+            return vector;
+        }
+        Long offset = this.offsets.get(key);
+        if (offset == null) {
+            return null;
+        }
+        vector = this.readVector(offset);
+        this.entries.put(key, vector);
+        return vector;
+    }
+
+    private void recover() throws IOException {
+        long size = this.segment.size();
+        long position = 0;
+        DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Channels.newInputStream(this.segment), READ_BUFFER));
+        try {
+            while (position < size) {
+                int modelLength = in.readInt();
+                if (modelLength < 0 || modelLength > size - position) {
+                    break;
+                }
+                byte[] model = new byte[modelLength];
+                in.readFully(model);
+                byte[] digest = new byte[DIGEST_LENGTH];
+                in.readFully(digest);
+                long vectorOffset = position + Integer.BYTES + modelLength + DIGEST_LENGTH;
+                int dimension = in.readInt();
+                long end = vectorOffset + Integer.BYTES + (long) dimension * Float.BYTES;
+                if (dimension < 0 || end > size) {
+                    break;
+                }
+                in.skipNBytes(end - vectorOffset - Integer.BYTES);
+                this.offsets.put(keyOf(new String(model, StandardCharsets.UTF_8), digest), vectorOffset);
+                position = end;
+            }
+        } catch (EOFException e) {
+            // 文件末尾的记录不完整，从该记录开始截断。
+        }
+        if (position < size) {
+            this.segment.truncate(position);
+        }
+        this.segmentEnd = position;
+    }
+
+    private float[] readVector(long offset) {
+        try {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            this.readFully(header, offset);
+            ByteBuffer data = ByteBuffer.allocate(header.flip().getInt() * Float.BYTES);
+            this.readFully(data, offset + Integer.BYTES);
+            float[] vector = new float[data.capacity() / Float.BYTES];
+            data.flip().asFloatBuffer().get(vector);
+            return vector;
+        } catch (IOException e) {
+            throw new IllegalStateException(StringUtils.format(
+                    "Failed to read embedding from the cache segment. [offset={0}]",
+                    offset), e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (this.segment.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("The embedding cache segment is truncated.");
+            }
+        }
+    }
+
+    private void append(String key, String model, byte[] digest, float[] vector) {
+        byte[] modelBytes = model.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + modelBytes.length + DIGEST_LENGTH + Integer.BYTES
+                + vector.length * Float.BYTES);
+        record.putInt(modelBytes.length).put(modelBytes).put(digest).putInt(vector.length);
+        for (float value : vector) {
+            record.putFloat(value);
+        }
+        record.flip();
+        long position = this.segmentEnd;
+        try {
+            while (record.hasRemaining()) {
+                this.segment.write(record, position + record.position());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write embedding to the cache segment.", e);
+        }
+        this.segmentEnd = position + record.limit();
+        this.offsets.put(key, position + Integer.BYTES + modelBytes.length + DIGEST_LENGTH);
+    }
+
+    @Override
+    public void close() {
+        if (this.segment == null) {
+            return;
+        }
+        try {
+            this.segment.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close the embedding cache segment.", e);
+        }
+    }
+
+    private static FileChannel openSegment(File segment) {
+        try {
+            return FileChannel.open(segment.toPath(),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new IllegalStateException(StringUtils.format("Failed to open the embedding cache segment. [file={0}]",
+                    FileUtils.path(segment)), e);
+        }
+    }
+
+    private static String keyOf(String model, byte[] digest) {
+        return ObjectUtils.nullIf(model, StringUtils.EMPTY) + ':' + HexFormat.of().formatHex(digest);
+    }
+
+    private static byte[] digest(String input) {
+        notNull(input, "The input cannot be null.");
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(input.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(StringUtils.format("Digest algorithm not found. [algorithm={0}]",
+                    DIGEST_ALGORITHM), e);
+        }
+    }
+
+    private static float[] toVector(List<Float> embedding) {
+        float[] vector = new float[embedding.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = embedding.get(i);
+        }
+        return vector;
+    }
+
+    private static Embedding toEmbedding(float[] vector) {
+        List<Float> embedding = new ArrayList<>(vector.length);
+        for (float value : vector) {
+            embedding.add(value);
+        }
+        List<Float> result = Collections.unmodifiableList(embedding);
+        return () -> result;
+    }
+}
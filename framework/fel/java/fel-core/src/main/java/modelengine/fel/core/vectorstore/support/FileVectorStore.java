@@ -0,0 +1,632 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.vectorstore.support;
+
+import static modelengine.fitframework.inspection.Validation.between;
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.document.Document;
+import modelengine.fel.core.document.DocumentEmbedModel;
+import modelengine.fel.core.document.MeasurableDocument;
+import modelengine.fel.core.embed.Embedding;
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.vectorstore.SearchOption;
+import modelengine.fel.core.vectorstore.VectorStore;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.FileUtils;
+import modelengine.fitframework.util.LockUtils;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.ThreadUtils;
+import modelengine.fitframework.util.TypeUtils;
+import modelengine.fitframework.util.UuidUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 表示 {@link VectorStore} 的持久化实现，将文档和向量保存在本地目录的分段文件中。
+ * <p>所有写入都以记录的形式追加到当前分段的末尾，每批写入完成后刷新到磁盘；当前分段超过指定大小后，新建分段继续写入。
+ * 删除文档时追加一条删除记录。检索时通过内存映射直接读取分段中的向量，内存中只保存每个文档所在的位置和元数据索引。
+ * 过滤器的语义详见 {@link MetadataIndex}。</p>
+ * <p>打开时按照分段序号依次校验并重放所有记录，后写入的记录覆盖先写入的记录。最新分段末尾不完整或校验和不一致的记录视为写入中断，
+ * 从该记录开始截断；其它分段损坏时抛出异常。</p>
+ * <p>被覆盖或删除的记录占用的空间在后台回收：已写满的分段中失效记录的比例达到阈值后，将其中仍然有效的记录复制到当前分段，
+ * 再删除该分段文件。也可以调用 {@link #compact()} 立即回收。</p>
+ * <p>打开时对目录中的锁文件加排他锁，同一个目录同时只能被一个存储实例打开，关闭后释放。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class FileVectorStore implements VectorStore, Closeable {
+    /** 表示默认的分段文件大小。 */
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    /** 表示默认的触发后台回收的失效记录比例。 */
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+
+    private static final Logger log = Logger.get(FileVectorStore.class);
+    private static final String LOCK_FILE = "store.lock";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{20})\\.vec");
+    private static final Type METADATA_TYPE =
+            TypeUtils.parameterized(Map.class, new Type[] {String.class, Object.class});
+
+    private final DocumentEmbedModel embedModel;
+    private final File directory;
+    private final ObjectSerializer serializer;
+    private final long segmentSize;
+    private final double compactionThreshold;
+    private final ReadWriteLock lock = LockUtils.newReentrantReadWriteLock();
+    private final TreeMap<Long, VectorSegment> segments = new TreeMap<>();
+    private final Map<String, Location> locations = new HashMap<>();
+    private final MetadataIndex index = new MetadataIndex();
+    private final FileLock fileLock;
+    private final ExecutorService compactor;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private VectorSegment active;
+    private int dimension;
+    private boolean closed;
+
+    /**
+     * 使用默认的分段文件大小和回收阈值创建 {@link FileVectorStore} 的实例。
+     *
+     * @param embedModel 表示嵌入文档模型的 {@link DocumentEmbedModel}。
+     * @param directory 表示保存分段文件的目录的 {@link File}。
+     * @param serializer 表示序列化文档元数据的 {@link ObjectSerializer}。
+     * @throws IllegalArgumentException 当任意参数为 {@code null} 时。
+     * @throws IllegalStateException 当创建目录、打开或恢复分段文件失败，或目录已被其它存储实例打开时。
+     */
+    public FileVectorStore(DocumentEmbedModel embedModel, File directory, ObjectSerializer serializer) {
+        this(embedModel, directory, serializer, DEFAULT_SEGMENT_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * 创建 {@link FileVectorStore} 的实例。
+     *
+     * @param embedModel 表示嵌入文档模型的 {@link DocumentEmbedModel}。
+     * @param directory 表示保存分段文件的目录的 {@link File}。
+     * @param serializer 表示序列化文档元数据的 {@link ObjectSerializer}。
+     * @param segmentSize 表示分段文件大小的 {@code long}，单条记录超过该大小时独占一个分段。
+     * @param compactionThreshold 表示触发后台回收的失效记录比例的 {@code double}，取值范围为 {@code (0, 1]}。
+     * @throws IllegalArgumentException 当任意对象参数为 {@code null}，或 {@code segmentSize} 和
+     * {@code compactionThreshold} 超出取值范围时。
+     * @throws IllegalStateException 当创建目录、打开或恢复分段文件失败，或目录已被其它存储实例打开时。
+     */
+    public FileVectorStore(DocumentEmbedModel embedModel, File directory, ObjectSerializer serializer,
+            long segmentSize, double compactionThreshold) {
+        this.embedModel = notNull(embedModel, "The embed model cannot be null.");
+        this.directory = notNull(directory, "The directory cannot be null.");
+        this.serializer = notNull(serializer, "The serializer cannot be null.");
+        this.segmentSize = between(segmentSize,
+                1L,
+                (long) Integer.MAX_VALUE,
+                "The segment size is out of range. [segmentSize={0}]",
+                segmentSize);
+        Validation.isTrue(compactionThreshold > 0 && compactionThreshold <= 1,
+                "The compaction threshold must be in (0, 1]. [compactionThreshold={0}]",
+                compactionThreshold);
+        this.compactionThreshold = compactionThreshold;
+        this.fileLock = lock(directory);
+        try {
+            this.recover();
+        } catch (IOException e) {
+            this.segments.values().forEach(FileVectorStore::closeQuietly);
+            closeQuietly(this.fileLock.channel());
+            throw new IllegalStateException(StringUtils.format("Failed to open the vector store. [directory={0}]",
+                    FileUtils.path(directory)), e);
+        }
+        this.compactor = ThreadUtils.singleThreadPool(new DefaultThreadFactory("fel-vector-compactor",
+                true,
+                (thread, cause) -> log.error("Failed to compact the vector store.", cause)));
+    }
+
+    private static FileLock lock(File directory) {
+        FileChannel channel = null;
+        try {
+            FileUtils.ensureDirectory(directory);
+            channel = FileChannel.open(new File(directory, LOCK_FILE).toPath(),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock != null) {
+                return fileLock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // 当前进程中的其它存储实例已经打开了该目录。
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new IllegalStateException(StringUtils.format("Failed to open the vector store. [directory={0}]",
+                    FileUtils.path(directory)), e);
+        }
+        closeQuietly(channel);
+        throw new IllegalStateException(StringUtils.format(
+                "The vector store is already opened by another instance. [directory={0}]",
+                FileUtils.path(directory)));
+    }
+
+    private void recover() throws IOException {
+        File[] files = Objects.requireNonNull(this.directory.listFiles(), "The directory cannot be listed.");
+        for (File file : files) {
+            Matcher matcher = SEGMENT_NAME.matcher(file.getName());
+            if (matcher.matches()) {
+                long sequence = Long.parseLong(matcher.group(1));
+                this.segments.put(sequence, VectorSegment.open(sequence, file));
+            }
+        }
+        for (VectorSegment segment : this.segments.values()) {
+            boolean isLast = segment.sequence() == this.segments.lastKey();
+            segment.recover(isLast, (type, offset, length, payload) -> this.replay(segment, type, offset, length,
+                    payload));
+        }
+        for (Map.Entry<String, Location> entry : this.locations.entrySet()) {
+            this.index.add(entry.getKey(), this.readMetadata(entry.getValue()));
+        }
+        this.active = this.segments.isEmpty() ? this.newSegment(0) : this.segments.lastEntry().getValue();
+    }
+
+    private void replay(VectorSegment segment, byte type, long offset, int length, ByteBuffer payload)
+            throws IOException {
+        String id = new String(VectorSegment.readBytes(payload, 0), StandardCharsets.UTF_8);
+        Location previous;
+        if (type == VectorSegment.PUT) {
+            Location location = Location.decode(segment, offset, length, payload);
+            if (this.dimension == 0) {
+                this.dimension = location.dimension;
+            } else if (this.dimension != location.dimension) {
+                throw new IOException(StringUtils.format(
+                        "The vector dimension is inconsistent. [id={0}, expected={1}, actual={2}]",
+                        id,
+                        this.dimension,
+                        location.dimension));
+            }
+            previous = this.locations.put(id, location);
+        } else {
+            previous = this.locations.remove(id);
+            segment.tombstones().add(id);
+            segment.addGarbage(length);
+        }
+        if (previous != null) {
+            previous.segment.addGarbage(previous.length);
+        }
+    }
+
+    @Override
+    public void persistent(List<Document> documents) {
+        notNull(documents, "The documents cannot be null.");
+        List<Embedding> embeddings = this.embedModel.embed(documents);
+        List<ByteBuffer> payloads = new ArrayList<>(documents.size());
+        List<String> ids = new ArrayList<>(documents.size());
+        List<Map<String, Object>> metadata = new ArrayList<>(documents.size());
+        int expected = 0;
+        for (int i = 0; i < documents.size(); ++i) {
+            Document document = documents.get(i);
+            String id = StringUtils.getIfBlank(document.id(), UuidUtils::randomUuidString);
+            String text = notBlank(document.text(), "The document text cannot be blank.");
+            Map<String, Object> meta = notNull(document.metadata(), "The metadata cannot be null.");
+            float[] vector = toArray(embeddings.get(i).embedding());
+            expected = expected == 0 ? vector.length : expected;
+            Validation.isTrue(vector.length > 0 && vector.length == expected,
+                    "The vector dimension is inconsistent. [id={0}, expected={1}, actual={2}]",
+                    id,
+                    expected,
+                    vector.length);
+            ids.add(id);
+            metadata.add(meta);
+            payloads.add(VectorSegment.encodePut(id, text, this.serializer.serialize(meta, StandardCharsets.UTF_8),
+                    vector));
+        }
+        int batchDimension = expected;
+        LockUtils.synchronize(this.lock.writeLock(), () -> {
+            this.ensureOpen();
+            Validation.isTrue(this.dimension == 0 || batchDimension == 0 || this.dimension == batchDimension,
+                    "The vector dimension does not match the store. [expected={0}, actual={1}]",
+                    this.dimension,
+                    batchDimension);
+            try {
+                // 本批次中先写入的记录尚未同步，不能从映射中读取，其元数据直接从本批次中获取。
+                Map<String, Map<String, Object>> written = new HashMap<>();
+                for (int i = 0; i < payloads.size(); ++i) {
+                    String id = ids.get(i);
+                    Location location = this.append(VectorSegment.PUT, payloads.get(i));
+                    this.dimension = location.dimension;
+                    Location previous = this.locations.put(id, location);
+                    if (previous != null) {
+                        Map<String, Object> previousMetadata = written.get(id);
+                        if (previousMetadata == null) {
+                            previousMetadata = this.readMetadata(previous);
+                        }
+                        this.index.remove(id, previousMetadata);
+                        previous.segment.addGarbage(previous.length);
+                    }
+                    this.index.add(id, metadata.get(i));
+                    written.put(id, metadata.get(i));
+                }
+                this.active.sync();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to write documents to the vector store.", e);
+            }
+            this.scheduleCompaction();
+        });
+    }
+
+    @Override
+    public List<MeasurableDocument> search(String query, SearchOption option) {
+        notNull(option, "The search option cannot be null.");
+        float[] queryVector = toArray(this.embedModel.embed(query).embedding());
+        double queryNorm = norm(queryVector);
+        return LockUtils.synchronize(this.lock.readLock(), () -> {
+            this.ensureOpen();
+            if (this.dimension != 0) {
+                Validation.isTrue(queryVector.length == this.dimension,
+                        "The query vector dimension does not match the store. [expected={0}, actual={1}]",
+                        this.dimension,
+                        queryVector.length);
+            }
+            PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+            for (Location location : this.candidates(option.filter())) {
+                double score = location.similarity(queryVector, queryNorm);
+                if (top.size() < option.topK()) {
+                    top.add(new Scored(location, score));
+                } else if (!top.isEmpty() && top.peek().score() < score) {
+                    top.poll();
+                    top.add(new Scored(location, score));
+                }
+            }
+            return top.stream()
+                    .sorted(Comparator.comparingDouble(Scored::score).reversed())
+                    .map(scored -> new MeasurableDocument(this.readDocument(scored.location()), scored.score()))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    private Collection<Location> candidates(Filter filter) {
+        if (filter == null) {
+            return this.locations.values();
+        }
+        return this.index.select(filter.expression())
+                .stream()
+                .map(this.locations::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void delete(List<String> ids) {
+        notNull(ids, "The id list cannot be null.");
+        LockUtils.synchronize(this.lock.writeLock(), () -> {
+            this.ensureOpen();
+            try {
+                boolean isChanged = false;
+                for (String id : ids) {
+                    Location removed = this.locations.get(id);
+                    if (removed == null) {
+                        continue;
+                    }
+                    this.index.remove(id, this.readMetadata(removed));
+                    this.append(VectorSegment.DELETE, VectorSegment.encodeDelete(id));
+                    this.locations.remove(id);
+                    removed.segment.addGarbage(removed.length);
+                    isChanged = true;
+                }
+                if (isChanged) {
+                    this.active.sync();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to delete documents from the vector store.", e);
+            }
+            this.scheduleCompaction();
+        });
+    }
+
+    /**
+     * 立即回收所有已写满的分段中失效记录占用的空间。
+     *
+     * @throws IllegalStateException 当存储已经关闭，或读写分段文件失败时。
+     */
+    public void compact() {
+        this.compact(Double.MIN_VALUE);
+    }
+
+    private void compact(double threshold) {
+        List<Long> sequences = LockUtils.synchronize(this.lock.readLock(),
+                () -> new ArrayList<>(this.segments.keySet()));
+        for (Long sequence : sequences) {
+            LockUtils.synchronize(this.lock.writeLock(), () -> {
+                this.ensureOpen();
+                VectorSegment segment = this.segments.get(sequence);
+                if (segment == null || segment == this.active || !isGarbage(segment, threshold)) {
+                    return;
+                }
+                try {
+                    this.compact(segment);
+                } catch (IOException e) {
+                    throw new IllegalStateException(StringUtils.format(
+                            "Failed to compact the vector segment. [sequence={0}]",
+                            sequence), e);
+                }
+            });
+        }
+    }
+
+    private void compact(VectorSegment segment) throws IOException {
+        boolean hasOlder = this.segments.firstKey() < segment.sequence();
+        for (String id : segment.tombstones()) {
+            if (hasOlder && !this.locations.containsKey(id)) {
+                this.append(VectorSegment.DELETE, VectorSegment.encodeDelete(id));
+            }
+        }
+        List<Map.Entry<String, Location>> live = this.locations.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().segment == segment)
+                .collect(Collectors.toList());
+        ByteBuffer source = segment.mapped();
+        for (Map.Entry<String, Location> entry : live) {
+            Location location = entry.getValue();
+            ByteBuffer payload =
+                    source.slice((int) location.offset + VectorSegment.HEADER_SIZE,
+                            location.length - VectorSegment.HEADER_SIZE);
+            entry.setValue(this.append(VectorSegment.PUT, payload));
+        }
+        this.active.sync();
+        this.segments.remove(segment.sequence());
+        segment.delete();
+    }
+
+    private boolean isGarbage(VectorSegment segment, double threshold) {
+        return segment.garbage() > 0 && segment.garbage() >= segment.size() * threshold;
+    }
+
+    private void scheduleCompaction() {
+        boolean isNeeded = this.segments.values()
+                .stream()
+                .anyMatch(segment -> segment != this.active && this.isGarbage(segment, this.compactionThreshold));
+        if (!isNeeded || !this.compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.compactor.execute(() -> {
+                this.compactionScheduled.set(false);
+                if (!this.isClosed()) {
+                    this.compact(this.compactionThreshold);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.compactionScheduled.set(false);
+        }
+    }
+
+    private Location append(byte type, ByteBuffer payload) throws IOException {
+        long recordSize = VectorSegment.HEADER_SIZE + payload.remaining();
+        if (this.active.size() > 0 && this.active.size() + recordSize > this.segmentSize) {
+            this.active.seal();
+            this.active = this.newSegment(this.active.sequence() + 1);
+        }
+        ByteBuffer record = payload.duplicate();
+        long offset = this.active.append(type, payload);
+        if (type == VectorSegment.DELETE) {
+            this.active.tombstones().add(new String(VectorSegment.readBytes(record, record.position()),
+                    StandardCharsets.UTF_8));
+            this.active.addGarbage(recordSize);
+            return null;
+        }
+        return Location.decode(this.active, offset, (int) recordSize, record.slice());
+    }
+
+    private VectorSegment newSegment(long sequence) throws IOException {
+        File file = new File(this.directory, String.format("segment-%020d.vec", sequence));
+        VectorSegment segment = VectorSegment.open(sequence, file);
+        segment.sync();
+        this.segments.put(sequence, segment);
+        return segment;
+    }
+
+    private Map<String, Object> readMetadata(Location location) {
+        ByteBuffer buffer = location.segment.mapped();
+        int position = location.metadataOffset();
+        return this.serializer.deserialize(VectorSegment.readBytes(buffer, position),
+                StandardCharsets.UTF_8,
+                METADATA_TYPE);
+    }
+
+    private Document readDocument(Location location) {
+        ByteBuffer buffer = location.segment.mapped();
+        int position = (int) location.offset + VectorSegment.HEADER_SIZE;
+        byte[] id = VectorSegment.readBytes(buffer, position);
+        position += Integer.BYTES + id.length;
+        byte[] text = VectorSegment.readBytes(buffer, position);
+        return Document.custom()
+                .id(new String(id, StandardCharsets.UTF_8))
+                .text(new String(text, StandardCharsets.UTF_8))
+                .metadata(this.readMetadata(location))
+                .build();
+    }
+
+    private boolean isClosed() {
+        return LockUtils.synchronize(this.lock.readLock(), () -> this.closed);
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("The vector store has been closed.");
+        }
+    }
+
+    @Override
+    public void close() {
+        this.compactor.shutdownNow();
+        LockUtils.synchronize(this.lock.writeLock(), () -> {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.segments.values().forEach(FileVectorStore::closeQuietly);
+            closeQuietly(this.fileLock.channel());
+        });
+    }
+
+    private static void closeQuietly(VectorSegment segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the vector segment. [sequence={0}]", segment.sequence());
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the lock file of the vector store.");
+        }
+    }
+
+    private static float[] toArray(List<Float> embedding) {
+        notNull(embedding, "The embedding cannot be null.");
+        float[] vector = new float[embedding.size()];
+        for (int i = 0; i < vector.length; ++i) {
+            vector[i] = embedding.get(i);
+        }
+        return vector;
+    }
+
+    private static double norm(float[] vector) {
+        double sum = 0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * 表示文档的记录在分段中的位置。
+     */
+    private static final class Location {
+        private final VectorSegment segment;
+        private final long offset;
+        private final int length;
+        private final int vectorOffset;
+        private final int dimension;
+        private final double norm;
+
+        private Location(VectorSegment segment, long offset, int length, int vectorOffset, int dimension,
+                double norm) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.vectorOffset = vectorOffset;
+            this.dimension = dimension;
+            this.norm = norm;
+        }
+
+        /**
+         * 从写入文档的记录内容中解析记录的位置。
+         *
+         * @param segment 表示记录所在分段的 {@link VectorSegment}。
+         * @param offset 表示记录在分段中的起始位置的 {@code long}。
+         * @param length 表示记录的总字节数的 {@code int}。
+         * @param payload 表示记录内容的 {@link ByteBuffer}，从位置 {@code 0} 开始。
+         * @return 表示记录位置的 {@link Location}。
+         */
+        static Location decode(VectorSegment segment, long offset, int length, ByteBuffer payload) {
+            int position = 0;
+            for (int i = 0; i < 3; ++i) {
+                position += Integer.BYTES + payload.getInt(position);
+            }
+            int dimension = payload.getInt(position);
+            position += Integer.BYTES;
+            double sum = 0;
+            for (int i = 0; i < dimension; ++i) {
+                float value = payload.getFloat(position + i * Float.BYTES);
+                sum += value * value;
+            }
+            return new Location(segment, offset, length, position, dimension, Math.sqrt(sum));
+        }
+
+        /**
+         * 获取元数据长度前缀在分段中的位置。
+         *
+         * @return 表示元数据长度前缀位置的 {@code int}。
+         */
+        int metadataOffset() {
+            ByteBuffer buffer = this.segment.mapped();
+            int position = (int) this.offset + VectorSegment.HEADER_SIZE;
+            position += Integer.BYTES + buffer.getInt(position);
+            return position + Integer.BYTES + buffer.getInt(position);
+        }
+
+        /**
+         * 计算查询向量与记录中向量的余弦相似度。
+         *
+         * @param query 表示查询向量的 {@code float[]}。
+         * @param queryNorm 表示查询向量模长的 {@code double}。
+         * @return 表示余弦相似度的 {@code double}，任意向量的模长为 {@code 0} 时返回 {@code 0}。
+         */
+        double similarity(float[] query, double queryNorm) {
+            if (this.norm == 0 || queryNorm == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = this.segment.mapped();
+            int position = (int) this.offset + VectorSegment.HEADER_SIZE + this.vectorOffset;
+            double dot = 0;
+            for (int i = 0; i < query.length; ++i) {
+                dot += query[i] * buffer.getFloat(position + i * Float.BYTES);
+            }
+            return dot / (this.norm * queryNorm);
+        }
+    }
+
+    /**
+     * 表示检索过程中带有相似度的记录位置。
+     */
+    private static final class Scored {
+        private final Location location;
+        private final double score;
+
+        private Scored(Location location, double score) {
+            this.location = location;
+            this.score = score;
+        }
+
+        Location location() {
+            return this.location;
+        }
+
+        double score() {
+            return this.score;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import modelengine.fel.core.document.Document;
 import modelengine.fel.core.document.DocumentEmbedModel;
 import modelengine.fel.core.document.MeasurableDocument;
 import modelengine.fel.core.embed.Embedding;
+import modelengine.fel.core.retriever.filter.Filter;
 import modelengine.fel.core.util.MathUtils;
 import modelengine.fel.core.vectorstore.SearchOption;
 import modelengine.fel.core.vectorstore.VectorStore;
@@ -21,6 +22,7 @@ import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.resource.web.Media;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.TypeUtils;
@@ -29,16 +31,21 @@ import modelengine.fitframework.util.UuidUtils;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
  * 表示 {@link VectorStore} 的内存简易实现，不要在生产环境中使用。
+ * <p>检索时如果指定了标量过滤器，先通过元数据索引筛选出满足条件的文档，再在这些文档中按照相似度排序，过滤不会减少返回的数量。
+ * 过滤器的语义详见 {@link MetadataIndex}。</p>
  *
  * @author 易文渊
  * @since 2024-08-06
@@ -46,6 +53,8 @@ import java.util.stream.Collectors;
 public class MemoryVectorStore implements VectorStore {
     private final DocumentEmbedModel embedModel;
     private final Map<String, DocumentWithEmbedding> cache = new ConcurrentHashMap<>();
+    private final MetadataIndex index = new MetadataIndex();
+    private final ReadWriteLock lock = LockUtils.newReentrantReadWriteLock();
 
     /**
      * 创建 {@link MemoryVectorStore} 的实例。
@@ -59,28 +68,54 @@ public class MemoryVectorStore implements VectorStore {
     @Override
     public void persistent(List<Document> documents) {
         List<Embedding> embeddings = this.embedModel.embed(documents);
-        for (int i = 0; i < documents.size(); ++i) {
-            DocumentWithEmbedding document =
-                    DocumentWithEmbedding.from(documents.get(i), embeddings.get(i).embedding());
-            this.cache.put(document.id(), document);
+        LockUtils.synchronize(this.lock.writeLock(), () -> {
+            for (int i = 0; i < documents.size(); ++i) {
+                this.put(DocumentWithEmbedding.from(documents.get(i), embeddings.get(i).embedding()));
+            }
+        });
+    }
+
+    private void put(DocumentWithEmbedding source) {
+        // 存储和索引文档的副本，调用方之后修改原始的文档或元数据时，不会使元数据索引与文档不一致。
+        DocumentWithEmbedding document = DocumentWithEmbedding.copyOf(source);
+        DocumentWithEmbedding previous = this.cache.put(document.id(), document);
+        if (previous != null) {
+            this.index.remove(previous.id(), previous.metadata());
         }
+        this.index.add(document.id(), document.metadata());
     }
 
     @Override
     public List<MeasurableDocument> search(String query, SearchOption option) {
         List<Float> queryEmbedding = this.embedModel.embed(query).embedding();
-        return this.cache.values()
+        return LockUtils.synchronize(this.lock.readLock(), () -> this.candidates(option.filter())
                 .stream()
                 .map(d -> new MeasurableDocument(d, MathUtils.cosineSimilarity(queryEmbedding, d.getEmbedding())))
                 .sorted(Comparator.comparingDouble(MeasurableDocument::score).reversed())
                 .limit(option.topK())
+                .collect(Collectors.toList()));
+    }
+
+    private Collection<DocumentWithEmbedding> candidates(Filter filter) {
+        if (filter == null) {
+            return this.cache.values();
+        }
+        return this.index.select(filter.expression())
+                .stream()
+                .map(this.cache::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     @Override
     public void delete(List<String> ids) {
         Validation.notNull(ids, "The id list cannot be null.");
-        ids.forEach(this.cache::remove);
+        LockUtils.synchronize(this.lock.writeLock(), () -> ids.forEach(id -> {
+            DocumentWithEmbedding removed = this.cache.remove(id);
+            if (removed != null) {
+                this.index.remove(removed.id(), removed.metadata());
+            }
+        }));
     }
 
     /**
@@ -92,7 +127,7 @@ public class MemoryVectorStore implements VectorStore {
     public void load(InputStream in, ObjectSerializer objectSerializer) {
         Map<String, DocumentWithEmbedding> documents = objectSerializer.deserialize(in,
                 TypeUtils.parameterized(Map.class, new Type[] {String.class, DocumentWithEmbedding.class}));
-        this.cache.putAll(documents);
+        LockUtils.synchronize(this.lock.writeLock(), () -> documents.values().forEach(this::put));
     }
 
     /**
@@ -134,6 +169,21 @@ public class MemoryVectorStore implements VectorStore {
             return documentWithEmbedding;
         }
 
+        /**
+         * 创建给定 {@link DocumentWithEmbedding} 的副本，副本的元数据是原始元数据的浅拷贝，原始元数据为 {@code null} 时为空。
+         *
+         * @param document 表示原始文档的 {@link DocumentWithEmbedding}。
+         * @return 表示文档副本的 {@link DocumentWithEmbedding}。
+         */
+        static DocumentWithEmbedding copyOf(DocumentWithEmbedding document) {
+            DocumentWithEmbedding copy = new DocumentWithEmbedding();
+            copy.setId(document.getId());
+            copy.setText(document.getText());
+            copy.setMetadata(document.getMetadata() == null ? new HashMap<>() : new HashMap<>(document.getMetadata()));
+            copy.setEmbedding(document.getEmbedding());
+            return copy;
+        }
+
         @Nonnull
         @Override
         public String text() {
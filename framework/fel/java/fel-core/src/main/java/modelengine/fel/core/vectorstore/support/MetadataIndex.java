@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.vectorstore.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.core.retriever.filter.Operand;
+import modelengine.fel.core.retriever.filter.Operator;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 表示文档元数据的索引，用于在相似度排序之前按照过滤器表达式筛选文档。
+ * <p>每个元数据键按照值的类型分别维护有序的倒排索引，同一个结构同时支持等值查询和范围查询。建立索引和查询之前，值先被归一化：
+ * 所有数字转换为 {@link BigDecimal}，使 {@code 1}、{@code 1L} 和 {@code 1.0} 相等；{@link Date}、{@link OffsetDateTime} 和
+ * {@link ZonedDateTime} 转换为 {@link Instant}。值为集合时，集合中的每个元素分别建立索引，任意元素满足条件时文档即满足条件。</p>
+ * <p>各操作符的语义如下：</p>
+ * <ul>
+ *     <li>{@link Operator#EQ}、{@link Operator#IN}、{@link Operator#LT}、{@link Operator#GT}、{@link Operator#LE}、
+ *     {@link Operator#GE}：元数据中存在该键，且存在与查询值类型相同并满足条件的值；</li>
+ *     <li>{@link Operator#NE}、{@link Operator#NIN}：分别为 {@link Operator#EQ}、{@link Operator#IN} 的补集，不包含该键的文档
+ *     也满足条件；</li>
+ *     <li>{@link Operator#LIKE}：字符串值匹配指定的模式，{@code %} 匹配任意数量的字符，{@code _} 匹配单个字符，{@code \}
+ *     用于转义；</li>
+ *     <li>{@link Operator#AND}、{@link Operator#OR}：子表达式结果的交集和并集。</li>
+ * </ul>
+ * <p>不可比较的元数据值不会建立索引。该类不是线程安全的。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class MetadataIndex {
+    private static final char WILDCARD_ANY = '%';
+    private static final char WILDCARD_ONE = '_';
+    private static final char ESCAPE = '\\';
+
+    private final Set<String> ids = new HashSet<>();
+    private final Map<String, Map<Class<?>, NavigableMap<Object, Set<String>>>> indexes = new HashMap<>();
+
+    /**
+     * 为文档的元数据建立索引。
+     *
+     * @param id 表示文档唯一标识的 {@link String}。
+     * @param metadata 表示文档元数据的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     */
+    void add(String id, Map<String, Object> metadata) {
+        notNull(id, "The document id cannot be null.");
+        this.ids.add(id);
+        if (metadata == null) {
+            return;
+        }
+        metadata.forEach((key, value) -> {
+            for (Object indexed : indexedValues(value)) {
+                this.indexes.computeIfAbsent(key, k -> new HashMap<>())
+                        .computeIfAbsent(indexed.getClass(), k -> new TreeMap<>())
+                        .computeIfAbsent(indexed, k -> new HashSet<>())
+                        .add(id);
+            }
+        });
+    }
+
+    /**
+     * 删除文档元数据的索引。
+     *
+     * @param id 表示文档唯一标识的 {@link String}。
+     * @param metadata 表示建立索引时使用的文档元数据的
+     * {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     */
+    void remove(String id, Map<String, Object> metadata) {
+        this.ids.remove(id);
+        if (metadata == null) {
+            return;
+        }
+        metadata.forEach((key, value) -> {
+            Map<Class<?>, NavigableMap<Object, Set<String>>> types = this.indexes.get(key);
+            if (types == null) {
+                return;
+            }
+            for (Object indexed : indexedValues(value)) {
+                NavigableMap<Object, Set<String>> index = types.get(indexed.getClass());
+                Set<String> matched = index == null ? null : index.get(indexed);
+                if (matched != null && matched.remove(id) && matched.isEmpty()) {
+                    index.remove(indexed);
+                    if (index.isEmpty()) {
+                        types.remove(indexed.getClass());
+                    }
+                }
+            }
+            if (types.isEmpty()) {
+                this.indexes.remove(key);
+            }
+        });
+    }
+
+    /**
+     * 查询满足过滤器表达式的所有文档。
+     *
+     * @param expression 表示过滤器表达式的 {@link Operand.Expression}。
+     * @return 表示满足条件的文档唯一标识的 {@link Set}{@code <}{@link String}{@code >}，调用方可以修改。
+     * @throws IllegalArgumentException 当表达式的结构或查询值不合法时。
+     */
+    Set<String> select(Operand.Expression expression) {
+        notNull(expression, "The filter expression cannot be null.");
+        Operator op = notNull(expression.op(), "The filter operator cannot be null.");
+        if (op == Operator.AND || op == Operator.OR) {
+            Set<String> left = this.select(asExpression(expression.left()));
+            Set<String> right = this.select(asExpression(expression.right()));
+            if (op == Operator.OR) {
+                left.addAll(right);
+                return left;
+            }
+            if (left.size() > right.size()) {
+                right.retainAll(left);
+                return right;
+            }
+            left.retainAll(right);
+            return left;
+        }
+        if (!(expression.left() instanceof Operand.Key) || !(expression.right() instanceof Operand.Value)) {
+            throw new IllegalArgumentException(StringUtils.format(
+                    "The filter expression must compare a key with a value. [operator={0}]",
+                    op));
+        }
+        String key = ObjectUtils.<Operand.Key>cast(expression.left()).key();
+        Object value = ObjectUtils.<Operand.Value>cast(expression.right()).payload();
+        switch (op) {
+            case EQ:
+                return this.equalTo(key, value);
+            case NE:
+                return this.complement(this.equalTo(key, value));
+            case IN:
+                return this.in(key, value);
+            case NIN:
+                return this.complement(this.in(key, value));
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                return this.range(key, op, value);
+            case LIKE:
+                return this.like(key, value);
+            default:
+                throw new IllegalArgumentException(StringUtils.format("Unsupported filter operator. [operator={0}]",
+                        op));
+        }
+    }
+
+    private Set<String> equalTo(String key, Object value) {
+        Set<String> result = new HashSet<>();
+        for (Object normalized : indexedValues(value)) {
+            NavigableMap<Object, Set<String>> index = this.index(key, normalized.getClass());
+            result.addAll(index.getOrDefault(normalized, Collections.emptySet()));
+        }
+        return result;
+    }
+
+    private Set<String> in(String key, Object value) {
+        Set<String> result = new HashSet<>();
+        if (value instanceof Collection) {
+            for (Object element : ObjectUtils.<Collection<?>>cast(value)) {
+                result.addAll(this.equalTo(key, element));
+            }
+            return result;
+        }
+        return this.equalTo(key, value);
+    }
+
+    private Set<String> range(String key, Operator op, Object value) {
+        Object normalized = normalize(value);
+        if (!(normalized instanceof Comparable) || value instanceof Collection) {
+            throw new IllegalArgumentException(StringUtils.format(
+                    "The range filter value must be comparable. [key={0}, operator={1}]",
+                    key,
+                    op));
+        }
+        NavigableMap<Object, Set<String>> index = this.index(key, normalized.getClass());
+        NavigableMap<Object, Set<String>> matched;
+        if (op == Operator.LT || op == Operator.LE) {
+            matched = index.headMap(normalized, op == Operator.LE);
+        } else {
+            matched = index.tailMap(normalized, op == Operator.GE);
+        }
+        Set<String> result = new HashSet<>();
+        matched.values().forEach(result::addAll);
+        return result;
+    }
+
+    private Set<String> like(String key, Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException(StringUtils.format(
+                    "The like filter value must be a string. [key={0}]",
+                    key));
+        }
+        String pattern = ObjectUtils.cast(value);
+        String prefix = literalPrefix(pattern);
+        Pattern regex = toRegex(pattern);
+        Set<String> result = new HashSet<>();
+        for (Map.Entry<Object, Set<String>> entry : this.index(key, String.class).tailMap(prefix, true).entrySet()) {
+            String candidate = ObjectUtils.cast(entry.getKey());
+            if (!candidate.startsWith(prefix)) {
+                break;
+            }
+            if (regex.matcher(candidate).matches()) {
+                result.addAll(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private NavigableMap<Object, Set<String>> index(String key, Class<?> type) {
+        NavigableMap<Object, Set<String>> index =
+                this.indexes.getOrDefault(key, Collections.emptyMap()).get(type);
+        return index == null ? Collections.emptyNavigableMap() : index;
+    }
+
+    private Set<String> complement(Set<String> excluded) {
+        Set<String> result = new HashSet<>(this.ids);
+        result.removeAll(excluded);
+        return result;
+    }
+
+    private static Operand.Expression asExpression(Operand operand) {
+        if (!(operand instanceof Operand.Expression)) {
+            throw new IllegalArgumentException("The operands of AND and OR must be expressions.");
+        }
+        return ObjectUtils.cast(operand);
+    }
+
+    private static List<Object> indexedValues(Object value) {
+        if (!(value instanceof Collection)) {
+            Object normalized = normalize(value);
+            return normalized instanceof Comparable ? Collections.singletonList(normalized) : Collections.emptyList();
+        }
+        List<Object> values = new ArrayList<>();
+        for (Object element : ObjectUtils.<Collection<?>>cast(value)) {
+            Object normalized = normalize(element);
+            if (normalized instanceof Comparable) {
+                values.add(normalized);
+            }
+        }
+        return values;
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            return BigDecimal.valueOf(ObjectUtils.<Number>cast(value).longValue());
+        }
+        if (value instanceof Float || value instanceof Double) {
+            double number = ObjectUtils.<Number>cast(value).doubleValue();
+            return Double.isFinite(number) ? BigDecimal.valueOf(number).stripTrailingZeros() : number;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal(ObjectUtils.<BigInteger>cast(value));
+        }
+        if (value instanceof BigDecimal) {
+            return ObjectUtils.<BigDecimal>cast(value).stripTrailingZeros();
+        }
+        if (value instanceof Date) {
+            return Instant.ofEpochMilli(ObjectUtils.<Date>cast(value).getTime());
+        }
+        if (value instanceof OffsetDateTime) {
+            return ObjectUtils.<OffsetDateTime>cast(value).toInstant();
+        }
+        if (value instanceof ZonedDateTime) {
+            return ObjectUtils.<ZonedDateTime>cast(value).toInstant();
+        }
+        return value;
+    }
+
+    private static String literalPrefix(String pattern) {
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == WILDCARD_ANY || ch == WILDCARD_ONE) {
+                break;
+            }
+            if (ch == ESCAPE && i + 1 < pattern.length()) {
+                ch = pattern.charAt(++i);
+            }
+            prefix.append(ch);
+        }
+        return prefix.toString();
+    }
+
+    private static Pattern toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == WILDCARD_ANY || ch == WILDCARD_ONE) {
+                appendLiteral(regex, literal);
+                regex.append(ch == WILDCARD_ANY ? ".*" : ".");
+                continue;
+            }
+            if (ch == ESCAPE && i + 1 < pattern.length()) {
+                ch = pattern.charAt(++i);
+            }
+            literal.append(ch);
+        }
+        appendLiteral(regex, literal);
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.vectorstore.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.util.FileUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * 表示 {@link FileVectorStore} 的一个只追加的分段文件。
+ * <p>分段文件由连续的记录组成，每条记录的头部依次包含：记录剩余部分的 {@code CRC32C} 校验和、记录类型和记录内容的字节数。
+ * 写入记录的文档包含唯一标识、文本、序列化后的元数据、向量的维度和 {@code float32} 格式的向量；删除记录只包含文档的唯一标识。
+ * 所有记录通过文件通道追加写入，读取时使用只读的内存映射。映射的范围按倍数增长，并预先扩展文件使其覆盖映射的范围，
+ * 同步时只有写入的记录超出映射的范围才重新映射，因此每个分段只会映射少数几次。预留的空间在分段写满或关闭时释放，
+ * 写入中断时残留的预留空间全部为 {@code 0}，恢复时从该处截断。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class VectorSegment implements Closeable {
+    /** 表示写入文档的记录类型。 */
+    static final byte PUT = 1;
+
+    /** 表示删除文档的记录类型。 */
+    static final byte DELETE = 2;
+
+    /** 表示记录头部的字节数。 */
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+
+    private static final int READ_BUFFER = 256 * 1024;
+    private static final long MIN_MAPPING = 64L * 1024;
+
+    private final long sequence;
+    private final File file;
+    private final FileChannel channel;
+    private final Set<String> tombstones = new HashSet<>();
+    private MappedByteBuffer mapped;
+    private long size;
+    private long garbage;
+
+    private VectorSegment(long sequence, File file, FileChannel channel, long size) {
+        this.sequence = sequence;
+        this.file = file;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * 打开分段文件，文件不存在时创建。
+     *
+     * @param sequence 表示分段序号的 {@code long}，序号越大的分段越新。
+     * @param file 表示分段文件的 {@link File}。
+     * @return 表示打开的分段的 {@link VectorSegment}。
+     * @throws IOException 当打开文件失败时。
+     */
+    static VectorSegment open(long sequence, File file) throws IOException {
+        notNull(file, "The segment file cannot be null.");
+        FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return new VectorSegment(sequence, file, channel, channel.size());
+    }
+
+    /**
+     * 校验并遍历分段中的所有记录。
+     * <p>遇到不完整或校验和不一致的记录时，如果之后的内容全部为 {@code 0}，说明是残留的预留空间，从该处截断文件；否则如果允许截断，
+     * 则从该记录开始截断文件，否则抛出异常。遍历结束后映射文件的全部内容。</p>
+     *
+     * @param truncatable 表示是否允许截断损坏的记录的 {@code boolean}，只有最新的分段可能因为写入中断而损坏。
+     * @param visitor 表示记录的访问者的 {@link RecordVisitor}。
+     * @throws IOException 当读取文件失败，或不允许截断时存在损坏的记录时。
+     */
+    void recover(boolean truncatable, RecordVisitor visitor) throws IOException {
+        long position = 0;
+        DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Channels.newInputStream(this.channel.position(0)),
+                        READ_BUFFER));
+        CRC32C crc = new CRC32C();
+        while (position < this.size) {
+            byte[] payload = null;
+            byte type = 0;
+            try {
+                int checksum = in.readInt();
+                type = in.readByte();
+                int length = in.readInt();
+                if (length >= 0 && length <= this.size - position - HEADER_SIZE) {
+                    payload = new byte[length];
+                    in.readFully(payload);
+                    crc.reset();
+                    crc.update(type);
+                    crc.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, length).array());
+                    crc.update(payload);
+                    if ((int) crc.getValue() != checksum || (type != PUT && type != DELETE)) {
+                        payload = null;
+                    }
+                }
+            } catch (EOFException e) {
+                payload = null;
+            }
+            if (payload == null) {
+                if (!truncatable && !this.isPadding(position)) {
+                    throw new IOException(StringUtils.format(
+                            "The vector segment is corrupted. [file={0}, offset={1}]",
+                            FileUtils.path(this.file),
+                            position));
+                }
+                this.channel.truncate(position);
+                this.size = position;
+                break;
+            }
+            visitor.visit(type, position, HEADER_SIZE + payload.length, ByteBuffer.wrap(payload));
+            position += HEADER_SIZE + payload.length;
+        }
+        this.mapped = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.size);
+    }
+
+    private boolean isPadding(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER);
+        long current = position;
+        while (current < this.size) {
+            buffer.clear();
+            int read = this.channel.read(buffer, current);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; ++i) {
+                if (buffer.get(i) != 0) {
+                    return false;
+                }
+            }
+            current += read;
+        }
+        return true;
+    }
+
+    /**
+     * 追加写入一条记录。
+     *
+     * @param type 表示记录类型的 {@code byte}。
+     * @param payload 表示记录内容的 {@link ByteBuffer}，从当前位置读取到上限。
+     * @return 表示记录在分段中的起始位置的 {@code long}。
+     * @throws IOException 当写入失败时。
+     */
+    long append(byte type, ByteBuffer payload) throws IOException {
+        int length = payload.remaining();
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, length).array());
+        crc.update(payload.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt((int) crc.getValue()).put(type).putInt(length).flip();
+        long offset = this.size;
+        long position = offset;
+        for (ByteBuffer buffer : new ByteBuffer[] {header, payload}) {
+            while (buffer.hasRemaining()) {
+                position += this.channel.write(buffer, position);
+            }
+        }
+        this.size = position;
+        return offset;
+    }
+
+    /**
+     * 将追加的记录写入磁盘，使追加的记录可以被读取。
+     * <p>追加的记录超出映射的范围时，将映射的范围至少扩大一倍，并预先扩展文件使其覆盖新的映射范围。</p>
+     *
+     * @throws IOException 当写入或映射失败时。
+     */
+    void sync() throws IOException {
+        this.channel.force(false);
+        long capacity = this.mapped == null ? 0 : this.mapped.capacity();
+        if (this.mapped != null && this.size <= capacity) {
+            return;
+        }
+        long target = Math.min(Math.max(Math.max(capacity * 2, MIN_MAPPING), this.size), Integer.MAX_VALUE);
+        if (this.channel.size() < target) {
+            this.channel.write(ByteBuffer.allocate(1), target - 1);
+        }
+        this.mapped = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, target);
+    }
+
+    /**
+     * 将追加的记录写入磁盘，并释放预留的空间，在分段写满之后调用。
+     *
+     * @throws IOException 当写入或映射失败时。
+     */
+    void seal() throws IOException {
+        this.channel.force(false);
+        if (this.channel.size() > this.size) {
+            this.channel.truncate(this.size);
+        }
+        this.mapped = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.size);
+    }
+
+    /**
+     * 获取映射分段内容的只读缓冲区。
+     * <p>只能使用绝对位置读取缓冲区的内容，缓冲区的上限可能超过分段的字节数，只有最近一次同步之前写入的记录可以被读取。</p>
+     *
+     * @return 表示映射分段内容的 {@link ByteBuffer}。
+     */
+    ByteBuffer mapped() {
+        return this.mapped;
+    }
+
+    /**
+     * 删除分段文件。
+     *
+     * @throws IOException 当关闭或删除文件失败时。
+     */
+    void delete() throws IOException {
+        this.close();
+        this.mapped = null;
+        Files.deleteIfExists(this.file.toPath());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.channel.isOpen() && this.channel.size() > this.size) {
+                this.channel.truncate(this.size);
+            }
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * 获取分段序号。
+     *
+     * @return 表示分段序号的 {@code long}。
+     */
+    long sequence() {
+        return this.sequence;
+    }
+
+    /**
+     * 获取分段的字节数。
+     *
+     * @return 表示分段的字节数的 {@code long}。
+     */
+    long size() {
+        return this.size;
+    }
+
+    /**
+     * 获取分段中已经失效的记录的字节数。
+     *
+     * @return 表示失效记录的字节数的 {@code long}。
+     */
+    long garbage() {
+        return this.garbage;
+    }
+
+    /**
+     * 增加分段中失效的记录的字节数。
+     *
+     * @param bytes 表示新失效的记录的字节数的 {@code long}。
+     */
+    void addGarbage(long bytes) {
+        this.garbage += bytes;
+    }
+
+    /**
+     * 获取分段中删除记录对应的文档唯一标识。
+     *
+     * @return 表示文档唯一标识的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    Set<String> tombstones() {
+        return this.tombstones;
+    }
+
+    /**
+     * 编码写入文档的记录内容。
+     *
+     * @param id 表示文档唯一标识的 {@link String}。
+     * @param text 表示文档文本的 {@link String}。
+     * @param metadata 表示序列化后的文档元数据的 {@code byte[]}。
+     * @param vector 表示文档向量的 {@code float[]}。
+     * @return 表示记录内容的 {@link ByteBuffer}。
+     */
+    static ByteBuffer encodePut(String id, String text, byte[] metadata, float[] vector) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] textBytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 4 + idBytes.length + textBytes.length + metadata.length
+                + vector.length * Float.BYTES);
+        buffer.putInt(idBytes.length).put(idBytes);
+        buffer.putInt(textBytes.length).put(textBytes);
+        buffer.putInt(metadata.length).put(metadata);
+        buffer.putInt(vector.length);
+        for (float value : vector) {
+            buffer.putFloat(value);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 编码删除文档的记录内容。
+     *
+     * @param id 表示文档唯一标识的 {@link String}。
+     * @return 表示记录内容的 {@link ByteBuffer}。
+     */
+    static ByteBuffer encodeDelete(String id) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Integer.BYTES + idBytes.length).putInt(idBytes.length).put(idBytes).flip();
+    }
+
+    /**
+     * 从缓冲区的指定位置读取带长度前缀的字节数组。
+     *
+     * @param buffer 表示缓冲区的 {@link ByteBuffer}。
+     * @param offset 表示长度前缀的位置的 {@code int}。
+     * @return 表示读取的字节数组的 {@code byte[]}。
+     */
+    static byte[] readBytes(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        buffer.get(offset + Integer.BYTES, bytes);
+        return bytes;
+    }
+
+    /**
+     * 表示分段中记录的访问者。
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        /**
+         * 访问一条记录。
+         *
+         * @param type 表示记录类型的 {@code byte}。
+         * @param offset 表示记录在分段中的起始位置的 {@code long}。
+         * @param length 表示记录的总字节数的 {@code int}。
+         * @param payload 表示记录内容的 {@link ByteBuffer}。
+         * @throws IOException 当处理记录失败时。
+         */
+        void visit(byte type, long offset, int length, ByteBuffer payload) throws IOException;
+    }
+}
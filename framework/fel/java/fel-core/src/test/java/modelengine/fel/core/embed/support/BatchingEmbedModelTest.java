@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.embed.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.core.document.Document;
+import modelengine.fel.core.document.DocumentEmbedModel;
+import modelengine.fel.core.embed.EmbedModel;
+import modelengine.fel.core.embed.EmbedOption;
+import modelengine.fel.core.embed.Embedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 表示 {@link BatchingEmbedModel} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 BatchingEmbedModel")
+public class BatchingEmbedModelTest {
+    private final EmbedOption option = EmbedOption.custom().model("test-model").build();
+
+    @Test
+    @DisplayName("输入超过批次大小时，分批调用嵌入模型，结果保持输入顺序")
+    void givenInputsOverBatchSizeThenGenerateInBatches() {
+        RecordingEmbedModel delegate = new RecordingEmbedModel();
+        EmbedModel model = new BatchingEmbedModel(delegate, null, 2);
+        List<String> inputs = Arrays.asList("a", "bb", "ccc", "dddd", "eeeee");
+        List<Embedding> embeddings = model.generate(inputs, this.option);
+        assertThat(delegate.calls).containsExactly(Arrays.asList("a", "bb"),
+                Arrays.asList("ccc", "dddd"),
+                Collections.singletonList("eeeee"));
+        assertThat(embeddings).extracting(Embedding::embedding)
+                .isEqualTo(inputs.stream().map(RecordingEmbedModel::vectorOf).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("输入包含重复内容时，相同内容只生成一次嵌入向量")
+    void givenDuplicatedInputsThenGenerateOnce() {
+        RecordingEmbedModel delegate = new RecordingEmbedModel();
+        EmbedModel model = new BatchingEmbedModel(delegate, null, 8);
+        List<Embedding> embeddings = model.generate(Arrays.asList("a", "b", "a"), this.option);
+        assertThat(delegate.calls).containsExactly(Arrays.asList("a", "b"));
+        assertThat(embeddings).hasSize(3);
+        assertThat(embeddings.get(2).embedding()).isEqualTo(embeddings.get(0).embedding());
+    }
+
+    @Test
+    @DisplayName("重新嵌入大部分未变化的文档时，只为变化的文档调用嵌入模型")
+    void givenMostlyUnchangedDocumentsThenOnlyEmbedChanged() {
+        RecordingEmbedModel delegate = new RecordingEmbedModel();
+        DocumentEmbedModel embedModel =
+                new DefaultDocumentEmbedModel(delegate, this.option, new DefaultEmbeddingCache(1024));
+        List<String> texts = IntStream.range(0, 200).mapToObj(i -> "chunk-" + i).collect(Collectors.toList());
+        embedModel.embed(documents(texts));
+        assertThat(delegate.inputs()).hasSize(200);
+
+        delegate.calls.clear();
+        texts.set(3, "chunk-3-changed");
+        texts.set(150, "chunk-150-changed");
+        List<Embedding> embeddings = embedModel.embed(documents(texts));
+        assertThat(delegate.inputs()).containsExactly("chunk-3-changed", "chunk-150-changed");
+        assertThat(embeddings).extracting(Embedding::embedding)
+                .isEqualTo(texts.stream().map(RecordingEmbedModel::vectorOf).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("指定并发数量时，同时执行的批次不超过并发数量")
+    void givenConcurrencyThenBoundConcurrentBatches() {
+        RecordingEmbedModel delegate = new RecordingEmbedModel();
+        delegate.delay = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            EmbedModel model = new BatchingEmbedModel(delegate, null, 1, 3, executor);
+            List<String> inputs = IntStream.range(0, 30).mapToObj(i -> "input-" + i).collect(Collectors.toList());
+            List<Embedding> embeddings = model.generate(inputs, this.option);
+            assertThat(delegate.maxConcurrency.get()).isBetween(1, 3);
+            assertThat(delegate.inputs()).hasSize(30);
+            assertThat(embeddings).extracting(Embedding::embedding)
+                    .isEqualTo(inputs.stream().map(RecordingEmbedModel::vectorOf).collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("嵌入模型返回的数量与输入不一致时，抛出异常")
+    void givenMismatchedEmbeddingsThenThrowException() {
+        EmbedModel model = new BatchingEmbedModel((inputs, option) -> Collections.emptyList(), null, 4);
+        assertThatThrownBy(() -> model.generate(Arrays.asList("a", "b"), this.option)).isInstanceOf(
+                IllegalStateException.class)
+                .hasMessage("The embedding count does not match the input count. [inputs=2, embeddings=0]");
+    }
+
+    private static List<Document> documents(List<String> texts) {
+        return texts.stream()
+                .map(text -> Document.custom().text(text).metadata(Collections.emptyMap()).build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 表示记录每次调用的嵌入模型。
+     */
+    private static class RecordingEmbedModel implements EmbedModel {
+        private final List<List<String>> calls = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private long delay;
+
+        static List<Float> vectorOf(String input) {
+            return Arrays.asList((float) input.length(), (float) input.hashCode());
+        }
+
+        List<String> inputs() {
+            return this.calls.stream().flatMap(List::stream).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Embedding> generate(List<String> inputs, EmbedOption option) {
+            this.maxConcurrency.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+            try {
+                if (this.delay > 0) {
+                    Thread.sleep(this.delay);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.running.decrementAndGet();
+            }
+            this.calls.add(new ArrayList<>(inputs));
+            return inputs.stream().map(input -> (Embedding) () -> vectorOf(input)).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.embed.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fel.core.embed.Embedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 表示 {@link DefaultEmbeddingCache} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 DefaultEmbeddingCache")
+public class DefaultEmbeddingCacheTest {
+    private static final List<Float> FIRST = Arrays.asList(0.1f, 0.2f, 0.3f);
+    private static final List<Float> SECOND = Arrays.asList(-1.5f, 2.5f);
+
+    @Test
+    @DisplayName("超过内存容量时，淘汰最久未使用的嵌入向量")
+    void givenOverCapacityThenEvictLeastRecentlyUsed() {
+        DefaultEmbeddingCache cache = new DefaultEmbeddingCache(2);
+        cache.put("model", "a", () -> FIRST);
+        cache.put("model", "b", () -> SECOND);
+        assertThat(cache.get("model", "a")).isPresent();
+        cache.put("model", "c", () -> FIRST);
+        assertThat(cache.get("model", "a")).isPresent();
+        assertThat(cache.get("model", "b")).isEmpty();
+        assertThat(cache.get("model", "c")).isPresent();
+    }
+
+    @Test
+    @DisplayName("不同模型下相同的输入内容，分别缓存")
+    void givenDifferentModelsThenCacheSeparately() {
+        DefaultEmbeddingCache cache = new DefaultEmbeddingCache(16);
+        cache.put("model-1", "input", () -> FIRST);
+        assertThat(cache.get("model-1", "input")).map(Embedding::embedding).hasValue(FIRST);
+        assertThat(cache.get("model-2", "input")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("指定磁盘分段文件时，被淘汰和重新打开后的嵌入向量从文件中读取")
+    void givenSegmentThenReadEvictedAndReopened(@TempDir Path directory) {
+        File segment = directory.resolve("embeddings.seg").toFile();
+        try (DefaultEmbeddingCache cache = new DefaultEmbeddingCache(1, segment)) {
+            cache.put("model", "a", () -> FIRST);
+            cache.put("model", "b", () -> SECOND);
+            assertThat(cache.get("model", "a")).map(Embedding::embedding).hasValue(FIRST);
+        }
+        try (DefaultEmbeddingCache cache = new DefaultEmbeddingCache(1, segment)) {
+            assertThat(cache.get("model", "a")).map(Embedding::embedding).hasValue(FIRST);
+            assertThat(cache.get("model", "b")).map(Embedding::embedding).hasValue(SECOND);
+            assertThat(cache.get("model", "c")).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("磁盘分段文件末尾的记录不完整时，截断该记录")
+    void givenTruncatedSegmentThenDropIncompleteRecord(@TempDir Path directory) throws IOException {
+        File segment = directory.resolve("embeddings.seg").toFile();
+        try (DefaultEmbeddingCache cache = new DefaultEmbeddingCache(4, segment)) {
+            cache.put("model", "a", () -> FIRST);
+            cache.put("model", "b", () -> SECOND);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        try (DefaultEmbeddingCache cache = new DefaultEmbeddingCache(4, segment)) {
+            assertThat(cache.get("model", "a")).map(Embedding::embedding).hasValue(FIRST);
+            assertThat(cache.get("model", "b")).isEmpty();
+            cache.put("model", "b", () -> SECOND);
+        }
+        try (DefaultEmbeddingCache cache = new DefaultEmbeddingCache(4, segment)) {
+            assertThat(cache.get("model", "b")).map(Embedding::embedding).hasValue(SECOND);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.vectorstore.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import modelengine.fel.core.document.Document;
+import modelengine.fel.core.document.DocumentEmbedModel;
+import modelengine.fel.core.document.MeasurableDocument;
+import modelengine.fel.core.embed.Embedding;
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.vectorstore.SearchOption;
+import modelengine.fit.serialization.json.jackson.JacksonObjectSerializer;
+import modelengine.fitframework.serialization.ObjectSerializer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 表示 {@link FileVectorStore} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 FileVectorStore")
+public class FileVectorStoreTest {
+    private static final long SEGMENT_SIZE = 64L * 1024;
+
+    private final ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null);
+    private final DocumentEmbedModel embedModel = new RandomEmbedModel(8);
+
+    @Test
+    @DisplayName("插入文档后，按照相似度和过滤器检索成功")
+    void shouldOkWhenAddDocumentsThenSearch(@TempDir Path directory) {
+        try (FileVectorStore store = this.open(directory.toFile(), 512)) {
+            store.persistent(documents(0, 20));
+            List<MeasurableDocument> result = store.search("text-3", SearchOption.custom().topK(3).build());
+            assertThat(result).hasSize(3);
+            assertThat(result.get(0).id()).isEqualTo("id-3");
+            assertThat(result.get(0).text()).isEqualTo("text-3");
+            assertThat(result.get(0).score()).isCloseTo(1.0, within(1e-6));
+
+            List<MeasurableDocument> filtered =
+                    store.search("text-3", SearchOption.custom().topK(5).filter(Filter.eq("tenant", "a")).build());
+            assertThat(filtered).hasSize(5).allMatch(document -> "a".equals(document.metadata().get("tenant")));
+        }
+    }
+
+    @Test
+    @DisplayName("删除和覆盖文档后回收空间，重新打开后数据保持不变")
+    void shouldReclaimSpaceWhenCompactThenReopen(@TempDir Path directory) throws IOException {
+        File dir = directory.toFile();
+        try (FileVectorStore store = this.open(dir, 512)) {
+            store.persistent(documents(0, 20));
+            long before = segmentCount(directory);
+            store.delete(IntStream.range(0, 15).mapToObj(i -> "id-" + i).collect(Collectors.toList()));
+            store.persistent(Collections.singletonList(Document.custom()
+                    .id("id-16")
+                    .text("text-16-updated")
+                    .metadata(Collections.singletonMap("tenant", "c"))
+                    .build()));
+            store.compact();
+            assertThat(segmentCount(directory)).isLessThan(before);
+            assertThat(store.search("text", SearchOption.custom().topK(100).build())).hasSize(5);
+        }
+        try (FileVectorStore store = this.open(dir, 512)) {
+            assertThat(store.search("text", SearchOption.custom().topK(100).build())).extracting(Document::id)
+                    .containsExactlyInAnyOrder("id-15", "id-16", "id-17", "id-18", "id-19");
+            assertThat(store.search("text", SearchOption.custom().topK(100).filter(Filter.eq("tenant", "c")).build()))
+                    .extracting(Document::text)
+                    .containsExactly("text-16-updated");
+        }
+    }
+
+    @Test
+    @DisplayName("写入中断导致最新分段末尾的记录不完整时，截断该记录并恢复其余文档")
+    void shouldRecoverWhenCrashWithIncompleteTail(@TempDir Path directory) throws IOException {
+        File dir = directory.toFile();
+        int count = 10_000;
+        try (FileVectorStore abandoned = this.open(dir, SEGMENT_SIZE)) {
+            for (int start = 0; start < count; start += 1_000) {
+                abandoned.persistent(documents(start, start + 1_000));
+            }
+        }
+        Path last = lastSegment(directory);
+        try (RandomAccessFile file = new RandomAccessFile(last.toFile(), "rw")) {
+            file.setLength(file.length() - 5);
+        }
+        try (FileVectorStore store = this.open(dir, SEGMENT_SIZE)) {
+            assertThat(store.search("text-" + (count - 2), SearchOption.custom().topK(3).build())).extracting(
+                    Document::id).contains("id-" + (count - 2));
+            assertThat(store.search("text-" + (count - 1), SearchOption.custom().topK(3).build())).extracting(
+                    Document::id).doesNotContain("id-" + (count - 1));
+            assertThat(store.search("text", SearchOption.custom().topK(count).filter(Filter.eq("tenant", "a")).build()))
+                    .hasSize(count / 2);
+            store.persistent(documents(count - 1, count));
+        }
+        try (FileVectorStore store = this.open(dir, SEGMENT_SIZE)) {
+            assertThat(store.search("text-" + (count - 1), SearchOption.custom().topK(3).build())).extracting(
+                    Document::id).contains("id-" + (count - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("写入中断导致分段末尾残留预留的空间时，忽略该空间并恢复所有文档")
+    void shouldRecoverWhenCrashWithPreallocatedTail(@TempDir Path directory) throws IOException {
+        File dir = directory.toFile();
+        try (FileVectorStore abandoned = this.open(dir, 512)) {
+            abandoned.persistent(documents(0, 20));
+        }
+        for (Path segment : Arrays.asList(segments(directory).get(0), lastSegment(directory))) {
+            try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+                file.setLength(file.length() + 1024);
+            }
+        }
+        try (FileVectorStore store = this.open(dir, 512)) {
+            assertThat(store.search("text", SearchOption.custom().topK(100).build())).hasSize(20);
+            store.persistent(documents(20, 25));
+        }
+        try (FileVectorStore store = this.open(dir, 512)) {
+            assertThat(store.search("text", SearchOption.custom().topK(100).build())).hasSize(25);
+        }
+    }
+
+    @Test
+    @DisplayName("同一批次中重复写入相同的文档时，以最后一次写入为准")
+    void shouldKeepLastWhenDuplicateIdInBatch(@TempDir Path directory) {
+        File dir = directory.toFile();
+        List<Document> batch = new ArrayList<>(documents(0, 3));
+        batch.add(Document.custom()
+                .id("id-1")
+                .text("text-1-updated")
+                .metadata(Collections.singletonMap("tenant", "c"))
+                .build());
+        try (FileVectorStore store = this.open(dir, 512)) {
+            store.persistent(batch);
+            assertThat(store.search("text", SearchOption.custom().topK(10).build())).hasSize(3);
+            assertThat(store.search("text", SearchOption.custom().topK(10).filter(Filter.eq("tenant", "b")).build()))
+                    .isEmpty();
+            assertThat(store.search("text", SearchOption.custom().topK(10).filter(Filter.eq("tenant", "c")).build()))
+                    .extracting(Document::text)
+                    .containsExactly("text-1-updated");
+        }
+        try (FileVectorStore store = this.open(dir, 512)) {
+            assertThat(store.search("text", SearchOption.custom().topK(10).filter(Filter.eq("tenant", "c")).build()))
+                    .extracting(Document::id)
+                    .containsExactly("id-1");
+        }
+    }
+
+    @Test
+    @DisplayName("目录已被其它存储实例打开时，抛出异常，关闭后可以重新打开")
+    void shouldFailWhenDirectoryAlreadyOpened(@TempDir Path directory) {
+        File dir = directory.toFile();
+        try (FileVectorStore store = this.open(dir, 512)) {
+            store.persistent(documents(0, 3));
+            assertThatThrownBy(() -> this.open(dir, 512)).isInstanceOf(IllegalStateException.class)
+                    .hasMessageStartingWith("The vector store is already opened by another instance.");
+        }
+        try (FileVectorStore store = this.open(dir, 512)) {
+            assertThat(store.search("text", SearchOption.custom().topK(10).build())).hasSize(3);
+        }
+    }
+
+    @Test
+    @DisplayName("已写满的分段损坏时，抛出异常")
+    void shouldFailWhenSealedSegmentCorrupted(@TempDir Path directory) throws IOException {
+        File dir = directory.toFile();
+        try (FileVectorStore store = this.open(dir, 512)) {
+            store.persistent(documents(0, 20));
+        }
+        Path first = segments(directory).get(0);
+        try (RandomAccessFile file = new RandomAccessFile(first.toFile(), "rw")) {
+            file.seek(20);
+            int value = file.read();
+            file.seek(20);
+            file.write(value ^ 0xFF);
+        }
+        assertThatThrownBy(() -> this.open(dir, 512)).isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Failed to open the vector store.");
+    }
+
+    private FileVectorStore open(File directory, long segmentSize) {
+        return new FileVectorStore(this.embedModel, directory, this.serializer, segmentSize, 0.5);
+    }
+
+    private static List<Document> documents(int start, int end) {
+        return IntStream.range(start, end)
+                .mapToObj(i -> Document.custom()
+                        .id("id-" + i)
+                        .text("text-" + i)
+                        .metadata(Collections.singletonMap("tenant", i % 2 == 0 ? "a" : "b"))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static long segmentCount(Path directory) throws IOException {
+        return segments(directory).size();
+    }
+
+    private static Path lastSegment(Path directory) throws IOException {
+        List<Path> segments = segments(directory);
+        return segments.get(segments.size() - 1);
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("segment-\\d+\\.vec"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 表示根据文本生成固定随机向量的嵌入模型。
+     */
+    private static class RandomEmbedModel implements DocumentEmbedModel {
+        private final int dimension;
+
+        RandomEmbedModel(int dimension) {
+            this.dimension = dimension;
+        }
+
+        @Override
+        public List<Embedding> embed(List<Document> documents) {
+            return documents.stream().map(document -> this.embed(document.text())).collect(Collectors.toList());
+        }
+
+        @Override
+        public Embedding embed(String input) {
+            Random random = new Random(input.hashCode());
+            List<Float> vector = new ArrayList<>(this.dimension);
+            for (int i = 0; i < this.dimension; ++i) {
+                vector.add(random.nextFloat() - 0.5f);
+            }
+            return () -> vector;
+        }
+    }
+}
@@ -8,9 +8,11 @@ package modelengine.fel.core.vectorstore.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import modelengine.fel.core.document.Document;
 import modelengine.fel.core.document.MeasurableDocument;
 import modelengine.fel.core.embed.EmbedOption;
 import modelengine.fel.core.embed.support.DefaultDocumentEmbedModel;
+import modelengine.fel.core.retriever.filter.Filter;
 import modelengine.fel.core.vectorstore.SearchOption;
 import modelengine.fel.core.vectorstore.VectorStore;
 import modelengine.fit.serialization.json.jackson.JacksonObjectSerializer;
@@ -23,8 +25,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 表示 {@link MemoryVectorStore} 的单元测试。
@@ -44,6 +52,48 @@ public class MemoryVectorStoreTest {
                 .isSortedAccordingTo(Comparator.comparingDouble(MeasurableDocument::score).reversed());
     }
 
+    @Test
+    @DisplayName("指定过滤器检索时，先过滤再排序，返回满足条件的 topK 文档")
+    void shouldFilterBeforeRankingWhenSearchWithFilter() {
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        List<Document> documents = IntStream.range(0, 9)
+                .mapToObj(seq -> Document.custom()
+                        .text("test" + seq)
+                        .metadata(Collections.singletonMap("tenant", seq % 3 == 0 ? "a" : "b"))
+                        .build())
+                .collect(Collectors.toList());
+        vectorStore.persistent(documents);
+        List<MeasurableDocument> result =
+                vectorStore.search("test", SearchOption.custom().topK(3).filter(Filter.eq("tenant", "a")).build());
+        assertThat(result).hasSize(3).allMatch(document -> "a".equals(document.metadata().get("tenant")));
+
+        vectorStore.delete(Collections.singletonList(result.get(0).id()));
+        assertThat(vectorStore.search("test",
+                SearchOption.custom().topK(3).filter(Filter.eq("tenant", "a")).build())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("插入文档后修改原始的元数据，不影响存储的文档和过滤结果")
+    void shouldKeepMetadataWhenOriginalMetadataChanged() {
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("tenant", "a");
+        vectorStore.persistent(Collections.singletonList(Document.custom().text("test").metadata(metadata).build()));
+        metadata.put("tenant", "b");
+
+        List<MeasurableDocument> result =
+                vectorStore.search("test", SearchOption.custom().topK(3).filter(Filter.eq("tenant", "a")).build());
+        assertThat(result).hasSize(1).allMatch(document -> "a".equals(document.metadata().get("tenant")));
+        assertThat(vectorStore.search("test",
+                SearchOption.custom().topK(3).filter(Filter.eq("tenant", "b")).build())).isEmpty();
+
+        vectorStore.delete(Collections.singletonList(result.get(0).id()));
+        assertThat(vectorStore.search("test",
+                SearchOption.custom().topK(3).filter(Filter.eq("tenant", "a")).build())).isEmpty();
+    }
+
     @Test
     @DisplayName("插入文档后，持久化后重新加载成功")
     void shouldOkWhenPersistThenLoad() throws IOException {
@@ -67,4 +117,21 @@ public class MemoryVectorStoreTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("加载没有元数据的文档成功，并且可以按照元数据过滤检索")
+    void shouldLoadDocumentWithoutMetadata() throws IOException {
+        ObjectSerializer serializer = new JacksonObjectSerializer(null, null, null);
+        MemoryVectorStore vectorStore = new MemoryVectorStore(new DefaultDocumentEmbedModel(new EmbedModelStub(),
+                EmbedOption.custom().build()));
+        String json = "{\"1\":{\"id\":\"1\",\"text\":\"test\",\"embedding\":[0.1,0.2,0.3,0.4,0.5]}}";
+        try (InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))) {
+            vectorStore.load(in, serializer);
+        }
+
+        assertThat(vectorStore.search("test", SearchOption.custom().topK(3).build())).hasSize(1)
+                .allMatch(document -> document.metadata().isEmpty());
+        assertThat(vectorStore.search("test",
+                SearchOption.custom().topK(3).filter(Filter.eq("tenant", "a")).build())).isEmpty();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.vectorstore.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.core.retriever.filter.Filter;
+import modelengine.fel.core.retriever.filter.Operand;
+import modelengine.fel.core.retriever.filter.Operator;
+import modelengine.fitframework.util.MapBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 表示 {@link MetadataIndex} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 MetadataIndex")
+public class MetadataIndexTest {
+    private final MetadataIndex index = new MetadataIndex();
+    private final Map<String, Object> first = MapBuilder.<String, Object>get()
+            .put("tenant", "a")
+            .put("source", "wiki")
+            .put("year", 2023)
+            .put("tags", Arrays.asList("x", "y"))
+            .build();
+
+    @BeforeEach
+    void setup() {
+        this.index.add("d1", this.first);
+        this.index.add("d2",
+                MapBuilder.<String, Object>get()
+                        .put("tenant", "a")
+                        .put("source", "blog")
+                        .put("year", 2024L)
+                        .put("tags", Collections.singletonList("y"))
+                        .build());
+        this.index.add("d3",
+                MapBuilder.<String, Object>get()
+                        .put("tenant", "b")
+                        .put("source", "wiki_cn")
+                        .put("year", 2024.0)
+                        .build());
+        this.index.add("d4", MapBuilder.<String, Object>get().put("tenant", "b").put("year", 2025).build());
+    }
+
+    @Test
+    @DisplayName("测试 EQ 操作符，数字按照数值比较，集合中任意元素相等即满足条件")
+    void testEq() {
+        assertThat(this.index.select(Filter.eq("tenant", "a").expression())).containsExactlyInAnyOrder("d1", "d2");
+        assertThat(this.index.select(Filter.eq("year", 2024).expression())).containsExactlyInAnyOrder("d2", "d3");
+        assertThat(this.index.select(Filter.eq("tags", "y").expression())).containsExactlyInAnyOrder("d1", "d2");
+        assertThat(this.index.select(Filter.eq("year", "2024").expression())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("测试 NE 操作符，不包含该键的文档也满足条件")
+    void testNe() {
+        assertThat(this.index.select(Filter.ne("source", "wiki").expression())).containsExactlyInAnyOrder("d2",
+                "d3",
+                "d4");
+        assertThat(this.index.select(Filter.ne("tags", "x").expression())).containsExactlyInAnyOrder("d2", "d3", "d4");
+    }
+
+    @Test
+    @DisplayName("测试 LT 操作符")
+    void testLt() {
+        assertThat(this.index.select(Filter.lt("year", 2024).expression())).containsExactly("d1");
+    }
+
+    @Test
+    @DisplayName("测试 LE 操作符")
+    void testLe() {
+        assertThat(this.index.select(Filter.le("year", 2024).expression())).containsExactlyInAnyOrder("d1",
+                "d2",
+                "d3");
+    }
+
+    @Test
+    @DisplayName("测试 GT 操作符")
+    void testGt() {
+        assertThat(this.index.select(Filter.gt("year", 2024.5).expression())).containsExactly("d4");
+    }
+
+    @Test
+    @DisplayName("测试 GE 操作符")
+    void testGe() {
+        assertThat(this.index.select(Filter.ge("year", 2024).expression())).containsExactlyInAnyOrder("d2",
+                "d3",
+                "d4");
+    }
+
+    @Test
+    @DisplayName("测试 IN 操作符")
+    void testIn() {
+        assertThat(this.index.select(Filter.in("source", Arrays.asList("wiki", "blog")).expression()))
+                .containsExactlyInAnyOrder("d1", "d2");
+    }
+
+    @Test
+    @DisplayName("测试 NIN 操作符")
+    void testNin() {
+        assertThat(this.index.select(Filter.notIn("source", Arrays.asList("wiki", "blog")).expression()))
+                .containsExactlyInAnyOrder("d3", "d4");
+    }
+
+    @Test
+    @DisplayName("测试 LIKE 操作符，支持通配符和转义")
+    void testLike() {
+        assertThat(this.index.select(Filter.like("source", "wiki%").expression())).containsExactlyInAnyOrder("d1",
+                "d3");
+        assertThat(this.index.select(Filter.like("source", "_log").expression())).containsExactly("d2");
+        assertThat(this.index.select(Filter.like("source", "wiki\\_%").expression())).containsExactly("d3");
+        assertThat(this.index.select(Filter.like("source", "%i").expression())).containsExactly("d1");
+    }
+
+    @Test
+    @DisplayName("测试 AND 操作符")
+    void testAnd() {
+        Filter filter = Filter.eq("tenant", "a").and(Filter.ge("year", 2024));
+        assertThat(this.index.select(filter.expression())).containsExactly("d2");
+    }
+
+    @Test
+    @DisplayName("测试 OR 操作符")
+    void testOr() {
+        Filter filter = Filter.eq("tenant", "b").or(Filter.eq("tags", "x"));
+        assertThat(this.index.select(filter.expression())).containsExactlyInAnyOrder("d1", "d3", "d4");
+    }
+
+    @Test
+    @DisplayName("删除文档后，索引中不再包含该文档")
+    void givenRemovedDocumentThenExcluded() {
+        this.index.remove("d1", this.first);
+        assertThat(this.index.select(Filter.eq("tenant", "a").expression())).containsExactly("d2");
+        assertThat(this.index.select(Filter.ne("tenant", "a").expression())).containsExactlyInAnyOrder("d3", "d4");
+        assertThat(this.index.select(Filter.lt("year", 2024).expression())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("范围查询的值为集合时，抛出异常")
+    void givenCollectionInRangeThenThrowException() {
+        Operand.Expression expression =
+                Operand.expression(Operator.LT, "year", Collections.singletonList(2024));
+        assertThatThrownBy(() -> this.index.select(expression)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.core.vectorstore.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 表示 {@link VectorSegment} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 VectorSegment")
+public class VectorSegmentTest {
+    @Test
+    @DisplayName("同步时只有写入的记录超出映射的范围才重新映射，关闭后释放预留的空间")
+    void shouldRemapOnlyWhenExceedMapping(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("segment.vec");
+        long size;
+        try (VectorSegment segment = VectorSegment.open(0, file.toFile())) {
+            segment.append(VectorSegment.PUT, ByteBuffer.wrap(new byte[100]));
+            segment.sync();
+            ByteBuffer mapped = segment.mapped();
+            long offset = segment.append(VectorSegment.PUT, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+            segment.sync();
+            assertThat(segment.mapped()).isSameAs(mapped);
+            assertThat(segment.mapped().get((int) offset + VectorSegment.HEADER_SIZE + 2)).isEqualTo((byte) 3);
+
+            segment.append(VectorSegment.PUT, ByteBuffer.wrap(new byte[mapped.capacity()]));
+            segment.sync();
+            assertThat(segment.mapped()).isNotSameAs(mapped);
+            assertThat((long) segment.mapped().capacity()).isGreaterThanOrEqualTo(segment.size());
+            size = segment.size();
+        }
+        assertThat(Files.size(file)).isEqualTo(size);
+    }
+}
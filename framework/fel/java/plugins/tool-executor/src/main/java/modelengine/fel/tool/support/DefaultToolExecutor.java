@@ -8,6 +8,7 @@ package modelengine.fel.tool.support;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
 
+import modelengine.fel.core.tool.ToolInfo;
 import modelengine.fel.tool.Tool;
 import modelengine.fel.tool.ToolEntity;
 import modelengine.fel.tool.ToolFactory;
@@ -21,11 +22,14 @@ import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示 {@link ToolExecuteService} 的默认实现。
+ * <p>创建工具需要匹配工具工厂并解析工具的格式规范，因此执行器会按照工具的唯一名字缓存已经创建的工具。缓存项记录了创建时所使用的
+ * {@link ToolEntity 工具实体} 和 {@link ToolFactory 工具工厂}，当工具仓库中的工具被重新添加、删除，或者匹配到的工具工厂发生变化时，
+ * 缓存项会在下一次调用时失效并重新创建。</p>
  *
  * @author 易文渊
  * @since 2024-08-15
@@ -35,6 +39,7 @@ public class DefaultToolExecutor implements ToolExecuteService {
     private final ToolRepository toolRepository;
     private final ToolFactoryRepository toolFactoryRepository;
     private final ObjectSerializer serializer;
+    private final Map<String, CompiledTool> compiledTools = new ConcurrentHashMap<>();
 
     /**
      * 构造一个 {@link DefaultToolExecutor} 的实例。
@@ -80,18 +85,27 @@ public class DefaultToolExecutor implements ToolExecuteService {
     }
 
     private Tool getTool(String group, String toolName) {
-        ToolEntity tool = notNull(toolRepository.getTool(group, toolName),
-                () -> new IllegalStateException(StringUtils.format("The tool cannot be found. [group={0}, tool={1}]",
-                        group,
-                        toolName)));
+        String uniqueName = ToolInfo.identify(group, toolName);
+        ToolEntity tool = this.toolRepository.getTool(group, toolName);
+        if (tool == null) {
+            this.compiledTools.remove(uniqueName);
+            throw new IllegalStateException(StringUtils.format("The tool cannot be found. [group={0}, tool={1}]",
+                    group,
+                    toolName));
+        }
         Set<String> runnables = tool.runnables().keySet();
-        Optional<ToolFactory> factory = this.toolFactoryRepository.match(runnables);
-        if (factory.isEmpty()) {
-            throw new IllegalStateException(StringUtils.format("No tool factory to create tool. [runnables={0}]",
-                    runnables));
+        ToolFactory factory = this.toolFactoryRepository.match(runnables)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "No tool factory to create tool. [runnables={0}]",
+                        runnables)));
+        CompiledTool compiled = this.compiledTools.get(uniqueName);
+        if (compiled != null && compiled.isCreatedBy(tool, factory)) {
+            return compiled.tool;
         }
         Tool.Metadata metadata = Tool.Metadata.fromSchema(group, tool.schema());
-        return factory.get().create(tool, metadata);
+        compiled = new CompiledTool(tool, factory, factory.create(tool, metadata));
+        this.compiledTools.put(uniqueName, compiled);
+        return compiled.tool;
     }
 
     private String convertOutput(String group, String convertor, Object output) {
@@ -101,4 +115,23 @@ public class DefaultToolExecutor implements ToolExecuteService {
         Tool convertorTool = this.getTool(group, convertor);
         return convertorTool.execute(output).toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * 表示已经创建的工具，以及创建时所使用的工具实体和工具工厂。
+     */
+    private static class CompiledTool {
+        private final ToolEntity entity;
+        private final ToolFactory factory;
+        private final Tool tool;
+
+        CompiledTool(ToolEntity entity, ToolFactory factory, Tool tool) {
+            this.entity = entity;
+            this.factory = factory;
+            this.tool = tool;
+        }
+
+        boolean isCreatedBy(ToolEntity entity, ToolFactory factory) {
+            return this.entity == entity && this.factory == factory;
+        }
+    }
+}
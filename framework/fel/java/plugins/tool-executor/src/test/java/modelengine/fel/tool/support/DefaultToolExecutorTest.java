@@ -13,6 +13,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.fel.tool.Tool;
@@ -80,6 +82,29 @@ public class DefaultToolExecutorTest {
         assertThat(toolExecutor.execute("test", toolEntity.name(), "test")).isEqualTo("\"hello\"");
     }
 
+    @Test
+    @DisplayName("重复调用同一工具时复用已创建的工具，工具重新注册后重新创建")
+    void shouldReuseToolUntilToolEntityChanged() throws IOException {
+        ToolEntity toolEntity = getTestEntity();
+        when(this.toolRepository.getTool(any(), eq(toolEntity.name()))).thenReturn(toolEntity);
+        when(this.toolFactoryRepository.match(any())).thenReturn(Optional.of(this.toolFactory));
+        Tool tool = mock(Tool.class, RETURNS_DEEP_STUBS);
+        when(this.toolFactory.create(any(), any())).thenReturn(tool);
+        when(tool.executeWithJson(any())).thenReturn("hello");
+        when(tool.metadata().returnConverter()).thenReturn(StringUtils.EMPTY);
+        ToolExecuteService toolExecutor =
+                new DefaultToolExecutor(this.toolRepository, this.toolFactoryRepository, this.serializer);
+
+        toolExecutor.execute("test", toolEntity.name(), "test");
+        toolExecutor.execute("test", toolEntity.name(), "test");
+        verify(this.toolFactory, times(1)).create(any(), any());
+
+        ToolEntity reRegistered = getTestEntity();
+        when(this.toolRepository.getTool(any(), eq(toolEntity.name()))).thenReturn(reRegistered);
+        assertThat(toolExecutor.execute("test", toolEntity.name(), "test")).isEqualTo("\"hello\"");
+        verify(this.toolFactory, times(2)).create(any(), any());
+    }
+
     @Test
     @DisplayName("工具不存在，调用失败")
     void shouldFailWhenToolNotFound() {
@@ -6,22 +6,30 @@
 
 package modelengine.fel.tool.support;
 
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notBlank;
 
 import modelengine.fel.core.tool.ToolInfo;
 import modelengine.fel.tool.ToolEntity;
+import modelengine.fel.tool.model.ListResult;
 import modelengine.fel.tool.service.ToolRepository;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * 表示 {@link ToolRepository} 的简单实现。
+ * <p>工具按照命名空间和工具名两级进行索引，每个命名空间下的工具按照名字有序存放，因此按命名空间查询时只需访问该命名空间下的工具，
+ * 不需要扫描全部工具。每个命名空间缓存按名字排序的不可修改快照，注册或删除工具时失效，在下一次查询时重建，分页查询直接截取快照的
+ * 子列表。查询返回的列表均为不可修改的快照，不受并发注册和删除的影响。</p>
  *
  * @author 易文渊
  * @since 2024-08-15
@@ -30,7 +38,7 @@ import java.util.stream.Collectors;
 public class SimpleToolRepository implements ToolRepository {
     private static final Logger log = Logger.get(SimpleToolRepository.class);
 
-    private final Map<String, ToolEntity> toolCache = new ConcurrentHashMap<>();
+    private final Map<String, Namespace> toolCache = new ConcurrentHashMap<>();
 
     @Override
     public void addTool(ToolEntity tool) {
@@ -38,7 +46,15 @@ public class SimpleToolRepository implements ToolRepository {
             return;
         }
         String uniqueName = ToolInfo.identify(tool);
-        toolCache.put(uniqueName, tool);
+        if (StringUtils.isBlank(tool.namespace()) || StringUtils.isBlank(tool.name())) {
+            log.warn("Failed to register tool: namespace or name is blank. [uniqueName={}]", uniqueName);
+            return;
+        }
+        this.toolCache.compute(tool.namespace(), (key, namespace) -> {
+            Namespace actual = namespace == null ? new Namespace() : namespace;
+            actual.put(tool);
+            return actual;
+        });
         log.info("Register tool[uniqueName={}] success.", uniqueName);
     }
 
@@ -47,26 +63,81 @@ public class SimpleToolRepository implements ToolRepository {
         if (StringUtils.isBlank(namespace) || StringUtils.isBlank(toolName)) {
             return;
         }
-        String uniqueName = ToolInfo.identify(namespace, toolName);
-        toolCache.remove(uniqueName);
-        log.info("Unregister tool[uniqueName={}] success.", uniqueName);
+        this.toolCache.computeIfPresent(namespace, (key, tools) -> tools.remove(toolName) ? null : tools);
+        log.info("Unregister tool[uniqueName={}] success.", ToolInfo.identify(namespace, toolName));
     }
 
     @Override
     public ToolEntity getTool(String namespace, String toolName) {
         notBlank(namespace, "The namespace cannot be blank.");
         notBlank(toolName, "The toll name cannot be blank.");
-        String uniqueName = ToolInfo.identify(namespace, toolName);
-        return toolCache.get(uniqueName);
+        Namespace tools = this.toolCache.get(namespace);
+        return tools == null ? null : tools.get(toolName);
     }
 
     @Override
     public List<ToolEntity> listTool(String namespace) {
         notBlank(namespace, "The namespace cannot be blank.");
-        return toolCache.entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().startsWith(namespace))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toList());
+        Namespace tools = this.toolCache.get(namespace);
+        return tools == null ? Collections.emptyList() : tools.snapshot();
+    }
+
+    @Override
+    public ListResult<ToolEntity> listTool(String namespace, int offset, int limit) {
+        notBlank(namespace, "The namespace cannot be blank.");
+        greaterThanOrEquals(offset, 0, "The offset cannot be negative. [offset={0}]", offset);
+        greaterThan(limit, 0, "The limit must be positive. [limit={0}]", limit);
+        Namespace tools = this.toolCache.get(namespace);
+        if (tools == null) {
+            return ListResult.create(Collections.emptyList(), 0);
+        }
+        List<ToolEntity> snapshot = tools.snapshot();
+        int from = Math.min(offset, snapshot.size());
+        int to = (int) Math.min((long) from + limit, snapshot.size());
+        return ListResult.create(snapshot.subList(from, to), snapshot.size());
+    }
+
+    /**
+     * 表示一个命名空间下按名字有序存放的工具。
+     * <p>修改和重建快照在同一把锁下进行，保证快照失效后不会被并发重建的旧快照覆盖；按名字获取工具不需要加锁。</p>
+     */
+    private static final class Namespace {
+        private final NavigableMap<String, ToolEntity> tools = new ConcurrentSkipListMap<>();
+        private volatile List<ToolEntity> snapshot;
+
+        ToolEntity get(String name) {
+            return this.tools.get(name);
+        }
+
+        synchronized void put(ToolEntity tool) {
+            this.tools.put(tool.name(), tool);
+            this.snapshot = null;
+        }
+
+        /**
+         * 删除指定名字的工具。
+         *
+         * @param name 表示工具名字的 {@link String}。
+         * @return 如果删除后命名空间下没有工具，则返回 {@code true}，否则返回 {@code false}。
+         */
+        synchronized boolean remove(String name) {
+            if (this.tools.remove(name) != null) {
+                this.snapshot = null;
+            }
+            return this.tools.isEmpty();
+        }
+
+        List<ToolEntity> snapshot() {
+            List<ToolEntity> current = this.snapshot;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (this.snapshot == null) {
+                    this.snapshot = List.copyOf(this.tools.values());
+                }
+                return this.snapshot;
+            }
+        }
     }
-}
\ No newline at end of file
+}
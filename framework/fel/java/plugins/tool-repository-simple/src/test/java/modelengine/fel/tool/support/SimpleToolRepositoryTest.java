@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fel.tool.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fel.tool.ToolEntity;
+import modelengine.fel.tool.ToolSchema;
+import modelengine.fel.tool.model.ListResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表示 {@link SimpleToolRepository} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 SimpleToolRepository")
+public class SimpleToolRepositoryTest {
+    private SimpleToolRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        this.repository = new SimpleToolRepository();
+        for (String name : List.of("e", "c", "a", "d", "b")) {
+            this.repository.addTool(tool("ns", name));
+        }
+    }
+
+    @Test
+    @DisplayName("按照名字顺序分页查询，最后一页不足时返回剩余的工具")
+    void shouldReturnPageInNameOrder() {
+        ListResult<ToolEntity> first = this.repository.listTool("ns", 0, 2);
+        assertThat(first.getData()).extracting(ToolEntity::name).containsExactly("a", "b");
+        assertThat(first.getCount()).isEqualTo(5);
+
+        ListResult<ToolEntity> last = this.repository.listTool("ns", 4, Integer.MAX_VALUE);
+        assertThat(last.getData()).extracting(ToolEntity::name).containsExactly("e");
+        assertThat(last.getCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("偏移量超过工具总数时，返回空页和工具总数")
+    void shouldReturnEmptyPageWhenOffsetPastEnd() {
+        ListResult<ToolEntity> page = this.repository.listTool("ns", 5, 10);
+        assertThat(page.getData()).isEmpty();
+        assertThat(page.getCount()).isEqualTo(5);
+        assertThat(this.repository.listTool("ns", Integer.MAX_VALUE, 10).getData()).isEmpty();
+        assertThat(this.repository.listTool("absent", 0, 10).getCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("偏移量为负数或每页数量不为正数时，抛出异常")
+    void shouldFailWhenPagingArgumentsInvalid() {
+        assertThatThrownBy(() -> this.repository.listTool("ns", -1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.repository.listTool("ns", 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("按命名空间查询时，不包含命名空间仅前缀相同的工具")
+    void shouldNotMatchNamespaceSharingPrefix() {
+        this.repository.addTool(tool("n", "x"));
+        this.repository.addTool(tool("nsx", "y"));
+        assertThat(this.repository.listTool("ns")).extracting(ToolEntity::name)
+                .containsExactly("a", "b", "c", "d", "e");
+        assertThat(this.repository.listTool("n")).extracting(ToolEntity::name).containsExactly("x");
+        assertThat(this.repository.getTool("nsx", "a")).isNull();
+    }
+
+    @Test
+    @DisplayName("注册和删除工具后，查询结果反映最新的工具，之前返回的快照不变")
+    void shouldRefreshSnapshotAfterModification() {
+        List<ToolEntity> before = this.repository.listTool("ns");
+        this.repository.addTool(tool("ns", "f"));
+        this.repository.deleteTool("ns", "a");
+        assertThat(before).extracting(ToolEntity::name).containsExactly("a", "b", "c", "d", "e");
+        assertThat(this.repository.listTool("ns")).extracting(ToolEntity::name)
+                .containsExactly("b", "c", "d", "e", "f");
+        assertThatThrownBy(() -> before.add(tool("ns", "g"))).isInstanceOf(UnsupportedOperationException.class);
+
+        for (String name : List.of("b", "c", "d", "e", "f")) {
+            this.repository.deleteTool("ns", name);
+        }
+        assertThat(this.repository.listTool("ns")).isEmpty();
+        assertThat(this.repository.getTool("ns", "b")).isNull();
+    }
+
+    private static ToolEntity tool(String namespace, String name) {
+        return new ToolEntity(namespace,
+                Collections.singletonMap(ToolSchema.NAME, name),
+                Collections.emptyMap(),
+                Collections.emptyMap());
+    }
+}
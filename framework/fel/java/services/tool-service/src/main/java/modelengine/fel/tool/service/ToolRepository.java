@@ -7,6 +7,7 @@
 package modelengine.fel.tool.service;
 
 import modelengine.fel.tool.ToolEntity;
+import modelengine.fel.tool.model.ListResult;
 import modelengine.fitframework.annotation.Genericable;
 
 import java.util.List;
@@ -53,4 +54,15 @@ public interface ToolRepository {
      */
     @Genericable(id = "modelengine.fel.tool.list")
     List<ToolEntity> listTool(String namespace);
+
+    /**
+     * 分页获取命名空间下的工具，工具按照名字升序排列。
+     *
+     * @param namespace 表示工具命名空间的 {@link String}。
+     * @param offset 表示分页查询偏移量的 {@code int}。
+     * @param limit 表示分页查询数量上限的 {@code int}。
+     * @return 表示当前页的工具以及命名空间下工具总数的 {@link ListResult}{@code <}{@link ToolEntity}{@code >}。
+     */
+    @Genericable(id = "modelengine.fel.tool.list.page")
+    ListResult<ToolEntity> listTool(String namespace, int offset, int limit);
 }
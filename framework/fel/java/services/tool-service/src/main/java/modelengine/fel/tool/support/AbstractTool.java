@@ -9,6 +9,7 @@ package modelengine.fel.tool.support;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.getIfNull;
+import static modelengine.fitframework.util.ObjectUtils.nullIf;
 
 import modelengine.fel.tool.Tool;
 import modelengine.fitframework.json.schema.type.OneOfType;
@@ -18,9 +19,10 @@ import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.TypeUtils;
 
 import java.lang.reflect.Type;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 表示 {@link Tool} 的抽象实现类。
@@ -29,9 +31,13 @@ import java.util.Map;
  * @since 2024-04-25
  */
 public abstract class AbstractTool implements Tool {
+    private static final Type JSON_OBJECT_TYPE =
+            TypeUtils.parameterized(Map.class, new Type[] {String.class, Object.class});
+
     private final Info info;
     private final Metadata metadata;
     private final ObjectSerializer serializer;
+    private volatile ArgumentsBinder binder;
 
     /**
      * 通过 Json 序列化器、工具的基本信息和工具元数据来初始化 {@link AbstractTool} 的新实例。
@@ -58,31 +64,23 @@ public abstract class AbstractTool implements Tool {
 
     @Override
     public Object executeWithJson(String jsonArgs) {
-        Map<String, Object> jsonObjectArgs = this.serializer.deserialize(jsonArgs.getBytes(UTF_8),
-                UTF_8,
-                TypeUtils.parameterized(Map.class, new Type[] {String.class, Object.class}));
+        Map<String, Object> jsonObjectArgs =
+                this.serializer.deserialize(jsonArgs.getBytes(UTF_8), UTF_8, JSON_OBJECT_TYPE);
         return this.executeWithJsonObject(jsonObjectArgs);
     }
 
     @Override
     public Object executeWithJsonObject(Map<String, Object> jsonObject) {
-        Map<String, Object> actualArgs = getIfNull(jsonObject, HashMap::new);
-        List<String> params = this.metadata().parameterOrder();
-        List<Type> types = this.metadata().parameterTypes();
-        Object[] args = new Object[params.size()];
-        for (int i = 0; i < args.length; ++i) {
-            String paramName = params.get(i);
-            Object value = actualArgs.get(paramName);
-            if (value == null && this.info.defaultParameterValues() != null) {
-                value = this.info.defaultParameterValues().get(paramName);
-            }
-            if (value == null && this.metadata().requiredParameters().contains(paramName)) {
-                throw new IllegalStateException(StringUtils.format("Value cannot be null. [name={0}]",
-                        paramName));
-            }
-            args[i] = getArg(value, types.get(i));
+        return this.execute(this.binder().bind(getIfNull(jsonObject, Collections::emptyMap)));
+    }
+
+    private ArgumentsBinder binder() {
+        ArgumentsBinder actual = this.binder;
+        if (actual == null) {
+            actual = new ArgumentsBinder(this.info, this.metadata());
+            this.binder = actual;
         }
-        return this.execute(args);
+        return actual;
     }
 
     private static Object getArg(Object value, Type type) {
@@ -140,4 +138,48 @@ public abstract class AbstractTool implements Tool {
     private String serializeResult(Object result) {
         return new String(this.serializer.serialize(result, UTF_8), UTF_8);
     }
+
+    /**
+     * 表示工具参数的绑定器。
+     * <p>在第一次调用时根据工具元数据预先计算好每个参数的名字、类型、默认值以及是否必须，后续调用只需按下标将 Json 对象中的值转换为参数数组，
+     * 不再重复查询元数据。</p>
+     */
+    private static class ArgumentsBinder {
+        private final String[] names;
+        private final Type[] types;
+        private final Object[] defaultValues;
+        private final boolean[] required;
+
+        ArgumentsBinder(Info info, Metadata metadata) {
+            List<String> params = metadata.parameterOrder();
+            List<Type> parameterTypes = metadata.parameterTypes();
+            Map<String, Object> parameterDefaultValues = nullIf(info.defaultParameterValues(), Collections.emptyMap());
+            Set<String> requiredParameters = metadata.requiredParameters();
+            this.names = params.toArray(new String[0]);
+            this.types = new Type[this.names.length];
+            this.defaultValues = new Object[this.names.length];
+            this.required = new boolean[this.names.length];
+            for (int i = 0; i < this.names.length; i++) {
+                this.types[i] = parameterTypes.get(i);
+                this.defaultValues[i] = parameterDefaultValues.get(this.names[i]);
+                this.required[i] = requiredParameters.contains(this.names[i]);
+            }
+        }
+
+        Object[] bind(Map<String, Object> jsonObject) {
+            Object[] args = new Object[this.names.length];
+            for (int i = 0; i < args.length; ++i) {
+                Object value = jsonObject.get(this.names[i]);
+                if (value == null) {
+                    value = this.defaultValues[i];
+                }
+                if (value == null && this.required[i]) {
+                    throw new IllegalStateException(StringUtils.format("Value cannot be null. [name={0}]",
+                            this.names[i]));
+                }
+                args[i] = getArg(value, this.types[i]);
+            }
+            return args;
+        }
+    }
 }
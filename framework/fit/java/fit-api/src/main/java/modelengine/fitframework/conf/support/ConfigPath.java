@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +40,9 @@ final class ConfigPath {
      */
     static final char SEPARATOR = '.';
 
+    private static final int MAX_PARSED_PATHS = 4096;
+    private static final Map<String, ConfigPath> PARSED_PATHS = new ConcurrentHashMap<>();
+
     private final List<String> keys;
     private ConfigPath parent;
     private String name;
@@ -191,6 +195,7 @@ final class ConfigPath {
 
     /**
      * 从指定的字符串中解析配置路径信息。
+     * <p>配置路径是不可变的，因此解析结果会被缓存并在相同的字符串再次解析时复用。</p>
      *
      * @param value 表示包含配置路径信息的字符串的 {@link String}。
      * @return 表示解析到的配置路径的 {@link ConfigPath}。
@@ -199,8 +204,15 @@ final class ConfigPath {
         if (value == null) {
             return EMPTY;
         }
-        String[] splitKeys = StringUtils.split(value, SEPARATOR);
-        return of(Arrays.asList(splitKeys));
+        ConfigPath path = PARSED_PATHS.get(value);
+        if (path == null) {
+            path = of(Arrays.asList(StringUtils.split(value, SEPARATOR)));
+            if (PARSED_PATHS.size() >= MAX_PARSED_PATHS) {
+                PARSED_PATHS.clear();
+            }
+            PARSED_PATHS.put(value, path);
+        }
+        return path;
     }
 
     /**
@@ -89,7 +89,9 @@ public class HierarchicalConfig extends AbstractModifiableConfig {
         }
         Object actual = canonicalize(value);
         if (actual == null) {
-            this.clear(path);
+            if (this.clear(path)) {
+                this.notifyValueChanged(path.toString());
+            }
             return;
         }
         Map<String, Object> map = path.parent().get(this.values, true);
@@ -99,27 +101,29 @@ public class HierarchicalConfig extends AbstractModifiableConfig {
         }
     }
 
-    private void clear(ConfigPath path) {
-        this.clear(this.values, path.keys(), 0);
+    private boolean clear(ConfigPath path) {
+        return this.clear(this.values, path.keys(), 0);
     }
 
-    private void clear(Map<String, Object> values, List<String> keys, int index) {
+    private boolean clear(Map<String, Object> values, List<String> keys, int index) {
         String key = keys.get(index);
         Object value = values.get(key);
         if (value == null) {
-            return;
+            return false;
         }
         if (index == keys.size() - 1) {
             values.remove(key);
-            return;
+            return true;
         }
         if (value instanceof Map) {
             Map<String, Object> next = cast(value);
-            this.clear(next, keys, index + 1);
+            boolean cleared = this.clear(next, keys, index + 1);
             if (next.isEmpty()) {
                 values.remove(key);
             }
+            return cleared;
         }
+        return false;
     }
 
     private static Object canonicalize(Object value) {
@@ -21,6 +21,7 @@ import modelengine.fitframework.ioc.BeanMetadata;
 import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
 import modelengine.fitframework.ioc.support.BeanFactoryResolver;
 import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.MethodInvoker;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
@@ -46,6 +47,7 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
     private final BeanMetadata metadata;
     private final LazyLoader<Object> targetLoader;
     private final Method method;
+    private final MethodInvoker invoker;
 
     /**
      * 使用指定的标识、微服务标志、元数据、实现所在 Bean 的提供者和方法初始化 {@link LocalFitableExecutor} 的新实例。
@@ -64,6 +66,7 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
         this.metadata = notNull(metadata, "The bean metadata cannot be null.");
         this.targetLoader = new LazyLoader<>(notNull(targetSupplier, "The target supplier cannot be null."));
         this.method = notNull(method, "The method cannot be null.");
+        this.invoker = MethodInvoker.of(method);
     }
 
     @Override
@@ -108,7 +111,7 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
         Object result;
         try {
             Thread.currentThread().setContextClassLoader(this.metadata.container().plugin().pluginClassLoader());
-            result = ReflectionUtils.invoke(this.targetLoader.get(), this.method, args);
+            result = this.invoker.invoke(this.targetLoader.get(), args);
         } catch (MethodInvocationException e) {
             Throwable cause = e.getCause();
             throw FitException.wrap(cause, this.id.genericableId(), this.id.fitableId());
@@ -14,6 +14,7 @@ import modelengine.fit.client.Response;
 import modelengine.fit.client.http.util.HttpClientUtils;
 import modelengine.fit.http.protocol.Protocol;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Destroy;
 import modelengine.fitframework.broker.CommunicationType;
 import modelengine.fitframework.conf.runtime.ClientConfig;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
@@ -80,4 +81,13 @@ public class HttpClient implements Client {
     public Set<String> getSupportedProtocols() {
         return Stream.of(Protocol.values()).map(Protocol::protocol).collect(Collectors.toSet());
     }
+
+    /**
+     * 关闭所有调用客户端。
+     */
+    @Destroy
+    public void close() {
+        this.clients.values().forEach(InvokeClient::close);
+        this.fluentClient.close();
+    }
 }
@@ -39,6 +39,11 @@ public interface InvokeClient {
      */
     CommunicationType support();
 
+    /**
+     * 关闭调用客户端，释放其占用的资源。
+     */
+    default void close() {}
+
     /**
      * 创建一个同步调用的客户端。
      *
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.client.http.websocket;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.websocket.CloseReason;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.client.WebSocketClassicListener;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 表示承载流式调用的 WebSocket 连接。
+ * <p>每个调用在连接上分配一个流标识，连接根据消息中的流标识将其分发给对应的调用器。连接建立后的第一个调用返回时，根据服务端的
+ * 调用结果消息中是否携带流标识确定服务端是否支持多路复用：</p>
+ * <ul>
+ *     <li>支持时，连接可以被后续的调用共享；</li>
+ *     <li>不支持时，连接只承载这一个调用，不携带流标识的消息都交给该调用处理，由服务端在调用结束后关闭连接。</li>
+ * </ul>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class WebSocketConnection implements WebSocketClassicListener {
+    private static final Logger log = Logger.get(WebSocketConnection.class);
+
+    private final String url;
+    private final Consumer<WebSocketConnection> closeHandler;
+    private final Map<Integer, WebsocketInvoker> invokers = new ConcurrentHashMap<>();
+    private final AtomicInteger nextStreamId = new AtomicInteger();
+    private final AtomicInteger load = new AtomicInteger();
+    private final CompletableFuture<Boolean> confirmation = new CompletableFuture<>();
+    private volatile Session session;
+    private volatile State state = State.PENDING;
+    private volatile boolean pooled;
+    private volatile long idleSince = System.currentTimeMillis();
+
+    /**
+     * 创建 WebSocket 连接。
+     *
+     * @param url 表示连接地址的 {@link String}。
+     * @param closeHandler 表示连接关闭后的处理方法的 {@link Consumer}{@code <}{@link WebSocketConnection}{@code >}。
+     */
+    WebSocketConnection(String url, Consumer<WebSocketConnection> closeHandler) {
+        this.url = notNull(url, "The url cannot be null.");
+        this.closeHandler = notNull(closeHandler, "The close handler cannot be null.");
+    }
+
+    /**
+     * 打开连接。
+     *
+     * @param opener 表示创建 WebSocket 会话的方法的
+     * {@link Function}{@code <}{@link WebSocketClassicListener}{@code , }{@link Session}{@code >}。
+     */
+    void open(Function<WebSocketClassicListener, Session> opener) {
+        this.session = opener.apply(this);
+    }
+
+    /**
+     * 获取连接的 WebSocket 会话。
+     *
+     * @return 表示 WebSocket 会话的 {@link Session}。
+     */
+    Session session() {
+        return this.session;
+    }
+
+    /**
+     * 获取连接地址。
+     *
+     * @return 表示连接地址的 {@link String}。
+     */
+    String url() {
+        return this.url;
+    }
+
+    /**
+     * 判断连接是否可以被多个调用共享。
+     *
+     * @return 如果服务端支持多路复用且连接未关闭，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isMultiplexed() {
+        return this.state == State.MULTIPLEXED;
+    }
+
+    /**
+     * 判断连接是否尚未确认服务端是否支持多路复用。
+     *
+     * @return 如果连接尚未确认且未关闭，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isPending() {
+        return this.state == State.PENDING;
+    }
+
+    /**
+     * 判断服务端是否不支持多路复用。
+     *
+     * @return 如果服务端不支持多路复用，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isLegacy() {
+        return this.state == State.LEGACY;
+    }
+
+    /**
+     * 获取连接的确认结果。
+     * <p>服务端支持多路复用时以 {@code true} 结束，服务端不支持多路复用或连接在确认之前关闭时以 {@code false} 结束。</p>
+     *
+     * @return 表示确认结果的 {@link CompletableFuture}{@code <}{@link Boolean}{@code >}。
+     */
+    CompletableFuture<Boolean> confirmation() {
+        return this.confirmation;
+    }
+
+    /**
+     * 判断连接是否已经关闭。
+     *
+     * @return 如果连接已经关闭，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isClosed() {
+        return this.state == State.CLOSED;
+    }
+
+    /**
+     * 设置连接是否由连接池管理。
+     * <p>不由连接池管理的连接在所有调用结束后关闭。</p>
+     *
+     * @param pooled 表示连接是否由连接池管理的 {@code boolean}。
+     */
+    void pooled(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    /**
+     * 获取连接上已经预留及正在进行的调用数量。
+     *
+     * @return 表示调用数量的 {@code int}。
+     */
+    int load() {
+        return this.load.get();
+    }
+
+    /**
+     * 获取连接开始空闲的时间。
+     *
+     * @return 表示开始空闲的时间的毫秒数的 {@code long}。
+     */
+    long idleSince() {
+        return this.idleSince;
+    }
+
+    /**
+     * 为一个即将发起的调用预留连接。
+     */
+    void reserve() {
+        this.load.incrementAndGet();
+    }
+
+    /**
+     * 在连接上注册一个调用，并为其分配流标识。
+     *
+     * @param factory 表示根据流标识创建调用器的方法的
+     * {@link Function}{@code <}{@link Integer}{@code , }{@link WebsocketInvoker}{@code >}。
+     * @return 表示注册的调用器的 {@link WebsocketInvoker}。
+     */
+    WebsocketInvoker register(Function<Integer, WebsocketInvoker> factory) {
+        int streamId = this.nextStreamId.incrementAndGet();
+        WebsocketInvoker invoker = factory.apply(streamId);
+        this.invokers.put(streamId, invoker);
+        return invoker;
+    }
+
+    /**
+     * 确认服务端是否支持多路复用。
+     *
+     * @param multiplexed 表示服务端是否支持多路复用的 {@code boolean}。
+     */
+    void confirm(boolean multiplexed) {
+        if (this.state != State.PENDING) {
+            return;
+        }
+        this.state = multiplexed ? State.MULTIPLEXED : State.LEGACY;
+        if (!multiplexed) {
+            this.closeHandler.accept(this);
+        }
+        this.confirmation.complete(multiplexed);
+    }
+
+    /**
+     * 释放指定流标识的调用。
+     * <p>不由连接池管理的连接在所有调用结束后关闭；服务端不支持多路复用时，连接由服务端关闭。第一个调用在确认之前结束时，
+     * 例如等待响应超时，无法确认服务端是否支持多路复用，连接被放弃。</p>
+     *
+     * @param streamId 表示调用的流标识的 {@code int}。
+     */
+    void release(int streamId) {
+        if (this.invokers.remove(streamId) == null) {
+            return;
+        }
+        if (this.load.decrementAndGet() > 0) {
+            return;
+        }
+        this.idleSince = System.currentTimeMillis();
+        if (this.state == State.PENDING) {
+            this.abort();
+        } else if (!this.pooled && this.state == State.MULTIPLEXED) {
+            this.close();
+        }
+    }
+
+    /**
+     * 放弃连接。
+     * <p>连接立即从连接池中移除，等待其确认的调用重新选择连接，已经建立的会话被关闭。</p>
+     */
+    void abort() {
+        Session actual = this.session;
+        this.state = State.CLOSED;
+        this.closeHandler.accept(this);
+        this.confirmation.complete(false);
+        if (actual != null) {
+            actual.close();
+        }
+    }
+
+    /**
+     * 关闭连接。
+     */
+    void close() {
+        Session actual = this.session;
+        if (actual != null && this.state != State.CLOSED) {
+            actual.close();
+        }
+    }
+
+    @Override
+    public void onOpen(Session session) {}
+
+    @Override
+    public void onMessage(Session session, String message) {}
+
+    @Override
+    public void onMessage(Session session, byte[] message) {
+        TagLengthValues tlvs = TagLengthValues.deserialize(message);
+        WebsocketInvoker invoker;
+        if (WebSocketUtils.hasStreamId(tlvs)) {
+            invoker = this.invokers.get(WebSocketUtils.getStreamId(tlvs));
+        } else {
+            invoker = this.invokers.size() == 1 ? this.invokers.values().iterator().next() : null;
+        }
+        if (invoker == null) {
+            log.debug("No stream to handle websocket message, ignore it. [url={}, streamId={}]",
+                    this.url,
+                    WebSocketUtils.getStreamId(tlvs));
+            return;
+        }
+        invoker.onMessage(session, tlvs);
+    }
+
+    @Override
+    public void onClose(Session session, int code, String reason) {
+        ClientException cause = new ClientException(StringUtils.format(
+                "Websocket connection was closed unexpectedly. [code={0}, reason={1}]",
+                code,
+                reason));
+        this.terminate(cause, code != CloseReason.NORMAL_CLOSURE.getCode());
+    }
+
+    @Override
+    public void onError(Session session, Throwable cause) {
+        this.terminate(new ClientException(StringUtils.format("Error occurred in websocket connection. [url={0}]",
+                this.url), cause), true);
+    }
+
+    private void terminate(ClientException cause, boolean abnormal) {
+        this.state = State.CLOSED;
+        this.closeHandler.accept(this);
+        this.confirmation.complete(false);
+        List<WebsocketInvoker> actives = new ArrayList<>(this.invokers.values());
+        this.invokers.clear();
+        if (abnormal && !actives.isEmpty()) {
+            log.warn(cause.getMessage());
+        }
+        for (WebsocketInvoker invoker : actives) {
+            invoker.onConnectionClosed(cause);
+        }
+    }
+
+    private enum State {
+        PENDING,
+        MULTIPLEXED,
+        LEGACY,
+        CLOSED
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.client.http.websocket;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.client.WebSocketClassicListener;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.schedule.ExecutePolicy;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.util.LockUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+/**
+ * 表示按照地址复用 WebSocket 连接的连接池。
+ * <p>获取连接时，优先选择同一地址上承载调用最少且未达到调用上限的多路复用连接；没有这样的连接且连接数量未达到上限时，建立新的
+ * 连接。尚未确认服务端是否支持多路复用的连接同样计入连接数量，连接数量已满且没有多路复用连接时，等待这些连接确认后重新选择，
+ * 因此突发的调用不会建立超过上限的连接。服务端不支持多路复用时，该地址在一个空闲超时时间内的调用都使用独立的临时连接。空闲超过
+ * 指定时间的连接由后台任务定期关闭。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class WebSocketConnectionPool {
+    private final int maxConnections;
+    private final int maxStreams;
+    private final long idleTimeout;
+    private final Map<String, List<WebSocketConnection>> connections = new HashMap<>();
+    private final Map<String, Long> legacyAddresses = new HashMap<>();
+    private final Lock lock = LockUtils.newReentrantLock();
+    private final ThreadPoolScheduler scheduler;
+    private boolean closed;
+
+    /**
+     * 创建 WebSocket 连接池。
+     *
+     * @param maxConnections 表示每个地址上最多的连接数量的 {@code int}。
+     * @param maxStreams 表示每个连接上期望承载的最多调用数量的 {@code int}。
+     * @param idleTimeout 表示连接最长的空闲时间的毫秒数的 {@code long}。
+     * @throws IllegalArgumentException 当 {@code maxConnections}、{@code maxStreams} 或 {@code idleTimeout} 不大于
+     * {@code 0} 时。
+     */
+    WebSocketConnectionPool(int maxConnections, int maxStreams, long idleTimeout) {
+        this.maxConnections = greaterThan(maxConnections, 0, "The max connections must be positive.");
+        this.maxStreams = greaterThan(maxStreams, 0, "The max streams must be positive.");
+        this.idleTimeout = greaterThan(idleTimeout, 0L, "The idle timeout must be positive.");
+        this.scheduler = ThreadPoolScheduler.custom()
+                .threadPoolName("websocket-connection-evictor")
+                .awaitTermination(500L, TimeUnit.MILLISECONDS)
+                .isImmediateShutdown(true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(1, TimeUnit.SECONDS)
+                .workQueueCapacity(0)
+                .isDaemonThread(true)
+                .rejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy())
+                .build();
+        this.scheduler.schedule(Task.builder()
+                .runnable(this::evictIdles)
+                .policy(ExecutePolicy.fixedDelay(Math.max(this.idleTimeout / 2, 1L)))
+                .build());
+    }
+
+    /**
+     * 获取指定地址的连接，并为一个调用预留该连接。
+     *
+     * @param url 表示连接地址的 {@link String}。
+     * @param opener 表示创建 WebSocket 会话的方法的
+     * {@link Function}{@code <}{@link WebSocketClassicListener}{@code , }{@link Session}{@code >}。
+     * @param timeout 表示等待连接确认的最长时间的毫秒数的 {@code long}，不大于 {@code 0} 时一直等待。
+     * @return 表示预留的连接的 {@link WebSocketConnection}。
+     * @throws ClientException 当连接池已经关闭，或等待连接确认超时或被中断时。
+     */
+    WebSocketConnection acquire(String url, Function<WebSocketClassicListener, Session> opener, long timeout) {
+        long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0L;
+        while (true) {
+            WebSocketConnection connection = null;
+            CompletableFuture<Boolean> confirmation = null;
+            this.lock.lock();
+            try {
+                if (this.closed) {
+                    throw new ClientException(StringUtils.format("The websocket connection pool is closed. [url={0}]",
+                            url));
+                }
+                if (this.legacyAddresses.containsKey(url)) {
+                    connection = this.create(url, false);
+                } else {
+                    List<WebSocketConnection> actives =
+                            this.connections.computeIfAbsent(url, key -> new ArrayList<>());
+                    WebSocketConnection best = null;
+                    WebSocketConnection pending = null;
+                    for (WebSocketConnection candidate : actives) {
+                        if (candidate.isMultiplexed()) {
+                            best = best == null || candidate.load() < best.load() ? candidate : best;
+                        } else if (candidate.isPending()) {
+                            pending = candidate;
+                        }
+                    }
+                    if (best != null && (best.load() < this.maxStreams || actives.size() >= this.maxConnections)) {
+                        best.reserve();
+                        return best;
+                    }
+                    if (actives.size() < this.maxConnections) {
+                        connection = this.create(url, true);
+                        actives.add(connection);
+                    } else if (pending != null) {
+                        confirmation = pending.confirmation();
+                    } else {
+                        connection = this.create(url, false);
+                    }
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            if (connection != null) {
+                this.open(connection, opener);
+                return connection;
+            }
+            await(url, confirmation, deadline, timeout);
+        }
+    }
+
+    private WebSocketConnection create(String url, boolean pooled) {
+        WebSocketConnection connection = new WebSocketConnection(url, this::remove);
+        connection.reserve();
+        connection.pooled(pooled);
+        return connection;
+    }
+
+    private void open(WebSocketConnection connection, Function<WebSocketClassicListener, Session> opener) {
+        try {
+            connection.open(opener);
+        } catch (RuntimeException e) {
+            connection.abort();
+            throw e;
+        }
+    }
+
+    private static void await(String url, CompletableFuture<Boolean> confirmation, long deadline, long timeout) {
+        try {
+            if (deadline == 0L) {
+                confirmation.get();
+            } else {
+                confirmation.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException(StringUtils.format("Interrupted while waiting websocket connection. [url={0}]",
+                    url), e);
+        } catch (ExecutionException e) {
+            // 连接确认时不会异常结束，异常结束时重新选择连接即可。
+        } catch (TimeoutException e) {
+            throw new ClientException(StringUtils.format(
+                    "Timeout to wait websocket connection. [url={0}, timeout={1}ms]",
+                    url,
+                    timeout), e);
+        }
+    }
+
+    /**
+     * 关闭空闲超时的连接，并清除过期的不支持多路复用的地址。
+     */
+    void evictIdles() {
+        List<WebSocketConnection> idles = new ArrayList<>();
+        long deadline = System.currentTimeMillis() - this.idleTimeout;
+        this.lock.lock();
+        try {
+            this.legacyAddresses.values().removeIf(since -> since < deadline);
+            Iterator<List<WebSocketConnection>> iterator = this.connections.values().iterator();
+            while (iterator.hasNext()) {
+                List<WebSocketConnection> actives = iterator.next();
+                actives.removeIf(connection -> {
+                    boolean idle = connection.isMultiplexed() && connection.load() == 0
+                            && connection.idleSince() < deadline;
+                    if (idle) {
+                        idles.add(connection);
+                    }
+                    return idle;
+                });
+                if (actives.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        idles.forEach(WebSocketConnection::close);
+    }
+
+    /**
+     * 关闭连接池的后台任务及池中的所有连接，关闭之后无法再获取连接。
+     *
+     * @throws InterruptedException 当等待后台任务结束时被中断时。
+     */
+    void close() throws InterruptedException {
+        List<WebSocketConnection> actives = new ArrayList<>();
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.connections.values().forEach(actives::addAll);
+            this.connections.clear();
+            this.legacyAddresses.clear();
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            this.scheduler.shutdown();
+        } finally {
+            actives.forEach(WebSocketConnection::close);
+        }
+    }
+
+    private void remove(WebSocketConnection connection) {
+        this.lock.lock();
+        try {
+            if (connection.isLegacy()) {
+                this.legacyAddresses.put(connection.url(), System.currentTimeMillis());
+            }
+            List<WebSocketConnection> actives = this.connections.get(connection.url());
+            if (actives != null && actives.remove(connection) && actives.isEmpty()) {
+                this.connections.remove(connection.url());
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
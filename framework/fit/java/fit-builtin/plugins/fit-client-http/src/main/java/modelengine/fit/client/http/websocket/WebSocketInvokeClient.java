@@ -14,23 +14,33 @@ import modelengine.fit.client.http.support.ConnectionBuilder;
 import modelengine.fit.client.http.support.ConnectionBuilderFactory;
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.protocol.Protocol;
-import modelengine.fit.http.websocket.Session;
 import modelengine.fitframework.broker.CommunicationType;
 import modelengine.fitframework.conf.runtime.ClientConfig;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.exception.ClientException;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
 
 /**
  * 表示 {@link InvokeClient} 的 WebSocket 流式实现。
+ * <p>同一地址的流式调用复用连接池中的 WebSocket 连接，服务端支持多路复用时，多个调用通过流标识共享同一个连接。连接池的大小由
+ * {@link WebSocketPoolConfig} 指定，客户端关闭时关闭连接池及其中的连接。</p>
  *
  * @author 季聿阶
  * @since 2024-05-06
  */
 public class WebSocketInvokeClient extends AbstractInvokeClient {
+    private final WebSocketConnectionPool pool;
+
     public WebSocketInvokeClient(BeanContainer container, WorkerConfig workerConfig, ClientConfig clientConfig) {
         super(container, workerConfig, clientConfig);
+        WebSocketPoolConfig config = container.lookup(WebSocketPoolConfig.class)
+                .map(BeanFactory::<WebSocketPoolConfig>get)
+                .orElseGet(WebSocketPoolConfig::new);
+        this.pool = new WebSocketConnectionPool(config.getMaxConnectionsPerAddress(),
+                config.getMaxStreamsPerConnection(),
+                config.getIdleTimeout());
     }
 
     @Override
@@ -38,9 +48,14 @@ public class WebSocketInvokeClient extends AbstractInvokeClient {
         HttpClassicClient client = this.buildHttpClient(request);
         ConnectionBuilder builder = ConnectionBuilderFactory.getConnectionBuilder(Protocol.from(request.protocol()));
         String url = builder.buildUrl(request);
-        WebsocketInvoker invoker = new WebsocketInvoker(this.getContainer(), request);
-        Session session = client.createWebSocketSession(url, invoker);
-        invoker.request(session, request);
+        WebSocketConnection connection = this.pool.acquire(url,
+                listener -> client.createWebSocketSession(url, listener),
+                request.context().timeoutUnit().toMillis(request.context().timeout()));
+        WebsocketInvoker invoker = connection.register(streamId -> new WebsocketInvoker(this.getContainer(),
+                request,
+                connection,
+                streamId));
+        invoker.request(connection.session(), request);
         try {
             return invoker.waitAndgetResponse();
         } catch (InterruptedException cause) {
@@ -52,4 +67,13 @@ public class WebSocketInvokeClient extends AbstractInvokeClient {
     public CommunicationType support() {
         return CommunicationType.SYNC;
     }
+
+    @Override
+    public void close() {
+        try {
+            this.pool.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
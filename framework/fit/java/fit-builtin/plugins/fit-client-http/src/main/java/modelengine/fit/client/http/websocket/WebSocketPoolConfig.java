@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.client.http.websocket;
+
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+/**
+ * 表示配置项 {@code 'plugin.client-http.websocket'} 下的 WebSocket 连接池的配置。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@Component
+@AcceptConfigValues("plugin.client-http.websocket")
+public class WebSocketPoolConfig {
+    /**
+     * 配置项：{@code 'max-connections-per-address'}。
+     */
+    private int maxConnectionsPerAddress = 4;
+
+    /**
+     * 配置项：{@code 'max-streams-per-connection'}。
+     */
+    private int maxStreamsPerConnection = 1024;
+
+    /**
+     * 配置项：{@code 'idle-timeout'}，单位为毫秒。
+     */
+    private long idleTimeout = 60_000L;
+
+    /**
+     * 获取每个地址上最多的连接数量。
+     *
+     * @return 表示每个地址上最多的连接数量的 {@code int}。
+     */
+    public int getMaxConnectionsPerAddress() {
+        return this.maxConnectionsPerAddress;
+    }
+
+    /**
+     * 设置每个地址上最多的连接数量。
+     *
+     * @param maxConnectionsPerAddress 表示每个地址上最多的连接数量的 {@code int}。
+     */
+    public void setMaxConnectionsPerAddress(int maxConnectionsPerAddress) {
+        this.maxConnectionsPerAddress = maxConnectionsPerAddress;
+    }
+
+    /**
+     * 获取每个连接上期望承载的最多调用数量。
+     *
+     * @return 表示每个连接上期望承载的最多调用数量的 {@code int}。
+     */
+    public int getMaxStreamsPerConnection() {
+        return this.maxStreamsPerConnection;
+    }
+
+    /**
+     * 设置每个连接上期望承载的最多调用数量。
+     *
+     * @param maxStreamsPerConnection 表示每个连接上期望承载的最多调用数量的 {@code int}。
+     */
+    public void setMaxStreamsPerConnection(int maxStreamsPerConnection) {
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+    }
+
+    /**
+     * 获取连接最长的空闲时间。
+     *
+     * @return 表示连接最长的空闲时间的毫秒数的 {@code long}。
+     */
+    public long getIdleTimeout() {
+        return this.idleTimeout;
+    }
+
+    /**
+     * 设置连接最长的空闲时间。
+     *
+     * @param idleTimeout 表示连接最长的空闲时间的毫秒数的 {@code long}。
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
@@ -10,9 +10,7 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.client.Request;
 import modelengine.fit.client.Response;
-import modelengine.fit.http.websocket.CloseReason;
 import modelengine.fit.http.websocket.Session;
-import modelengine.fit.http.websocket.client.WebSocketClassicListener;
 import modelengine.fit.serialization.MessageSerializer;
 import modelengine.fit.serialization.http.websocket.FailMessageContentUtils;
 import modelengine.fit.serialization.http.websocket.RequestMessageContentUtils;
@@ -20,17 +18,17 @@ import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
 import modelengine.fit.serialization.http.websocket.StreamMessageType;
 import modelengine.fit.serialization.http.websocket.WebSocketUtils;
 import modelengine.fit.serialization.http.websocket.WebSocketWorkerObserver;
+import modelengine.fit.serialization.http.websocket.WindowedEmitter;
 import modelengine.fit.serialization.util.MessageSerializerUtils;
 import modelengine.fit.serialization.util.PublisherCategory;
 import modelengine.fitframework.broker.ExceptionInfo;
 import modelengine.fitframework.broker.FitExceptionCreator;
 import modelengine.fitframework.exception.ClientException;
-import modelengine.fitframework.flowable.Emitter;
 import modelengine.fitframework.flowable.Publisher;
 import modelengine.fitframework.flowable.choir.FlexibleEmitterChoir;
 import modelengine.fitframework.flowable.solo.FlexibleEmitterSolo;
+import modelengine.fitframework.flowable.util.OnSubscribedObserver;
 import modelengine.fitframework.flowable.util.worker.Worker;
-import modelengine.fitframework.flowable.util.worker.WorkerObserver;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
@@ -38,47 +36,63 @@ import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.serialization.ResponseMetadata;
 import modelengine.fitframework.serialization.TagLengthValues;
 import modelengine.fitframework.util.LazyLoader;
-import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 
 /**
  * 表示流式调用的调用器。
+ * <p>调用器对应 WebSocket 连接上的一个流，流标识由连接分配。服务端支持多路复用时，调用器发送的消息都携带流标识，返回值的元素
+ * 通过流量控制窗口接收，参数的元素在服务端的一次请求中同步产生时批量发送；否则，使用一个会话对应一个调用的原有协议。调用的
+ * 返回值及所有参数的响应式流都结束后，调用器释放其占用的流。</p>
  *
  * @author 何天放
  * @since 2024-05-08
  */
-public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvokeRequester {
+public class WebsocketInvoker implements WebSocketInvokeRequester {
     private static final Logger log = Logger.get(WebsocketInvoker.class);
     private static final int RETURN_INDEX = -1;
+    private static final int STREAM_WINDOW = 64;
+    private static final int STREAM_BATCH_SIZE = 32;
 
     private final BeanContainer container;
+    private final WebSocketConnection connection;
+    private final int streamId;
     private final String genericableId;
     private final String fitableId;
     private final MessageSerializer messageSerializer;
     private final Type returnType;
-    private final Object signal = LockUtils.newSynchronizedLock();
+    private final long timeout;
+    private final CompletableFuture<Response> response = new CompletableFuture<>();
     private final LazyLoader<FitExceptionCreator> exceptionCreatorLoader = new LazyLoader<>(this::loadExceptionCreator);
-    private final Map<Integer, Worker<Object>> workers = new HashMap<>();
+    private final Map<Integer, WebSocketWorkerObserver> observers = new ConcurrentHashMap<>();
+    private final Map<Integer, Boolean> finishedTags = new ConcurrentHashMap<>();
+    private final AtomicBoolean released = new AtomicBoolean();
     private final Map<Integer, BiConsumer<Session, TagLengthValues>> handlers = new HashMap<>();
-    private Type returnElementType;
-    private Emitter<Object> emitter;
-    private Response response;
+    private volatile boolean multiplexed;
+    private volatile Type returnElementType;
+    private volatile WindowedEmitter<Object> emitter;
 
-    WebsocketInvoker(BeanContainer container, Request request) {
+    WebsocketInvoker(BeanContainer container, Request request, WebSocketConnection connection, int streamId) {
         notNull(request, "The request cannot be null.");
         this.container = notNull(container, "The bean container cannot be null.");
+        this.connection = notNull(connection, "The websocket connection cannot be null.");
+        this.streamId = streamId;
         this.genericableId = request.metadata().genericableId();
         this.fitableId = request.metadata().fitableId();
         this.returnType = request.returnType();
+        this.timeout = request.context().timeoutUnit().toMillis(request.context().timeout());
         this.messageSerializer =
                 MessageSerializerUtils.getMessageSerializer(this.container, request.metadata().dataFormat())
                         .orElseThrow(() -> new IllegalStateException(StringUtils.format(
@@ -86,6 +100,7 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
                                 request.metadata().dataFormat())));
         this.handlers.put(StreamMessageType.RESPONSE.code(), this::doResponseMessageHandler);
         this.handlers.put(StreamMessageType.CONSUME.code(), this::doConsumeMessageHandler);
+        this.handlers.put(StreamMessageType.CONSUME_BATCH.code(), this::doConsumeBatchMessageHandler);
         this.handlers.put(StreamMessageType.COMPLETE.code(), this::doCompleteMessageHandler);
         this.handlers.put(StreamMessageType.FAIL.code(), this::doFailMessageHandler);
         this.handlers.put(StreamMessageType.REQUEST_ELEMENT.code(), this::doRequestElementHandler);
@@ -101,41 +116,51 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
 
     @Override
     public Response waitAndgetResponse() throws InterruptedException {
-        synchronized (this.signal) {
-            this.signal.wait();
+        try {
+            if (this.timeout > 0) {
+                return this.response.get(this.timeout, TimeUnit.MILLISECONDS);
+            }
+            return this.response.get();
+        } catch (ExecutionException e) {
+            throw new ClientException(StringUtils.format(
+                    "Failed to invoke by websocket. [genericableId={0}, fitableId={1}]",
+                    this.genericableId,
+                    this.fitableId), e.getCause());
+        } catch (TimeoutException e) {
+            this.cancelArguments();
+            this.release();
+            throw new ClientException(StringUtils.format(
+                    "Timeout to wait websocket response. [genericableId={0}, fitableId={1}, timeout={2}ms]",
+                    this.genericableId,
+                    this.fitableId,
+                    this.timeout), e);
         }
-        return this.response;
     }
 
-    @Override
-    public void onMessage(Session session, byte[] message) {
-        TagLengthValues tlvs = TagLengthValues.deserialize(message);
-        int type = WebSocketUtils.getType(tlvs);
-        this.handlers.get(type).accept(session, tlvs);
+    /**
+     * 处理连接上属于当前调用的消息。
+     *
+     * @param session 表示 WebSocket 会话的 {@link Session}。
+     * @param message 表示消息的 {@link TagLengthValues}。
+     */
+    void onMessage(Session session, TagLengthValues message) {
+        this.handlers.getOrDefault(WebSocketUtils.getType(message), this::doUnknownMessageHandler)
+                .accept(session, message);
     }
 
-    @Override
-    public void onClose(Session session, int code, String reason) {
-        if (code != CloseReason.NORMAL_CLOSURE.getCode()) {
-            throw new ClientException(StringUtils.format(
-                    "Websocket connection was closed unexpectedly. [code={0}, reason={1}]",
-                    code,
-                    reason));
+    /**
+     * 处理连接的关闭，尚未结束的调用以指定的异常结束。
+     *
+     * @param cause 表示连接关闭原因的 {@link ClientException}。
+     */
+    void onConnectionClosed(ClientException cause) {
+        this.response.completeExceptionally(cause);
+        this.cancelArguments();
+        WindowedEmitter<Object> actual = this.emitter;
+        if (actual != null && !this.isFinished(RETURN_INDEX)) {
+            actual.fail(cause);
         }
-    }
-
-    @Override
-    public void onOpen(Session session) {}
-
-    @Override
-    public void onMessage(Session session, String message) {}
-
-    @Override
-    public void onError(Session session, Throwable cause) {
-        throw new ClientException(StringUtils.format(
-                "Error occurred in websocket connection. [genericableId={0}, fitableId={1}]",
-                this.genericableId,
-                this.fitableId), cause);
+        this.release();
     }
 
     private void doConsumeMessageHandler(Session session, TagLengthValues message) {
@@ -143,8 +168,15 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
         this.emitter.emit(this.messageSerializer.deserializeResponse(this.returnElementType, content));
     }
 
+    private void doConsumeBatchMessageHandler(Session session, TagLengthValues message) {
+        for (byte[] content : WebSocketUtils.getBatchContent(message)) {
+            this.emitter.emit(this.messageSerializer.deserializeResponse(this.returnElementType, content));
+        }
+    }
+
     private void doCompleteMessageHandler(Session session, TagLengthValues message) {
         this.emitter.complete();
+        this.finish(RETURN_INDEX);
     }
 
     private void doFailMessageHandler(Session session, TagLengthValues message) {
@@ -156,18 +188,19 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
                 FailMessageContentUtils.getMessage(failMessageContent),
                 FailMessageContentUtils.getExceptionProperties(failMessageContent));
         this.emitter.fail(this.exceptionCreatorLoader.get().buildException(exceptionInfo));
+        this.finish(RETURN_INDEX);
     }
 
     private void doRequestElementHandler(Session session, TagLengthValues message) {
         int index = WebSocketUtils.getIndex(message);
-        byte[] content = WebSocketUtils.getContent(message);
-        long requestCount = Long.parseLong(new String(content, StandardCharsets.UTF_8));
-        this.workers.get(index).request(requestCount);
+        this.observers.get(index)
+                .request(WebSocketUtils.getRequestCount(message), WebSocketUtils.hasStreamId(message));
     }
 
     private void doCancelMessageHandler(Session session, TagLengthValues message) {
         int index = WebSocketUtils.getIndex(message);
-        this.workers.get(index).cancel();
+        this.observers.get(index).cancel();
+        this.finish(index);
     }
 
     private void doUnknownMessageHandler(Session session, TagLengthValues message) {
@@ -175,6 +208,8 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
     }
 
     private void doResponseMessageHandler(Session session, TagLengthValues message) {
+        this.multiplexed = WebSocketUtils.hasStreamId(message);
+        this.connection.confirm(this.multiplexed);
         byte[] content = WebSocketUtils.getContent(message);
         TagLengthValues responseMessageContent = TagLengthValues.deserialize(content);
         byte[] entity = ResponseMessageContentUtils.getEntity(responseMessageContent);
@@ -189,10 +224,12 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
                 .tagValues(extensions)
                 .build();
         Object result = getConvertedReturnValue(session, errorCode, entity);
-        this.response = Response.create(responseMetadata, result);
-        synchronized (this.signal) {
-            this.signal.notifyAll();
+        if (errorCode != ResponseMetadata.CODE_OK) {
+            // 调用失败时服务端不再请求参数的元素。
+            this.cancelArguments();
         }
+        this.response.complete(Response.create(responseMetadata, result));
+        this.tryRelease();
     }
 
     private Object[] convertPublisherTypeArguments(Session session, Object[] arguments, Type[] argumentTypes) {
@@ -203,46 +240,57 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
                 continue;
             }
             Type argumentElementType = getPublisherDataType(argumentTypes[index]);
-            WorkerObserver<Object> observer = new WebSocketWorkerObserver(session,
+            this.finishedTags.put(index, false);
+            WebSocketWorkerObserver observer = new WebSocketWorkerObserver(session,
                     this.messageSerializer,
                     argumentElementType,
                     index,
-                    (argumentSession, argumentIndex) -> {});
+                    (argumentSession, argumentIndex) -> this.finish(argumentIndex),
+                    this.streamId,
+                    STREAM_BATCH_SIZE);
             Publisher<Object> publisher = ObjectUtils.cast(Validation.isInstanceOf(arguments[index],
                     Publisher.class,
                     StringUtils.format("The argument type is not Publisher. [index={0}, type={1}]",
                             index,
                             arguments[index].getClass())));
-            Worker<Object> worker = Worker.create(observer, publisher, index);
-            this.workers.put(index, worker);
-            worker.run();
+            this.observers.put(index, observer);
+            Worker.create(observer, publisher, index).run();
             convertedArguments[index] = null;
         }
         return convertedArguments;
     }
 
     private Object getConvertedReturnValue(Session session, int errorCode, byte[] entity) {
-        Object result = null;
-        if (errorCode == ResponseMetadata.CODE_OK) {
-            PublisherCategory category = PublisherCategory.fromType(returnType);
-            if (category == PublisherCategory.NON_PUBLISHER) {
-                result = this.messageSerializer.deserializeResponse(this.returnType, entity);
-            } else {
-                this.returnElementType = getPublisherDataType(this.returnType);
-                this.emitter = Emitter.create();
-                Consumer<Long> requestElementHandler = value -> this.sendRequestElementMessage(session, value);
-                Runnable cancelHandler = () -> {
-                    this.sendCancelMessage(session);
-                };
-                if (category == PublisherCategory.CHOIR) {
-                    result =
-                            new FlexibleEmitterChoir<>(() -> emitter, null, null, requestElementHandler, cancelHandler);
-                } else {
-                    result = new FlexibleEmitterSolo<>(() -> emitter, null, null, requestElementHandler, cancelHandler);
-                }
-            }
+        if (errorCode != ResponseMetadata.CODE_OK) {
+            return null;
+        }
+        PublisherCategory category = PublisherCategory.fromType(this.returnType);
+        if (category == PublisherCategory.NON_PUBLISHER) {
+            return this.messageSerializer.deserializeResponse(this.returnType, entity);
+        }
+        this.finishedTags.put(RETURN_INDEX, false);
+        this.returnElementType = getPublisherDataType(this.returnType);
+        WindowedEmitter<Object> actual = new WindowedEmitter<>(this.multiplexed ? STREAM_WINDOW : 0,
+                count -> this.sendRequestElementMessage(session, count));
+        this.emitter = actual;
+        Runnable cancelHandler = () -> {
+            actual.cancel();
+            this.sendCancelMessage(session);
+            this.finish(RETURN_INDEX);
+        };
+        if (category == PublisherCategory.CHOIR) {
+            return new FlexibleEmitterChoir<>(() -> actual,
+                    null,
+                    OnSubscribedObserver::notifyOnSubscribed,
+                    actual::request,
+                    cancelHandler);
+        } else {
+            return new FlexibleEmitterSolo<>(() -> actual,
+                    null,
+                    OnSubscribedObserver::notifyOnSubscribed,
+                    actual::request,
+                    cancelHandler);
         }
-        return result;
     }
 
     private void sendRequestMessage(Session session, Request request, Object[] convertedArguments) {
@@ -254,6 +302,7 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
         RequestMessageContentUtils.setExtensions(requestMessageContent, request.metadata().tagValues());
         RequestMessageContentUtils.setEntity(requestMessageContent, entity);
         TagLengthValues requestMessage = TagLengthValues.create();
+        WebSocketUtils.setStreamId(requestMessage, this.streamId);
         WebSocketUtils.setType(requestMessage, StreamMessageType.REQUEST.code());
         WebSocketUtils.setContent(requestMessage, requestMessageContent.serialize());
         session.send(requestMessage.serialize());
@@ -261,19 +310,52 @@ public class WebsocketInvoker implements WebSocketClassicListener, WebSocketInvo
 
     private void sendRequestElementMessage(Session session, long count) {
         TagLengthValues requestMessage = TagLengthValues.create();
+        WebSocketUtils.setStreamId(requestMessage, this.multiplexed ? this.streamId : 0);
         WebSocketUtils.setIndex(requestMessage, RETURN_INDEX);
         WebSocketUtils.setType(requestMessage, StreamMessageType.REQUEST_ELEMENT.code());
-        WebSocketUtils.setContent(requestMessage, Long.toString(count).getBytes(StandardCharsets.UTF_8));
+        WebSocketUtils.setRequestCount(requestMessage, count);
         session.send(requestMessage.serialize());
     }
 
     private void sendCancelMessage(Session session) {
         TagLengthValues cancelMessage = TagLengthValues.create();
+        WebSocketUtils.setStreamId(cancelMessage, this.multiplexed ? this.streamId : 0);
         WebSocketUtils.setIndex(cancelMessage, RETURN_INDEX);
         WebSocketUtils.setType(cancelMessage, StreamMessageType.CANCEL.code());
         session.send(cancelMessage.serialize());
     }
 
+    private void cancelArguments() {
+        this.observers.forEach((index, observer) -> {
+            if (!this.isFinished(index)) {
+                observer.cancel();
+                this.finishedTags.put(index, true);
+            }
+        });
+    }
+
+    private boolean isFinished(int index) {
+        return this.finishedTags.getOrDefault(index, true);
+    }
+
+    private void finish(int index) {
+        this.finishedTags.put(index, true);
+        this.tryRelease();
+    }
+
+    private void tryRelease() {
+        if (!this.response.isDone() || this.finishedTags.containsValue(false)) {
+            return;
+        }
+        this.release();
+    }
+
+    private void release() {
+        if (this.released.compareAndSet(false, true)) {
+            this.connection.release(this.streamId);
+        }
+    }
+
     private static Type getPublisherDataType(Type type) {
         if (!(type instanceof ParameterizedType)) {
             throw new IllegalArgumentException("Cannot get data type which type is not parameterized type.");
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.client.http.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.client.WebSocketClassicListener;
+import modelengine.fitframework.exception.ClientException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 表示 {@link WebSocketConnectionPool} 的测试集。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 WebSocketConnectionPool")
+public class WebSocketConnectionPoolTest {
+    private static final String URL = "ws://localhost:8080/fit";
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private final List<Session> sessions = new ArrayList<>();
+    private final Function<WebSocketClassicListener, Session> opener = listener -> {
+        this.opened.incrementAndGet();
+        Session session = mock(Session.class);
+        synchronized (this.sessions) {
+            this.sessions.add(session);
+        }
+        return session;
+    };
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private WebSocketConnectionPool pool;
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        this.executor.shutdownNow();
+        if (this.pool != null) {
+            this.pool.close();
+        }
+    }
+
+    @Test
+    @DisplayName("服务端支持多路复用时，调用共享连接，连接承载的调用达到上限后建立新的连接")
+    void shouldShareMultiplexedConnection() {
+        this.pool = new WebSocketConnectionPool(2, 2, 60_000L);
+        WebSocketConnection first = this.pool.acquire(URL, this.opener, 0L);
+        first.confirm(true);
+        assertThat(this.pool.acquire(URL, this.opener, 0L)).isSameAs(first);
+        assertThat(first.load()).isEqualTo(2);
+
+        WebSocketConnection second = this.pool.acquire(URL, this.opener, 0L);
+        assertThat(second).isNotSameAs(first);
+        second.confirm(true);
+        assertThat(this.pool.acquire(URL, this.opener, 0L)).isSameAs(second);
+        assertThat(this.pool.acquire(URL, this.opener, 0L)).isIn(first, second);
+        assertThat(this.opened.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("连接数量已满且连接尚未确认时，突发的调用等待确认，而不建立新的连接")
+    void shouldWaitPendingConnectionWhenBurst() throws Exception {
+        this.pool = new WebSocketConnectionPool(1, 16, 60_000L);
+        WebSocketConnection first = this.pool.acquire(URL, this.opener, 0L);
+        List<Future<WebSocketConnection>> burst = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            burst.add(this.executor.submit(() -> this.pool.acquire(URL, this.opener, 0L)));
+        }
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(burst).noneMatch(Future::isDone);
+
+        first.confirm(true);
+        for (Future<WebSocketConnection> future : burst) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(first.load()).isEqualTo(9);
+        assertThat(this.opened.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("服务端不支持多路复用时，等待的调用及后续的调用使用独立的连接")
+    void shouldFallbackWhenServerNotMultiplexed() throws Exception {
+        this.pool = new WebSocketConnectionPool(1, 16, 60_000L);
+        WebSocketConnection first = this.pool.acquire(URL, this.opener, 0L);
+        Future<WebSocketConnection> waiting = this.executor.submit(() -> this.pool.acquire(URL, this.opener, 0L));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(waiting.isDone()).isFalse();
+
+        first.confirm(false);
+        WebSocketConnection second = waiting.get(5, TimeUnit.SECONDS);
+        WebSocketConnection third = this.pool.acquire(URL, this.opener, 0L);
+        assertThat(second).isNotSameAs(first);
+        assertThat(third).isNotSameAs(second);
+        assertThat(this.opened.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("等待连接确认超时时，抛出异常")
+    void shouldThrowWhenWaitPendingConnectionTimeout() {
+        this.pool = new WebSocketConnectionPool(1, 16, 60_000L);
+        this.pool.acquire(URL, this.opener, 0L);
+        assertThatThrownBy(() -> this.pool.acquire(URL, this.opener, 50L)).isInstanceOf(ClientException.class);
+    }
+
+    @Test
+    @DisplayName("第一个调用在确认之前结束时，放弃连接，等待的调用建立新的连接")
+    void shouldAbandonConnectionWhenFirstCallReleasedBeforeConfirm() throws Exception {
+        this.pool = new WebSocketConnectionPool(1, 16, 60_000L);
+        WebSocketConnection first = this.pool.acquire(URL, this.opener, 0L);
+        first.register(streamId -> mock(WebsocketInvoker.class));
+        Future<WebSocketConnection> waiting = this.executor.submit(() -> this.pool.acquire(URL, this.opener, 0L));
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        first.release(1);
+        assertThat(first.isClosed()).isTrue();
+        verify(this.sessions.get(0)).close();
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("关闭空闲超时的连接，仍在使用的连接不受影响")
+    void shouldEvictIdleConnection() throws Exception {
+        this.pool = new WebSocketConnectionPool(2, 1, 20L);
+        WebSocketConnection idle = this.pool.acquire(URL, this.opener, 0L);
+        idle.confirm(true);
+        idle.register(streamId -> mock(WebsocketInvoker.class));
+        WebSocketConnection busy = this.pool.acquire(URL, this.opener, 0L);
+        busy.confirm(true);
+        assertThat(busy).isNotSameAs(idle);
+        idle.release(1);
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        this.pool.evictIdles();
+        verify(this.sessions.get(0)).close();
+        verify(this.sessions.get(1), never()).close();
+        assertThat(this.pool.acquire(URL, this.opener, 0L)).isNotSameAs(idle);
+    }
+
+    @Test
+    @DisplayName("关闭连接池时关闭池中的连接，关闭之后获取连接抛出异常")
+    void shouldCloseConnectionsWhenPoolClosed() throws Exception {
+        this.pool = new WebSocketConnectionPool(2, 1, 60_000L);
+        this.pool.acquire(URL, this.opener, 0L).confirm(true);
+        this.pool.acquire(URL, this.opener, 0L).confirm(true);
+
+        this.pool.close();
+        verify(this.sessions.get(0)).close();
+        verify(this.sessions.get(1)).close();
+        assertThatThrownBy(() -> this.pool.acquire(URL, this.opener, 0L)).isInstanceOf(ClientException.class);
+    }
+}
@@ -48,7 +48,7 @@ public class OkHttpClassicClient extends AbstractHttpClassicClient {
     @Override
     public HttpClassicClientRequest createRequest(HttpRequestMethod method, String url) {
         OkHttpClientRequest clientRequest = new OkHttpClientRequest(method, url, this.okHttpClient);
-        return new DefaultHttpClassicClientRequest(this, clientRequest);
+        return new DefaultHttpClassicClientRequest(this, clientRequest, () -> this.createRequest(method, url));
     }
 
     @Override
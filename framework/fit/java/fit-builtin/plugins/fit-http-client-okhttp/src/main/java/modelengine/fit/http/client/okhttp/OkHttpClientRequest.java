@@ -6,6 +6,7 @@
 
 package modelengine.fit.http.client.okhttp;
 
+import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_LENGTH;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.http.protocol.ClientRequest;
@@ -16,24 +17,39 @@ import modelengine.fit.http.protocol.HttpVersion;
 import modelengine.fit.http.protocol.RequestLine;
 import modelengine.fit.http.protocol.WritableMessageBody;
 import modelengine.fit.http.protocol.support.ClientRequestBody;
+import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.model.MultiValueMap;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Pipe;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * 表示 {@link ClientRequest} 的使用 OkHttp 实现。
+ * <p>消息体不超过 {@link #MAX_BUFFERED_BODY_SIZE} 时缓存在内存中，在读取响应时一次性发送；超过时立即发起请求，后续写入的内容通过
+ * 有界的管道直接流向连接，从而以有限的内存发送任意大小的消息体。</p>
  *
  * @author 杭潇
  * @since 2024-04-09
  */
 public class OkHttpClientRequest implements ClientRequest {
+    private static final int MAX_BUFFERED_BODY_SIZE = 64 * 1024;
+    private static final long PIPE_BUFFER_SIZE = 64 * 1024;
+
     private final HttpRequestMethod method;
     private final URL url;
     private final ConfigurableMessageHeaders headers;
@@ -42,6 +58,8 @@ public class OkHttpClientRequest implements ClientRequest {
     private final OkHttpClient okHttpClient;
     private final okhttp3.Request.Builder requestBuilder;
     private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private boolean hasBody;
+    private StreamingBody streamingBody;
 
     /**
      * 表示 {@link OkHttpClientRequest} 类的构造方法。
@@ -83,20 +101,26 @@ public class OkHttpClientRequest implements ClientRequest {
 
     @Override
     public void writeBody(int b) throws IOException {
-        this.checkIfClosed();
-        this.stream.write(b);
-        this.updateRequestBody();
+        this.writeBody(new byte[] {(byte) b}, 0, 1);
     }
 
     @Override
     public void writeBody(byte[] bytes, int off, int len) throws IOException {
         this.checkIfClosed();
-        this.stream.write(bytes, off, len);
-        this.updateRequestBody();
-    }
-
-    private void updateRequestBody() {
-        this.requestBuilder.method(this.method.name(), RequestBody.create(this.stream.toByteArray(), null));
+        this.hasBody = true;
+        if (this.streamingBody == null && this.stream.size() + len <= MAX_BUFFERED_BODY_SIZE) {
+            this.stream.write(bytes, off, len);
+            return;
+        }
+        if (this.streamingBody == null) {
+            long contentLength = this.headers.first(CONTENT_LENGTH).map(Long::parseLong).orElse(-1L);
+            this.streamingBody = new StreamingBody(contentLength);
+            this.requestBuilder.method(this.method.name(), this.streamingBody);
+            this.streamingBody.start(this.okHttpClient.newCall(this.requestBuilder.build()));
+            this.streamingBody.write(this.stream.toByteArray(), 0, this.stream.size());
+            this.stream.reset();
+        }
+        this.streamingBody.write(bytes, off, len);
     }
 
     @Override
@@ -105,7 +129,15 @@ public class OkHttpClientRequest implements ClientRequest {
     @Override
     public ClientResponse readResponse() throws IOException {
         this.checkIfClosed();
-        Response response = this.okHttpClient.newCall(this.requestBuilder.build()).execute();
+        Response response;
+        if (this.streamingBody != null) {
+            response = this.streamingBody.finish();
+        } else {
+            if (this.hasBody) {
+                this.requestBuilder.method(this.method.name(), RequestBody.create(this.stream.toByteArray(), null));
+            }
+            response = this.okHttpClient.newCall(this.requestBuilder.build()).execute();
+        }
         notNull(response.body(), () -> new IllegalStateException("The response body cannot be null."));
         return ClientResponse.create(response.code(),
                 response.message(),
@@ -132,5 +164,106 @@ public class OkHttpClientRequest implements ClientRequest {
     public void close() throws IOException {
         this.isClosed = true;
         this.body.close();
+        if (this.streamingBody != null) {
+            this.streamingBody.cancel();
+        }
+    }
+
+    /**
+     * 表示通过管道流式发送的消息体。
+     * <p>请求通过 {@link Call#enqueue(Callback)} 在 OkHttp 的调度线程中执行，OkHttp 从管道中读取消息体写入连接，调用方向管道
+     * 写入的内容超过管道的容量时阻塞，直到连接将内容发送出去。请求失败时取消管道，使阻塞的写入立即失败。</p>
+     */
+    private static class StreamingBody extends RequestBody {
+        private final long contentLength;
+        private final Pipe pipe = new Pipe(PIPE_BUFFER_SIZE);
+        private final BufferedSink sink = Okio.buffer(this.pipe.sink());
+        private final CompletableFuture<Response> response = new CompletableFuture<>();
+        private Call call;
+
+        private StreamingBody(long contentLength) {
+            this.contentLength = contentLength;
+        }
+
+        private void start(Call call) {
+            this.call = call;
+            call.enqueue(new Callback() {
+                @Override
+                public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+                    StreamingBody.this.response.complete(response);
+                }
+
+                @Override
+                public void onFailure(@Nonnull Call call, @Nonnull IOException cause) {
+                    StreamingBody.this.pipe.cancel();
+                    StreamingBody.this.response.completeExceptionally(cause);
+                }
+            });
+        }
+
+        private void write(byte[] bytes, int off, int len) throws IOException {
+            try {
+                this.sink.write(bytes, off, len);
+            } catch (IOException e) {
+                throw this.failure(e);
+            }
+        }
+
+        private Response finish() throws IOException {
+            try {
+                this.sink.close();
+            } catch (IOException e) {
+                throw this.failure(e);
+            }
+            try {
+                return this.response.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.pipe.cancel();
+                throw new InterruptedIOException("Interrupted while waiting for the okhttp response.");
+            } catch (ExecutionException e) {
+                throw this.failure(e.getCause());
+            }
+        }
+
+        private void cancel() {
+            this.pipe.cancel();
+            this.call.cancel();
+        }
+
+        private IOException failure(Throwable cause) {
+            // 请求失败导致管道被取消时，优先抛出请求失败的原因。
+            Throwable actual = cause;
+            if (this.response.isCompletedExceptionally()) {
+                try {
+                    this.response.join();
+                } catch (RuntimeException e) {
+                    actual = e.getCause() != null ? e.getCause() : e;
+                }
+            }
+            return actual instanceof IOException
+                    ? (IOException) actual
+                    : new IOException("Failed to send the okhttp request.", actual);
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.contentLength;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            sink.writeAll(this.pipe.source());
+        }
     }
 }
\ No newline at end of file
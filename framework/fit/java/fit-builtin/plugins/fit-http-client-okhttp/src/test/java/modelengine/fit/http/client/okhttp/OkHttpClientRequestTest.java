@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import modelengine.fit.http.protocol.ClientResponse;
+import modelengine.fit.http.protocol.HttpRequestMethod;
+import okhttp3.OkHttpClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 为 {@link OkHttpClientRequest} 提供单测。
+ *
+ * @author 杭潇
+ * @since 2026-10-19
+ */
+@DisplayName("测试 OkHttpClientRequest")
+class OkHttpClientRequestTest {
+    private HttpServer server;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/digest", exchange -> {
+            byte[] digest;
+            try (InputStream in = exchange.getRequestBody()) {
+                digest = digest(in.readAllBytes());
+            }
+            byte[] content = HexFormat.of().formatHex(digest).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        });
+        this.server.start();
+        this.client = new OkHttpClient();
+    }
+
+    @AfterEach
+    void teardown() {
+        this.server.stop(0);
+        this.client.dispatcher().executorService().shutdown();
+        this.client.connectionPool().evictAll();
+    }
+
+    @Test
+    @DisplayName("消息体超过缓存上限时，通过管道流式发送完整的消息体")
+    void shouldStreamBodyLargerThanBufferLimit() throws IOException {
+        byte[] body = new byte[256 * 1024 + 7];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) (i * 31);
+        }
+        String url = "http://127.0.0.1:" + this.server.getAddress().getPort() + "/digest";
+        OkHttpClientRequest request = new OkHttpClientRequest(HttpRequestMethod.POST, url, this.client);
+        request.writeStartLineAndHeaders();
+        for (int off = 0; off < body.length; off += 1000) {
+            request.writeBody(body, off, Math.min(1000, body.length - off));
+        }
+        byte[] content;
+        try (ClientResponse response = request.readResponse()) {
+            content = response.getBodyInputStream().readAllBytes();
+        }
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo(HexFormat.of().formatHex(digest(body)));
+    }
+
+    private static byte[] digest(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
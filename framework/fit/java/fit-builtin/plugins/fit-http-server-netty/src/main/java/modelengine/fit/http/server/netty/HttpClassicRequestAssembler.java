@@ -40,6 +40,7 @@ import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.HttpServerFilterChain;
 import modelengine.fit.http.server.HttpServerResponseException;
+import modelengine.fit.http.server.TextEventStreamConfig;
 import modelengine.fit.http.server.support.DefaultHttpServerFilterChain;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.pattern.builder.BuilderFactory;
@@ -159,9 +160,13 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
 
     private void doHttpRequest(ChannelHandlerContext ctx, NettyHttpServerRequest request) {
         request.setExecuteThread(Thread.currentThread());
+        // 服务端响应由经典响应负责关闭，流式响应会在数据发送完成后才关闭。
+        NettyHttpServerResponse response = new NettyHttpServerResponse(ctx, request, this.config.flushThreshold());
         try (HttpClassicServerRequest classicRequest = HttpClassicServerRequest.create(this.server, request);
-             NettyHttpServerResponse response = new NettyHttpServerResponse(ctx, request);
-             HttpClassicServerResponse classicResponse = HttpClassicServerResponse.create(this.server, response)) {
+             HttpClassicServerResponse classicResponse = HttpClassicServerResponse.create(this.server,
+                     response,
+                     classicRequest,
+                     this.config.textEventStream())) {
             HttpHandler handler = this.server.httpDispatcher().dispatch(classicRequest, classicResponse);
             classicRequest.attributes().set(PATH_PATTERN.key(), handler.pathPattern());
             classicRequest.attributes().set(HTTP_HANDLER.key(), handler);
@@ -298,6 +303,20 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
          */
         boolean isGracefulExit();
 
+        /**
+         * 获取响应消息体数据合并后输出的阈值。
+         *
+         * @return 表示响应消息体数据合并后输出的阈值的 {@code int}。
+         */
+        int flushThreshold();
+
+        /**
+         * 获取发送文本事件流时的配置。
+         *
+         * @return 表示发送文本事件流时的配置的 {@link TextEventStreamConfig}。
+         */
+        TextEventStreamConfig textEventStream();
+
         /**
          * 表示 {@link Config} 的构建器。
          */
@@ -350,6 +369,22 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
              */
             Builder isGracefulExit(boolean isGracefulExit);
 
+            /**
+             * 向当前构建器中设置响应消息体数据合并后输出的阈值。
+             *
+             * @param flushThreshold 表示待设置的响应消息体数据合并后输出的阈值的 {@code int}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder flushThreshold(int flushThreshold);
+
+            /**
+             * 向当前构建器中设置发送文本事件流时的配置。
+             *
+             * @param textEventStream 表示待设置的发送文本事件流时的配置的 {@link TextEventStreamConfig}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder textEventStream(TextEventStreamConfig textEventStream);
+
             /**
              * 构建对象。
              *
@@ -15,8 +15,10 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
@@ -25,14 +27,19 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.NettyRuntime;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import modelengine.fit.http.Serializers;
+import modelengine.fit.http.entity.EntitySerializer;
+import modelengine.fit.http.entity.PartitionedEntity;
+import modelengine.fit.http.protocol.MimeType;
 import modelengine.fit.http.protocol.util.SslUtils;
 import modelengine.fit.http.server.HttpClassicServer;
 import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.HttpDispatcher;
 import modelengine.fit.http.server.HttpServerStartupException;
+import modelengine.fit.http.server.TextEventStreamConfig;
 import modelengine.fit.http.server.netty.websocket.ProtocolUpgrader;
 import modelengine.fit.http.websocket.server.WebSocketDispatcher;
 import modelengine.fit.security.Decryptor;
@@ -94,6 +101,7 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                 log.error("Failed to start netty http server.", exception);
             }));
     private final ChannelGroup channelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final NettyOutboundTrafficHandler outboundTrafficHandler = new NettyOutboundTrafficHandler();
     private volatile int httpPort;
     private volatile int httpsPort;
     private final boolean isGracefulExit;
@@ -107,9 +115,9 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         this.dispatcher = HttpDispatcher.create();
         this.webSocketDispatcher = WebSocketDispatcher.create();
         notNull(serializers, "The serializers cannot be null.");
-        this.serializers = Serializers.create(serializers);
         this.valueFetcher = notNull(valueFetcher, "The value fetcher cannot be null.");
         this.nettyConfig = notNull(nettyConfig, "The netty http server config cannot be null.");
+        this.serializers = Serializers.create(serializers, multiPartSerializers(this.nettyConfig));
         this.coreThreadNum = this.nettyConfig.getCoreThreadNum() > 0
                 ? this.nettyConfig.getCoreThreadNum()
                 : Math.max(NettyRuntime.availableProcessors() * 2, 10);
@@ -120,6 +128,17 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         this.largeBodySize = httpConfig.largeBodySize();
     }
 
+    private static Map<MimeType, EntitySerializer<?>> multiPartSerializers(NettyHttpServerConfig config) {
+        EntitySerializer<PartitionedEntity> serializer =
+                EntitySerializer.multiPartSerializer(config.getMultipartSpillThreshold(),
+                        config.getMultipartMaxPartSize(),
+                        config.getMultipartMaxTotalSize());
+        return MapBuilder.<MimeType, EntitySerializer<?>>get()
+                .put(MimeType.MULTIPART_FORM_DATA, serializer)
+                .put(MimeType.MULTIPART_MIXED, serializer)
+                .build();
+    }
+
     @Override
     public HttpClassicServer bind(int port) {
         return this.bind(port, false);
@@ -209,10 +228,12 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                     this.getAssemblerConfig(),
                     this.httpsPort,
                     sslContext,
-                    this.httpsConfig);
+                    this.httpsConfig,
+                    this.outboundTrafficHandler);
             ServerBootstrap serverBootstrap = new ServerBootstrap();
             serverBootstrap.group(bossGroup, workerGroup)
                     .channel(NioServerSocketChannel.class)
+                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, this.getWriteBufferWaterMark())
                     .childHandler(channelHandler);
             this.logServerStarted();
             if (this.httpPort > 0) {
@@ -243,9 +264,34 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                 .maxThreadNum(this.maxThreadNum)
                 .queueCapacity(this.queueCapacity)
                 .isGracefulExit(this.isGracefulExit)
+                .flushThreshold(this.nettyConfig.getFlushThreshold())
+                .textEventStream(TextEventStreamConfig.custom()
+                        .heartbeatMillis(this.nettyConfig.getSseHeartbeatInterval())
+                        .flushDelayMillis(this.nettyConfig.getSseFlushDelay())
+                        .prefetch(this.nettyConfig.getSsePrefetch())
+                        .build())
                 .build();
     }
 
+    private WriteBufferWaterMark getWriteBufferWaterMark() {
+        int low = this.nettyConfig.getWriteBufferLowWaterMark();
+        int high = this.nettyConfig.getWriteBufferHighWaterMark();
+        if (low <= 0 || high < low) {
+            log.warn("Illegal write buffer water mark, use default instead. [low={}, high={}]", low, high);
+            return WriteBufferWaterMark.DEFAULT;
+        }
+        return new WriteBufferWaterMark(low, high);
+    }
+
+    /**
+     * 获取当前所有活跃连接的出站流量。
+     *
+     * @return 表示活跃连接的出站流量的 {@link List}{@code <}{@link NettyOutboundTraffic}{@code >}。
+     */
+    public List<NettyOutboundTraffic> outboundTraffics() {
+        return this.outboundTrafficHandler.traffics();
+    }
+
     private void logServerStarted() {
         if (this.httpPort > 0 && this.httpsPort > 0) {
             log.info("Start netty http server successfully. [httpPort={}, httpsPort={}]",
@@ -360,10 +406,13 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         private final ProtocolUpgrader secureUpgrader;
         private final HttpClassicRequestAssembler assembler;
         private final HttpClassicRequestAssembler secureAssembler;
+        private final NettyOutboundTrafficHandler outboundTrafficHandler;
 
         ChannelInitializerHandler(HttpClassicServer server, HttpClassicRequestAssembler.Config assemblerConfig,
-                int httpsPort, SSLContext sslContext, ServerConfig.Secure httpsConfig) {
+                int httpsPort, SSLContext sslContext, ServerConfig.Secure httpsConfig,
+                NettyOutboundTrafficHandler outboundTrafficHandler) {
             this.httpsPort = httpsPort;
+            this.outboundTrafficHandler = outboundTrafficHandler;
             this.sslContext = sslContext;
             this.httpsConfig = httpsConfig;
             this.upgrader = new ProtocolUpgrader(server,
@@ -381,10 +430,12 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         @Override
         protected void initChannel(SocketChannel ch) {
             ChannelPipeline pipeline = ch.pipeline();
+            pipeline.addLast(this.outboundTrafficHandler);
             if (ch.localAddress().getPort() == this.httpsPort && this.sslContext != null
                     && this.httpsConfig.isSslEnabled()) {
                 pipeline.addLast(new SslHandler(this.buildSslEngine(this.sslContext, this.httpsConfig)));
                 pipeline.addLast(new HttpServerCodec());
+                pipeline.addLast(new ChunkedWriteHandler());
                 pipeline.addLast(this.secureUpgrader);
                 pipeline.addLast(this.secureAssembler);
             } else {
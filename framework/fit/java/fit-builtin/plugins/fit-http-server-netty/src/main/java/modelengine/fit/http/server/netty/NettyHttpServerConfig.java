@@ -40,4 +40,72 @@ public interface NettyHttpServerConfig {
      * @return 表示 Http 响应发生错误时，是否显示错误详细信息的 {@code boolean}。
      */
     boolean isDisplayError();
+
+    /**
+     * 获取响应消息体数据合并后输出的阈值。
+     *
+     * @return 表示响应消息体数据合并后输出的阈值的 {@code int}，单位为字节。
+     */
+    int getFlushThreshold();
+
+    /**
+     * 获取连接写缓冲区的低水位。
+     * <p>连接不可写后，待发送数据低于该值时重新变为可写。</p>
+     *
+     * @return 表示连接写缓冲区的低水位的 {@code int}，单位为字节。
+     */
+    int getWriteBufferLowWaterMark();
+
+    /**
+     * 获取连接写缓冲区的高水位。
+     * <p>连接的待发送数据超过该值时变为不可写，响应消息体的写入方将等待连接重新变为可写。</p>
+     *
+     * @return 表示连接写缓冲区的高水位的 {@code int}，单位为字节。
+     */
+    int getWriteBufferHighWaterMark();
+
+    /**
+     * 获取文本事件流的心跳间隔。
+     * <p>文本事件流在该时间内没有输出任何事件时，发送一个注释行作为心跳。不大于 0 时不发送心跳。</p>
+     *
+     * @return 表示文本事件流的心跳间隔的 {@code long}，单位为毫秒。
+     */
+    long getSseHeartbeatInterval();
+
+    /**
+     * 获取文本事件流的输出延迟。
+     * <p>该时间内写入的事件合并后输出。不大于 0 时每个事件写入后立即输出。</p>
+     *
+     * @return 表示文本事件流的输出延迟的 {@code long}，单位为毫秒。
+     */
+    long getSseFlushDelay();
+
+    /**
+     * 获取文本事件流预取的事件数量。
+     *
+     * @return 表示文本事件流预取的事件数量的 {@code int}。
+     */
+    int getSsePrefetch();
+
+    /**
+     * 获取 {@code 'multipart/*'} 请求中文件分块缓存在内存中的最大字节数。
+     * <p>通过 {@code parts()} 逐个读取分块时，文件分块直接从消息体中读取；一次性获取所有分块时，超过该值的文件分块写入临时文件。</p>
+     *
+     * @return 表示文件分块缓存在内存中的最大字节数的 {@code long}。
+     */
+    long getMultipartSpillThreshold();
+
+    /**
+     * 获取 {@code 'multipart/*'} 请求中每个分块的最大字节数。
+     *
+     * @return 表示每个分块的最大字节数的 {@code long}，小于 0 时不限制。
+     */
+    long getMultipartMaxPartSize();
+
+    /**
+     * 获取 {@code 'multipart/*'} 请求的消息体的最大字节数。
+     *
+     * @return 表示消息体的最大字节数的 {@code long}，小于 0 时不限制。
+     */
+    long getMultipartMaxTotalSize();
 }
@@ -8,12 +8,14 @@ package modelengine.fit.http.server.netty;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
 
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
@@ -21,6 +23,9 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
 import modelengine.fit.http.protocol.ConfigurableStatusLine;
 import modelengine.fit.http.protocol.HttpVersion;
@@ -30,29 +35,57 @@ import modelengine.fit.http.protocol.support.ServerResponseBody;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * {@link ServerResponse} 的 Netty 实现。
+ * <p>消息体的数据先合并到从连接的内存分配器中申请的缓冲区中，缓冲区中的数据达到输出阈值、调用 {@link #flushBody()} 或
+ * {@link #flush()} 时才输出。输出前若连接的待发送数据超过高水位，则写入线程等待，直到连接重新变为可写。</p>
+ * <p>文件区域以 {@link DefaultFileRegion} 的形式交给底层传输，由操作系统直接发送文件内容；启用 TLS 时，文件内容需要加密，
+ * 改为通过 {@link ChunkedNioFile} 分块读取。</p>
  *
  * @author 季聿阶
  * @since 2022-07-08
  */
 public class NettyHttpServerResponse implements ServerResponse {
+    /** 表示默认的消息体输出阈值。 */
+    public static final int DEFAULT_FLUSH_THRESHOLD = 16 * 1024;
+
     private final ConfigurableStatusLine startLine;
     private final ConfigurableMessageHeaders headers;
     private final ChannelHandlerContext ctx;
     private final boolean keepAlive;
     private final ServerResponseBody body;
+    private final int flushThreshold;
+    private final NettyOutboundTraffic traffic;
+    private ByteBuf pending;
     private boolean hasAddedClosedListener;
     private boolean isClosed;
 
     public NettyHttpServerResponse(ChannelHandlerContext ctx, NettyHttpServerRequest nettyRequest) {
+        this(ctx, nettyRequest, DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    /**
+     * 使用通道处理上下文、请求及消息体的输出阈值初始化 {@link NettyHttpServerResponse} 的新实例。
+     *
+     * @param ctx 表示通道处理上下文的 {@link ChannelHandlerContext}。
+     * @param nettyRequest 表示对应请求的 {@link NettyHttpServerRequest}。
+     * @param flushThreshold 表示消息体数据合并后输出的阈值的 {@code int}，不大于 {@code 0} 时使用默认值。
+     */
+    public NettyHttpServerResponse(ChannelHandlerContext ctx, NettyHttpServerRequest nettyRequest,
+            int flushThreshold) {
         this.startLine = ConfigurableStatusLine.create(HttpVersion.HTTP_1_1, 0, StringUtils.EMPTY);
         this.headers = ConfigurableMessageHeaders.create();
         this.ctx = notNull(ctx, "The channel handler context cannot be null.");
         this.keepAlive = HttpUtil.isKeepAlive(nettyRequest.getNettyRequest());
         this.body = new ServerResponseBody(this);
+        this.flushThreshold = flushThreshold > 0 ? flushThreshold : DEFAULT_FLUSH_THRESHOLD;
+        this.traffic = NettyOutboundTraffic.of(ctx.channel());
     }
 
     @Override
@@ -91,25 +124,123 @@ public class NettyHttpServerResponse implements ServerResponse {
         } else {
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
         }
-        this.ctx.writeAndFlush(response);
+        this.ctx.write(response);
     }
 
     @Override
     public void writeBody(int b) throws IOException {
-        this.writeBody(new byte[] {(byte) b});
+        this.checkIfClosed();
+        this.pending().writeByte(b);
+        if (this.pending.readableBytes() >= this.flushThreshold) {
+            this.writePending();
+        }
     }
 
     @Override
     public void writeBody(byte[] bytes, int off, int len) throws IOException {
         this.checkIfClosed();
-        HttpContent httpContent = new DefaultHttpContent(Unpooled.copiedBuffer(bytes, off, len));
+        int written = 0;
+        while (written < len) {
+            ByteBuf buffer = this.pending();
+            int length = Math.min(len - written, this.flushThreshold - buffer.readableBytes());
+            buffer.writeBytes(bytes, off + written, length);
+            written += length;
+            if (buffer.readableBytes() >= this.flushThreshold) {
+                this.writePending();
+            }
+        }
+    }
+
+    private ByteBuf pending() {
+        if (this.pending == null) {
+            this.pending = this.ctx.alloc().buffer(this.flushThreshold);
+        }
+        return this.pending;
+    }
+
+    private void writePending() throws IOException {
+        ByteBuf chunk = this.pending;
+        this.pending = null;
+        try {
+            this.traffic.awaitWritable();
+        } catch (IOException e) {
+            chunk.release();
+            throw e;
+        }
+        this.traffic.recordChunk(chunk.readableBytes());
+        HttpContent httpContent = new DefaultHttpContent(chunk);
         this.ctx.writeAndFlush(httpContent);
     }
 
+    @Override
+    public void flushBody() throws IOException {
+        this.checkIfClosed();
+        if (!this.ctx.channel().isActive()) {
+            throw new IOException("The channel is closed before the response is completed.");
+        }
+        if (this.pending != null && this.pending.isReadable()) {
+            this.writePending();
+        } else {
+            this.ctx.flush();
+        }
+    }
+
+    @Override
+    public void writeFile(FileChannel channel, long position, long count) throws IOException {
+        this.checkIfClosed();
+        notNull(channel, "The file channel to write cannot be null.");
+        boolean isSecure = this.ctx.pipeline().get(SslHandler.class) != null;
+        if (isSecure && this.ctx.pipeline().get(ChunkedWriteHandler.class) == null) {
+            ServerResponse.super.writeFile(channel, position, count);
+            return;
+        }
+        if (this.pending != null && this.pending.isReadable()) {
+            this.writePending();
+        }
+        if (count <= 0) {
+            return;
+        }
+        this.traffic.awaitWritable();
+        this.traffic.recordChunk(count);
+        Object message = isSecure
+                ? new SharedChunkedNioFile(channel, position, count)
+                : new SharedFileRegion(channel, position, count);
+        ChannelFuture future = this.ctx.writeAndFlush(message);
+        if (this.ctx.executor().inEventLoop()) {
+            return;
+        }
+        // 文件通道由调用方在写入完成后关闭，因此需要等待写入完成。
+        try {
+            future.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing file region.");
+        }
+        if (!future.isSuccess()) {
+            throw new IOException("Failed to write file region.", future.cause());
+        }
+    }
+
+    @Override
+    public void whenWritable(Runnable action) {
+        this.traffic.whenWritable(notNull(action, "The action to run when writable cannot be null."));
+    }
+
+    @Override
+    public Optional<ScheduledExecutorService> scheduler() {
+        return Optional.of(this.ctx.executor());
+    }
+
     @Override
     public void flush() throws IOException {
         this.checkIfClosed();
-        ChannelFuture channelFuture = this.ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        LastHttpContent lastHttpContent = LastHttpContent.EMPTY_LAST_CONTENT;
+        if (this.pending != null) {
+            this.traffic.recordChunk(this.pending.readableBytes());
+            lastHttpContent = new DefaultLastHttpContent(this.pending);
+            this.pending = null;
+        }
+        ChannelFuture channelFuture = this.ctx.writeAndFlush(lastHttpContent);
         if (!this.keepAlive && !this.hasAddedClosedListener) {
             channelFuture.addListener(ChannelFutureListener.CLOSE);
             this.hasAddedClosedListener = true;
@@ -124,6 +255,34 @@ public class NettyHttpServerResponse implements ServerResponse {
     @Override
     public void close() throws IOException {
         this.isClosed = true;
+        if (this.pending != null) {
+            this.pending.release();
+            this.pending = null;
+        }
         this.body.close();
     }
+
+    /**
+     * 表示不关闭文件通道的 {@link DefaultFileRegion}，文件通道由消息体数据负责关闭。
+     */
+    private static class SharedFileRegion extends DefaultFileRegion {
+        SharedFileRegion(FileChannel channel, long position, long count) {
+            super(channel, position, count);
+        }
+
+        @Override
+        protected void deallocate() {}
+    }
+
+    /**
+     * 表示不关闭文件通道的 {@link ChunkedNioFile}，文件通道由消息体数据负责关闭。
+     */
+    private static class SharedChunkedNioFile extends ChunkedNioFile {
+        SharedChunkedNioFile(FileChannel channel, long position, long count) throws IOException {
+            super(channel, position, count, 8192);
+        }
+
+        @Override
+        public void close() {}
+    }
 }
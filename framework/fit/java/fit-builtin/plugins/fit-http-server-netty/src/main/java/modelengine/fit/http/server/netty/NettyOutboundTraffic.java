@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server.netty;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.EventLoop;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketAddress;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 表示一个连接的出站流量，同时为响应消息体的写入方提供背压。
+ * <p>当连接的待发送数据超过高水位时，连接变为不可写，写入方在 {@link #awaitWritable()} 中等待，直到待发送数据低于低水位，
+ * 或连接被关闭。在 Netty 的事件循环线程中写入时不会等待，以避免阻塞 I/O 线程。不希望占用线程等待的写入方可以通过
+ * {@link #whenWritable(Runnable)} 注册回调，在连接重新变为可写时继续写入。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public final class NettyOutboundTraffic {
+    private static final AttributeKey<NettyOutboundTraffic> KEY = AttributeKey.valueOf("outbound-traffic");
+    private static final long WAIT_SLICE_MILLIS = 100L;
+
+    private final Channel channel;
+    private final Object monitor = new byte[0];
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder blocks = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+    private final Queue<Runnable> writableActions = new ConcurrentLinkedQueue<>();
+
+    private NettyOutboundTraffic(Channel channel) {
+        this.channel = notNull(channel, "The channel cannot be null.");
+    }
+
+    /**
+     * 获取指定连接的出站流量。
+     *
+     * @param channel 表示连接的 {@link Channel}。
+     * @return 表示连接的出站流量的 {@link NettyOutboundTraffic}。
+     */
+    public static NettyOutboundTraffic of(Channel channel) {
+        Attribute<NettyOutboundTraffic> attribute = channel.attr(KEY);
+        NettyOutboundTraffic traffic = attribute.get();
+        if (traffic != null) {
+            return traffic;
+        }
+        traffic = new NettyOutboundTraffic(channel);
+        NettyOutboundTraffic existing = attribute.setIfAbsent(traffic);
+        return existing == null ? traffic : existing;
+    }
+
+    /**
+     * 获取连接的远端地址。
+     *
+     * @return 表示连接的远端地址的 {@link SocketAddress}。
+     */
+    public SocketAddress remoteAddress() {
+        return this.channel.remoteAddress();
+    }
+
+    /**
+     * 获取连接中已经写入但尚未发送到网络的数据的字节数。
+     *
+     * @return 表示待发送数据的字节数的 {@code long}。
+     */
+    public long pendingBytes() {
+        Channel.Unsafe unsafe = this.channel.unsafe();
+        ChannelOutboundBuffer buffer = unsafe == null ? null : unsafe.outboundBuffer();
+        return buffer == null ? 0L : buffer.totalPendingWriteBytes();
+    }
+
+    /**
+     * 获取通过响应消息体写入连接的字节数。
+     *
+     * @return 表示写入的字节数的 {@code long}。
+     */
+    public long writtenBytes() {
+        return this.writtenBytes.sum();
+    }
+
+    /**
+     * 获取通过响应消息体写入连接的数据块的数量。
+     *
+     * @return 表示写入的数据块数量的 {@code long}。
+     */
+    public long chunks() {
+        return this.chunks.sum();
+    }
+
+    /**
+     * 获取写入方因连接不可写而等待的次数。
+     *
+     * @return 表示等待次数的 {@code long}。
+     */
+    public long blocks() {
+        return this.blocks.sum();
+    }
+
+    /**
+     * 获取写入方因连接不可写而等待的总时间。
+     *
+     * @return 表示等待总时间的毫秒数的 {@code long}。
+     */
+    public long blockedMillis() {
+        return this.blockedNanos.sum() / 1_000_000L;
+    }
+
+    /**
+     * 等待连接变为可写。
+     *
+     * @throws IOException 当连接在等待过程中被关闭时。
+     * @throws InterruptedIOException 当等待过程被中断时。
+     */
+    void awaitWritable() throws IOException {
+        EventLoop eventLoop = this.channel.eventLoop();
+        if (this.channel.isWritable() || eventLoop == null || eventLoop.inEventLoop()) {
+            return;
+        }
+        long started = System.nanoTime();
+        this.blocks.increment();
+        try {
+            synchronized (this.monitor) {
+                while (!this.channel.isWritable()) {
+                    if (!this.channel.isActive()) {
+                        throw new IOException("The channel is closed while waiting for writability.");
+                    }
+                    this.monitor.wait(WAIT_SLICE_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for channel writability.");
+        } finally {
+            this.blockedNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * 记录一个写入连接的数据块。
+     *
+     * @param bytes 表示数据块的字节数的 {@code long}。
+     */
+    void recordChunk(long bytes) {
+        this.chunks.increment();
+        this.writtenBytes.add(bytes);
+    }
+
+    /**
+     * 在连接可写时执行指定的操作。
+     * <p>连接当前可写或已经关闭时立即执行，否则在连接重新变为可写或被关闭时执行。</p>
+     *
+     * @param action 表示待执行的操作的 {@link Runnable}。
+     */
+    void whenWritable(Runnable action) {
+        if (this.isReady()) {
+            action.run();
+            return;
+        }
+        this.writableActions.add(action);
+        // 入队的同时连接可能已经恢复可写，此时没有后续的通知，需要再次检查。
+        if (this.isReady()) {
+            this.runWritableActions();
+        }
+    }
+
+    /**
+     * 唤醒等待连接可写的写入方。
+     */
+    void signal() {
+        synchronized (this.monitor) {
+            this.monitor.notifyAll();
+        }
+        if (this.isReady()) {
+            this.runWritableActions();
+        }
+    }
+
+    private boolean isReady() {
+        return this.channel.isWritable() || !this.channel.isActive();
+    }
+
+    private void runWritableActions() {
+        Runnable action;
+        while ((action = this.writableActions.poll()) != null) {
+            action.run();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[remoteAddress=" + this.remoteAddress() + ", pendingBytes=" + this.pendingBytes() + ", writtenBytes="
+                + this.writtenBytes() + ", chunks=" + this.chunks() + ", blocks=" + this.blocks()
+                + ", blockedMillis=" + this.blockedMillis() + "]";
+    }
+}
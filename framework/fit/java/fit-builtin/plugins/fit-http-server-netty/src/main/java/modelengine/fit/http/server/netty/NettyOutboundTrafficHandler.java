@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 跟踪所有活跃连接的出站流量，并在连接的可写状态变化时唤醒等待的写入方。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@ChannelHandler.Sharable
+class NettyOutboundTrafficHandler extends ChannelInboundHandlerAdapter {
+    private final Map<Channel, NettyOutboundTraffic> traffics = new ConcurrentHashMap<>();
+
+    /**
+     * 获取所有活跃连接的出站流量。
+     *
+     * @return 表示活跃连接的出站流量的 {@link List}{@code <}{@link NettyOutboundTraffic}{@code >}。
+     */
+    List<NettyOutboundTraffic> traffics() {
+        return new ArrayList<>(this.traffics.values());
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.traffics.put(ctx.channel(), NettyOutboundTraffic.of(ctx.channel()));
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        NettyOutboundTraffic.of(ctx.channel()).signal();
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        NettyOutboundTraffic traffic = this.traffics.remove(ctx.channel());
+        if (traffic != null) {
+            traffic.signal();
+        }
+        super.channelInactive(ctx);
+    }
+}
@@ -6,6 +6,7 @@
 
 package modelengine.fit.http.server.netty.support;
 
+import modelengine.fit.http.entity.serializer.MultiPartEntitySerializer;
 import modelengine.fit.http.server.netty.NettyHttpServerConfig;
 import modelengine.fitframework.annotation.AcceptConfigValues;
 import modelengine.fitframework.annotation.Component;
@@ -39,6 +40,51 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
      */
     private boolean displayError;
 
+    /**
+     * 配置项：{@code 'flush-threshold'}。
+     */
+    private int flushThreshold;
+
+    /**
+     * 配置项：{@code 'write-buffer-low-water-mark'}。
+     */
+    private int writeBufferLowWaterMark;
+
+    /**
+     * 配置项：{@code 'write-buffer-high-water-mark'}。
+     */
+    private int writeBufferHighWaterMark;
+
+    /**
+     * 配置项：{@code 'sse-heartbeat-interval'}。
+     */
+    private long sseHeartbeatInterval;
+
+    /**
+     * 配置项：{@code 'sse-flush-delay'}。
+     */
+    private long sseFlushDelay;
+
+    /**
+     * 配置项：{@code 'sse-prefetch'}。
+     */
+    private int ssePrefetch;
+
+    /**
+     * 配置项：{@code 'multipart-spill-threshold'}。
+     */
+    private long multipartSpillThreshold = MultiPartEntitySerializer.DEFAULT_SPILL_THRESHOLD;
+
+    /**
+     * 配置项：{@code 'multipart-max-part-size'}，默认不限制。
+     */
+    private long multipartMaxPartSize = -1;
+
+    /**
+     * 配置项：{@code 'multipart-max-total-size'}，默认不限制。
+     */
+    private long multipartMaxTotalSize = -1;
+
     @Override
     public int getCoreThreadNum() {
         return this.coreThreadNum;
@@ -94,4 +140,130 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
     public void setDisplayError(boolean displayError) {
         this.displayError = displayError;
     }
+
+    @Override
+    public int getFlushThreshold() {
+        return this.flushThreshold;
+    }
+
+    /**
+     * 设置响应消息体数据合并后输出的阈值。
+     *
+     * @param flushThreshold 表示响应消息体数据合并后输出的阈值的 {@code int}。
+     */
+    public void setFlushThreshold(int flushThreshold) {
+        this.flushThreshold = flushThreshold;
+    }
+
+    @Override
+    public int getWriteBufferLowWaterMark() {
+        return this.writeBufferLowWaterMark;
+    }
+
+    /**
+     * 设置连接写缓冲区的低水位。
+     *
+     * @param writeBufferLowWaterMark 表示连接写缓冲区的低水位的 {@code int}。
+     */
+    public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    }
+
+    @Override
+    public int getWriteBufferHighWaterMark() {
+        return this.writeBufferHighWaterMark;
+    }
+
+    /**
+     * 设置连接写缓冲区的高水位。
+     *
+     * @param writeBufferHighWaterMark 表示连接写缓冲区的高水位的 {@code int}。
+     */
+    public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    @Override
+    public long getSseHeartbeatInterval() {
+        return this.sseHeartbeatInterval;
+    }
+
+    /**
+     * 设置文本事件流的心跳间隔。
+     *
+     * @param sseHeartbeatInterval 表示文本事件流的心跳间隔的 {@code long}。
+     */
+    public void setSseHeartbeatInterval(long sseHeartbeatInterval) {
+        this.sseHeartbeatInterval = sseHeartbeatInterval;
+    }
+
+    @Override
+    public long getSseFlushDelay() {
+        return this.sseFlushDelay;
+    }
+
+    /**
+     * 设置文本事件流的输出延迟。
+     *
+     * @param sseFlushDelay 表示文本事件流的输出延迟的 {@code long}。
+     */
+    public void setSseFlushDelay(long sseFlushDelay) {
+        this.sseFlushDelay = sseFlushDelay;
+    }
+
+    @Override
+    public int getSsePrefetch() {
+        return this.ssePrefetch;
+    }
+
+    /**
+     * 设置文本事件流预取的事件数量。
+     *
+     * @param ssePrefetch 表示文本事件流预取的事件数量的 {@code int}。
+     */
+    public void setSsePrefetch(int ssePrefetch) {
+        this.ssePrefetch = ssePrefetch;
+    }
+
+    @Override
+    public long getMultipartSpillThreshold() {
+        return this.multipartSpillThreshold;
+    }
+
+    /**
+     * 设置 {@code 'multipart/*'} 请求中文件分块缓存在内存中的最大字节数。
+     *
+     * @param multipartSpillThreshold 表示文件分块缓存在内存中的最大字节数的 {@code long}。
+     */
+    public void setMultipartSpillThreshold(long multipartSpillThreshold) {
+        this.multipartSpillThreshold = multipartSpillThreshold;
+    }
+
+    @Override
+    public long getMultipartMaxPartSize() {
+        return this.multipartMaxPartSize;
+    }
+
+    /**
+     * 设置 {@code 'multipart/*'} 请求中每个分块的最大字节数。
+     *
+     * @param multipartMaxPartSize 表示每个分块的最大字节数的 {@code long}。
+     */
+    public void setMultipartMaxPartSize(long multipartMaxPartSize) {
+        this.multipartMaxPartSize = multipartMaxPartSize;
+    }
+
+    @Override
+    public long getMultipartMaxTotalSize() {
+        return this.multipartMaxTotalSize;
+    }
+
+    /**
+     * 设置 {@code 'multipart/*'} 请求的消息体的最大字节数。
+     *
+     * @param multipartMaxTotalSize 表示消息体的最大字节数的 {@code long}。
+     */
+    public void setMultipartMaxTotalSize(long multipartMaxTotalSize) {
+        this.multipartMaxTotalSize = multipartMaxTotalSize;
+    }
 }
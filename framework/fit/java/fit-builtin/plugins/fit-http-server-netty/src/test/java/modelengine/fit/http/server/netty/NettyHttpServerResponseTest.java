@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 表示 {@link NettyHttpServerResponse} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 NettyHttpServerResponse 类")
+class NettyHttpServerResponseTest {
+    private EmbeddedChannel channel;
+    private NettyHttpServerResponse response;
+
+    @BeforeEach
+    void setup() {
+        this.channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        ChannelHandlerContext ctx = this.channel.pipeline().firstContext();
+        DefaultHttpRequest request =
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/a", new DefaultHttpHeaders());
+        NettyHttpServerRequest serverRequest = new NettyHttpServerRequest(request, ctx, false, 2048);
+        this.response = new NettyHttpServerResponse(ctx, serverRequest, 8);
+        this.response.startLine().statusCode(200);
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        this.response.close();
+        this.channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("消息体数据达到输出阈值前不输出，达到后合并为一个数据块输出")
+    void shouldCoalesceBodyUntilThreshold() throws IOException {
+        this.response.writeStartLineAndHeaders();
+        this.response.writeBody("abc".getBytes(StandardCharsets.UTF_8));
+        this.response.writeBody("def".getBytes(StandardCharsets.UTF_8));
+        assertThat((Object) this.channel.readOutbound()).isNull();
+
+        this.response.writeBody("ghi".getBytes(StandardCharsets.UTF_8));
+        assertThat((Object) this.channel.readOutbound()).isInstanceOf(HttpResponse.class);
+        HttpContent chunk = this.channel.readOutbound();
+        assertThat(chunk.content().toString(StandardCharsets.UTF_8)).isEqualTo("abcdefgh");
+        chunk.release();
+
+        this.response.flush();
+        LastHttpContent last = this.channel.readOutbound();
+        assertThat(last.content().toString(StandardCharsets.UTF_8)).isEqualTo("i");
+        last.release();
+
+        NettyOutboundTraffic traffic = NettyOutboundTraffic.of(this.channel);
+        assertThat(traffic.chunks()).isEqualTo(2L);
+        assertThat(traffic.writtenBytes()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("调用 flushBody 时立即输出已经合并的消息体数据")
+    void shouldWritePendingBodyWhenFlushBody() throws IOException {
+        this.response.writeStartLineAndHeaders();
+        this.response.writeBody('x');
+        this.response.flushBody();
+        assertThat((Object) this.channel.readOutbound()).isInstanceOf(HttpResponse.class);
+        HttpContent chunk = this.channel.readOutbound();
+        assertThat(chunk.content().toString(StandardCharsets.UTF_8)).isEqualTo("x");
+        chunk.release();
+
+        this.response.flush();
+        LastHttpContent last = this.channel.readOutbound();
+        assertThat(last.content().isReadable()).isFalse();
+        last.release();
+    }
+
+    @Test
+    @DisplayName("文件区域以 FileRegion 的形式直接交给底层传输，且不关闭文件通道")
+    void shouldWriteFileRegionWithoutCopy(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("data.bin"), new byte[64 * 1024]);
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.response.writeStartLineAndHeaders();
+            this.response.writeBody('x');
+            this.response.writeFile(fileChannel, 1024, 32 * 1024);
+            assertThat((Object) this.channel.readOutbound()).isInstanceOf(HttpResponse.class);
+            HttpContent chunk = this.channel.readOutbound();
+            assertThat(chunk.content().readableBytes()).isEqualTo(1);
+            chunk.release();
+            FileRegion region = this.channel.readOutbound();
+            assertThat(region.position()).isEqualTo(1024L);
+            assertThat(region.count()).isEqualTo(32L * 1024);
+            region.release();
+            assertThat(fileChannel.isOpen()).isTrue();
+        }
+        NettyOutboundTraffic traffic = NettyOutboundTraffic.of(this.channel);
+        assertThat(traffic.writtenBytes()).isEqualTo(1L + 32 * 1024);
+    }
+}
@@ -8,6 +8,8 @@ package modelengine.fit.http.server.netty.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import modelengine.fit.http.entity.serializer.MultiPartEntitySerializer;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -28,4 +30,20 @@ public class DefaultNettyServerConfigTest {
         assertThat(config).returns(2, DefaultNettyServerConfig::getMaxThreadNum)
                 .returns(true, DefaultNettyServerConfig::isDisplayError);
     }
+
+    @Test
+    @DisplayName("当没有设置 multipart 相关的配置时，返回与默认序列化器一致的配置值")
+    void shouldReturnDefaultMultipartConfig() {
+        DefaultNettyServerConfig config = new DefaultNettyServerConfig();
+        assertThat(config).returns(MultiPartEntitySerializer.DEFAULT_SPILL_THRESHOLD,
+                        DefaultNettyServerConfig::getMultipartSpillThreshold)
+                .returns(-1L, DefaultNettyServerConfig::getMultipartMaxPartSize)
+                .returns(-1L, DefaultNettyServerConfig::getMultipartMaxTotalSize);
+        config.setMultipartSpillThreshold(1024L);
+        config.setMultipartMaxPartSize(2048L);
+        config.setMultipartMaxTotalSize(4096L);
+        assertThat(config).returns(1024L, DefaultNettyServerConfig::getMultipartSpillThreshold)
+                .returns(2048L, DefaultNettyServerConfig::getMultipartMaxPartSize)
+                .returns(4096L, DefaultNettyServerConfig::getMultipartMaxTotalSize);
+    }
 }
@@ -7,6 +7,7 @@
 package modelengine.fit.server.http.websocket;
 
 import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.WebSocketWorkerObserver;
 import modelengine.fit.server.http.websocket.support.DefaultWebSocketServerContext;
 import modelengine.fitframework.flowable.Publisher;
 import modelengine.fitframework.flowable.util.worker.Worker;
@@ -49,6 +50,14 @@ public interface ConfigurableWebSocketServerContext extends WebSocketServerConte
      */
     void worker(Worker<?> worker);
 
+    /**
+     * 设置当前调用中用于将返回值 {@link Publisher} 中的元素发送给客户端的观察者。
+     * <p>仅在当前调用的返回值类型为 {@link Publisher} 时进行设置。</p>
+     *
+     * @param observer 表示发送元素的观察者的 {@link WebSocketWorkerObserver}。
+     */
+    void observer(WebSocketWorkerObserver observer);
+
     /**
      * 设置消息序列化器。
      *
@@ -64,6 +73,18 @@ public interface ConfigurableWebSocketServerContext extends WebSocketServerConte
      * @return 表可配置的处理流式调用请求时的上下文实例的 {@link ConfigurableWebSocketServerContext}。
      */
     static ConfigurableWebSocketServerContext create(String genericableId, String fitableId) {
-        return new DefaultWebSocketServerContext(genericableId, fitableId);
+        return create(genericableId, fitableId, 0);
+    }
+
+    /**
+     * 创建一个可配置的处理多路复用的流式调用请求时的上下文实例。
+     *
+     * @param genericableId 表示泛服务的唯一标识的 {@link String}。
+     * @param fitableId 表示泛服务实现的唯一标识 {@link String}。
+     * @param streamId 表示调用在 WebSocket 会话中的流标识的 {@code int}。
+     * @return 表可配置的处理流式调用请求时的上下文实例的 {@link ConfigurableWebSocketServerContext}。
+     */
+    static ConfigurableWebSocketServerContext create(String genericableId, String fitableId, int streamId) {
+        return new DefaultWebSocketServerContext(genericableId, fitableId, streamId);
     }
 }
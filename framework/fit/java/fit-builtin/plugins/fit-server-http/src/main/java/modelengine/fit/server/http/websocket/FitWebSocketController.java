@@ -22,6 +22,7 @@ import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
 import modelengine.fit.serialization.http.websocket.StreamMessageType;
 import modelengine.fit.serialization.http.websocket.WebSocketUtils;
 import modelengine.fit.serialization.http.websocket.WebSocketWorkerObserver;
+import modelengine.fit.serialization.http.websocket.WindowedEmitter;
 import modelengine.fit.serialization.util.MessageSerializerUtils;
 import modelengine.fit.serialization.util.PublisherCategory;
 import modelengine.fitframework.annotation.Component;
@@ -32,12 +33,11 @@ import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.LocalGenericableRepository;
 import modelengine.fitframework.broker.server.Dispatcher;
 import modelengine.fitframework.broker.server.Response;
-import modelengine.fitframework.flowable.Emitter;
 import modelengine.fitframework.flowable.Publisher;
 import modelengine.fitframework.flowable.choir.FlexibleEmitterChoir;
 import modelengine.fitframework.flowable.solo.FlexibleEmitterSolo;
+import modelengine.fitframework.flowable.util.OnSubscribedObserver;
 import modelengine.fitframework.flowable.util.worker.Worker;
-import modelengine.fitframework.flowable.util.worker.WorkerObserver;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.log.Logger;
@@ -53,16 +53,16 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
  * 表示处理 FIT WebSocket 通信请求的控制器。
+ * <p>客户端发送的消息携带流标识时，同一个会话中可以同时进行多个调用，每个调用使用独立的上下文，调用结束后会话保持打开以供
+ * 后续调用复用；返回值的元素在客户端的一次请求中同步产生时批量发送，参数的元素通过流量控制窗口接收。消息不携带流标识时，保持
+ * 一个会话对应一个调用的原有协议，调用结束后关闭会话。</p>
  *
  * @author 何天放
  * @since 2024-05-06
@@ -72,13 +72,16 @@ import java.util.stream.Stream;
 public class FitWebSocketController {
     private static final Logger log = Logger.get(FitWebSocketController.class);
     private static final int RETURN_INDEX = -1;
+    private static final int STREAM_WINDOW = 64;
+    private static final int STREAM_BATCH_SIZE = 32;
 
     private final BeanContainer container;
     private final Dispatcher dispatcher;
     private final LocalGenericableRepository repository;
     private final FitExceptionCreator exceptionCreator;
     private final Map<String, ConfigurableWebSocketServerContext> contexts = new ConcurrentHashMap<>();
-    private final Map<Integer, BiConsumer<Session, TagLengthValues>> handlers = new HashMap<>();
+    private final Map<String, Map<Integer, ConfigurableWebSocketServerContext>> streams = new ConcurrentHashMap<>();
+    private final Map<Integer, MessageHandler> handlers = new HashMap<>();
 
     FitWebSocketController(BeanContainer container, Dispatcher dispatcher, LocalGenericableRepository repository,
             FitExceptionCreator exceptionCreator) {
@@ -88,6 +91,7 @@ public class FitWebSocketController {
         this.exceptionCreator = notNull(exceptionCreator, "The exception creator cannot be null.");
         this.handlers.put(StreamMessageType.REQUEST.code(), this::doRequestMessageHandler);
         this.handlers.put(StreamMessageType.CONSUME.code(), this::doConsumeMessageHandler);
+        this.handlers.put(StreamMessageType.CONSUME_BATCH.code(), this::doConsumeBatchMessageHandler);
         this.handlers.put(StreamMessageType.COMPLETE.code(), this::doCompleteMessageHandler);
         this.handlers.put(StreamMessageType.FAIL.code(), this::doFailMessageHandler);
         this.handlers.put(StreamMessageType.REQUEST_ELEMENT.code(), this::doRequestElementHandler);
@@ -118,7 +122,14 @@ public class FitWebSocketController {
     public void onMessage(Session session, @BinaryMessage byte[] message) {
         TagLengthValues tlvs = TagLengthValues.deserialize(message);
         int type = WebSocketUtils.getType(tlvs);
-        this.handlers.get(type).accept(session, tlvs);
+        ConfigurableWebSocketServerContext context = this.getContext(session, type, tlvs);
+        if (context == null) {
+            log.debug("No stream to handle websocket message, ignore it. [session={}, streamId={}]",
+                    session.getId(),
+                    WebSocketUtils.getStreamId(tlvs));
+            return;
+        }
+        this.handlers.getOrDefault(type, this::doUnknownMessageHandler).handle(session, context, tlvs);
     }
 
     /**
@@ -132,57 +143,92 @@ public class FitWebSocketController {
                 session.getCloseCode(),
                 session.getCloseReason()));
         this.contexts.remove(session.getId());
+        Map<Integer, ConfigurableWebSocketServerContext> actives = this.streams.remove(session.getId());
+        if (actives != null) {
+            actives.values().forEach(FitWebSocketController::cancelReturnValue);
+        }
+    }
+
+    private ConfigurableWebSocketServerContext getContext(Session session, int type, TagLengthValues message) {
+        ConfigurableWebSocketServerContext sessionContext = this.contexts.get(session.getId());
+        if (sessionContext == null || !WebSocketUtils.hasStreamId(message)) {
+            return sessionContext;
+        }
+        int streamId = WebSocketUtils.getStreamId(message);
+        Map<Integer, ConfigurableWebSocketServerContext> actives =
+                this.streams.computeIfAbsent(session.getId(), key -> new ConcurrentHashMap<>());
+        if (type == StreamMessageType.REQUEST.code()) {
+            ConfigurableWebSocketServerContext context = ConfigurableWebSocketServerContext.create(
+                    sessionContext.genericableId(),
+                    sessionContext.fitableId(),
+                    streamId);
+            actives.put(streamId, context);
+            return context;
+        }
+        return actives.get(streamId);
     }
 
-    private void doConsumeMessageHandler(Session session, TagLengthValues message) {
+    private void doConsumeMessageHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
         int index = WebSocketUtils.getIndex(message);
         byte[] content = WebSocketUtils.getContent(message);
-        ConfigurableWebSocketServerContext context = this.contexts.get(session.getId());
+        this.emit(context, index, content);
+    }
+
+    private void doConsumeBatchMessageHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
+        int index = WebSocketUtils.getIndex(message);
+        for (byte[] content : WebSocketUtils.getBatchContent(message)) {
+            this.emit(context, index, content);
+        }
+    }
+
+    private void emit(ConfigurableWebSocketServerContext context, int index, byte[] content) {
         context.emitters()
                 .get(index)
                 .emit(context.messageSerializer()
                         .deserializeResponse(context.publisherArgumentElementTypes().get(index), content));
     }
 
-    private void doCompleteMessageHandler(Session session, TagLengthValues message) {
+    private void doCompleteMessageHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
         int index = WebSocketUtils.getIndex(message);
-        this.contexts.get(session.getId()).emitters().get(index).complete();
-        this.tryCloseConnection(session, index);
+        context.emitters().get(index).complete();
+        this.tryCloseConnection(session, context, index);
     }
 
-    private void doFailMessageHandler(Session session, TagLengthValues message) {
+    private void doFailMessageHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
         int index = WebSocketUtils.getIndex(message);
         byte[] content = WebSocketUtils.getContent(message);
         TagLengthValues failMessageContent = TagLengthValues.deserialize(content);
-        ExceptionInfo exceptionInfo = ExceptionInfo.create(this.contexts.get(session.getId()).genericableId(),
-                this.contexts.get(session.getId()).fitableId(),
+        ExceptionInfo exceptionInfo = ExceptionInfo.create(context.genericableId(),
+                context.fitableId(),
                 FailMessageContentUtils.getCode(failMessageContent),
                 FailMessageContentUtils.getMessage(failMessageContent),
                 TlvUtils.getExceptionProperties(failMessageContent));
-        this.contexts.get(session.getId())
-                .emitters()
-                .get(index)
-                .fail(this.exceptionCreator.buildException(exceptionInfo));
-        this.tryCloseConnection(session, index);
+        context.emitters().get(index).fail(this.exceptionCreator.buildException(exceptionInfo));
+        this.tryCloseConnection(session, context, index);
     }
 
-    private void doRequestElementHandler(Session session, TagLengthValues message) {
-        byte[] content = WebSocketUtils.getContent(message);
-        long requestElementCount = Long.parseLong(new String(content, StandardCharsets.UTF_8));
-        this.contexts.get(session.getId()).worker().request(requestElementCount);
+    private void doRequestElementHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
+        context.observer().request(WebSocketUtils.getRequestCount(message));
     }
 
-    private void doCancelMessageHandler(Session session, TagLengthValues message) {
-        this.contexts.get(session.getId()).worker().cancel();
-        this.tryCloseConnection(session, RETURN_INDEX);
+    private void doCancelMessageHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
+        context.observer().cancel();
+        this.tryCloseConnection(session, context, RETURN_INDEX);
     }
 
-    private void doUnknownMessageHandler(Session session, TagLengthValues message) {
+    private void doUnknownMessageHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
         log.warn(StringUtils.format("Cannot handle message with unknown type."));
     }
 
-    private void doRequestMessageHandler(Session session, TagLengthValues message) {
-        ConfigurableWebSocketServerContext context = this.contexts.get(session.getId());
+    private void doRequestMessageHandler(Session session, ConfigurableWebSocketServerContext context,
+            TagLengthValues message) {
         byte[] content = WebSocketUtils.getContent(message);
         TagLengthValues requestMessageContent = TagLengthValues.deserialize(content);
         byte[] entity = RequestMessageContentUtils.getEntity(requestMessageContent);
@@ -193,54 +239,60 @@ public class FitWebSocketController {
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
                         context.format()))));
-        Object[] parameters = this.getDeserializedParameters(session, entity);
-        Response response = this.executeMethod(session, parameters);
+        Object[] parameters = this.getDeserializedParameters(session, context, entity);
+        Response response = this.executeMethod(context, parameters);
         Object result = this.getConvertedReturnValue(session, response, context);
-        this.sendResponseMessage(session, response, result);
+        this.sendResponseMessage(session, context, response, result);
         if (response.metadata().code() != ResponseMetadata.CODE_OK) {
-            session.close();
+            this.closeStream(session, context);
         }
     }
 
-    private Object[] getDeserializedParameters(Session session, byte[] dataBytes) {
-        Type[] argumentTypes = Stream.of(this.getMethod(session).getParameters())
+    private Object[] getDeserializedParameters(Session session, ConfigurableWebSocketServerContext context,
+            byte[] dataBytes) {
+        Type[] argumentTypes = Stream.of(this.getMethod(context).getParameters())
                 .map(Parameter::getParameterizedType)
                 .toArray(Type[]::new);
-        Object[] arguments =
-                this.contexts.get(session.getId()).messageSerializer().deserializeRequest(argumentTypes, dataBytes);
-        this.initPublisherTypeArguments(session, arguments, argumentTypes);
+        Object[] arguments = context.messageSerializer().deserializeRequest(argumentTypes, dataBytes);
+        this.initPublisherTypeArguments(session, context, arguments, argumentTypes);
         return arguments;
     }
 
-    private void initPublisherTypeArguments(Session session, Object[] arguments, Type[] argumentTypes) {
-        ConfigurableWebSocketServerContext context = this.contexts.get(session.getId());
+    private void initPublisherTypeArguments(Session session, ConfigurableWebSocketServerContext context,
+            Object[] arguments, Type[] argumentTypes) {
         for (int index = 0; index < argumentTypes.length; index++) {
             PublisherCategory category = PublisherCategory.fromType(argumentTypes[index]);
             if (category == PublisherCategory.NON_PUBLISHER) {
                 continue;
             }
-            Emitter<Object> emitter = Emitter.create();
+            int finalIndex = index;
+            WindowedEmitter<Object> emitter = new WindowedEmitter<>(context.streamId() > 0 ? STREAM_WINDOW : 0,
+                    value -> this.sendRequestElementMessage(session, context, finalIndex, value));
             context.publisherArgumentElementTypes().put(index, getPublisherDataType(argumentTypes[index]));
             context.emitters().put(index, emitter);
             context.publisherFinishedTags().put(index, false);
-            int finalIndex = index;
-            Consumer<Long> requestElementHandler = value -> this.sendRequestElementMessage(session, finalIndex, value);
             Runnable cancelHandler = () -> {
-                this.sendCancelMessage(session, finalIndex);
-                this.tryCloseConnection(session, finalIndex);
+                emitter.cancel();
+                this.sendCancelMessage(session, context, finalIndex);
+                this.tryCloseConnection(session, context, finalIndex);
             };
             if (category == PublisherCategory.CHOIR) {
-                arguments[index] =
-                        new FlexibleEmitterChoir<>(() -> emitter, null, null, requestElementHandler, cancelHandler);
+                arguments[index] = new FlexibleEmitterChoir<>(() -> emitter,
+                        null,
+                        OnSubscribedObserver::notifyOnSubscribed,
+                        emitter::request,
+                        cancelHandler);
             } else {
-                arguments[index] =
-                        new FlexibleEmitterSolo<>(() -> emitter, null, null, requestElementHandler, cancelHandler);
+                arguments[index] = new FlexibleEmitterSolo<>(() -> emitter,
+                        null,
+                        OnSubscribedObserver::notifyOnSubscribed,
+                        emitter::request,
+                        cancelHandler);
             }
         }
     }
 
-    private Response executeMethod(Session session, Object[] parameters) {
-        ConfigurableWebSocketServerContext context = this.contexts.get(session.getId());
+    private Response executeMethod(ConfigurableWebSocketServerContext context, Object[] parameters) {
         RequestMetadata metadata = RequestMetadata.custom()
                 .dataFormat(context.format())
                 .genericableId(context.genericableId())
@@ -254,58 +306,65 @@ public class FitWebSocketController {
 
     private Object getConvertedReturnValue(Session session, Response response,
             ConfigurableWebSocketServerContext context) {
-        Type returnType = this.getMethod(session).getGenericReturnType();
+        Type returnType = this.getMethod(context).getGenericReturnType();
         if (response.metadata().code() != ResponseMetadata.CODE_OK
                 || PublisherCategory.fromType(returnType) == PublisherCategory.NON_PUBLISHER) {
             return response.data();
         }
         context.publisherFinishedTags().put(RETURN_INDEX, false);
         Type returnElementType = getPublisherDataType(returnType);
-        WorkerObserver<Object> observer = new WebSocketWorkerObserver(session,
+        WebSocketWorkerObserver observer = new WebSocketWorkerObserver(session,
                 context.messageSerializer(),
                 returnElementType,
                 RETURN_INDEX,
-                this::tryCloseConnection);
+                (returnSession, index) -> this.tryCloseConnection(returnSession, context, index),
+                context.streamId(),
+                STREAM_BATCH_SIZE);
         Publisher<Object> publisher = ObjectUtils.cast(Validation.isInstanceOf(response.data(),
                 Publisher.class,
                 StringUtils.format("The return value type is not Publisher. [type={0}]", response.data().getClass())));
+        context.observer(observer);
         context.worker(Worker.create(observer, publisher, RETURN_INDEX));
         context.worker().run();
         return null;
     }
 
-    private void sendRequestElementMessage(Session session, int index, long count) {
+    private void sendRequestElementMessage(Session session, ConfigurableWebSocketServerContext context, int index,
+            long count) {
         TagLengthValues requestMessage = TagLengthValues.create();
+        WebSocketUtils.setStreamId(requestMessage, context.streamId());
         WebSocketUtils.setIndex(requestMessage, index);
         WebSocketUtils.setType(requestMessage, StreamMessageType.REQUEST_ELEMENT.code());
-        WebSocketUtils.setContent(requestMessage, Long.toString(count).getBytes(StandardCharsets.UTF_8));
+        WebSocketUtils.setRequestCount(requestMessage, count);
         session.send(requestMessage.serialize());
     }
 
-    private void sendCancelMessage(Session session, int index) {
+    private void sendCancelMessage(Session session, ConfigurableWebSocketServerContext context, int index) {
         TagLengthValues cancelMessage = TagLengthValues.create();
+        WebSocketUtils.setStreamId(cancelMessage, context.streamId());
         WebSocketUtils.setIndex(cancelMessage, index);
         WebSocketUtils.setType(cancelMessage, StreamMessageType.CANCEL.code());
         session.send(cancelMessage.serialize());
     }
 
-    private void sendResponseMessage(Session session, Response response, Object result) {
-        Type returnType = this.getMethod(session).getGenericReturnType();
+    private void sendResponseMessage(Session session, ConfigurableWebSocketServerContext context, Response response,
+            Object result) {
+        Type returnType = this.getMethod(context).getGenericReturnType();
         TagLengthValues responseMessageContent = TagLengthValues.create();
         ResponseMessageContentUtils.setDataFormat(responseMessageContent, response.metadata().dataFormat());
         ResponseMessageContentUtils.setCode(responseMessageContent, response.metadata().code());
         ResponseMessageContentUtils.setMessage(responseMessageContent, response.metadata().message());
         ResponseMessageContentUtils.setExtensions(responseMessageContent, response.metadata().tagValues());
         ResponseMessageContentUtils.setEntity(responseMessageContent,
-                this.contexts.get(session.getId()).messageSerializer().serializeResponse(returnType, result));
+                context.messageSerializer().serializeResponse(returnType, result));
         TagLengthValues responseMessage = TagLengthValues.create();
+        WebSocketUtils.setStreamId(responseMessage, context.streamId());
         WebSocketUtils.setType(responseMessage, StreamMessageType.RESPONSE.code());
         WebSocketUtils.setContent(responseMessage, responseMessageContent.serialize());
         session.send(responseMessage.serialize());
     }
 
-    private Method getMethod(Session session) {
-        ConfigurableWebSocketServerContext context = this.contexts.get(session.getId());
+    private Method getMethod(ConfigurableWebSocketServerContext context) {
         Genericable genericable = this.repository.get(context.genericableId(), context.genericableVersion().toString())
                 .orElseThrow(() -> new DoHttpHandlerException(StringUtils.format(
                         "No genericable. [genericableId={0}, genericableVersion={1}]",
@@ -316,26 +375,55 @@ public class FitWebSocketController {
         return method;
     }
 
-    private void tryCloseConnection(Session session, int index) {
-        this.contexts.get(session.getId()).publisherFinishedTags().put(index, true);
-        for (Map.Entry<Integer, Boolean> entry : this.contexts.get(session.getId())
-                .publisherFinishedTags()
-                .entrySet()) {
-            if (!entry.getValue()) {
-                return;
-            }
+    private void tryCloseConnection(Session session, ConfigurableWebSocketServerContext context, int index) {
+        context.publisherFinishedTags().put(index, true);
+        if (context.publisherFinishedTags().containsValue(false)) {
+            return;
+        }
+        this.closeStream(session, context);
+    }
+
+    private void closeStream(Session session, ConfigurableWebSocketServerContext context) {
+        if (!context.finished().compareAndSet(false, true)) {
+            return;
         }
-        if (!this.contexts.get(session.getId()).finished().compareAndSet(false, true)) {
+        if (context.streamId() > 0) {
+            // 多路复用的会话由客户端决定何时关闭，调用结束时只释放该调用的上下文。
+            Map<Integer, ConfigurableWebSocketServerContext> actives = this.streams.get(session.getId());
+            if (actives != null) {
+                actives.remove(context.streamId());
+            }
             return;
         }
         session.close();
         this.contexts.remove(session.getId());
     }
 
+    private static void cancelReturnValue(ConfigurableWebSocketServerContext context) {
+        if (context.observer() != null && !context.finished().get()) {
+            context.observer().cancel();
+        }
+    }
+
     private static Type getPublisherDataType(Type type) {
         if (!(type instanceof ParameterizedType)) {
             throw new IllegalArgumentException("Cannot get data type which type is not parameterized type.");
         }
         return ((ParameterizedType) type).getActualTypeArguments()[0];
     }
+
+    /**
+     * 表示流式调用消息的处理方法。
+     */
+    @FunctionalInterface
+    private interface MessageHandler {
+        /**
+         * 处理流式调用消息。
+         *
+         * @param session 表示 WebSocket 会话的 {@link Session}。
+         * @param context 表示消息所属调用的上下文的 {@link ConfigurableWebSocketServerContext}。
+         * @param message 表示消息的 {@link TagLengthValues}。
+         */
+        void handle(Session session, ConfigurableWebSocketServerContext context, TagLengthValues message);
+    }
 }
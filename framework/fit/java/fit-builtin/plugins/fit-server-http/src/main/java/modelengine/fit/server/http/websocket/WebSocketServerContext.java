@@ -7,6 +7,7 @@
 package modelengine.fit.server.http.websocket;
 
 import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.WebSocketWorkerObserver;
 import modelengine.fitframework.flowable.Emitter;
 import modelengine.fitframework.flowable.Publisher;
 import modelengine.fitframework.flowable.util.worker.Worker;
@@ -32,6 +33,14 @@ public interface WebSocketServerContext {
      */
     String genericableId();
 
+    /**
+     * 获取调用在 WebSocket 会话中的流标识。
+     * <p>调用不使用多路复用协议时，流标识为 {@code 0}。</p>
+     *
+     * @return 表示流标识的 {@code int}。
+     */
+    int streamId();
+
     /**
      * 获取调用的泛服务的版本。
      *
@@ -100,6 +109,14 @@ public interface WebSocketServerContext {
      */
     Worker<?> worker();
 
+    /**
+     * 获取当前调用中用于将返回值 {@link Publisher} 中的元素发送给客户端的观察者。
+     * <p>仅在当前调用的返回值类型为 {@link Publisher} 时具有意义。</p>
+     *
+     * @return 表示发送元素的观察者的 {@link WebSocketWorkerObserver}。
+     */
+    WebSocketWorkerObserver observer();
+
     /**
      * 获取消息序列化器。
      *
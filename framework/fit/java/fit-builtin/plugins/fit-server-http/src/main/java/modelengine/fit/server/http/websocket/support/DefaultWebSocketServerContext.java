@@ -7,6 +7,7 @@
 package modelengine.fit.server.http.websocket.support;
 
 import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.WebSocketWorkerObserver;
 import modelengine.fit.server.http.websocket.ConfigurableWebSocketServerContext;
 import modelengine.fitframework.flowable.Emitter;
 import modelengine.fitframework.flowable.util.worker.Worker;
@@ -16,6 +17,7 @@ import modelengine.fitframework.serialization.Version;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -27,19 +29,31 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class DefaultWebSocketServerContext implements ConfigurableWebSocketServerContext {
     private final String genericableId;
     private final String fitableId;
+    private final int streamId;
     private final Map<Integer, Type> publisherArgumentElementTypes = new HashMap<>();
-    private final Map<Integer, Emitter<?>> emitters = new HashMap<>();
-    private final Map<Integer, Boolean> publisherFinishedTags = new HashMap<>();
+    private final Map<Integer, Emitter<?>> emitters = new ConcurrentHashMap<>();
+    private final Map<Integer, Boolean> publisherFinishedTags = new ConcurrentHashMap<>();
     private final AtomicBoolean finished = new AtomicBoolean(false);
     private Worker<?> worker;
+    private WebSocketWorkerObserver observer;
     private Version genericableVersion;
     private TagLengthValues extensions;
     private int format;
     private MessageSerializer messageSerializer;
 
     public DefaultWebSocketServerContext(String genericableId, String fitableId) {
+        this(genericableId, fitableId, 0);
+    }
+
+    public DefaultWebSocketServerContext(String genericableId, String fitableId, int streamId) {
         this.genericableId = genericableId;
         this.fitableId = fitableId;
+        this.streamId = streamId;
+    }
+
+    @Override
+    public int streamId() {
+        return this.streamId;
     }
 
     @Override
@@ -92,6 +106,11 @@ public class DefaultWebSocketServerContext implements ConfigurableWebSocketServe
         return this.worker;
     }
 
+    @Override
+    public WebSocketWorkerObserver observer() {
+        return this.observer;
+    }
+
     @Override
     public MessageSerializer messageSerializer() {
         return this.messageSerializer;
@@ -117,6 +136,11 @@ public class DefaultWebSocketServerContext implements ConfigurableWebSocketServe
         this.worker = worker;
     }
 
+    @Override
+    public void observer(WebSocketWorkerObserver observer) {
+        this.observer = observer;
+    }
+
     @Override
     public void messageSerializer(MessageSerializer messageSerializer) {
         this.messageSerializer = messageSerializer;
@@ -14,6 +14,8 @@ import modelengine.fit.service.entity.Address;
 import modelengine.fit.service.entity.Application;
 import modelengine.fit.service.entity.ApplicationInstance;
 import modelengine.fit.service.entity.Endpoint;
+import modelengine.fit.service.entity.FitableAddressChange;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.FitableMeta;
@@ -30,9 +32,15 @@ import modelengine.fitframework.util.StringUtils;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,6 +53,9 @@ import java.util.stream.Collectors;
 /**
  * 用于提供本地注册中心的服务。
  * <p><b>注意：该注册中心服务为内存版实现，仅提供于非生产环境测试使用。</b></p>
+ * <p>注册中心维护一个单调递增的版本号，每当某个服务实现新增、更新或删除了一个进程时，版本号加一并记录在该进程上，
+ * 客户端可以通过 {@link #queryFitableChanges(List, String, long)} 仅获取指定版本之后的变化。已删除的进程会以墓碑的形式保留，
+ * 数量超过 {@link #MAX_TOMBSTONE_NUM} 时会清理最早的一半，早于清理版本的查询将退化为全量快照。</p>
  *
  * @author 邬涨财
  * @author 季聿阶
@@ -55,6 +66,7 @@ public class RegistryServer implements RegistryService {
     /** 表示最大允许的进程数量。 */
     public static final int MAX_WORKER_NUM = 500;
     private static final int MAX_APP_NUM = 20;
+    private static final int MAX_TOMBSTONE_NUM = 10000;
     private static final String CLUSTER_DOMAIN_KEY = "cluster.domain";
     private static final Pattern CLUSTER_PORT_PATTERN = Pattern.compile("cluster\\.(.*?)\\.port");
 
@@ -63,12 +75,22 @@ public class RegistryServer implements RegistryService {
     private final Map<String, Application> workerApplications = new ConcurrentHashMap<>();
     private final Map<String, Set<FitableMeta>> applicationMetas = new ConcurrentHashMap<>();
 
+    private final Object revisionLock = new Object();
+    private final Map<FitableInfo, Map<String, Membership>> memberships = new HashMap<>();
+    private final Map<String, Set<FitableInfo>> workerFitables = new HashMap<>();
+    private long revision;
+    private long compactedRevision;
+    private int tombstoneNum;
+
     private final int defaultExpireTime;
     private final WorkerCache cache;
 
     public RegistryServer(@Value("${default-expire-time}") int defaultExpireTime, WorkerCache cache) {
         this.defaultExpireTime = defaultExpireTime;
         this.cache = notNull(cache, "The worker cache cannot be null.");
+        // 使用启动时间作为初始版本，保证重启后客户端持有的旧版本一定早于清理版本，从而触发全量快照。
+        this.revision = System.currentTimeMillis();
+        this.compactedRevision = this.revision;
     }
 
     public Map<String, Worker> getWorkers() {
@@ -96,13 +118,23 @@ public class RegistryServer implements RegistryService {
         if (!this.applications.containsKey(application.getNameVersion()) && this.applications.size() >= MAX_APP_NUM) {
             throw new IllegalStateException("Too many applications.");
         }
-        this.workers.put(worker.getId(), worker);
-        this.applications.put(application.getNameVersion(), application);
-        this.workerApplications.put(worker.getId(), application);
-        this.applicationMetas.put(application.getNameVersion(), new HashSet<>(fitableMetas));
-        Instant expireTime = Instant.now().plus(this.getActualExpire(worker), ChronoUnit.SECONDS);
-        this.cache.refreshWorker(worker.getId(), expireTime);
-        this.expire();
+        synchronized (this.revisionLock) {
+            this.workers.put(worker.getId(), worker);
+            this.applications.put(application.getNameVersion(), application);
+            this.workerApplications.put(worker.getId(), application);
+            this.applicationMetas.put(application.getNameVersion(), new HashSet<>(fitableMetas));
+            Instant expireTime = Instant.now().plus(this.getActualExpire(worker), ChronoUnit.SECONDS);
+            this.cache.refreshWorker(worker.getId(), expireTime);
+            this.expire();
+            this.syncMemberships(worker.getId());
+            this.workerApplications.entrySet()
+                    .stream()
+                    .filter(entry -> !Objects.equals(entry.getKey(), worker.getId()))
+                    .filter(entry -> Objects.equals(entry.getValue(), application))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList())
+                    .forEach(this::syncMemberships);
+        }
     }
 
     private int getActualExpire(Worker worker) {
@@ -147,9 +179,8 @@ public class RegistryServer implements RegistryService {
                 if (CollectionUtils.isEmpty(filteredWorkers)) {
                     continue;
                 }
-                if (application.getExtensions().containsKey(CLUSTER_DOMAIN_KEY)) {
-                    filteredWorkers = Collections.singleton(new ArrayList<>(filteredWorkers).get(0));
-                    this.replaceAddresses(filteredWorkers, application);
+                if (isCluster(application)) {
+                    filteredWorkers = Collections.singleton(this.toClusterWorker(filteredWorkers, application));
                 }
                 FitableAddressInstance instance = this.getOrCreate(meta, instances);
                 List<ApplicationInstance> applicationInstances = instance.getApplicationInstances();
@@ -163,11 +194,30 @@ public class RegistryServer implements RegistryService {
         return instances;
     }
 
-    private void replaceAddresses(Set<Worker> workers, Application application) {
+    private static boolean isCluster(Application application) {
+        return application.getExtensions().containsKey(CLUSTER_DOMAIN_KEY);
+    }
+
+    /**
+     * 将集群应用的所有进程收敛为一个使用集群地址的进程。
+     * <p>选取唯一标识最小的进程作为代表，保证全量查询和增量查询选取的进程一致。返回的进程为副本，不修改注册的进程。</p>
+     *
+     * @param workers 表示集群应用的所有存活进程的 {@link Collection}{@code <}{@link Worker}{@code >}。
+     * @param application 表示集群应用的 {@link Application}。
+     * @return 表示代表集群的进程的 {@link Worker}。
+     */
+    private Worker toClusterWorker(Collection<Worker> workers, Application application) {
+        Worker representative = workers.stream().min(Comparator.comparing(Worker::getId)).orElseThrow(
+                () -> new IllegalStateException("No worker in cluster application."));
         Address address = new Address();
         address.setHost(application.getExtensions().get(CLUSTER_DOMAIN_KEY));
         address.setEndpoints(this.buildEndPoints(application.getExtensions()));
-        workers.forEach(worker -> worker.setAddresses(Collections.singletonList(address)));
+        Worker worker = new Worker();
+        worker.setId(representative.getId());
+        worker.setEnvironment(representative.getEnvironment());
+        worker.setExtensions(representative.getExtensions());
+        worker.setAddresses(Collections.singletonList(address));
+        return worker;
     }
 
     private List<Endpoint> buildEndPoints(Map<String, String> extensions) {
@@ -202,6 +252,128 @@ public class RegistryServer implements RegistryService {
         return fitables.stream().anyMatch(fitable -> Objects.equals(meta.getFitable(), fitable));
     }
 
+    @Override
+    @Fitable(id = "e2b776bc4c4d4a54ac8d06a739ea0c63")
+    public FitableAddressChanges queryFitableChanges(List<FitableInfo> fitables, String workerId, long revision) {
+        synchronized (this.revisionLock) {
+            this.expire();
+            FitableAddressChanges changes = new FitableAddressChanges();
+            changes.setRevision(this.revision);
+            if (revision < this.compactedRevision || revision > this.revision) {
+                changes.setSnapshot(true);
+                changes.setChanges(this.getSnapshot(fitables, workerId));
+                return changes;
+            }
+            List<FitableAddressChange> fitableChanges = new ArrayList<>();
+            for (FitableInfo fitable : fitables) {
+                FitableAddressChange change = this.getChange(fitable, revision);
+                if (change != null) {
+                    fitableChanges.add(change);
+                }
+            }
+            changes.setChanges(fitableChanges);
+            return changes;
+        }
+    }
+
+    private List<FitableAddressChange> getSnapshot(List<FitableInfo> fitables, String workerId) {
+        Map<FitableInfo, FitableAddressInstance> instances = new HashMap<>();
+        this.queryFitables(fitables, workerId).forEach(instance -> instances.put(instance.getFitable(), instance));
+        return fitables.stream().distinct().map(fitable -> {
+            FitableAddressChange change = new FitableAddressChange();
+            change.setFitable(fitable);
+            FitableAddressInstance instance = instances.get(fitable);
+            if (instance != null) {
+                change.setAddedApplicationInstances(instance.getApplicationInstances());
+            }
+            return change;
+        }).collect(Collectors.toList());
+    }
+
+    private FitableAddressChange getChange(FitableInfo fitable, long since) {
+        Map<String, Membership> fitableMemberships = this.memberships.get(fitable);
+        if (fitableMemberships == null) {
+            return null;
+        }
+        Map<String, ApplicationInstance> addedInstances = new LinkedHashMap<>();
+        List<String> removedWorkerIds = new ArrayList<>();
+        Set<String> changedClusters = new LinkedHashSet<>();
+        for (Map.Entry<String, Membership> entry : fitableMemberships.entrySet()) {
+            Membership membership = entry.getValue();
+            if (membership.revision <= since) {
+                continue;
+            }
+            Worker worker = this.workers.get(entry.getKey());
+            Application application = this.applications.get(membership.applicationNameVersion);
+            if (application != null && isCluster(application)) {
+                changedClusters.add(application.getNameVersion());
+                continue;
+            }
+            if (membership.isRemoved || worker == null || application == null) {
+                removedWorkerIds.add(entry.getKey());
+                continue;
+            }
+            ApplicationInstance instance = addedInstances.computeIfAbsent(application.getNameVersion(), key -> {
+                ApplicationInstance applicationInstance = new ApplicationInstance();
+                applicationInstance.setApplication(application);
+                applicationInstance.setFormats(membership.formats);
+                return applicationInstance;
+            });
+            instance.getWorkers().add(worker);
+        }
+        for (String applicationNameVersion : changedClusters) {
+            this.collapseCluster(fitableMemberships,
+                    this.applications.get(applicationNameVersion),
+                    addedInstances,
+                    removedWorkerIds);
+        }
+        if (addedInstances.isEmpty() && removedWorkerIds.isEmpty()) {
+            return null;
+        }
+        FitableAddressChange change = new FitableAddressChange();
+        change.setFitable(fitable);
+        change.setAddedApplicationInstances(new ArrayList<>(addedInstances.values()));
+        change.setRemovedWorkerIds(removedWorkerIds);
+        return change;
+    }
+
+    /**
+     * 与 {@link #queryFitables(List, String)} 保持一致，将发生变化的集群应用收敛为一个进程。
+     * <p>客户端持有的代表进程可能因为本次变化而改变，因此删除该集群应用在服务实现上的所有进程，再新增当前的代表进程。</p>
+     *
+     * @param fitableMemberships 表示服务实现上所有进程的成员信息的 {@link Map}{@code <}{@link String}{@code ,
+     * }{@link Membership}{@code >}。
+     * @param application 表示发生变化的集群应用的 {@link Application}。
+     * @param addedInstances 表示新增的应用实例的 {@link Map}{@code <}{@link String}{@code ,
+     * }{@link ApplicationInstance}{@code >}。
+     * @param removedWorkerIds 表示删除的进程唯一标识的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    private void collapseCluster(Map<String, Membership> fitableMemberships, Application application,
+            Map<String, ApplicationInstance> addedInstances, List<String> removedWorkerIds) {
+        List<Worker> liveWorkers = new ArrayList<>();
+        List<Integer> formats = Collections.emptyList();
+        for (Map.Entry<String, Membership> entry : fitableMemberships.entrySet()) {
+            Membership membership = entry.getValue();
+            if (!Objects.equals(membership.applicationNameVersion, application.getNameVersion())) {
+                continue;
+            }
+            removedWorkerIds.add(entry.getKey());
+            Worker worker = this.workers.get(entry.getKey());
+            if (!membership.isRemoved && worker != null) {
+                liveWorkers.add(worker);
+                formats = membership.formats;
+            }
+        }
+        if (liveWorkers.isEmpty()) {
+            return;
+        }
+        ApplicationInstance instance = new ApplicationInstance();
+        instance.setApplication(application);
+        instance.setFormats(formats);
+        instance.setWorkers(Collections.singletonList(this.toClusterWorker(liveWorkers, application)));
+        addedInstances.put(application.getNameVersion(), instance);
+    }
+
     @Override
     @Fitable(id = "ee0a8337d3654a22a548d5d5abe1d5f3")
     public List<FitableAddressInstance> subscribeFitables(List<FitableInfo> fitables, String workerId,
@@ -269,6 +441,9 @@ public class RegistryServer implements RegistryService {
             }
             this.workers.remove(workerId);
             this.workerApplications.remove(workerId);
+            synchronized (this.revisionLock) {
+                this.syncMemberships(workerId);
+            }
         }
         List<String> applicationNameVersions = new ArrayList<>(this.applications.keySet());
         Set<Application> workerApplicationItems = new HashSet<>(this.workerApplications.values());
@@ -281,6 +456,86 @@ public class RegistryServer implements RegistryService {
         }
     }
 
+    private void syncMemberships(String workerId) {
+        Worker worker = this.workers.get(workerId);
+        Application application = this.workerApplications.get(workerId);
+        Set<FitableMeta> metas = worker == null || application == null
+                ? Collections.emptySet()
+                : this.applicationMetas.getOrDefault(application.getNameVersion(), Collections.emptySet());
+        Set<FitableInfo> current = metas.stream().map(FitableMeta::getFitable).collect(Collectors.toSet());
+        Set<FitableInfo> previous = this.workerFitables.getOrDefault(workerId, Collections.emptySet());
+        for (FitableInfo fitable : previous) {
+            if (!current.contains(fitable)) {
+                this.markRemoved(fitable, workerId);
+            }
+        }
+        for (FitableMeta meta : metas) {
+            this.markAdded(meta, worker, application);
+        }
+        if (current.isEmpty()) {
+            this.workerFitables.remove(workerId);
+        } else {
+            this.workerFitables.put(workerId, current);
+        }
+    }
+
+    private void markAdded(FitableMeta meta, Worker worker, Application application) {
+        Map<String, Membership> fitableMemberships =
+                this.memberships.computeIfAbsent(meta.getFitable(), key -> new HashMap<>());
+        Membership previous = fitableMemberships.get(worker.getId());
+        if (previous != null && previous.isSameAs(application, meta.getFormats(), worker)) {
+            return;
+        }
+        if (previous != null && previous.isRemoved) {
+            this.tombstoneNum--;
+        }
+        fitableMemberships.put(worker.getId(),
+                new Membership(++this.revision,
+                        false,
+                        application.getNameVersion(),
+                        meta.getFormats(),
+                        worker.getAddresses()));
+    }
+
+    private void markRemoved(FitableInfo fitable, String workerId) {
+        Map<String, Membership> fitableMemberships = this.memberships.get(fitable);
+        Membership previous = fitableMemberships == null ? null : fitableMemberships.get(workerId);
+        if (previous == null || previous.isRemoved) {
+            return;
+        }
+        fitableMemberships.put(workerId,
+                new Membership(++this.revision, true, previous.applicationNameVersion, previous.formats, null));
+        this.tombstoneNum++;
+        this.compactIfNecessary();
+    }
+
+    private void compactIfNecessary() {
+        if (this.tombstoneNum <= MAX_TOMBSTONE_NUM) {
+            return;
+        }
+        long[] tombstoneRevisions = this.memberships.values()
+                .stream()
+                .flatMap(fitableMemberships -> fitableMemberships.values().stream())
+                .filter(membership -> membership.isRemoved)
+                .mapToLong(membership -> membership.revision)
+                .sorted()
+                .toArray();
+        long threshold = tombstoneRevisions[tombstoneRevisions.length / 2];
+        Iterator<Map<String, Membership>> iterator = this.memberships.values().iterator();
+        while (iterator.hasNext()) {
+            Map<String, Membership> fitableMemberships = iterator.next();
+            fitableMemberships.values()
+                    .removeIf(membership -> membership.isRemoved && membership.revision <= threshold);
+            if (fitableMemberships.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        this.tombstoneNum = (int) (tombstoneRevisions.length - Arrays.stream(tombstoneRevisions)
+                .filter(tombstoneRevision -> tombstoneRevision <= threshold)
+                .count());
+        this.compactedRevision = Math.max(this.compactedRevision, threshold);
+    }
+
     private boolean isInApplications(String applicationNameVersion, Set<Application> applications) {
         for (Application application : applications) {
             if (Objects.equals(applicationNameVersion, application.getNameVersion())) {
@@ -289,4 +544,29 @@ public class RegistryServer implements RegistryService {
         }
         return false;
     }
+
+    /**
+     * 表示某个进程在某个服务实现上的成员信息。
+     */
+    private static class Membership {
+        private final long revision;
+        private final boolean isRemoved;
+        private final String applicationNameVersion;
+        private final List<Integer> formats;
+        private final List<Address> addresses;
+
+        Membership(long revision, boolean isRemoved, String applicationNameVersion, List<Integer> formats,
+                List<Address> addresses) {
+            this.revision = revision;
+            this.isRemoved = isRemoved;
+            this.applicationNameVersion = applicationNameVersion;
+            this.formats = formats == null ? Collections.emptyList() : new ArrayList<>(formats);
+            this.addresses = addresses == null ? Collections.emptyList() : new ArrayList<>(addresses);
+        }
+
+        boolean isSameAs(Application application, List<Integer> formats, Worker worker) {
+            return !this.isRemoved && Objects.equals(this.applicationNameVersion, application.getNameVersion())
+                    && Objects.equals(this.formats, formats) && Objects.equals(this.addresses, worker.getAddresses());
+        }
+    }
 }
@@ -11,6 +11,8 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 
 import modelengine.fit.service.entity.Address;
 import modelengine.fit.service.entity.Application;
+import modelengine.fit.service.entity.FitableAddressChange;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.FitableMeta;
@@ -93,6 +95,108 @@ public class RegistryServerTest {
         assertThat(foundInstances.get(0).getFitable().getFitableId()).isEqualTo("fid1");
     }
 
+    @Test
+    @DisplayName("当按版本查询服务实例变化时，首次返回全量快照，之后仅返回新增和删除的进程")
+    void shouldReturnOnlyChangedWorkersWhenQueryFitableChangesSinceRevision() {
+        // given
+        FitableInfo fitable = this.buildFitable("fid1", "gid1");
+        List<FitableMeta> fitableMetas =
+                Collections.singletonList(this.buildFitableMeta(fitable, Collections.singletonList(1)));
+        Application application = this.buildApplication();
+        WorkerCache cache = Mockito.mock(WorkerCache.class);
+        RegistryServer server = new RegistryServer(90, cache);
+        server.registerFitables(fitableMetas, this.buildWorker(), application);
+        List<FitableInfo> fitables = Collections.singletonList(fitable);
+
+        // when
+        FitableAddressChanges snapshot = server.queryFitableChanges(fitables, "wid1", 0L);
+        Worker another = this.buildWorker();
+        another.setId("wid2");
+        server.registerFitables(fitableMetas, another, application);
+        FitableAddressChanges added = server.queryFitableChanges(fitables, "wid1", snapshot.getRevision());
+        Mockito.when(cache.isExpired("wid1")).thenReturn(true);
+        FitableAddressChanges removed = server.queryFitableChanges(fitables, "wid1", added.getRevision());
+        FitableAddressChanges unchanged = server.queryFitableChanges(fitables, "wid1", removed.getRevision());
+
+        // then
+        assertThat(snapshot.isSnapshot()).isTrue();
+        assertThat(snapshot.getChanges()).hasSize(1);
+        assertThat(snapshot.getChanges().get(0).getAddedApplicationInstances().get(0).getWorkers()).hasSize(1);
+        assertThat(added.isSnapshot()).isFalse();
+        assertThat(added.getChanges()).hasSize(1);
+        FitableAddressChange addedChange = added.getChanges().get(0);
+        assertThat(addedChange.getAddedApplicationInstances()).hasSize(1);
+        assertThat(addedChange.getAddedApplicationInstances().get(0).getWorkers()).extracting(Worker::getId)
+                .containsExactly("wid2");
+        assertThat(addedChange.getRemovedWorkerIds()).isEmpty();
+        assertThat(removed.getChanges()).hasSize(1);
+        assertThat(removed.getChanges().get(0).getAddedApplicationInstances()).isEmpty();
+        assertThat(removed.getChanges().get(0).getRemovedWorkerIds()).containsExactly("wid1");
+        assertThat(unchanged.getRevision()).isEqualTo(removed.getRevision());
+        assertThat(unchanged.getChanges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("当查询的版本不属于当前注册中心时，返回全量快照")
+    void shouldReturnSnapshotWhenRevisionIsUnknown() {
+        // given
+        FitableInfo fitable = this.buildFitable("fid1", "gid1");
+        WorkerCache cache = Mockito.mock(WorkerCache.class);
+        RegistryServer server = new RegistryServer(90, cache);
+        server.registerFitables(Collections.singletonList(this.buildFitableMeta(fitable, Collections.singletonList(1))),
+                this.buildWorker(),
+                this.buildApplication());
+
+        // when
+        FitableAddressChanges changes =
+                server.queryFitableChanges(Collections.singletonList(fitable), "wid1", Long.MAX_VALUE);
+
+        // then
+        assertThat(changes.isSnapshot()).isTrue();
+        assertThat(changes.getChanges()).hasSize(1);
+        assertThat(changes.getChanges().get(0).getFitable()).isEqualTo(fitable);
+    }
+
+    @Test
+    @DisplayName("当集群应用的进程发生变化时，增量查询与全量查询一致地收敛为一个使用集群地址的进程，且不修改注册的进程")
+    void shouldCollapseClusterWorkersWhenQueryFitableChanges() {
+        // given
+        FitableInfo fitable = this.buildFitable("fid1", "gid1");
+        List<FitableMeta> fitableMetas =
+                Collections.singletonList(this.buildFitableMeta(fitable, Collections.singletonList(1)));
+        Application application = this.buildApplication();
+        application.setExtensions(MapBuilder.<String, String>get()
+                .put("cluster.domain", "cluster.local")
+                .put("cluster.http.port", "8080")
+                .build());
+        WorkerCache cache = Mockito.mock(WorkerCache.class);
+        RegistryServer server = new RegistryServer(90, cache);
+        Worker first = this.buildWorker();
+        first.setId("wid2");
+        server.registerFitables(fitableMetas, first, application);
+        List<FitableInfo> fitables = Collections.singletonList(fitable);
+        FitableAddressChanges snapshot = server.queryFitableChanges(fitables, "wid1", 0L);
+
+        // when
+        Worker second = this.buildWorker();
+        server.registerFitables(fitableMetas, second, application);
+        FitableAddressChanges changes = server.queryFitableChanges(fitables, "wid1", snapshot.getRevision());
+        List<FitableAddressInstance> instances = server.queryFitables(fitables, "wid1");
+
+        // then
+        FitableAddressChange change = changes.getChanges().get(0);
+        assertThat(change.getRemovedWorkerIds()).containsExactlyInAnyOrder("wid1", "wid2");
+        assertThat(change.getAddedApplicationInstances()).hasSize(1);
+        List<Worker> addedWorkers = change.getAddedApplicationInstances().get(0).getWorkers();
+        assertThat(addedWorkers).extracting(Worker::getId).containsExactly("wid1");
+        assertThat(addedWorkers.get(0).getAddresses().get(0).getHost()).isEqualTo("cluster.local");
+        assertThat(instances.get(0).getApplicationInstances().get(0).getWorkers()).extracting(Worker::getId)
+                .containsExactly("wid1");
+        assertThat(first.getAddresses()).containsExactly(new Address());
+        assertThat(second.getAddresses()).containsExactly(new Address());
+        assertThat(server.queryFitableChanges(fitables, "wid1", changes.getRevision()).getChanges()).isEmpty();
+    }
+
     private Application buildApplication() {
         Application application = new Application();
         application.setName("appName1");
@@ -18,6 +18,8 @@ import modelengine.fit.service.entity.Address;
 import modelengine.fit.service.entity.Application;
 import modelengine.fit.service.entity.ApplicationInstance;
 import modelengine.fit.service.entity.Endpoint;
+import modelengine.fit.service.entity.FitableAddressChange;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.Worker;
@@ -31,9 +33,13 @@ import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.GenericableMetadata;
 import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.broker.client.FitableNotFoundException;
+import modelengine.fitframework.broker.client.GenericableNotFoundException;
+import modelengine.fitframework.broker.server.ServerLocalExecutorNotFoundException;
 import modelengine.fitframework.conf.runtime.ApplicationConfig;
 import modelengine.fitframework.conf.runtime.CommunicationProtocol;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.FitException;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.schedule.ExecutePolicy;
@@ -44,11 +50,14 @@ import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -60,8 +69,10 @@ import java.util.stream.Collectors;
  * <p>注册中心监听器有三种工作模式，分别为 {@link RegistryListenerMode#PULL 拉模式}、{@link RegistryListenerMode#PUSH
  * 推模式} 和 {@link RegistryListenerMode#PUSH_AND_PULL 推拉结合模式}。</p>
  * <ul>
- *     <li>拉模式：注册中心监听器会开启一个定时任务，用于定时调用 {@link RegistryService#queryFitables
- *     注册中心服务端的查询接口} 来获取本地缓存中的服务地址列表，并更新本地缓存。</li>
+ *     <li>拉模式：注册中心监听器会开启一个定时任务，用于定时调用 {@link RegistryService#queryFitableChanges
+ *     注册中心服务端的增量查询接口} 来获取本地缓存中的服务地址自上次同步版本以来的变化，并将变化应用到本地缓存上。注册中心服务端
+ *     明确不支持增量查询时，此后始终分批调用 {@link RegistryService#queryFitables 注册中心服务端的查询接口} 来获取全量服务地址列表；
+ *     增量查询因为其它原因失败时，按照指数退避跳过若干周期的增量查询，期间同样使用全量查询。</li>
  *     <li>推模式：注册中心监听器会在第一次获取某个服务地址列表时，调用 {@link RegistryService#subscribeFitables
  *     注册中心服务端的订阅接口} 来获取服务地址列表，而在后续获取其服务地址列表时，会调用 {@link
  *     RegistryService#queryFitables 注册中心服务端的查询接口}。</li>
@@ -101,6 +112,11 @@ public class RegistryListener implements Registry {
     private static final String NOTIFY_FITABLE_ID = "347fd33f3cde4aa891614a9e244ae5e8";
     private static final long INITIAL_DELAY = 10L;
     private static final int BATCH_NUM = 10;
+    private static final int MAX_CHANGES_BACKOFF_SHIFT = 5;
+    private static final Set<Integer> UNSUPPORTED_CODES = new HashSet<>(Arrays.asList(
+            GenericableNotFoundException.CODE,
+            FitableNotFoundException.CODE,
+            ServerLocalExecutorNotFoundException.CODE));
     private static final Pattern CLUSTER_PORT_PATTERN = Pattern.compile("cluster\\.(.*?)\\.port");
     private static final String CLUSTER_CONTEXT_PATH_KEY = "cluster.context-path";
     private static final String CLUSTER_DOMAIN_KEY = "cluster.domain";
@@ -114,6 +130,10 @@ public class RegistryListener implements Registry {
     private final ApplicationConfig application;
     private final WorkerConfig worker;
     private final RegistryListenerMode listenerMode;
+    private volatile long revision;
+    private volatile boolean isChangesUnsupported;
+    private int changesFailures;
+    private int changesSkippedPeriods;
 
     /**
      * 创建注册中心的监听器对象
@@ -195,6 +215,9 @@ public class RegistryListener implements Registry {
         if (CollectionUtils.isEmpty(cachedFitables)) {
             return;
         }
+        if (this.syncChanges(cachedFitables)) {
+            return;
+        }
         int batch = (cachedFitables.size() - 1) / BATCH_NUM + 1;
         for (int i = 0; i < batch; i++) {
             int max = Math.min((i + 1) * BATCH_NUM, cachedFitables.size());
@@ -203,6 +226,76 @@ public class RegistryListener implements Registry {
         }
     }
 
+    private boolean syncChanges(List<FitableInfo> fitables) {
+        if (this.isChangesUnsupported) {
+            return false;
+        }
+        if (this.changesSkippedPeriods > 0) {
+            this.changesSkippedPeriods--;
+            return false;
+        }
+        FitableAddressChanges changes;
+        try {
+            changes = this.registryService.queryFitableChanges(fitables, this.worker.id(), this.revision);
+        } catch (Exception e) {
+            if (isUnsupported(e)) {
+                log.info("Registry server does not support querying fitable changes, query fitable instances "
+                        + "instead. [revision={}, cause={}]", this.revision, e.getMessage());
+                this.isChangesUnsupported = true;
+                return false;
+            }
+            this.changesFailures = Math.min(this.changesFailures + 1, MAX_CHANGES_BACKOFF_SHIFT);
+            this.changesSkippedPeriods = (1 << this.changesFailures) - 1;
+            log.warn("Failed to query fitable changes, query fitable instances instead. "
+                            + "[revision={}, failures={}, skippedPeriods={}, cause={}]",
+                    this.revision,
+                    this.changesFailures,
+                    this.changesSkippedPeriods,
+                    e.getMessage());
+            return false;
+        }
+        this.changesFailures = 0;
+        if (changes == null) {
+            return false;
+        }
+        changes.getChanges()
+                .stream()
+                .filter(Objects::nonNull)
+                .filter(change -> change.getFitable() != null)
+                .forEach(change -> this.applyChange(change, changes.isSnapshot()));
+        log.debug("Sync fitable changes successfully. [fromRevision={}, toRevision={}, snapshot={}, changes={}]",
+                this.revision,
+                changes.getRevision(),
+                changes.isSnapshot(),
+                changes.getChanges().size());
+        this.revision = changes.getRevision();
+        return true;
+    }
+
+    /**
+     * 判断增量查询的异常是否明确表示注册中心服务端不支持增量查询。
+     * <p>只有服务端没有对应的服务或服务实现时才认为不支持，网络异常、超时等其它异常可能是暂时的，需要在退避之后重试。</p>
+     *
+     * @param exception 表示增量查询的异常的 {@link Throwable}。
+     * @return 如果服务端明确不支持增量查询，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    private static boolean isUnsupported(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FitException && UNSUPPORTED_CODES.contains(((FitException) cause).getCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void applyChange(FitableAddressChange change, boolean isSnapshot) {
+        UniqueFitableId fitableKey = this.getUniqueFitableId(change.getFitable());
+        this.fitableInstancesCache.computeIfPresent(fitableKey, (key, previous) -> {
+            FitableAddressInstance base = isSnapshot ? null : previous.orElse(null);
+            return Optional.of(FitableInstanceUtils.applyChange(base, change));
+        });
+    }
+
     private void fallbackForSyncListener(Throwable cause) {
         log.warn("Failed to sync listener. [cause={}]", cause.getMessage());
         log.debug("Failed to sync listener.", cause);
@@ -8,6 +8,7 @@ package modelengine.fit.service.util;
 
 import modelengine.fit.service.entity.Address;
 import modelengine.fit.service.entity.ApplicationInstance;
+import modelengine.fit.service.entity.FitableAddressChange;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.Worker;
 import modelengine.fitframework.broker.Endpoint;
@@ -20,9 +21,13 @@ import modelengine.fitframework.util.CollectionUtils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +55,69 @@ public class FitableInstanceUtils {
                 .orElse(Collections.emptyList());
     }
 
+    /**
+     * 将服务实现实例的变化应用到指定的服务实例上。
+     * <p>该方法不会修改原有的服务实例，而是返回一个应用变化之后的新实例。变化中新增的进程会替换原实例中相同唯一标识的进程，
+     * 删除的进程会从原实例中移除，不再包含任何进程的应用实例也会被移除。</p>
+     *
+     * @param fitableInstance 表示指定的服务实例的 {@link FitableAddressInstance}，为 {@code null} 时表示空实例。
+     * @param change 表示待应用的变化的 {@link FitableAddressChange}。
+     * @return 表示应用变化之后的服务实例的 {@link FitableAddressInstance}。
+     */
+    public static FitableAddressInstance applyChange(FitableAddressInstance fitableInstance,
+            FitableAddressChange change) {
+        List<ApplicationInstance> addedInstances = change.getAddedApplicationInstances()
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Set<String> changedWorkerIds = new HashSet<>(change.getRemovedWorkerIds());
+        addedInstances.stream()
+                .flatMap(instance -> instance.getWorkers().stream())
+                .filter(Objects::nonNull)
+                .map(Worker::getId)
+                .forEach(changedWorkerIds::add);
+        Map<String, ApplicationInstance> patchedInstances = new LinkedHashMap<>();
+        if (fitableInstance != null) {
+            for (ApplicationInstance instance : fitableInstance.getApplicationInstances()) {
+                if (instance == null) {
+                    continue;
+                }
+                ApplicationInstance copied = copyOf(instance);
+                copied.getWorkers().removeIf(worker -> worker == null || changedWorkerIds.contains(worker.getId()));
+                patchedInstances.put(getApplicationKey(instance), copied);
+            }
+        }
+        for (ApplicationInstance instance : addedInstances) {
+            ApplicationInstance existing = patchedInstances.get(getApplicationKey(instance));
+            if (existing == null) {
+                patchedInstances.put(getApplicationKey(instance), copyOf(instance));
+                continue;
+            }
+            existing.setApplication(instance.getApplication());
+            existing.setFormats(instance.getFormats());
+            existing.getWorkers().addAll(instance.getWorkers());
+        }
+        FitableAddressInstance patched = new FitableAddressInstance();
+        patched.setFitable(fitableInstance == null ? change.getFitable() : fitableInstance.getFitable());
+        patched.setApplicationInstances(patchedInstances.values()
+                .stream()
+                .filter(instance -> CollectionUtils.isNotEmpty(instance.getWorkers()))
+                .collect(Collectors.toList()));
+        return patched;
+    }
+
+    private static ApplicationInstance copyOf(ApplicationInstance instance) {
+        ApplicationInstance copied = new ApplicationInstance();
+        copied.setApplication(instance.getApplication());
+        copied.setFormats(new ArrayList<>(instance.getFormats()));
+        copied.setWorkers(new ArrayList<>(instance.getWorkers()));
+        return copied;
+    }
+
+    private static String getApplicationKey(ApplicationInstance instance) {
+        return instance.getApplication() == null ? "" : instance.getApplication().getNameVersion();
+    }
+
     private static List<Target> toTargets(ApplicationInstance applicationInstance) {
         return Optional.of(applicationInstance)
                 .map(ApplicationInstance::getWorkers)
@@ -0,0 +1,90 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.service.entity.Application;
+import modelengine.fit.service.entity.ApplicationInstance;
+import modelengine.fit.service.entity.FitableAddressChange;
+import modelengine.fit.service.entity.FitableAddressInstance;
+import modelengine.fit.service.entity.FitableInfo;
+import modelengine.fit.service.entity.Worker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * {@link FitableInstanceUtils} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 FitableInstanceUtils")
+class FitableInstanceUtilsTest {
+    @Test
+    @DisplayName("当应用服务实例变化时，新增进程被合并，删除进程被移除，原实例保持不变")
+    void shouldPatchInstanceWhenApplyChange() {
+        FitableInfo fitable = new FitableInfo();
+        fitable.setFitableId("fid");
+        FitableAddressInstance instance = new FitableAddressInstance();
+        instance.setFitable(fitable);
+        instance.setApplicationInstances(new ArrayList<>(Arrays.asList(this.buildApplicationInstance("app1",
+                "w1",
+                "w2"), this.buildApplicationInstance("app2", "w3"))));
+        FitableAddressChange change = new FitableAddressChange();
+        change.setFitable(fitable);
+        change.setAddedApplicationInstances(Collections.singletonList(this.buildApplicationInstance("app1", "w4")));
+        change.setRemovedWorkerIds(Arrays.asList("w1", "w3"));
+
+        FitableAddressInstance patched = FitableInstanceUtils.applyChange(instance, change);
+
+        assertThat(patched.getFitable()).isSameAs(fitable);
+        assertThat(patched.getApplicationInstances()).hasSize(1);
+        assertThat(patched.getApplicationInstances().get(0).getWorkers()).extracting(Worker::getId)
+                .containsExactly("w2", "w4");
+        assertThat(instance.getApplicationInstances()).hasSize(2);
+        assertThat(instance.getApplicationInstances().get(0).getWorkers()).extracting(Worker::getId)
+                .containsExactly("w1", "w2");
+    }
+
+    @Test
+    @DisplayName("当原服务实例不存在时，应用变化后仅包含新增的进程")
+    void shouldCreateInstanceWhenApplyChangeToNothing() {
+        FitableInfo fitable = new FitableInfo();
+        fitable.setFitableId("fid");
+        FitableAddressChange change = new FitableAddressChange();
+        change.setFitable(fitable);
+        change.setAddedApplicationInstances(Collections.singletonList(this.buildApplicationInstance("app1", "w1")));
+
+        FitableAddressInstance patched = FitableInstanceUtils.applyChange(null, change);
+
+        assertThat(patched.getFitable()).isSameAs(fitable);
+        assertThat(patched.getApplicationInstances()).hasSize(1);
+        assertThat(patched.getApplicationInstances().get(0).getWorkers()).extracting(Worker::getId)
+                .containsExactly("w1");
+    }
+
+    private ApplicationInstance buildApplicationInstance(String nameVersion, String... workerIds) {
+        Application application = new Application();
+        application.setName(nameVersion);
+        application.setNameVersion(nameVersion);
+        ApplicationInstance instance = new ApplicationInstance();
+        instance.setApplication(application);
+        instance.setFormats(Collections.singletonList(1));
+        instance.setWorkers(new ArrayList<>(Arrays.stream(workerIds).map(id -> {
+            Worker worker = new Worker();
+            worker.setId(id);
+            return worker;
+        }).toList()));
+        return instance;
+    }
+}
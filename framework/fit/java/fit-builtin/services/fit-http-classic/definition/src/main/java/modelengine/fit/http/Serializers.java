@@ -81,4 +81,19 @@ public interface Serializers {
     static Serializers create(Map<String, ObjectSerializer> serializers) {
         return new DefaultSerializers(serializers);
     }
+
+    /**
+     * 根据对象序列化器集合和自定义的消息体序列化器，创建序列化器的集合。
+     * <p>自定义的消息体序列化器覆盖相同格式的默认消息体序列化器。</p>
+     *
+     * @param serializers 表示对象序列化器的集合的 {@link Map}{@code <}{@link String}{@code , }{@link
+     * ObjectSerializer}{@code >}。
+     * @param entitySerializers 表示自定义的消息体序列化器的集合的 {@link Map}{@code <}{@link MimeType}{@code , }{@link
+     * EntitySerializer}{@code <?>>}。
+     * @return 表示创建出来的序列化器集合的 {@link Serializers}。
+     */
+    static Serializers create(Map<String, ObjectSerializer> serializers,
+            Map<MimeType, EntitySerializer<?>> entitySerializers) {
+        return new DefaultSerializers(serializers, entitySerializers);
+    }
 }
@@ -7,7 +7,9 @@
 package modelengine.fit.http.client.support;
 
 import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_LENGTH;
+import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_TYPE;
 import static modelengine.fit.http.protocol.MessageHeaderNames.COOKIE;
+import static modelengine.fit.http.protocol.MessageHeaderNames.LAST_EVENT_ID;
 import static modelengine.fit.http.protocol.MessageHeaderNames.TRANSFER_ENCODING;
 import static modelengine.fit.http.protocol.MessageHeaderValues.CHUNKED;
 import static modelengine.fitframework.inspection.Validation.notNull;
@@ -17,7 +19,9 @@ import modelengine.fit.http.HttpResource;
 import modelengine.fit.http.client.HttpClassicClientRequest;
 import modelengine.fit.http.client.HttpClassicClientResponse;
 import modelengine.fit.http.entity.Entity;
+import modelengine.fit.http.entity.EntitySerializer;
 import modelengine.fit.http.entity.FileEntity;
+import modelengine.fit.http.entity.PartitionedEntity;
 import modelengine.fit.http.entity.ReadableBinaryEntity;
 import modelengine.fit.http.entity.support.DefaultMultiValueEntity;
 import modelengine.fit.http.entity.support.DefaultObjectEntity;
@@ -25,16 +29,23 @@ import modelengine.fit.http.header.ContentType;
 import modelengine.fit.http.protocol.ClientRequest;
 import modelengine.fit.http.protocol.ClientResponse;
 import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fit.http.protocol.support.ClientRequestBody;
 import modelengine.fit.http.support.AbstractHttpClassicRequest;
 import modelengine.fitframework.exception.ClientException;
 import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.model.MultiValueMap;
+import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * 表示 {@link HttpClassicClientRequest} 的默认实现。
@@ -43,7 +54,11 @@ import java.util.Optional;
  * @since 2022-11-25
  */
 public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest implements HttpClassicClientRequest {
+    /** 表示重连时不从原请求中复制的消息头，这些消息头在发送请求时重新生成。 */
+    private static final List<String> REGENERATED_HEADERS = Arrays.asList(COOKIE, CONTENT_LENGTH, TRANSFER_ENCODING);
+
     private final ClientRequest clientRequest;
+    private final Supplier<HttpClassicClientRequest> renewer;
     private Entity entity;
 
     /**
@@ -53,10 +68,25 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
      * @param clientRequest 表示客户端的 Http 请求的 {@link ClientRequest}。
      */
     public DefaultHttpClassicClientRequest(HttpResource httpResource, ClientRequest clientRequest) {
+        this(httpResource, clientRequest, null);
+    }
+
+    /**
+     * 创建经典的客户端的 Http 请求的默认实现对象。
+     * <p>指定了新请求的创建方式时，事件流在异常中断后可以使用相同的方法和地址重新发起请求。</p>
+     *
+     * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
+     * @param clientRequest 表示客户端的 Http 请求的 {@link ClientRequest}。
+     * @param renewer 表示使用相同的方法和地址创建新请求的方式的
+     * {@link Supplier}{@code <}{@link HttpClassicClientRequest}{@code >}，可以为 {@code null}。
+     */
+    public DefaultHttpClassicClientRequest(HttpResource httpResource, ClientRequest clientRequest,
+            Supplier<HttpClassicClientRequest> renewer) {
         super(httpResource,
                 notNull(clientRequest, "The client request cannot be null.").startLine(),
                 clientRequest.headers());
         this.clientRequest = clientRequest;
+        this.renewer = renewer;
     }
 
     @Override
@@ -125,6 +155,8 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
                 while ((read = readableBinaryEntity.read(bytes)) > -1) {
                     this.clientRequest.writeBody(bytes, 0, read);
                 }
+            } else if (this.entity instanceof PartitionedEntity) {
+                this.writePartitionedEntity(cast(this.entity), charset);
             } else {
                 byte[] entityBytes = this.entitySerializer().serializeEntity(cast(this.entity), charset);
                 this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
@@ -140,6 +172,32 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
         }
     }
 
+    /**
+     * 发送分块的消息体。
+     * <p>消息头中没有分隔符时自动生成分隔符。所有分块的大小都已知时设置消息体的长度，否则使用分块传输编码，分块的内容直接写入
+     * 请求，不会整体缓存在内存中。</p>
+     *
+     * @param partitionedEntity 表示分块的消息体的 {@link PartitionedEntity}。
+     * @param charset 表示消息体的字符集的 {@link Charset}。
+     * @throws IOException 当发生 I/O 异常时。
+     */
+    private void writePartitionedEntity(PartitionedEntity partitionedEntity, Charset charset) throws IOException {
+        if (!this.contentType().flatMap(ContentType::boundary).isPresent()) {
+            String boundary = UUID.randomUUID().toString().replace("-", StringUtils.EMPTY);
+            String contentType = this.headers().first(CONTENT_TYPE).orElse(MimeType.MULTIPART_FORM_DATA.value());
+            this.headers().set(CONTENT_TYPE, contentType + "; boundary=" + boundary);
+        }
+        EntitySerializer<PartitionedEntity> serializer = cast(this.entitySerializer());
+        long length = serializer.serializedLength(partitionedEntity, charset);
+        if (length >= 0) {
+            this.headers().set(CONTENT_LENGTH, String.valueOf(length));
+        } else {
+            this.headers().set(TRANSFER_ENCODING, CHUNKED);
+        }
+        this.clientRequest.writeStartLineAndHeaders();
+        serializer.serializeEntity(partitionedEntity, charset, new ClientRequestBody(this.clientRequest));
+    }
+
     @Override
     public Choir<Object> exchangeStream() {
         return this.exchangeStream(Object.class);
@@ -147,7 +205,25 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
 
     @Override
     public <T> Choir<T> exchangeStream(Type responseType) {
-        return new TextStreamChoir<>(this, responseType);
+        // 二进制流类型的消息体数据只能读取一次，无法在重连时再次发送。
+        if (this.renewer == null || this.entity instanceof ReadableBinaryEntity) {
+            return new TextStreamChoir<>(this, responseType);
+        }
+        Entity original = this.entity;
+        return new TextStreamChoir<>(this, responseType, lastEventId -> this.renew(original, lastEventId));
+    }
+
+    private HttpClassicClientRequest renew(Entity original, String lastEventId) {
+        HttpClassicClientRequest renewed = this.renewer.get();
+        for (String name : this.headers().names()) {
+            if (REGENERATED_HEADERS.stream().noneMatch(header -> StringUtils.equalsIgnoreCase(header, name))) {
+                renewed.headers().set(name, this.headers().all(name));
+            }
+        }
+        this.cookies().all().forEach(renewed.cookies()::add);
+        renewed.headers().set(LAST_EVENT_ID, lastEventId);
+        renewed.entity(original);
+        return renewed;
     }
 
     @Override
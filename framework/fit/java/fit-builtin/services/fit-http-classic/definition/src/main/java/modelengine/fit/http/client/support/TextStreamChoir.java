@@ -23,16 +23,22 @@ import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.ThreadUtils;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 
 /**
  * 表示 {@link Choir} 的事件流的实现。
+ * <p>订阅者请求的数据数量会传递给事件流，事件流按需从连接中读取事件，响应在事件流结束或订阅被取消时关闭。</p>
+ * <p>指定了重连方式时，若事件流在收到带有编号的事件后异常中断，则等待服务端指定的重试时间后，携带
+ * {@code Last-Event-ID} 消息头重新发起请求，并继续满足尚未满足的请求数量。连续重连失败达到上限时，订阅者收到异常。</p>
  *
  * @author 季聿阶
  * @since 2024-08-17
@@ -40,6 +46,7 @@ import java.util.concurrent.locks.Lock;
 public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
     private final HttpClassicClientRequest request;
     private final Type responseType;
+    private final Function<String, HttpClassicClientRequest> reconnector;
 
     /**
      * 使用指定的请求和响应类型初始化 {@link TextStreamChoir} 的新实例。
@@ -48,68 +55,116 @@ public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
      * @param responseType 表示响应类型的 {@link Type}。
      */
     public TextStreamChoir(HttpClassicClientRequest request, Type responseType) {
+        this(request, responseType, null);
+    }
+
+    /**
+     * 使用指定的请求、响应类型和重连方式初始化 {@link TextStreamChoir} 的新实例。
+     *
+     * @param request 表示请求的 {@link HttpClassicClientRequest}。
+     * @param responseType 表示响应类型的 {@link Type}。
+     * @param reconnector 表示根据最后收到的事件编号创建重连请求的方式的
+     * {@link Function}{@code <}{@link String}{@code , }{@link HttpClassicClientRequest}{@code >}，为 {@code null}
+     * 时不重连。
+     */
+    public TextStreamChoir(HttpClassicClientRequest request, Type responseType,
+            Function<String, HttpClassicClientRequest> reconnector) {
         this.request = request;
         this.responseType = responseType;
+        this.reconnector = reconnector;
     }
 
     @Override
     protected void subscribe0(@Nonnull Subscriber<T> subscriber) {
-        subscriber.onSubscribed(new TextStreamSubscription<>(subscriber, this.request, this.responseType));
+        subscriber.onSubscribed(new TextStreamSubscription<>(subscriber,
+                this.request,
+                this.responseType,
+                this.reconnector));
     }
 
     private static class TextStreamSubscription<T> extends AbstractSubscription implements WorkerObserver<T> {
         private static final int HTTP_SUCCESS_CODE_MIN = 200;
         private static final int HTTP_SUCCESS_CODE_MAX = 300;
+        private static final int MAX_RECONNECT_ATTEMPTS = 3;
+        private static final long DEFAULT_RETRY_MILLIS = 3000L;
 
         private final Subscriber<T> subscriber;
         private final HttpClassicClientRequest request;
         private final Type responseType;
+        private final Function<String, HttpClassicClientRequest> reconnector;
         private final AtomicBoolean requested = new AtomicBoolean();
         private final AtomicBoolean completed = new AtomicBoolean();
+        private final AtomicBoolean notified = new AtomicBoolean();
         private final AtomicLong counter = new AtomicLong();
         private final Lock lock = LockUtils.newReentrantLock();
         private final Queue<T> buffer = new ArrayDeque<>();
         private volatile Exception error;
+        private volatile Subscription upstream;
+        private volatile HttpClassicClientResponse<T> response;
+        private volatile String lastEventId;
+        private volatile long retryMillis = DEFAULT_RETRY_MILLIS;
+        private volatile int reconnectAttempts;
 
-        TextStreamSubscription(Subscriber<T> subscriber, HttpClassicClientRequest request, Type responseType) {
+        TextStreamSubscription(Subscriber<T> subscriber, HttpClassicClientRequest request, Type responseType,
+                Function<String, HttpClassicClientRequest> reconnector) {
             this.subscriber = subscriber;
             this.request = request;
             this.responseType = responseType;
+            this.reconnector = reconnector;
         }
 
         @Override
         protected void request0(long count) {
-            long num = this.counter.addAndGet(count);
+            this.counter.getAndAccumulate(count, TextStreamSubscription::add);
             if (this.requested.compareAndSet(false, true)) {
-                this.exchange();
+                this.exchange(this.request);
+                return;
             }
             synchronized (this.lock) {
-                for (int i = 0; i < num; i++) {
-                    if (this.buffer.isEmpty()) {
-                        this.handleBufferIsEmpty();
-                        return;
-                    } else {
-                        this.subscriber.consume(this.buffer.remove());
-                        this.counter.decrementAndGet();
-                    }
+                while (this.counter.get() > 0 && !this.buffer.isEmpty()) {
+                    this.subscriber.consume(this.buffer.remove());
+                    this.counter.decrementAndGet();
                 }
+                if (this.buffer.isEmpty()) {
+                    this.handleBufferIsEmpty();
+                }
+            }
+            Subscription actual = this.upstream;
+            if (actual != null && !this.completed.get()) {
+                actual.request(count);
+            }
+        }
+
+        private static long add(long current, long count) {
+            long sum = current + count;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+
+        @Override
+        protected void cancel0() {
+            Subscription actual = this.upstream;
+            if (actual != null) {
+                actual.cancel();
             }
+            this.closeResponse();
         }
 
-        private void exchange() {
-            try (HttpClassicClientResponse<T> response = this.request.exchange(this.responseType)) {
-                if (!ObjectUtils.between(response.statusCode(),
+        private void exchange(HttpClassicClientRequest actualRequest) {
+            try {
+                HttpClassicClientResponse<T> actualResponse = actualRequest.exchange(this.responseType);
+                this.response = actualResponse;
+                if (!ObjectUtils.between(actualResponse.statusCode(),
                         HTTP_SUCCESS_CODE_MIN,
                         HTTP_SUCCESS_CODE_MAX,
                         true,
                         false)) {
                     throw new IllegalStateException(StringUtils.format(
                             "Failed to exchange text event stream. [uri={0}, statusCode={1}, reason={2}]",
-                            this.request.requestUri(),
-                            response.statusCode(),
-                            response.reasonPhrase()));
+                            actualRequest.requestUri(),
+                            actualResponse.statusCode(),
+                            actualResponse.reasonPhrase()));
                 }
-                TextEventStreamEntity entity = response.textEventStreamEntity()
+                TextEventStreamEntity entity = actualResponse.textEventStreamEntity()
                         .orElseThrow(() -> new IllegalStateException("No text event stream entity."));
                 Worker.create(this, entity.stream().map(this::convert)).run();
             } catch (Exception e) {
@@ -117,8 +172,21 @@ public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
             }
         }
 
+        private void closeResponse() {
+            HttpClassicClientResponse<T> actual = this.response;
+            this.response = null;
+            if (actual == null) {
+                return;
+            }
+            try {
+                actual.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+
         private void handleBufferIsEmpty() {
-            if (!this.completed.get()) {
+            if (!this.completed.get() || !this.notified.compareAndSet(false, true)) {
                 return;
             }
             if (this.error != null) {
@@ -129,6 +197,13 @@ public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
         }
 
         private T convert(TextEvent textEvent) {
+            if (textEvent.id() != null) {
+                this.lastEventId = textEvent.id();
+            }
+            if (textEvent.retry() != null) {
+                this.retryMillis = textEvent.retry().toMillis();
+            }
+            this.reconnectAttempts = 0;
             if (this.responseType == TextEvent.class) {
                 return cast(textEvent);
             } else {
@@ -136,9 +211,34 @@ public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
             }
         }
 
+        private boolean shouldReconnect() {
+            return this.reconnector != null && this.lastEventId != null && !this.isCancelled()
+                    && this.reconnectAttempts < MAX_RECONNECT_ATTEMPTS;
+        }
+
+        private void reconnect() {
+            this.reconnectAttempts++;
+            ThreadUtils.sleep(this.retryMillis);
+            if (this.isCancelled()) {
+                return;
+            }
+            HttpClassicClientRequest next;
+            try {
+                next = this.reconnector.apply(this.lastEventId);
+            } catch (Exception e) {
+                this.terminate(e);
+                return;
+            }
+            this.exchange(next);
+        }
+
         @Override
         public void onWorkerSubscribed(Subscription subscription) {
-            subscription.request(Long.MAX_VALUE);
+            this.upstream = subscription;
+            long outstanding = this.counter.get();
+            if (outstanding > 0) {
+                subscription.request(outstanding);
+            }
         }
 
         @Override
@@ -154,6 +254,16 @@ public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
 
         @Override
         public void onWorkerFailed(Exception cause) {
+            this.upstream = null;
+            this.closeResponse();
+            if (this.shouldReconnect()) {
+                this.reconnect();
+                return;
+            }
+            this.terminate(cause);
+        }
+
+        private void terminate(Exception cause) {
             this.completed.set(true);
             this.error = cause;
             synchronized (this.lock) {
@@ -165,6 +275,8 @@ public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
 
         @Override
         public void onWorkerCompleted() {
+            this.upstream = null;
+            this.closeResponse();
             this.completed.set(true);
             synchronized (this.lock) {
                 if (this.buffer.isEmpty()) {
@@ -71,6 +71,19 @@ public interface EntitySerializer<E extends Entity> {
         }
     }
 
+    /**
+     * 获取消息体内容按照指定字符集序列化后的字节数。
+     * <p>无法在序列化之前确定字节数时返回 {@code -1}，此时消息体需要使用分块传输编码发送。</p>
+     *
+     * @param entity 表示消息体内容的 {@link E}。
+     * @param charset 表示指定的字符集的 {@link Charset}。
+     * @return 表示序列化后的字节数的 {@code long}，无法预先确定时返回 {@code -1}。
+     * @throws EntityWriteException 当消息体内容无法按指定方式进行序列化时。
+     */
+    default long serializedLength(@Nonnull E entity, Charset charset) {
+        return -1;
+    }
+
     /**
      * 将输入字节流中的数据按照指定编码方式反序列化为指定类型的消息体对象。
      *
@@ -199,6 +212,20 @@ public interface EntitySerializer<E extends Entity> {
         return MultiPartEntitySerializer.INSTANCE;
     }
 
+    /**
+     * 获取指定配置的消息体格式为 {@code 'multipart/*'} 的序列化器。
+     *
+     * @param spillThreshold 表示文件分块缓存在内存中的最大字节数的 {@code long}，超过时写入临时文件。
+     * @param maxPartSize 表示每个分块的最大字节数的 {@code long}，小于 {@code 0} 时不限制。
+     * @param maxTotalSize 表示消息体的最大字节数的 {@code long}，小于 {@code 0} 时不限制。
+     * @return 表示消息体格式为 {@code 'multipart/*'} 的序列化器的 {@link EntitySerializer}{@code
+     * <}{@link PartitionedEntity}{@code >}。
+     */
+    static EntitySerializer<PartitionedEntity> multiPartSerializer(long spillThreshold, long maxPartSize,
+            long maxTotalSize) {
+        return new MultiPartEntitySerializer(spillThreshold, maxPartSize, maxTotalSize);
+    }
+
     /**
      * 获取消息体格式为 {@code 'application/x-www-form-urlencoded'} 的序列化器。
      *
@@ -30,7 +30,7 @@ public interface FileEntity extends ReadableBinaryEntity {
     /**
      * 获取文件的长度。
      *
-     * @return 表示文件长度的 {@code long}。
+     * @return 表示文件长度的 {@code long}，长度未知时为 {@code -1}。
      */
     long length();
 
@@ -6,6 +6,7 @@
 
 package modelengine.fit.http.entity;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -21,4 +22,16 @@ public interface PartitionedEntity extends Entity {
      * @return 表示分块带名字的消息体数据的列表的 {@link List}{@code <}{@link NamedEntity}{@code >}。
      */
     List<NamedEntity> entities();
+
+    /**
+     * 按照分块在消息体中的顺序逐个获取分块带名字的消息体数据。
+     * <p>分块在遍历到时才从消息体中解析，文件分块的内容以输入流的形式直接从消息体中读取，不会预先缓存。获取下一个分块时，上一个
+     * 文件分块中未读取的内容将被跳过，且此时文件的长度未知。需要反复读取分块内容时，请使用 {@link #entities()}。</p>
+     *
+     * @return 表示分块带名字的消息体数据的迭代器的 {@link Iterator}{@code <}{@link NamedEntity}{@code >}。
+     * @throws EntityReadException 当迭代过程中从消息体中解析分块发生错误时。
+     */
+    default Iterator<NamedEntity> parts() {
+        return this.entities().iterator();
+    }
 }
@@ -8,7 +8,6 @@ package modelengine.fit.http.entity.serializer;
 
 import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_DISPOSITION;
 import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_TYPE;
-import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.http.HttpMessage;
 import modelengine.fit.http.entity.Entity;
@@ -18,44 +17,28 @@ import modelengine.fit.http.entity.EntityWriteException;
 import modelengine.fit.http.entity.FileEntity;
 import modelengine.fit.http.entity.NamedEntity;
 import modelengine.fit.http.entity.PartitionedEntity;
-import modelengine.fit.http.entity.support.DefaultNamedEntity;
-import modelengine.fit.http.entity.support.DefaultPartitionedEntity;
-import modelengine.fit.http.entity.support.DefaultTextEntity;
-import modelengine.fit.http.header.ContentDisposition;
+import modelengine.fit.http.entity.ReadableBinaryEntity;
+import modelengine.fit.http.entity.TextEntity;
 import modelengine.fit.http.header.ContentType;
-import modelengine.fit.http.header.HeaderValue;
-import modelengine.fit.http.util.HttpUtils;
 import modelengine.fitframework.inspection.Nonnull;
-import modelengine.fitframework.util.FileUtils;
-import modelengine.fitframework.util.LineSeparator;
-import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.RandomAccessFile;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
 
 /**
  * 表示消息体格式为 {@code 'multipart/*'} 的序列化器。
+ * <p>序列化时，分隔符从消息体所属的 Http 消息的 {@code Content-Type} 中获取，文件分块和二进制分块的内容直接从其输入流复制到输出流，
+ * 不会整体缓存在内存中。所有分块的大小都已知时，可以通过 {@link #serializedLength(PartitionedEntity, Charset)} 预先计算消息体的
+ * 长度。</p>
+ * <p>反序列化时只读取到首个分块的元数据头，其余的分块在使用时才从消息体中解析，文件分块可以在到达时以输入流的形式直接读取，详见
+ * {@link PartitionedEntity#parts()}。分块和消息体的大小限制在解析过程中检查，超过限制时立即停止读取。</p>
  *
  * @author 季聿阶
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc2046#section-5.1.1">RFC 2046</a>
@@ -65,248 +48,159 @@ public class MultiPartEntitySerializer implements EntitySerializer<PartitionedEn
     /** 表示 {@link MultiPartEntitySerializer} 的单例实现。 */
     public static final EntitySerializer<PartitionedEntity> INSTANCE = new MultiPartEntitySerializer();
 
-    static final int TINY_BUFFER = 32;
+    /** 表示文件分块缓存在内存中的默认最大字节数。 */
+    public static final long DEFAULT_SPILL_THRESHOLD = 64 * 1024;
+
     static final int SMALL_BUFFER = 64;
-    static final int MEDIUM_BUFFER = 512;
 
-    private static final byte CR = '\r';
-    private static final byte LF = '\n';
-    private static final char HEADER_SEPARATOR = ':';
+    private static final int COPY_BUFFER = 8192;
     private static final String BOUNDARY_SURROUND = "--";
+    private static final String CRLF = "\r\n";
 
-    private final Map<String, Function<HeaderValue, HeaderValue>> functions =
-            MapBuilder.<String, Function<HeaderValue, HeaderValue>>get()
-                    .put(CONTENT_DISPOSITION.toLowerCase(Locale.ROOT), HeaderValue::toContentDisposition)
-                    .put(CONTENT_TYPE.toLowerCase(Locale.ROOT), HeaderValue::toContentType)
-                    .build();
-
-    @Override
-    public void serializeEntity(@Nonnull PartitionedEntity entity, Charset charset, OutputStream out) {
-        throw new EntityWriteException("Unsupported to serialize entity of Content-Type 'multipart/*'.");
-    }
-
-    @Override
-    public PartitionedEntity deserializeEntity(@Nonnull InputStream in, Charset charset,
-            @Nonnull HttpMessage httpMessage, Type objectType) {
-        String boundary = this.parseBoundary(httpMessage);
-        byte[] pattern = boundary.getBytes(charset);
-        try (InputStream input = new BufferedInputStream(new NonClosingInputStream(in))) {
-            return this.deserializeEntity(input, charset, httpMessage, pattern);
-        } catch (IOException e) {
-            throw new EntityReadException("Failed to deserialize message body. [mimeType='multipart/*']", e);
-        }
-    }
-
-    private PartitionedEntity deserializeEntity(InputStream in, Charset charset, HttpMessage httpMessage,
-            byte[] pattern) throws IOException {
-        boolean isEnd = this.findNextBoundary(in, pattern, null);
-        if (isEnd) {
-            return new DefaultPartitionedEntity(httpMessage, Collections.emptyList());
-        }
-        List<NamedEntity> namedEntities = new ArrayList<>();
-        while (!isEnd) {
-            List<String> headerLines = new ArrayList<>();
-            String line = readMetadataHeaderLine(in, charset);
-            while (!Objects.equals(line, StringUtils.EMPTY)) {
-                headerLines.add(line);
-                line = readMetadataHeaderLine(in, charset);
-            }
-            Map<String, HeaderValue> headerValues = this.parseHeaderValues(headerLines);
-            ContentDisposition contentDisposition =
-                    cast(headerValues.get(CONTENT_DISPOSITION.toLowerCase(Locale.ROOT)));
-            Entity innerEntity;
-            if (contentDisposition != null && contentDisposition.name().isPresent() && contentDisposition.fileName()
-                    .isPresent()) {
-                File tempFile = Files.createTempFile("entity-multipart-", ".tmp").toFile();
-                try (FileOutputStream out = new FileOutputStream(tempFile)) {
-                    isEnd = this.findNextBoundary(in, pattern, out);
-                } catch (IOException e) {
-                    FileUtils.delete(tempFile);
-                    throw e;
-                }
-                try (RandomAccessFile raf = new RandomAccessFile(tempFile, "rw")) {
-                    raf.setLength(tempFile.length() - 2);
-                }
-                innerEntity = FileEntity.create(httpMessage,
-                        contentDisposition.fileName().get(),
-                        new FileInputStream(tempFile),
-                        tempFile.length(),
-                        FileEntity.Position.INLINE,
-                        tempFile);
-            } else {
-                try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                    isEnd = this.findNextBoundary(in, pattern, out);
-                    String content = out.toString(charset.name());
-                    content = content.substring(0, content.length() - 2);
-                    innerEntity = new DefaultTextEntity(httpMessage, content);
-                }
-            }
-            NamedEntity namedEntity = new DefaultNamedEntity(httpMessage, getName(contentDisposition), innerEntity);
-            namedEntities.add(namedEntity);
-        }
-        return new DefaultPartitionedEntity(httpMessage, namedEntities);
-    }
-
-    private static String getName(ContentDisposition contentDisposition) {
-        if (contentDisposition == null) {
-            return StringUtils.EMPTY;
-        }
-        return contentDisposition.name().orElse(StringUtils.EMPTY);
-    }
+    private final long spillThreshold;
+    private final long maxPartSize;
+    private final long maxTotalSize;
 
-    private static String readMetadataHeaderLine(InputStream in, Charset charset) throws IOException {
-        byte[] bytes = readMetadataHeaderLineByCrlf(in);
-        String line = new String(bytes, charset);
-        if (line.endsWith(LineSeparator.CRLF.value())) {
-            line = line.substring(0, line.length() - 2);
-        }
-        return line;
+    /**
+     * 使用默认的配置初始化 {@link MultiPartEntitySerializer} 的新实例。
+     * <p>文件分块超过 {@link #DEFAULT_SPILL_THRESHOLD} 时写入临时文件，不限制分块和消息体的大小。</p>
+     */
+    public MultiPartEntitySerializer() {
+        this(DEFAULT_SPILL_THRESHOLD, -1, -1);
     }
 
     /**
-     * 寻找下一个分隔符。
-     * <p>如果成功返回，则 {@code out} 中至少写入了 2 个字符。</p>
+     * 使用指定的配置初始化 {@link MultiPartEntitySerializer} 的新实例。
      *
-     * @param in 表示消息体内容的输入流的 {@link InputStream}。
-     * @param pattern 表示分隔符的字节数组的 {@code byte[]}。
-     * @param out 表示需要保存的 Text 文本内容的输出流的 {@link OutputStream}。
-     * @return 表示寻找到分隔符之后是否触及输入流的结尾的标志。不管是否寻找到下一个分隔符，只要触及输入流的结尾，则返回
-     * {@code true}，否则返回 {@code false}，<b>注意：当返回 {@code false} 时，一定找到了下一个分隔符。</b>
-     * @throws IOException 当发生 I/O 异常时。
+     * @param spillThreshold 表示文件分块缓存在内存中的最大字节数的 {@code long}，超过时写入临时文件。
+     * @param maxPartSize 表示每个分块的最大字节数的 {@code long}，小于 {@code 0} 时不限制。
+     * @param maxTotalSize 表示消息体的最大字节数的 {@code long}，小于 {@code 0} 时不限制。
      */
-    private boolean findNextBoundary(InputStream in, byte[] pattern, OutputStream out) throws IOException {
-        while (true) {
-            byte[] bytes = readLineByCrlf(in, pattern.length + 2, false);
-            if (bytes == null) {
-                throw new IOException("The next boundary not found: no any content bytes.");
-            }
-            if (bytes.length < pattern.length + 2) {
-                if (isLineBreak(bytes)) {
-                    writeBytes(out, bytes);
-                    continue;
-                } else {
-                    throw new IOException("The first boundary not found: unexpected exit.");
-                }
-            }
-            boolean isEqualsPattern = equals(pattern, bytes);
-            if (isLineBreak(bytes)) {
-                if (isEqualsPattern) {
-                    return false;
+    public MultiPartEntitySerializer(long spillThreshold, long maxPartSize, long maxTotalSize) {
+        this.spillThreshold = Math.max(spillThreshold, 0);
+        this.maxPartSize = maxPartSize;
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    @Override
+    public void serializeEntity(@Nonnull PartitionedEntity entity, Charset charset, OutputStream out) {
+        Charset actualCharset = ObjectUtils.nullIf(charset, StandardCharsets.UTF_8);
+        String boundary = this.getBoundary(entity);
+        checkParts(entity);
+        try {
+            byte[] buffer = new byte[COPY_BUFFER];
+            for (NamedEntity part : entity.entities()) {
+                out.write(partHeader(boundary, part).getBytes(actualCharset));
+                Entity content = part.entity();
+                if (content instanceof TextEntity) {
+                    out.write(((TextEntity) content).content().getBytes(actualCharset));
                 } else {
-                    writeBytes(out, bytes);
-                    continue;
+                    try (InputStream in = ((ReadableBinaryEntity) content).getInputStream()) {
+                        int read;
+                        while ((read = in.read(buffer)) > -1) {
+                            out.write(buffer, 0, read);
+                        }
+                    }
                 }
+                out.write(CRLF.getBytes(actualCharset));
             }
-            if (isEqualsPattern && isEnd(bytes)) {
-                return true;
-            }
-            if (!isEqualsPattern) {
-                writeBytes(out, bytes);
-            }
-            this.readRemainedBytesInCurrentLine(in, out, isEqualsPattern, bytes[bytes.length - 1] == CR);
-            if (isEqualsPattern) {
-                return false;
-            }
+            out.write(closeDelimiter(boundary).getBytes(actualCharset));
+            out.flush();
+        } catch (IOException e) {
+            throw new EntityWriteException("Failed to serialize message body. [mimeType='multipart/*']", e);
         }
     }
 
-    private void readRemainedBytesInCurrentLine(InputStream in, OutputStream out, boolean isEqualsPattern,
-            boolean hasPrecedingCr) throws IOException {
-        // 当匹配分隔符成功时，如果当前行没有读完，后续大概率会跟少量的任意字符作为报文填充，因此选择小型缓存空间。
-        int bufferSize = isEqualsPattern ? TINY_BUFFER : MEDIUM_BUFFER;
-        boolean hasPrecedingByteCr = hasPrecedingCr;
-        while (true) {
-            byte[] bytes = readLineByCrlf(in, bufferSize, hasPrecedingByteCr);
-            if (bytes == null) {
-                throw new IOException("The next boundary not found: no more data and unexpected exit.");
-            }
-            if (isLineBreak(bytes) || this.isBoundaryLineBreak(bytes, hasPrecedingByteCr)) {
-                if (isEqualsPattern) {
-                    return;
-                }
-                writeBytes(out, bytes);
-                return;
+    @Override
+    public long serializedLength(@Nonnull PartitionedEntity entity, Charset charset) {
+        Charset actualCharset = ObjectUtils.nullIf(charset, StandardCharsets.UTF_8);
+        String boundary = this.getBoundary(entity);
+        long length = closeDelimiter(boundary).getBytes(actualCharset).length;
+        for (NamedEntity part : entity.entities()) {
+            Entity content = part.entity();
+            long contentLength;
+            if (content instanceof TextEntity) {
+                contentLength = ((TextEntity) content).content().getBytes(actualCharset).length;
+            } else if (content instanceof FileEntity) {
+                contentLength = ((FileEntity) content).length();
+            } else {
+                contentLength = -1;
             }
-            writeBytes(out, bytes);
-            if (bytes.length < bufferSize) {
-                throw new IOException("The next boundary not found: unexpected exit.");
+            if (contentLength < 0) {
+                return -1;
             }
-            hasPrecedingByteCr = bytes[bytes.length - 1] == CR;
+            length += partHeader(boundary, part).getBytes(actualCharset).length + contentLength
+                    + CRLF.getBytes(actualCharset).length;
         }
+        return length;
     }
 
-    private static void writeBytes(OutputStream out, byte[] bytes) throws IOException {
-        if (out != null) {
-            out.write(bytes);
+    @Override
+    public PartitionedEntity deserializeEntity(@Nonnull InputStream in, Charset charset,
+            @Nonnull HttpMessage httpMessage, Type objectType) {
+        String boundary = this.parseBoundary(httpMessage);
+        MultiPartReader reader = new MultiPartReader(in, boundary.getBytes(charset), this.maxTotalSize);
+        try {
+            // 前置信息和首个分块的元数据头在反序列化时读取，使格式错误的消息体尽早失败。
+            reader.skipBody();
+            List<String> firstHeaders = reader.readBoundaryEnding() ? null : reader.readHeaders(charset);
+            return new StreamingPartitionedEntity(httpMessage,
+                    reader,
+                    charset,
+                    firstHeaders,
+                    this.maxPartSize,
+                    this.spillThreshold);
+        } catch (IOException e) {
+            throw new EntityReadException("Failed to deserialize message body. [mimeType='multipart/*']", e);
         }
     }
 
-    private static boolean equals(byte[] src, byte[] dst) {
-        for (int i = 0; i < src.length; i++) {
-            if (src[i] != dst[i]) {
-                return false;
-            }
-        }
-        return true;
+    private String getBoundary(PartitionedEntity entity) {
+        return entity.belongTo()
+                .contentType()
+                .flatMap(ContentType::boundary)
+                .orElseThrow(() -> new EntityWriteException("The boundary is not present."));
     }
 
-    private static boolean isLineBreak(byte[] bytes) {
-        if (bytes.length >= 2) {
-            return bytes[bytes.length - 2] == CR && bytes[bytes.length - 1] == LF;
-        } else {
-            return false;
+    private static void checkParts(PartitionedEntity entity) {
+        for (NamedEntity part : entity.entities()) {
+            Entity content = part.entity();
+            if (!(content instanceof TextEntity) && !(content instanceof ReadableBinaryEntity)) {
+                throw new EntityWriteException(StringUtils.format(
+                        "Unsupported to serialize part of multipart entity. [name={0}, entityType={1}]",
+                        part.name(),
+                        content.getClass().getName()));
+            }
         }
     }
 
-    private boolean isBoundaryLineBreak(byte[] bytes, boolean hasPrecedingCr) {
-        return hasPrecedingCr && bytes.length == 1 && bytes[0] == LF;
-    }
-
-    private static boolean isEnd(byte[] bytes) {
-        return bytes[bytes.length - 2] == '-' && bytes[bytes.length - 1] == '-';
-    }
-
-    private static byte[] readMetadataHeaderLineByCrlf(InputStream in) throws IOException {
-        int buffer = SMALL_BUFFER;
-        byte[] bytes = readLineByCrlf(in, buffer, false);
-        if (bytes == null) {
-            throw new IOException("The next line not found: unexpected exit.");
-        }
-        if (bytes.length < buffer || isLineBreak(bytes)) {
-            return bytes;
+    private static String partHeader(String boundary, NamedEntity part) {
+        StringBuilder builder = new StringBuilder(BOUNDARY_SURROUND).append(boundary).append(CRLF);
+        builder.append(CONTENT_DISPOSITION).append(": form-data; name=\"").append(escape(part.name())).append('"');
+        Entity content = part.entity();
+        if (content instanceof FileEntity) {
+            builder.append("; filename=\"").append(escape(((FileEntity) content).filename())).append('"');
         }
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            writeBytes(out, bytes);
-            while (bytes.length == buffer && !isLineBreak(bytes)) {
-                bytes = readLineByCrlf(in, buffer, bytes[bytes.length - 1] == CR);
-                if (bytes == null) {
-                    throw new IOException("The next line not found: unexpected exit.");
-                }
-                writeBytes(out, bytes);
-            }
-            return out.toByteArray();
+        builder.append(CRLF);
+        if (content instanceof ReadableBinaryEntity) {
+            builder.append(CONTENT_TYPE).append(": ").append(content.resolvedMimeType().value()).append(CRLF);
         }
+        return builder.append(CRLF).toString();
     }
 
-    private static byte[] readLineByCrlf(InputStream in, int max, boolean hasPrecedingCr) throws IOException {
-        boolean hasPrecedingByteCr = hasPrecedingCr;
-        byte[] bytes = new byte[max];
-        for (int i = 0; i < max; i++) {
-            int read = in.read();
-            if (read == -1) {
-                if (i == 0) {
-                    return null;
-                }
-                return Arrays.copyOf(bytes, i);
-            }
-            byte nextByte = (byte) read;
-            bytes[i] = nextByte;
-            if (nextByte == LF && hasPrecedingByteCr) {
-                return Arrays.copyOf(bytes, i + 1);
-            }
-            hasPrecedingByteCr = nextByte == CR;
-        }
-        return bytes;
+    private static String closeDelimiter(String boundary) {
+        return BOUNDARY_SURROUND + boundary + BOUNDARY_SURROUND + CRLF;
+    }
+
+    /**
+     * 转义分块元数据头中带引号的参数值。
+     * <p>按照 HTML 表单提交的约定，将双引号和换行符进行百分号编码，避免参数值破坏元数据头的格式。</p>
+     *
+     * @param value 表示待转义的参数值的 {@link String}。
+     * @return 表示转义后的参数值的 {@link String}。
+     */
+    private static String escape(String value) {
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
     }
 
     private String parseBoundary(HttpMessage message) {
@@ -315,39 +209,4 @@ public class MultiPartEntitySerializer implements EntitySerializer<PartitionedEn
                 .orElseThrow(() -> new EntityReadException("The boundary is not present."));
         return BOUNDARY_SURROUND + boundary;
     }
-
-    private Map<String, HeaderValue> parseHeaderValues(List<String> metadataLines) {
-        Map<String, HeaderValue> result = new HashMap<>();
-        for (String line : metadataLines) {
-            int separatorIndex = line.indexOf(HEADER_SEPARATOR);
-            if (separatorIndex < 0) {
-                continue;
-            }
-            String headerName = line.substring(0, separatorIndex).trim().toLowerCase(Locale.ROOT);
-            String headerRawValue = line.substring(separatorIndex + 1).trim();
-            HeaderValue headerValue = HttpUtils.parseHeaderValue(headerRawValue);
-            Function<HeaderValue, HeaderValue> function = this.functions.get(headerName);
-            if (function == null) {
-                continue;
-            }
-            HeaderValue parsed = function.apply(headerValue);
-            result.put(headerName, parsed);
-        }
-        return result;
-    }
-
-    /**
-     * 表示不关闭输入流的输入流。
-     *
-     * @author 邬涨财
-     * @since 2023-12-20
-     */
-    private static class NonClosingInputStream extends FilterInputStream {
-        public NonClosingInputStream(InputStream in) {
-            super(in);
-        }
-
-        @Override
-        public void close() {}
-    }
 }
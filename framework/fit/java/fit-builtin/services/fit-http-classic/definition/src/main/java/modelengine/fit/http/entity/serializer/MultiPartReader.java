@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.entity.serializer;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.util.FileUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 表示 {@code 'multipart/*'} 格式消息体的读取器。
+ * <p>读取器在一个可复用的缓冲区上使用 Boyer-Moore-Horspool 算法查找分隔符 {@code CRLF--boundary}，分块的内容不再逐行读取，
+ * 缓冲区中确定不包含分隔符的部分可以直接交给调用方。消息体中首个分隔符之前没有回车换行符，读取器在缓冲区中预置回车换行符，使首个
+ * 分隔符与其余分隔符的形式一致。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class MultiPartReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_HEADER_SIZE = 16 * 1024;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final int[] shifts = new int[256];
+    private final long maxTotalSize;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private long total;
+
+    /** 表示缓冲区中已经找到的分隔符的位置，小于 {@link #position} 时无效。 */
+    private int delimiterAt = -1;
+
+    /** 表示缓冲区中确定不包含分隔符的内容的结束位置，不大于 {@link #position} 时无效。 */
+    private int safeEnd = -1;
+
+    /**
+     * 创建 {@code 'multipart/*'} 格式消息体的读取器。
+     *
+     * @param in 表示消息体内容的输入流的 {@link InputStream}。
+     * @param boundary 表示包含前缀 {@code --} 的分隔符的 {@code byte[]}。
+     * @param maxTotalSize 表示消息体的最大字节数的 {@code long}，小于 {@code 0} 时不限制。
+     */
+    MultiPartReader(InputStream in, byte[] boundary, long maxTotalSize) {
+        this.in = notNull(in, "The input stream cannot be null.");
+        notNull(boundary, "The boundary cannot be null.");
+        this.delimiter = new byte[boundary.length + 2];
+        this.delimiter[0] = CR;
+        this.delimiter[1] = LF;
+        System.arraycopy(boundary, 0, this.delimiter, 2, boundary.length);
+        Arrays.fill(this.shifts, this.delimiter.length);
+        for (int i = 0; i < this.delimiter.length - 1; i++) {
+            this.shifts[this.delimiter[i] & 0xFF] = this.delimiter.length - 1 - i;
+        }
+        this.maxTotalSize = maxTotalSize;
+        this.buffer = new byte[Math.max(BUFFER_SIZE, this.delimiter.length * 2)];
+        this.buffer[0] = CR;
+        this.buffer[1] = LF;
+        this.limit = 2;
+    }
+
+    /**
+     * 跳过当前分块剩余的内容，直到读取完下一个分隔符。
+     *
+     * @throws IOException 当发生 I/O 异常或没有找到下一个分隔符时。
+     */
+    void skipBody() throws IOException {
+        int available;
+        while ((available = this.available()) > 0) {
+            this.position += available;
+        }
+        this.consumeDelimiter();
+    }
+
+    /**
+     * 读取当前分块的内容。
+     *
+     * @param bytes 表示保存读取内容的 {@code byte[]}。
+     * @param off 表示保存读取内容的起始位置的 {@code int}。
+     * @param len 表示最多读取的字节数的 {@code int}。
+     * @return 表示实际读取的字节数的 {@code int}，读取到下一个分隔符时返回 {@code -1}，此时分隔符已经被读取。
+     * @throws IOException 当发生 I/O 异常或没有找到下一个分隔符时。
+     */
+    int readBody(byte[] bytes, int off, int len) throws IOException {
+        int available = this.available();
+        if (available == 0) {
+            this.consumeDelimiter();
+            return -1;
+        }
+        int count = Math.min(len, available);
+        System.arraycopy(this.buffer, this.position, bytes, off, count);
+        this.position += count;
+        return count;
+    }
+
+    /**
+     * 读取分隔符所在行的剩余内容。
+     * <p>分隔符之后紧跟 {@code --} 时表示消息体结束，否则，忽略分隔符之后直到回车换行符的填充内容。</p>
+     *
+     * @return 如果读取到的是终止分隔符，则返回 {@code true}，否则，返回 {@code false}。
+     * @throws IOException 当发生 I/O 异常或分隔符所在行不完整时。
+     */
+    boolean readBoundaryEnding() throws IOException {
+        int previous = this.readByte();
+        int current = this.readByte();
+        if (previous == DASH && current == DASH) {
+            return true;
+        }
+        int count = 2;
+        while (previous != CR || current != LF) {
+            if (current < 0 || count > MAX_HEADER_SIZE) {
+                throw new IOException("The boundary line is incomplete.");
+            }
+            previous = current;
+            current = this.readByte();
+            count++;
+        }
+        return false;
+    }
+
+    /**
+     * 读取分块的所有元数据头，直到读取到空行。
+     *
+     * @param charset 表示元数据头的字符集的 {@link Charset}。
+     * @return 表示元数据头的所有行的 {@link List}{@code <}{@link String}{@code >}。
+     * @throws IOException 当发生 I/O 异常、元数据头不完整或元数据头过大时。
+     */
+    List<String> readHeaders(Charset charset) throws IOException {
+        List<String> lines = new ArrayList<>();
+        ByteArrayOutputStream line = new ByteArrayOutputStream(MultiPartEntitySerializer.SMALL_BUFFER);
+        int size = 0;
+        int previous = -1;
+        while (true) {
+            int current = this.readByte();
+            if (current < 0) {
+                throw new IOException("The next line not found: unexpected exit.");
+            }
+            if (++size > MAX_HEADER_SIZE) {
+                throw new IOException(StringUtils.format("The part headers are too large. [limit={0}]",
+                        MAX_HEADER_SIZE));
+            }
+            if (previous == CR && current == LF) {
+                byte[] bytes = line.toByteArray();
+                if (bytes.length == 1) {
+                    return lines;
+                }
+                lines.add(new String(bytes, 0, bytes.length - 1, charset));
+                line.reset();
+                previous = -1;
+                continue;
+            }
+            line.write(current);
+            previous = current;
+        }
+    }
+
+    /**
+     * 打开当前分块的内容的输入流。
+     *
+     * @param maxSize 表示分块内容的最大字节数的 {@code long}，小于 {@code 0} 时不限制。
+     * @return 表示分块内容的输入流的 {@link Body}。
+     */
+    Body openBody(long maxSize) {
+        return new Body(maxSize);
+    }
+
+    /**
+     * 获取当前位置到下一个分隔符之间可以直接读取的字节数。
+     *
+     * @return 表示可以直接读取的字节数的 {@code int}，当前位置就是分隔符时返回 {@code 0}。
+     * @throws IOException 当发生 I/O 异常或没有找到下一个分隔符时。
+     */
+    private int available() throws IOException {
+        while (true) {
+            if (this.delimiterAt >= this.position) {
+                return this.delimiterAt - this.position;
+            }
+            if (this.safeEnd > this.position) {
+                return this.safeEnd - this.position;
+            }
+            int index = this.indexOfDelimiter();
+            if (index >= 0) {
+                this.delimiterAt = index;
+                continue;
+            }
+            // 缓冲区末尾不足一个分隔符长度的内容可能是分隔符的前缀，需要读取更多的内容后才能确定。
+            this.safeEnd = this.limit - this.delimiter.length + 1;
+            if (this.safeEnd > this.position) {
+                continue;
+            }
+            if (!this.fill()) {
+                throw new IOException("The next boundary not found: unexpected exit.");
+            }
+        }
+    }
+
+    private int indexOfDelimiter() {
+        int last = this.delimiter.length - 1;
+        int index = this.position;
+        while (index + last < this.limit) {
+            int i = last;
+            while (this.buffer[index + i] == this.delimiter[i]) {
+                if (i == 0) {
+                    return index;
+                }
+                i--;
+            }
+            index += this.shifts[this.buffer[index + last] & 0xFF];
+        }
+        return -1;
+    }
+
+    private void consumeDelimiter() {
+        this.position += this.delimiter.length;
+        this.delimiterAt = -1;
+    }
+
+    private int readByte() throws IOException {
+        if (this.position == this.limit && !this.fill()) {
+            return -1;
+        }
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        if (this.position > 0) {
+            int remaining = this.limit - this.position;
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+            // 已经越过的位置不再有意义，直接重置，避免长时间读取后数值溢出。
+            this.delimiterAt = Math.max(this.delimiterAt - this.position, -1);
+            this.safeEnd = Math.max(this.safeEnd - this.position, -1);
+            this.limit = remaining;
+            this.position = 0;
+        }
+        int read = this.in.read(this.buffer, this.limit, this.buffer.length - this.limit);
+        if (read < 0) {
+            return false;
+        }
+        this.limit += read;
+        this.total += read;
+        if (this.maxTotalSize >= 0 && this.total > this.maxTotalSize) {
+            throw new IOException(StringUtils.format("The multipart body is too large. [limit={0}]",
+                    this.maxTotalSize));
+        }
+        return true;
+    }
+
+    /**
+     * 表示分块内容的输入流。
+     * <p>输入流直接从消息体中读取内容，读取到下一个分隔符时结束。调用 {@link #buffer(long)} 后，分块剩余的内容被读取到缓存中，
+     * 此后从缓存中读取，不再占用消息体。</p>
+     */
+    final class Body extends InputStream {
+        private final long maxSize;
+        private long size;
+        private boolean ended;
+        private boolean closed;
+        private InputStream buffered;
+        private File file;
+        private long length = -1;
+
+        private Body(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] bytes = new byte[1];
+            int read = this.read(bytes, 0, 1);
+            return read < 0 ? -1 : bytes[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) throws IOException {
+            if (this.closed) {
+                return -1;
+            }
+            if (this.buffered != null) {
+                return this.buffered.read(bytes, off, len);
+            }
+            if (this.ended) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int read = MultiPartReader.this.readBody(bytes, off, len);
+            if (read < 0) {
+                this.ended = true;
+                return -1;
+            }
+            this.size += read;
+            if (this.maxSize >= 0 && this.size > this.maxSize) {
+                throw new IOException(StringUtils.format("The multipart part is too large. [limit={0}]",
+                        this.maxSize));
+            }
+            return read;
+        }
+
+        /**
+         * 获取分块内容的字节数。
+         *
+         * @return 表示分块内容的字节数的 {@code long}，分块内容未缓存时返回 {@code -1}。
+         */
+        long length() {
+            return this.length;
+        }
+
+        /**
+         * 跳过分块剩余的内容。
+         *
+         * @throws IOException 当发生 I/O 异常或没有找到下一个分隔符时。
+         */
+        void skip() throws IOException {
+            if (this.buffered == null && !this.ended) {
+                this.ended = true;
+                MultiPartReader.this.skipBody();
+            }
+        }
+
+        /**
+         * 将分块剩余的内容读取到缓存中。
+         * <p>内容不超过阈值时保存在内存中，超过阈值时写入临时文件，临时文件在输入流关闭时删除。</p>
+         *
+         * @param threshold 表示保存在内存中的最大字节数的 {@code long}。
+         * @throws IOException 当发生 I/O 异常、没有找到下一个分隔符或分块内容过大时。
+         */
+        void buffer(long threshold) throws IOException {
+            if (this.buffered != null) {
+                return;
+            }
+            ByteArrayOutputStream memory = new ByteArrayOutputStream();
+            OutputStream out = memory;
+            byte[] chunk = new byte[BUFFER_SIZE];
+            long count = 0;
+            try {
+                int read;
+                while ((read = this.read(chunk, 0, chunk.length)) >= 0) {
+                    if (this.file == null && count + read > threshold) {
+                        this.file = Files.createTempFile("entity-multipart-", ".tmp").toFile();
+                        out = new BufferedOutputStream(new FileOutputStream(this.file));
+                        memory.writeTo(out);
+                        memory = null;
+                    }
+                    out.write(chunk, 0, read);
+                    count += read;
+                }
+            } catch (IOException e) {
+                this.discardFile(out);
+                throw e;
+            }
+            if (this.file == null) {
+                this.buffered = new ByteArrayInputStream(memory.toByteArray());
+            } else {
+                out.close();
+                this.buffered = new FileInputStream(this.file);
+            }
+            this.length = count;
+        }
+
+        private void discardFile(OutputStream out) {
+            if (this.file == null) {
+                return;
+            }
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 临时文件将被删除，忽略关闭时的异常。
+            }
+            FileUtils.delete(this.file);
+            this.file = null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.closed = true;
+            if (this.buffered != null) {
+                this.buffered.close();
+            }
+            if (this.file != null) {
+                FileUtils.delete(this.file);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.entity.serializer;
+
+import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_DISPOSITION;
+import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_TYPE;
+import static modelengine.fitframework.inspection.Validation.notNull;
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
+import modelengine.fit.http.HttpMessage;
+import modelengine.fit.http.entity.Entity;
+import modelengine.fit.http.entity.EntityReadException;
+import modelengine.fit.http.entity.FileEntity;
+import modelengine.fit.http.entity.NamedEntity;
+import modelengine.fit.http.entity.PartitionedEntity;
+import modelengine.fit.http.entity.support.AbstractEntity;
+import modelengine.fit.http.entity.support.DefaultFileEntity;
+import modelengine.fit.http.entity.support.DefaultNamedEntity;
+import modelengine.fit.http.entity.support.DefaultTextEntity;
+import modelengine.fit.http.header.ContentDisposition;
+import modelengine.fit.http.header.HeaderValue;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fit.http.util.HttpUtils;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.util.IoUtils;
+import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * 表示从消息体中按需解析分块的 {@link PartitionedEntity}。
+ * <p>通过 {@link #parts()} 遍历时，每个分块在到达时才被解析：文本分块被完整读取，文件分块的内容以输入流的形式直接从消息体中读取，
+ * 读取到下一个分隔符时结束，获取下一个分块时，上一个文件分块中未读取的内容将被跳过。调用 {@link #entities()} 时，剩余的分块被
+ * 全部解析，文件分块的内容不超过阈值时缓存在内存中，超过阈值时写入临时文件。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class StreamingPartitionedEntity extends AbstractEntity implements PartitionedEntity {
+    private static final char HEADER_SEPARATOR = ':';
+    private static final Map<String, Function<HeaderValue, HeaderValue>> FUNCTIONS =
+            MapBuilder.<String, Function<HeaderValue, HeaderValue>>get()
+                    .put(CONTENT_DISPOSITION.toLowerCase(Locale.ROOT), HeaderValue::toContentDisposition)
+                    .put(CONTENT_TYPE.toLowerCase(Locale.ROOT), HeaderValue::toContentType)
+                    .build();
+
+    private final MultiPartReader reader;
+    private final Charset charset;
+    private final long maxPartSize;
+    private final long spillThreshold;
+    private final List<NamedEntity> parts = new ArrayList<>();
+    private List<String> pendingHeaders;
+    private MultiPartReader.Body current;
+    private boolean finished;
+
+    /**
+     * 创建按需解析分块的消息体数据对象。
+     *
+     * @param httpMessage 表示消息体数据所属的 Http 消息的 {@link HttpMessage}。
+     * @param reader 表示已经读取完首个分隔符的读取器的 {@link MultiPartReader}。
+     * @param charset 表示消息体的字符集的 {@link Charset}。
+     * @param firstHeaders 表示首个分块的元数据头的 {@link List}{@code <}{@link String}{@code >}，为 {@code null} 时表示
+     * 消息体中没有分块。
+     * @param maxPartSize 表示每个分块的最大字节数的 {@code long}，小于 {@code 0} 时不限制。
+     * @param spillThreshold 表示文件分块缓存在内存中的最大字节数的 {@code long}。
+     */
+    StreamingPartitionedEntity(HttpMessage httpMessage, MultiPartReader reader, Charset charset,
+            List<String> firstHeaders, long maxPartSize, long spillThreshold) {
+        super(httpMessage);
+        this.reader = notNull(reader, "The reader cannot be null.");
+        this.charset = notNull(charset, "The charset cannot be null.");
+        this.pendingHeaders = firstHeaders;
+        this.finished = firstHeaders == null;
+        this.maxPartSize = maxPartSize;
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public List<NamedEntity> entities() {
+        if (!this.finished) {
+            try {
+                if (this.current != null) {
+                    this.current.buffer(this.spillThreshold);
+                }
+            } catch (IOException e) {
+                this.finished = true;
+                throw new EntityReadException("Failed to read the part of the multipart entity.", e);
+            }
+            while (this.advance(true)) {
+                // 解析剩余的所有分块。
+            }
+        }
+        return Collections.unmodifiableList(this.parts);
+    }
+
+    @Override
+    public Iterator<NamedEntity> parts() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < StreamingPartitionedEntity.this.parts.size()
+                        || StreamingPartitionedEntity.this.advance(false);
+            }
+
+            @Override
+            public NamedEntity next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return StreamingPartitionedEntity.this.parts.get(this.index++);
+            }
+        };
+    }
+
+    private boolean advance(boolean buffered) {
+        if (this.finished) {
+            return false;
+        }
+        try {
+            if (this.pendingHeaders == null) {
+                this.current.skip();
+                if (this.reader.readBoundaryEnding()) {
+                    this.finished = true;
+                    return false;
+                }
+                this.pendingHeaders = this.reader.readHeaders(this.charset);
+            }
+            List<String> headers = this.pendingHeaders;
+            this.pendingHeaders = null;
+            this.parts.add(this.createPart(headers, buffered));
+            return true;
+        } catch (IOException e) {
+            this.finished = true;
+            throw new EntityReadException("Failed to read the part of the multipart entity.", e);
+        }
+    }
+
+    private NamedEntity createPart(List<String> headers, boolean buffered) throws IOException {
+        ContentDisposition disposition =
+                cast(parseHeaderValues(headers).get(CONTENT_DISPOSITION.toLowerCase(Locale.ROOT)));
+        MultiPartReader.Body body = this.reader.openBody(this.maxPartSize);
+        this.current = body;
+        Entity entity;
+        if (disposition != null && disposition.name().isPresent() && disposition.fileName().isPresent()) {
+            if (buffered) {
+                body.buffer(this.spillThreshold);
+            }
+            entity = new PartFileEntity(this.belongTo(), disposition.fileName().get(), body);
+        } else {
+            entity = new DefaultTextEntity(this.belongTo(), new String(IoUtils.read(body), this.charset));
+        }
+        String name = disposition == null ? StringUtils.EMPTY : disposition.name().orElse(StringUtils.EMPTY);
+        return new DefaultNamedEntity(this.belongTo(), name, entity);
+    }
+
+    private static Map<String, HeaderValue> parseHeaderValues(List<String> metadataLines) {
+        Map<String, HeaderValue> result = new HashMap<>();
+        for (String line : metadataLines) {
+            int separatorIndex = line.indexOf(HEADER_SEPARATOR);
+            if (separatorIndex < 0) {
+                continue;
+            }
+            String headerName = line.substring(0, separatorIndex).trim().toLowerCase(Locale.ROOT);
+            Function<HeaderValue, HeaderValue> function = FUNCTIONS.get(headerName);
+            if (function == null) {
+                continue;
+            }
+            String headerRawValue = line.substring(separatorIndex + 1).trim();
+            result.put(headerName, function.apply(HttpUtils.parseHeaderValue(headerRawValue)));
+        }
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public MimeType resolvedMimeType() {
+        return MimeType.MULTIPART_FORM_DATA;
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        this.finished = true;
+        for (NamedEntity entity : this.parts) {
+            entity.close();
+        }
+    }
+
+    /**
+     * 表示分块中的文件。
+     * <p>文件内容未缓存时，文件的长度未知。</p>
+     */
+    private static final class PartFileEntity extends DefaultFileEntity {
+        private final MultiPartReader.Body body;
+
+        private PartFileEntity(HttpMessage httpMessage, String filename, MultiPartReader.Body body) {
+            super(httpMessage, filename, body, 0, FileEntity.Position.INLINE, null);
+            this.body = body;
+        }
+
+        @Override
+        public long length() {
+            return this.body.length();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.entity.serializer;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.choir.AbstractChoir;
+import modelengine.fitframework.flowable.subscription.AbstractSubscription;
+import modelengine.fitframework.inspection.Nonnull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 表示按需从文本事件流中解析事件的 {@link Choir}。
+ * <p>只有在订阅者请求数据时，才在请求数据的线程中读取并解析事件，读取的事件数量不超过请求的数量，从而将订阅者的背压传递到
+ * 底层连接。解析规则如下：</p>
+ * <ul>
+ *     <li>以 {@code ':'} 开头的行是注释，例如服务端发送的心跳，不产生事件；</li>
+ *     <li>空行表示事件结束，只有包含 {@code id}、{@code event}、{@code retry} 或 {@code data} 字段的事件才会发送；</li>
+ *     <li>非数字的 {@code retry} 字段被忽略；</li>
+ *     <li>数据流结束时，不完整的最后一个事件被丢弃。</li>
+ * </ul>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ * @see <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">Server-sent events</a>
+ */
+class TextEventChoir extends AbstractChoir<TextEvent> {
+    private final BufferedReader reader;
+    private final Function<String, Object> dataDeserializer;
+
+    /**
+     * 创建按需解析文本事件流的 {@link Choir}。
+     *
+     * @param reader 表示文本事件流的 {@link BufferedReader}。
+     * @param dataDeserializer 表示事件数据的反序列化方法的
+     * {@link Function}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     */
+    TextEventChoir(BufferedReader reader, Function<String, Object> dataDeserializer) {
+        this.reader = notNull(reader, "The reader cannot be null.");
+        this.dataDeserializer = notNull(dataDeserializer, "The data deserializer cannot be null.");
+    }
+
+    @Override
+    protected void subscribe0(@Nonnull Subscriber<TextEvent> subscriber) {
+        subscriber.onSubscribed(new TextEventSubscription(subscriber, this.reader, this.dataDeserializer));
+    }
+
+    private static class TextEventSubscription extends AbstractSubscription {
+        private final Subscriber<TextEvent> subscriber;
+        private final BufferedReader reader;
+        private final Function<String, Object> dataDeserializer;
+        private final AtomicLong counter = new AtomicLong();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        TextEventSubscription(Subscriber<TextEvent> subscriber, BufferedReader reader,
+                Function<String, Object> dataDeserializer) {
+            this.subscriber = subscriber;
+            this.reader = reader;
+            this.dataDeserializer = dataDeserializer;
+        }
+
+        @Override
+        protected void request0(long count) {
+            if (this.completed.get()) {
+                return;
+            }
+            long pre = this.counter.getAndAccumulate(count, TextEventSubscription::add);
+            // 计数不为 0 时，已经有线程在读取事件，由该线程继续满足新增的请求，同一时刻只有一个线程读取。
+            if (pre == 0) {
+                this.drain();
+            }
+        }
+
+        private static long add(long current, long count) {
+            long sum = current + count;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+
+        private static long decrement(long current) {
+            return current == Long.MAX_VALUE ? current : current - 1;
+        }
+
+        private void drain() {
+            while (!this.isCancelled()) {
+                TextEvent event;
+                try {
+                    event = this.readEvent();
+                } catch (Exception e) {
+                    if (this.completed.compareAndSet(false, true) && !this.isCancelled()) {
+                        this.subscriber.fail(e);
+                    }
+                    return;
+                }
+                if (event == null) {
+                    if (this.completed.compareAndSet(false, true) && !this.isCancelled()) {
+                        this.subscriber.complete();
+                    }
+                    return;
+                }
+                try {
+                    this.subscriber.consume(event);
+                } catch (Exception e) {
+                    this.completed.set(true);
+                    this.subscriber.fail(e);
+                    return;
+                }
+                if (this.counter.updateAndGet(TextEventSubscription::decrement) == 0) {
+                    return;
+                }
+            }
+        }
+
+        private TextEvent readEvent() throws IOException {
+            TextEvent.Builder builder = TextEvent.custom();
+            StringBuilder data = null;
+            boolean hasField = false;
+            String line;
+            while ((line = this.reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    if (hasField) {
+                        return builder.data(this.dataDeserializer.apply(data == null ? "" : data.toString())).build();
+                    }
+                    continue;
+                }
+                String[] parts = line.split(TextEvent.COLON, 2);
+                if (line.startsWith(TextEvent.COLON) || parts.length < 2) {
+                    continue;
+                }
+                String value = parts[1].trim();
+                switch (parts[0]) {
+                    case TextEvent.EVENT_ID:
+                        builder.id(value);
+                        break;
+                    case TextEvent.EVENT_NAME:
+                        builder.event(value);
+                        break;
+                    case TextEvent.EVENT_RETRY:
+                        if (!isDigits(value)) {
+                            continue;
+                        }
+                        builder.retry(Duration.ofMillis(Long.parseLong(value)));
+                        break;
+                    case TextEvent.EVENT_DATA:
+                        data = data == null ? new StringBuilder() : data.append(TextEvent.LF);
+                        data.append(value);
+                        break;
+                    default:
+                        continue;
+                }
+                hasField = true;
+            }
+            return null;
+        }
+
+        private static boolean isDigits(String value) {
+            if (value.isEmpty() || value.length() > 18) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                if (ch < '0' || ch > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -14,8 +14,6 @@ import modelengine.fit.http.entity.EntitySerializer;
 import modelengine.fit.http.entity.TextEvent;
 import modelengine.fit.http.entity.TextEventStreamEntity;
 import modelengine.fit.http.entity.support.DefaultTextEventStreamEntity;
-import modelengine.fitframework.flowable.Choir;
-import modelengine.fitframework.flowable.Emitter;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.serialization.ObjectSerializer;
 
@@ -25,7 +23,6 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
-import java.time.Duration;
 
 /**
  * 表示消息体格式为 {@code 'text/event-stream'} 的序列化器。
@@ -56,33 +53,8 @@ public class TextEventStreamSerializer implements EntitySerializer<TextEventStre
     @Override
     public TextEventStreamEntity deserializeEntity(@Nonnull InputStream in, Charset charset,
             @Nonnull HttpMessage httpMessage, Type type) {
-        Choir<TextEvent> stream = Choir.create(emitter -> {
-            try {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
-                emitData(emitter, reader);
-                emitter.complete();
-            } catch (Exception e) {
-                emitter.fail(e);
-            }
-        });
-        return new DefaultTextEventStreamEntity(httpMessage, stream);
-    }
-
-    private void emitData(Emitter<TextEvent> emitter, BufferedReader reader) throws Exception {
-        String line;
-        StringBuilder dataBuffer = new StringBuilder();
-        TextEvent.Builder builder = TextEvent.custom();
-        while ((line = reader.readLine()) != null) {
-            if (line.isEmpty()) {
-                Object data = this.deserializeData(dataBuffer.toString());
-                TextEvent textEvent = builder.data(data).build();
-                emitter.emit(textEvent);
-                dataBuffer.setLength(0);
-                builder = TextEvent.custom();
-            } else {
-                parseLine(line, builder, dataBuffer);
-            }
-        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+        return new DefaultTextEventStreamEntity(httpMessage, new TextEventChoir(reader, this::deserializeData));
     }
 
     private Object deserializeData(String data) {
@@ -91,31 +63,4 @@ public class TextEventStreamSerializer implements EntitySerializer<TextEventStre
         }
         return this.jsonSerializer.deserialize(data, this.type);
     }
-
-    private static void parseLine(String line, TextEvent.Builder builder, StringBuilder dataBuffer) {
-        String[] parts = line.split(TextEvent.COLON, 2);
-        if (parts.length == 2) {
-            String key = parts[0];
-            String value = parts[1].trim();
-            switch (key) {
-                case TextEvent.EVENT_ID:
-                    builder.id(value);
-                    break;
-                case TextEvent.EVENT_NAME:
-                    builder.event(value);
-                    break;
-                case TextEvent.EVENT_RETRY:
-                    builder.retry(Duration.ofMillis(Long.parseLong(value)));
-                    break;
-                case TextEvent.EVENT_DATA:
-                    if (dataBuffer.length() > 0) {
-                        dataBuffer.append(TextEvent.LF);
-                    }
-                    dataBuffer.append(value);
-                    break;
-                default:
-                    break;
-            }
-        }
-    }
-}
\ No newline at end of file
+}
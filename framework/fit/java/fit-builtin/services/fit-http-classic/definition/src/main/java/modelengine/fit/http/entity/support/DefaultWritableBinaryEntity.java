@@ -40,6 +40,7 @@ public class DefaultWritableBinaryEntity extends AbstractEntity implements Writa
     @Override
     public void write(byte[] bytes, int off, int len) throws IOException {
         this.serverResponse.writeBody(bytes, off, len);
+        this.serverResponse.flushBody();
     }
 
     @Override
@@ -88,4 +88,33 @@ public interface HttpClassicServerResponse extends HttpClassicResponse, Closeabl
     static HttpClassicServerResponse create(HttpResource httpResource, ServerResponse serverResponse) {
         return new DefaultHttpClassicServerResponse(httpResource, serverResponse);
     }
+
+    /**
+     * 创建经典的服务端的 Http 响应对象。
+     * <p>创建出来的响应在发送文件类型的消息体数据时，会按照请求中的 {@code Range} 及 {@code If-Range} 消息头返回部分内容。</p>
+     *
+     * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
+     * @param serverResponse 表示服务端的 Http 响应的 {@link ServerResponse}。
+     * @param request 表示对应的经典的服务端的 Http 请求的 {@link HttpClassicServerRequest}。
+     * @return 表示创建的经典的服务端的 Http 响应对象的 {@link HttpClassicServerResponse}。
+     */
+    static HttpClassicServerResponse create(HttpResource httpResource, ServerResponse serverResponse,
+            HttpClassicServerRequest request) {
+        return new DefaultHttpClassicServerResponse(httpResource, serverResponse, request);
+    }
+
+    /**
+     * 创建经典的服务端的 Http 响应对象。
+     * <p>创建出来的响应在发送文本事件流类型的消息体数据时，按照指定的配置异步输出，不占用当前线程等待事件流结束。</p>
+     *
+     * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
+     * @param serverResponse 表示服务端的 Http 响应的 {@link ServerResponse}。
+     * @param request 表示对应的经典的服务端的 Http 请求的 {@link HttpClassicServerRequest}。
+     * @param textEventStreamConfig 表示文本事件流配置的 {@link TextEventStreamConfig}。
+     * @return 表示创建的经典的服务端的 Http 响应对象的 {@link HttpClassicServerResponse}。
+     */
+    static HttpClassicServerResponse create(HttpResource httpResource, ServerResponse serverResponse,
+            HttpClassicServerRequest request, TextEventStreamConfig textEventStreamConfig) {
+        return new DefaultHttpClassicServerResponse(httpResource, serverResponse, request, textEventStreamConfig);
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server;
+
+import modelengine.fitframework.pattern.builder.BuilderFactory;
+
+/**
+ * 表示服务端发送文本事件流时的配置。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public interface TextEventStreamConfig {
+    /** 表示默认的预取事件数量。 */
+    int DEFAULT_PREFETCH = 32;
+
+    /**
+     * 获取心跳的时间间隔。
+     * <p>在该时间间隔内没有输出任何事件时，发送一个注释行作为心跳，以保持连接并及时发现已经断开的客户端。不大于 0 时不发送
+     * 心跳。</p>
+     *
+     * @return 表示心跳的时间间隔的毫秒数的 {@code long}。
+     */
+    long heartbeatMillis();
+
+    /**
+     * 获取事件输出的延迟时间。
+     * <p>在该时间内写入的事件合并为一个数据块输出，以减少小事件带来的输出次数。不大于 0 时每个事件写入后立即输出。</p>
+     *
+     * @return 表示事件输出的延迟时间的毫秒数的 {@code long}。
+     */
+    long flushDelayMillis();
+
+    /**
+     * 获取向事件流预取的事件数量。
+     * <p>已经输出的事件达到该数量的一半时，在连接可写的前提下继续向事件流请求数据。不大于 0 时使用
+     * {@link #DEFAULT_PREFETCH}。</p>
+     *
+     * @return 表示预取的事件数量的 {@code int}。
+     */
+    int prefetch();
+
+    /**
+     * 表示 {@link TextEventStreamConfig} 的构建器。
+     */
+    interface Builder {
+        /**
+         * 向当前构建器中设置心跳的时间间隔。
+         *
+         * @param heartbeatMillis 表示待设置的心跳的时间间隔的毫秒数的 {@code long}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder heartbeatMillis(long heartbeatMillis);
+
+        /**
+         * 向当前构建器中设置事件输出的延迟时间。
+         *
+         * @param flushDelayMillis 表示待设置的事件输出的延迟时间的毫秒数的 {@code long}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder flushDelayMillis(long flushDelayMillis);
+
+        /**
+         * 向当前构建器中设置预取的事件数量。
+         *
+         * @param prefetch 表示待设置的预取的事件数量的 {@code int}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder prefetch(int prefetch);
+
+        /**
+         * 构建对象。
+         *
+         * @return 表示构建出来的对象的 {@link TextEventStreamConfig}。
+         */
+        TextEventStreamConfig build();
+    }
+
+    /**
+     * 获取 {@link TextEventStreamConfig} 的构建器。
+     *
+     * @return 表示 {@link TextEventStreamConfig} 的构建器的 {@link Builder}。
+     */
+    static Builder custom() {
+        return custom(null);
+    }
+
+    /**
+     * 获取 {@link TextEventStreamConfig} 的构建器，同时将指定对象的值进行填充。
+     *
+     * @param value 表示指定对象的 {@link TextEventStreamConfig}。
+     * @return 表示 {@link TextEventStreamConfig} 的构建器的 {@link Builder}。
+     */
+    static Builder custom(TextEventStreamConfig value) {
+        return BuilderFactory.get(TextEventStreamConfig.class, Builder.class).create(value);
+    }
+}
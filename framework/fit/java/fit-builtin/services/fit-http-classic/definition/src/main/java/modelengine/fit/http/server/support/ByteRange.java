@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server.support;
+
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 表示 Http 范围请求中的一个字节范围。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-14">RFC 9110</a>
+ */
+final class ByteRange {
+    /** 表示单个请求中允许的最大范围数量，超过时忽略范围请求，以避免大量细碎范围带来的开销。 */
+    static final int MAX_RANGES = 16;
+
+    private static final String UNIT_PREFIX = "bytes=";
+    private static final long ABSENT = -1L;
+    private static final long INVALID = -2L;
+
+    private final long start;
+    private final long end;
+
+    ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * 获取范围的起始位置。
+     *
+     * @return 表示范围起始位置的 {@code long}。
+     */
+    long start() {
+        return this.start;
+    }
+
+    /**
+     * 获取范围的结束位置（包含）。
+     *
+     * @return 表示范围结束位置的 {@code long}。
+     */
+    long end() {
+        return this.end;
+    }
+
+    /**
+     * 获取范围的字节数。
+     *
+     * @return 表示范围字节数的 {@code long}。
+     */
+    long length() {
+        return this.end - this.start + 1;
+    }
+
+    /**
+     * 获取范围对应的 {@code Content-Range} 消息头的值。
+     *
+     * @param total 表示完整内容长度的 {@code long}。
+     * @return 表示 {@code Content-Range} 消息头的值的 {@link String}。
+     */
+    String toContentRange(long total) {
+        return "bytes " + this.start + "-" + this.end + "/" + total;
+    }
+
+    /**
+     * 解析 {@code Range} 消息头。
+     * <p>返回的范围按起始位置排序，且重叠或相邻的范围已经合并。</p>
+     *
+     * @param value 表示 {@code Range} 消息头的值的 {@link String}。
+     * @param total 表示完整内容长度的 {@code long}。
+     * @return 当消息头不存在、语法错误或范围过多时，返回 {@code null}，表示忽略范围请求；当所有范围都无法满足时，返回空列表；
+     * 否则返回可以满足的范围的 {@link List}{@code <}{@link ByteRange}{@code >}。
+     */
+    static List<ByteRange> parse(String value, long total) {
+        if (StringUtils.isBlank(value) || !StringUtils.startsWithIgnoreCase(value.trim(), UNIT_PREFIX)) {
+            return null;
+        }
+        String[] specs = value.trim().substring(UNIT_PREFIX.length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+        List<ByteRange> ranges = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            String actual = spec.trim();
+            int index = actual.indexOf('-');
+            if (index < 0) {
+                return null;
+            }
+            long first = parseLong(actual.substring(0, index).trim());
+            long last = parseLong(actual.substring(index + 1).trim());
+            if (first == INVALID || last == INVALID || (first == ABSENT && last == ABSENT)) {
+                return null;
+            }
+            if (first == ABSENT) {
+                // 后缀范围：'-n' 表示最后 n 个字节。
+                if (last > 0 && total > 0) {
+                    ranges.add(new ByteRange(Math.max(total - last, 0), total - 1));
+                }
+                continue;
+            }
+            if (last != ABSENT && last < first) {
+                return null;
+            }
+            if (first < total) {
+                ranges.add(new ByteRange(first, last == ABSENT ? total - 1 : Math.min(last, total - 1)));
+            }
+        }
+        return merge(ranges);
+    }
+
+    private static long parseLong(String value) {
+        if (value.isEmpty()) {
+            return ABSENT;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return INVALID;
+            }
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return INVALID;
+        }
+    }
+
+    private static List<ByteRange> merge(List<ByteRange> ranges) {
+        if (ranges.size() < 2) {
+            return ranges;
+        }
+        List<ByteRange> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(ByteRange::start));
+        List<ByteRange> merged = new ArrayList<>(sorted.size());
+        ByteRange current = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            ByteRange next = sorted.get(i);
+            if (next.start <= current.end + 1) {
+                current = new ByteRange(current.start, Math.max(current.end, next.end));
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return Collections.unmodifiableList(merged);
+    }
+
+    @Override
+    public String toString() {
+        return this.start + "-" + this.end;
+    }
+}
@@ -6,12 +6,20 @@
 
 package modelengine.fit.http.server.support;
 
+import static modelengine.fit.http.protocol.MessageHeaderNames.ACCEPT_RANGES;
 import static modelengine.fit.http.protocol.MessageHeaderNames.CACHE_CONTROL;
 import static modelengine.fit.http.protocol.MessageHeaderNames.CONNECTION;
 import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_DISPOSITION;
 import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_LENGTH;
+import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_RANGE;
+import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_TYPE;
 import static modelengine.fit.http.protocol.MessageHeaderNames.COOKIE;
+import static modelengine.fit.http.protocol.MessageHeaderNames.ETAG;
+import static modelengine.fit.http.protocol.MessageHeaderNames.IF_RANGE;
+import static modelengine.fit.http.protocol.MessageHeaderNames.LAST_MODIFIED;
+import static modelengine.fit.http.protocol.MessageHeaderNames.RANGE;
 import static modelengine.fit.http.protocol.MessageHeaderNames.TRANSFER_ENCODING;
+import static modelengine.fit.http.protocol.MessageHeaderValues.BYTES;
 import static modelengine.fit.http.protocol.MessageHeaderValues.CHUNKED;
 import static modelengine.fit.http.protocol.MessageHeaderValues.KEEP_ALIVE;
 import static modelengine.fit.http.protocol.MessageHeaderValues.NO_CACHE;
@@ -30,23 +38,32 @@ import modelengine.fit.http.header.ContentType;
 import modelengine.fit.http.header.HeaderValue;
 import modelengine.fit.http.header.ParameterCollection;
 import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
+import modelengine.fit.http.protocol.HttpRequestMethod;
 import modelengine.fit.http.protocol.HttpResponseStatus;
 import modelengine.fit.http.protocol.MessageHeaderValues;
+import modelengine.fit.http.protocol.MimeType;
 import modelengine.fit.http.protocol.ServerResponse;
+import modelengine.fit.http.server.HttpClassicServerRequest;
 import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.InternalServerErrorException;
+import modelengine.fit.http.server.TextEventStreamConfig;
 import modelengine.fit.http.support.AbstractHttpClassicResponse;
+import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.resource.UrlUtils;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.UUID;
 
 /**
  * 表示 {@link HttpClassicServerResponse} 的默认实现。
@@ -56,12 +73,18 @@ import java.util.concurrent.atomic.AtomicReference;
  * @since 2022-11-25
  */
 public class DefaultHttpClassicServerResponse extends AbstractHttpClassicResponse implements HttpClassicServerResponse {
+    private static final Logger log = Logger.get(DefaultHttpClassicServerResponse.class);
     private static final String FILENAME_PARAMETER_KEY = "filename";
     private static final String FILENAME_STAR_PARAMETER_KEY = "filename*";
     private static final String ZERO = "0";
+    private static final int BUFFER_SIZE = 8192;
+    private static final String WEAK_VALIDATOR_PREFIX = "W/";
 
     private final ServerResponse serverResponse;
+    private final HttpClassicServerRequest request;
+    private final TextEventStreamConfig textEventStreamConfig;
     private Entity entity;
+    private TextEventStreamWriter textEventStreamWriter;
 
     /**
      * 创建经典的服务端的 Http 响应对象。
@@ -70,10 +93,39 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
      * @param serverResponse 表示服务端的 Http 响应的 {@link ServerResponse}。
      */
     public DefaultHttpClassicServerResponse(HttpResource httpResource, ServerResponse serverResponse) {
+        this(httpResource, serverResponse, null);
+    }
+
+    /**
+     * 创建经典的服务端的 Http 响应对象。
+     * <p>指定对应的 Http 请求后，文件类型的消息体数据将按照请求中的 {@code Range} 及 {@code If-Range} 消息头返回部分内容。</p>
+     *
+     * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
+     * @param serverResponse 表示服务端的 Http 响应的 {@link ServerResponse}。
+     * @param request 表示对应的经典的服务端的 Http 请求的 {@link HttpClassicServerRequest}，可以为 {@code null}。
+     */
+    public DefaultHttpClassicServerResponse(HttpResource httpResource, ServerResponse serverResponse,
+            HttpClassicServerRequest request) {
+        this(httpResource, serverResponse, request, null);
+    }
+
+    /**
+     * 创建经典的服务端的 Http 响应对象。
+     * <p>文本事件流类型的消息体数据将按照指定的配置异步输出，响应在事件流结束后才真正关闭。</p>
+     *
+     * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
+     * @param serverResponse 表示服务端的 Http 响应的 {@link ServerResponse}。
+     * @param request 表示对应的经典的服务端的 Http 请求的 {@link HttpClassicServerRequest}，可以为 {@code null}。
+     * @param textEventStreamConfig 表示文本事件流配置的 {@link TextEventStreamConfig}，为 {@code null} 时使用默认配置。
+     */
+    public DefaultHttpClassicServerResponse(HttpResource httpResource, ServerResponse serverResponse,
+            HttpClassicServerRequest request, TextEventStreamConfig textEventStreamConfig) {
         super(httpResource,
                 notNull(serverResponse, "The server response cannot be null.").startLine(),
                 serverResponse.headers());
         this.serverResponse = serverResponse;
+        this.request = request;
+        this.textEventStreamConfig = textEventStreamConfig;
     }
 
     @Override
@@ -137,6 +189,7 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
         this.headers().set(TRANSFER_ENCODING, CHUNKED);
         this.commit();
         this.serverResponse.writeStartLineAndHeaders();
+        this.serverResponse.flushBody();
         return ObjectUtils.cast(this.entity);
     }
 
@@ -148,16 +201,15 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
             if (this.entity == null) {
                 this.headers().set(CONTENT_LENGTH, ZERO);
                 this.serverResponse.writeStartLineAndHeaders();
+            } else if (this.entity instanceof FileEntity) {
+                this.sendFileEntity(cast(this.entity));
             } else if (this.entity instanceof ReadableBinaryEntity) {
-                if (this.entity instanceof FileEntity) {
-                    FileEntity actual = cast(this.entity);
-                    this.headers().set(CONTENT_LENGTH, String.valueOf(actual.length()));
-                } else if (!this.headers().contains(CONTENT_LENGTH)) {
+                if (!this.headers().contains(CONTENT_LENGTH)) {
                     this.headers().set(TRANSFER_ENCODING, CHUNKED);
                 }
                 this.serverResponse.writeStartLineAndHeaders();
                 ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
-                byte[] bytes = new byte[512];
+                byte[] bytes = new byte[BUFFER_SIZE];
                 int read;
                 while ((read = readableBinaryEntity.read(bytes)) > -1) {
                     this.serverResponse.writeBody(bytes, 0, read);
@@ -169,7 +221,10 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
                 this.headers().set(CONNECTION, KEEP_ALIVE);
                 this.headers().set(TRANSFER_ENCODING, CHUNKED);
                 this.serverResponse.writeStartLineAndHeaders();
+                this.serverResponse.flushBody();
+                // 文本事件流异步输出，由写入器在事件流结束后发送响应结束标识符。
                 this.sendTextEventStream(cast(this.entity));
+                return;
             } else {
                 byte[] entityBytes = this.entitySerializer().serializeEntity(ObjectUtils.cast(this.entity), charset);
                 this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
@@ -182,39 +237,154 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
         }
     }
 
-    private void sendTextEventStream(TextEventStreamEntity eventStreamEntity) throws IOException {
-        ObjectSerializer objectSerializer = this.jsonSerializer()
-                .orElseThrow(() -> new IllegalStateException("The json serializer cannot be null."));
-        AtomicReference<Exception> exception = new AtomicReference<>();
-        CountDownLatch latch = new CountDownLatch(1);
-        eventStreamEntity.stream()
-                .map(sse -> sse.serialize(objectSerializer).getBytes(StandardCharsets.UTF_8))
-                .subscribe(null, (subscription, bytes) -> {
-                    try {
-                        this.serverResponse.writeBody(bytes);
-                    } catch (IOException e) {
-                        subscription.cancel();
-                        exception.set(e);
-                        latch.countDown();
-                    }
-                }, subscription -> latch.countDown(), (ignore, e) -> {
-                    exception.set(e);
-                    latch.countDown();
-                });
-        try {
-            latch.await();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new InternalServerErrorException("Failed to execute handler.", e);
+    private void sendFileEntity(FileEntity fileEntity) throws IOException {
+        long total = fileEntity.length();
+        this.headers().set(ACCEPT_RANGES, BYTES);
+        List<ByteRange> ranges = this.requestedRanges(total);
+        FileChannel channel = fileChannel(fileEntity);
+        if (ranges == null) {
+            this.headers().set(CONTENT_LENGTH, String.valueOf(total));
+            this.serverResponse.writeStartLineAndHeaders();
+            if (channel != null) {
+                this.serverResponse.writeFile(channel, 0, total);
+                return;
+            }
+            byte[] bytes = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = fileEntity.read(bytes)) > -1) {
+                this.serverResponse.writeBody(bytes, 0, read);
+            }
+        } else if (ranges.isEmpty()) {
+            this.status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            this.headers().set(CONTENT_RANGE, "bytes */" + total);
+            this.headers().set(CONTENT_LENGTH, ZERO);
+            this.serverResponse.writeStartLineAndHeaders();
+        } else if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            this.status(HttpResponseStatus.PARTIAL_CONTENT);
+            this.headers().set(CONTENT_RANGE, range.toContentRange(total));
+            this.headers().set(CONTENT_LENGTH, String.valueOf(range.length()));
+            this.serverResponse.writeStartLineAndHeaders();
+            this.writeFileRange(fileEntity, channel, 0, range);
+        } else {
+            this.sendMultipleRanges(fileEntity, channel, ranges, total);
         }
-        Exception e = exception.get();
-        if (e == null) {
-            return;
+    }
+
+    private void sendMultipleRanges(FileEntity fileEntity, FileChannel channel, List<ByteRange> ranges, long total)
+            throws IOException {
+        String boundary = UUID.randomUUID().toString().replace("-", StringUtils.EMPTY);
+        String contentType = this.headers().first(CONTENT_TYPE).orElse(null);
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long length = 0;
+        for (ByteRange range : ranges) {
+            StringBuilder builder = new StringBuilder("\r\n--").append(boundary).append("\r\n");
+            if (contentType != null) {
+                builder.append(CONTENT_TYPE).append(": ").append(contentType).append("\r\n");
+            }
+            builder.append(CONTENT_RANGE).append(": ").append(range.toContentRange(total)).append("\r\n\r\n");
+            byte[] partHeader = builder.toString().getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(partHeader);
+            length += partHeader.length + range.length();
         }
-        if (e instanceof IOException) {
-            throw (IOException) e;
+        byte[] closeDelimiter = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        length += closeDelimiter.length;
+        this.status(HttpResponseStatus.PARTIAL_CONTENT);
+        this.headers().set(CONTENT_TYPE, MimeType.MULTIPART_BYTERANGES.value() + "; boundary=" + boundary);
+        this.headers().set(CONTENT_LENGTH, String.valueOf(length));
+        this.serverResponse.writeStartLineAndHeaders();
+        long position = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            this.serverResponse.writeBody(partHeaders.get(i));
+            position = this.writeFileRange(fileEntity, channel, position, ranges.get(i));
         }
-        throw new InternalServerErrorException("Failed to execute handler.", e);
+        this.serverResponse.writeBody(closeDelimiter);
+    }
+
+    private void status(HttpResponseStatus status) {
+        // 响应已经提交，因此直接修改起始行。
+        this.serverResponse.startLine().statusCode(status.statusCode());
+        this.serverResponse.startLine().reasonPhrase(status.reasonPhrase());
+    }
+
+    private List<ByteRange> requestedRanges(long total) {
+        if (this.request == null || this.request.method() != HttpRequestMethod.GET
+                || this.statusCode() != HttpResponseStatus.OK.statusCode()) {
+            return null;
+        }
+        Optional<String> range = this.request.headers().first(RANGE);
+        if (!range.isPresent()) {
+            return null;
+        }
+        Optional<String> ifRange = this.request.headers().first(IF_RANGE);
+        if (ifRange.isPresent() && !this.isValidatorMatched(ifRange.get().trim())) {
+            return null;
+        }
+        return ByteRange.parse(range.get(), total);
+    }
+
+    private boolean isValidatorMatched(String validator) {
+        if (validator.startsWith(WEAK_VALIDATOR_PREFIX)) {
+            return false;
+        }
+        String actual = this.headers().first(validator.startsWith("\"") ? ETAG : LAST_MODIFIED).orElse(null);
+        return actual != null && !actual.startsWith(WEAK_VALIDATOR_PREFIX)
+                && StringUtils.equals(actual.trim(), validator);
+    }
+
+    private static FileChannel fileChannel(FileEntity fileEntity) {
+        InputStream in = fileEntity.getInputStream();
+        return in instanceof FileInputStream ? ((FileInputStream) in).getChannel() : null;
+    }
+
+    /**
+     * 将文件类型的消息体数据中指定范围的数据写入响应。
+     * <p>文件通道存在时，直接按位置写入文件区域；否则从输入流中跳过数据，因此范围需要按起始位置依次写入。</p>
+     *
+     * @param fileEntity 表示文件类型的消息体数据的 {@link FileEntity}。
+     * @param channel 表示文件通道的 {@link FileChannel}，可以为 {@code null}。
+     * @param position 表示输入流当前位置的 {@code long}。
+     * @param range 表示待写入范围的 {@link ByteRange}。
+     * @return 表示写入后输入流位置的 {@code long}。
+     * @throws IOException 当发生 I/O 异常时。
+     */
+    private long writeFileRange(FileEntity fileEntity, FileChannel channel, long position, ByteRange range)
+            throws IOException {
+        if (channel != null) {
+            this.serverResponse.writeFile(channel, range.start(), range.length());
+            return position;
+        }
+        InputStream in = fileEntity.getInputStream();
+        long current = position;
+        while (current < range.start()) {
+            long skipped = in.skip(range.start() - current);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new IOException("The file ends before the requested range.");
+                }
+                skipped = 1;
+            }
+            current += skipped;
+        }
+        byte[] bytes = new byte[(int) Math.min(range.length(), BUFFER_SIZE)];
+        long remaining = range.length();
+        while (remaining > 0) {
+            int read = in.read(bytes, 0, (int) Math.min(bytes.length, remaining));
+            if (read < 0) {
+                throw new IOException("The file ends before the requested range.");
+            }
+            this.serverResponse.writeBody(bytes, 0, read);
+            remaining -= read;
+        }
+        return range.end() + 1;
+    }
+
+    private void sendTextEventStream(TextEventStreamEntity eventStreamEntity) {
+        ObjectSerializer objectSerializer = this.jsonSerializer()
+                .orElseThrow(() -> new IllegalStateException("The json serializer cannot be null."));
+        this.textEventStreamWriter =
+                new TextEventStreamWriter(this.serverResponse, objectSerializer, this.textEventStreamConfig);
+        this.textEventStreamWriter.start(eventStreamEntity.stream());
     }
 
     @Override
@@ -234,6 +404,22 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
 
     @Override
     public void close() throws IOException {
+        TextEventStreamWriter writer = this.textEventStreamWriter;
+        if (writer == null) {
+            this.close0();
+            return;
+        }
+        this.textEventStreamWriter = null;
+        writer.closeOnTerminated(() -> {
+            try {
+                this.close0();
+            } catch (IOException e) {
+                log.warn("Failed to close http classic server response after text event stream terminated.", e);
+            }
+        });
+    }
+
+    private void close0() throws IOException {
         this.serverResponse.close();
         if (this.entity != null) {
             this.entity.close();
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fit.http.protocol.ServerResponse;
+import modelengine.fit.http.server.TextEventStreamConfig;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.LockUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 表示文本事件流的写入器。
+ * <p>写入器不占用处理请求的线程等待事件流结束，而是由事件流的订阅驱动输出：</p>
+ * <ul>
+ *     <li>初始时向事件流请求预取数量的事件，每输出预取数量一半的事件后，在连接可写时继续请求，连接不可写时暂停请求；</li>
+ *     <li>配置了输出延迟时，延迟时间内写入的事件合并为一个数据块输出；</li>
+ *     <li>配置了心跳时，在心跳间隔内没有输出任何事件时发送一个注释行，发送失败说明客户端已经断开，此时取消事件流。</li>
+ * </ul>
+ * <p>定时任务由服务端响应提供的调度器执行，没有调度器时每个事件写入后立即输出，且不发送心跳。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class TextEventStreamWriter {
+    private static final Logger log = Logger.get(TextEventStreamWriter.class);
+    private static final byte[] HEARTBEAT = (TextEvent.COLON + TextEvent.LF + TextEvent.LF).getBytes(
+            StandardCharsets.UTF_8);
+
+    private final ServerResponse serverResponse;
+    private final ObjectSerializer serializer;
+    private final ScheduledExecutorService scheduler;
+    private final long heartbeatMillis;
+    private final long flushDelayMillis;
+    private final int prefetch;
+    private final int replenishment;
+    private final Lock lock = LockUtils.newReentrantLock();
+
+    private Subscription subscription;
+    private int consumed;
+    private boolean hasWritten;
+    private ScheduledFuture<?> flushFuture;
+    private ScheduledFuture<?> heartbeatFuture;
+    private Runnable terminatedAction;
+    private volatile boolean terminated;
+
+    /**
+     * 创建文本事件流的写入器。
+     *
+     * @param serverResponse 表示服务端的 Http 响应的 {@link ServerResponse}。
+     * @param serializer 表示事件数据的序列化器的 {@link ObjectSerializer}。
+     * @param config 表示文本事件流配置的 {@link TextEventStreamConfig}，为 {@code null} 时使用默认配置。
+     * @throws IllegalArgumentException 当 {@code serverResponse} 或 {@code serializer} 为 {@code null} 时。
+     */
+    TextEventStreamWriter(ServerResponse serverResponse, ObjectSerializer serializer, TextEventStreamConfig config) {
+        this.serverResponse = notNull(serverResponse, "The server response cannot be null.");
+        this.serializer = notNull(serializer, "The serializer cannot be null.");
+        this.scheduler = serverResponse.scheduler().orElse(null);
+        this.heartbeatMillis = config == null ? 0L : config.heartbeatMillis();
+        this.flushDelayMillis = config == null ? 0L : config.flushDelayMillis();
+        int actualPrefetch = config == null ? 0 : config.prefetch();
+        this.prefetch = actualPrefetch > 0 ? actualPrefetch : TextEventStreamConfig.DEFAULT_PREFETCH;
+        this.replenishment = Math.max(this.prefetch / 2, 1);
+    }
+
+    /**
+     * 开始输出指定的事件流。
+     * <p>该方法在订阅事件流后立即返回，不等待事件流结束。</p>
+     *
+     * @param stream 表示待输出的事件流的 {@link Choir}{@code <}{@link TextEvent}{@code >}。
+     */
+    void start(Choir<TextEvent> stream) {
+        if (this.scheduler != null && this.heartbeatMillis > 0) {
+            this.heartbeatFuture = this.scheduler.scheduleAtFixedRate(this::heartbeat,
+                    this.heartbeatMillis,
+                    this.heartbeatMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        stream.subscribe(this::onSubscribed, this::onConsumed, this::onCompleted, this::onFailed);
+    }
+
+    /**
+     * 在事件流输出结束后执行指定的操作。
+     * <p>事件流已经结束时，立即执行。</p>
+     *
+     * @param action 表示待执行的操作的 {@link Runnable}。
+     */
+    void closeOnTerminated(Runnable action) {
+        this.lock.lock();
+        try {
+            if (!this.terminated) {
+                this.terminatedAction = action;
+                return;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        action.run();
+    }
+
+    private void onSubscribed(Subscription subscription) {
+        this.lock.lock();
+        try {
+            this.subscription = subscription;
+        } finally {
+            this.lock.unlock();
+        }
+        if (this.terminated) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(this.prefetch);
+    }
+
+    private void onConsumed(Subscription subscription, TextEvent event) {
+        byte[] bytes = event.serialize(this.serializer).getBytes(StandardCharsets.UTF_8);
+        boolean shouldRequest = false;
+        Runnable cleanup = null;
+        this.lock.lock();
+        try {
+            if (this.terminated) {
+                return;
+            }
+            this.serverResponse.writeBody(bytes);
+            this.hasWritten = true;
+            if (this.scheduler == null || this.flushDelayMillis <= 0) {
+                this.serverResponse.flushBody();
+            } else if (this.flushFuture == null) {
+                this.scheduleFlush();
+            }
+            this.consumed++;
+            shouldRequest = this.consumed >= this.replenishment;
+            if (shouldRequest) {
+                this.consumed = 0;
+            }
+        } catch (IOException e) {
+            cleanup = this.abort(e);
+        } finally {
+            this.lock.unlock();
+        }
+        if (cleanup != null) {
+            cleanup.run();
+        } else if (shouldRequest) {
+            // 请求数据可能同步触发后续事件的输出，因此不能在持有锁时请求。
+            this.serverResponse.whenWritable(() -> {
+                if (!this.terminated) {
+                    subscription.request(this.replenishment);
+                }
+            });
+        }
+    }
+
+    private void onCompleted(Subscription subscription) {
+        this.finish();
+    }
+
+    private void onFailed(Subscription subscription, Exception cause) {
+        log.warn("Failed to generate text event stream, end the stream. [cause={}]", cause.getMessage());
+        log.debug("Failed to generate text event stream.", cause);
+        this.finish();
+    }
+
+    private void scheduleFlush() {
+        this.flushFuture = this.scheduler.schedule(this::flushDelayed, this.flushDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushDelayed() {
+        // 调度器可能是连接的 I/O 线程，持有锁的写入方可能正在等待连接可写，因此不能在此等待锁，而是稍后重试。
+        if (!this.lock.tryLock()) {
+            this.scheduleFlush();
+            return;
+        }
+        Runnable cleanup = null;
+        try {
+            this.flushFuture = null;
+            if (!this.terminated) {
+                this.serverResponse.flushBody();
+            }
+        } catch (IOException e) {
+            cleanup = this.abort(e);
+        } finally {
+            this.lock.unlock();
+        }
+        if (cleanup != null) {
+            cleanup.run();
+        }
+    }
+
+    private void heartbeat() {
+        if (!this.lock.tryLock()) {
+            // 写入方正在输出事件，无需心跳。
+            return;
+        }
+        Runnable cleanup = null;
+        try {
+            if (this.terminated) {
+                return;
+            }
+            if (this.hasWritten) {
+                this.hasWritten = false;
+                return;
+            }
+            this.serverResponse.writeBody(HEARTBEAT);
+            this.serverResponse.flushBody();
+        } catch (IOException e) {
+            cleanup = this.abort(e);
+        } finally {
+            this.lock.unlock();
+        }
+        if (cleanup != null) {
+            cleanup.run();
+        }
+    }
+
+    private void finish() {
+        Runnable action;
+        this.lock.lock();
+        try {
+            if (this.terminated) {
+                return;
+            }
+            this.terminate();
+            try {
+                this.serverResponse.flush();
+            } catch (IOException e) {
+                log.debug("Failed to end text event stream.", e);
+            }
+            action = this.terminatedAction;
+            this.terminatedAction = null;
+        } finally {
+            this.lock.unlock();
+        }
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    /**
+     * 在连接出现异常时中止输出，此时不发送响应结束标识符。
+     * <p>调用方需要持有锁。取消事件流及执行结束后的操作可能再次进入写入器，因此作为返回值，由调用方释放锁后执行。</p>
+     *
+     * @param cause 表示连接异常的 {@link IOException}。
+     * @return 表示释放锁后需要执行的操作的 {@link Runnable}。
+     */
+    private Runnable abort(IOException cause) {
+        if (this.terminated) {
+            return null;
+        }
+        log.debug("Failed to write text event stream, the client may be disconnected. [cause={}]",
+                cause.getMessage());
+        this.terminate();
+        Subscription actualSubscription = this.subscription;
+        Runnable action = this.terminatedAction;
+        this.terminatedAction = null;
+        return () -> {
+            if (actualSubscription != null) {
+                actualSubscription.cancel();
+            }
+            if (action != null) {
+                action.run();
+            }
+        };
+    }
+
+    private void terminate() {
+        this.terminated = true;
+        if (this.flushFuture != null) {
+            this.flushFuture.cancel(false);
+            this.flushFuture = null;
+        }
+        if (this.heartbeatFuture != null) {
+            this.heartbeatFuture.cancel(false);
+            this.heartbeatFuture = null;
+        }
+    }
+}
@@ -38,6 +38,7 @@ public class DefaultSerializers implements Serializers {
     private final LazyLoader<Map<MimeType, EntitySerializer<?>>> entitySerializersLoader =
             new LazyLoader<>(this::loadEntitySerializers);
     private final Map<String, ObjectSerializer> serializers;
+    private final Map<MimeType, EntitySerializer<?>> customEntitySerializers;
 
     /**
      * 使用指定的序列化器映射初始化 {@link DefaultSerializers} 的新实例。
@@ -45,7 +46,20 @@ public class DefaultSerializers implements Serializers {
      * @param serializers 表示序列化器映射的 {@link Map}{@code <}{@link String}{@code , }{@link ObjectSerializer}{@code >}。
      */
     public DefaultSerializers(Map<String, ObjectSerializer> serializers) {
+        this(serializers, null);
+    }
+
+    /**
+     * 使用指定的序列化器映射和自定义的消息体序列化器映射初始化 {@link DefaultSerializers} 的新实例。
+     *
+     * @param serializers 表示序列化器映射的 {@link Map}{@code <}{@link String}{@code , }{@link ObjectSerializer}{@code >}。
+     * @param customEntitySerializers 表示覆盖默认实现的消息体序列化器映射的 {@link Map}{@code <}{@link MimeType}{@code ,
+     * }{@link EntitySerializer}{@code <?>>}。
+     */
+    public DefaultSerializers(Map<String, ObjectSerializer> serializers,
+            Map<MimeType, EntitySerializer<?>> customEntitySerializers) {
         this.serializers = ObjectUtils.getIfNull(serializers, HashMap::new);
+        this.customEntitySerializers = ObjectUtils.getIfNull(customEntitySerializers, HashMap::new);
     }
 
     @Override
@@ -79,6 +93,7 @@ public class DefaultSerializers implements Serializers {
             curSerializers.put(APPLICATION_JSON, EntitySerializer.jsonSerializer(serializer));
             curSerializers.put(TEXT_EVENT_STREAM, EntitySerializer.textEventStreamSerializer(serializer, String.class));
         });
+        curSerializers.putAll(this.customEntitySerializers);
         return curSerializers;
     }
 }
@@ -18,7 +18,11 @@ import modelengine.fit.http.entity.EntityWriteException;
 import modelengine.fit.http.entity.FileEntity;
 import modelengine.fit.http.entity.NamedEntity;
 import modelengine.fit.http.entity.PartitionedEntity;
+import modelengine.fit.http.entity.support.DefaultFileEntity;
+import modelengine.fit.http.entity.support.DefaultNamedEntity;
 import modelengine.fit.http.entity.support.DefaultPartitionedEntity;
+import modelengine.fit.http.entity.support.DefaultReadableBinaryEntity;
+import modelengine.fit.http.entity.support.DefaultTextEntity;
 import modelengine.fit.http.header.ContentType;
 import modelengine.fit.http.header.HeaderValue;
 import modelengine.fit.http.header.ParameterCollection;
@@ -34,12 +38,23 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 
 /**
  * 为 {@link MultiPartEntitySerializer} 提供单元测试。
@@ -63,13 +78,13 @@ public class MultiPartEntitySerializerTest {
     }
 
     @Test
-    @DisplayName("调用 serializeEntity() 方法，抛出异常")
+    @DisplayName("未指定分隔符时调用 serializeEntity() 方法，抛出异常")
     void invokeSerializeEntityMethodThenThrowException() {
         List<NamedEntity> list = new ArrayList<>();
         this.entity = new DefaultPartitionedEntity(this.httpMessage, list);
         EntityWriteException entityWriteException = catchThrowableOfType(EntityWriteException.class,
                 () -> this.multiPartEntitySerializer.serializeEntity(this.entity, this.charset));
-        assertThat(entityWriteException).hasMessage("Unsupported to serialize entity of Content-Type 'multipart/*'.");
+        assertThat(entityWriteException).hasMessage("The boundary is not present.");
     }
 
     @Nested
@@ -529,6 +544,310 @@ public class MultiPartEntitySerializerTest {
                     assertThat(namedEntity2.asText().content()).isEqualTo("Content");
                 }
             }
+
+            @Nested
+            @DisplayName("测试 serializeEntity() 方法")
+            class TestSerialize {
+                private static final int GENERATED_SIZE = 4 * 1024 * 1024;
+                private static final int PIPED_SIZE = 64 * 1024 * 1024;
+                private static final int PIPE_BUFFER = 64 * 1024;
+                private static final long MAX_IN_FLIGHT = 2L * PIPE_BUFFER;
+
+                private NamedEntity text(String name, String content) {
+                    HttpMessage httpMessage = MultiPartEntitySerializerTest.this.httpMessage;
+                    return new DefaultNamedEntity(httpMessage, name, new DefaultTextEntity(httpMessage, content));
+                }
+
+                private NamedEntity file(String name, String filename, InputStream in, long length) {
+                    HttpMessage httpMessage = MultiPartEntitySerializerTest.this.httpMessage;
+                    return new DefaultNamedEntity(httpMessage,
+                            name,
+                            new DefaultFileEntity(httpMessage, filename, in, length, FileEntity.Position.INLINE, null));
+                }
+
+                private PartitionedEntity partitioned(NamedEntity... parts) {
+                    MultiPartEntitySerializerTest.this.entity =
+                            new DefaultPartitionedEntity(MultiPartEntitySerializerTest.this.httpMessage,
+                                    Arrays.asList(parts));
+                    return MultiPartEntitySerializerTest.this.entity;
+                }
+
+                @Test
+                @DisplayName("序列化文本分块和文件分块，预先计算的长度与实际长度一致，且可以反序列化")
+                void givenTextAndFileThenSerializeWithKnownLength() throws IOException {
+                    byte[] fileContent = "0123456789".getBytes(StandardCharsets.UTF_8);
+                    PartitionedEntity partitioned = this.partitioned(this.text("key", "值"),
+                            this.file("file", "a\"b.txt", new ByteArrayInputStream(fileContent), fileContent.length));
+                    long length = MultiPartEntitySerializer.INSTANCE.serializedLength(partitioned,
+                            MultiPartEntitySerializerTest.this.charset);
+                    byte[] bytes = MultiPartEntitySerializer.INSTANCE.serializeEntity(partitioned,
+                            MultiPartEntitySerializerTest.this.charset);
+                    assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("""
+                            ----token\r
+                            Content-Disposition: form-data; name="key"\r
+                            \r
+                            值\r
+                            ----token\r
+                            Content-Disposition: form-data; name="file"; filename="a%22b.txt"\r
+                            Content-Type: text/plain\r
+                            \r
+                            0123456789\r
+                            ----token--\r
+                            """);
+                    assertThat(length).isEqualTo(bytes.length);
+                    PartitionedEntity actual = MultiPartEntitySerializer.INSTANCE.deserializeEntity(bytes,
+                            MultiPartEntitySerializerTest.this.charset,
+                            MultiPartEntitySerializerTest.this.httpMessage);
+                    try {
+                        assertThat(actual.entities()).hasSize(2);
+                        assertThat(actual.entities().get(0).asText().content()).isEqualTo("值");
+                        assertThat(actual.entities().get(1).asFile().filename()).isEqualTo("a%22b.txt");
+                        assertThat(IoUtils.read(actual.entities().get(1).asFile().getInputStream())).isEqualTo(
+                                fileContent);
+                    } finally {
+                        actual.close();
+                    }
+                }
+
+                @Test
+                @DisplayName("包含长度未知的二进制分块时，预先计算的长度为 -1")
+                void givenBinaryPartThenLengthIsUnknown() {
+                    HttpMessage httpMessage = MultiPartEntitySerializerTest.this.httpMessage;
+                    PartitionedEntity partitioned = this.partitioned(this.text("key", "value"),
+                            new DefaultNamedEntity(httpMessage,
+                                    "binary",
+                                    new DefaultReadableBinaryEntity(httpMessage,
+                                            new ByteArrayInputStream(new byte[] {1, 2, 3}))));
+                    assertThat(MultiPartEntitySerializer.INSTANCE.serializedLength(partitioned,
+                            MultiPartEntitySerializerTest.this.charset)).isEqualTo(-1);
+                }
+
+                @Test
+                @DisplayName("序列化大文件分块后流式反序列化，内容保持一致")
+                void givenLargeFileThenRoundTrip() throws IOException {
+                    PartitionedEntity partitioned = this.partitioned(this.text("key", "value"),
+                            this.file("file", "large.bin", generate(GENERATED_SIZE), GENERATED_SIZE));
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    MultiPartEntitySerializer.INSTANCE.serializeEntity(partitioned,
+                            MultiPartEntitySerializerTest.this.charset,
+                            out);
+                    CRC32 expected = new CRC32();
+                    expected.update(IoUtils.read(generate(GENERATED_SIZE)));
+                    try (PartitionedEntity actual = MultiPartEntitySerializer.INSTANCE.deserializeEntity(
+                            out.toByteArray(),
+                            MultiPartEntitySerializerTest.this.charset,
+                            MultiPartEntitySerializerTest.this.httpMessage)) {
+                        Iterator<NamedEntity> parts = actual.parts();
+                        assertThat(parts.next().asText().content()).isEqualTo("value");
+                        CRC32 checksum = new CRC32();
+                        long length = 0;
+                        byte[] buffer = new byte[8192];
+                        InputStream in = parts.next().asFile().getInputStream();
+                        int read;
+                        while ((read = in.read(buffer)) > -1) {
+                            checksum.update(buffer, 0, read);
+                            length += read;
+                        }
+                        assertThat(length).isEqualTo(GENERATED_SIZE);
+                        assertThat(checksum.getValue()).isEqualTo(expected.getValue());
+                        assertThat(parts.hasNext()).isFalse();
+                    }
+                }
+
+                @Test
+                @DisplayName("通过管道边序列化边反序列化大文件分块，内容保持一致，且在途数据不超过缓冲区大小")
+                void givenPipeThenRoundTripWithBoundedMemory() throws Exception {
+                    GeneratedInputStream source = new GeneratedInputStream(PIPED_SIZE);
+                    PartitionedEntity partitioned = this.partitioned(this.text("key", "value"),
+                            this.file("file", "large.bin", source, PIPED_SIZE));
+                    PipedInputStream in = new PipedInputStream(PIPE_BUFFER);
+                    PipedOutputStream out = new PipedOutputStream(in);
+                    CompletableFuture<Void> writing = CompletableFuture.runAsync(() -> {
+                        try (out) {
+                            MultiPartEntitySerializer.INSTANCE.serializeEntity(partitioned,
+                                    MultiPartEntitySerializerTest.this.charset,
+                                    out);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    long expected = checksum(generate(PIPED_SIZE));
+                    try (PartitionedEntity actual = MultiPartEntitySerializer.INSTANCE.deserializeEntity(in,
+                            MultiPartEntitySerializerTest.this.charset,
+                            MultiPartEntitySerializerTest.this.httpMessage)) {
+                        Iterator<NamedEntity> parts = actual.parts();
+                        assertThat(parts.next().asText().content()).isEqualTo("value");
+                        CRC32 checksum = new CRC32();
+                        long consumed = 0;
+                        long maxInFlight = 0;
+                        byte[] buffer = new byte[8192];
+                        InputStream fileIn = parts.next().asFile().getInputStream();
+                        int read;
+                        while ((read = fileIn.read(buffer)) > -1) {
+                            checksum.update(buffer, 0, read);
+                            consumed += read;
+                            maxInFlight = Math.max(maxInFlight, source.position() - consumed);
+                        }
+                        assertThat(consumed).isEqualTo(PIPED_SIZE);
+                        assertThat(checksum.getValue()).isEqualTo(expected);
+                        assertThat(maxInFlight).isLessThanOrEqualTo(MAX_IN_FLIGHT);
+                        assertThat(parts.hasNext()).isFalse();
+                    }
+                    writing.get(10, TimeUnit.SECONDS);
+                    assertThat(source.isClosed()).isTrue();
+                }
+
+                private static long checksum(InputStream in) throws IOException {
+                    CRC32 checksum = new CRC32();
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) > -1) {
+                        checksum.update(buffer, 0, read);
+                    }
+                    return checksum.getValue();
+                }
+
+                private static InputStream generate(int size) {
+                    return new InputStream() {
+                        private int position;
+
+                        @Override
+                        public int read() {
+                            if (this.position >= size) {
+                                return -1;
+                            }
+                            return (this.position++ * 31 + 7) & 0xFF;
+                        }
+                    };
+                }
+
+                /**
+                 * 表示生成与 {@link #generate(int)} 相同内容的输入流，记录已经读取的位置和是否被关闭。
+                 */
+                private static class GeneratedInputStream extends InputStream {
+                    private final int size;
+                    private volatile long position;
+                    private volatile boolean isClosed;
+
+                    GeneratedInputStream(int size) {
+                        this.size = size;
+                    }
+
+                    @Override
+                    public int read() {
+                        if (this.position >= this.size) {
+                            return -1;
+                        }
+                        return (int) (this.position++ * 31 + 7) & 0xFF;
+                    }
+
+                    @Override
+                    public int read(byte[] bytes, int off, int len) {
+                        if (len == 0) {
+                            return 0;
+                        }
+                        int actual = (int) Math.min(len, this.size - this.position);
+                        if (actual <= 0) {
+                            return -1;
+                        }
+                        for (int i = 0; i < actual; i++) {
+                            bytes[off + i] = (byte) ((this.position + i) * 31 + 7);
+                        }
+                        this.position += actual;
+                        return actual;
+                    }
+
+                    @Override
+                    public void close() {
+                        this.isClosed = true;
+                    }
+
+                    long position() {
+                        return this.position;
+                    }
+
+                    boolean isClosed() {
+                        return this.isClosed;
+                    }
+                }
+            }
+
+            @Nested
+            @DisplayName("测试流式场景")
+            class TestStreaming {
+                private final String content = """
+                        ----token\r
+                        Content-Disposition: form-data; name="key"; filename="test.txt"\r
+                        \r
+                        0123456789\r
+                        ----token\r
+                        Content-Disposition: form-data; name="another"\r
+                        \r
+                        Content\r
+                        ----token--""";
+
+                private PartitionedEntity deserialize(EntitySerializer<PartitionedEntity> serializer) {
+                    MultiPartEntitySerializerTest.this.entity = serializer.deserializeEntity(
+                            this.content.getBytes(StandardCharsets.UTF_8),
+                            MultiPartEntitySerializerTest.this.charset,
+                            MultiPartEntitySerializerTest.this.httpMessage);
+                    return MultiPartEntitySerializerTest.this.entity;
+                }
+
+                @Test
+                @DisplayName("逐个遍历分块时，文件分块直接从消息体中读取，未读取的内容被跳过")
+                void givenPartsIteratedThenReturnFileAsStream() throws IOException {
+                    Iterator<NamedEntity> parts = this.deserialize(MultiPartEntitySerializer.INSTANCE).parts();
+                    assertThat(parts.hasNext()).isTrue();
+                    FileEntity fileEntity = parts.next().asFile();
+                    assertThat(fileEntity.length()).isEqualTo(-1);
+                    byte[] head = IoUtils.read(fileEntity.getInputStream(), 4);
+                    assertThat(new String(head, StandardCharsets.UTF_8)).isEqualTo("0123");
+                    NamedEntity textEntity = parts.next();
+                    assertThat(textEntity).returns("another", NamedEntity::name).returns(true, NamedEntity::isText);
+                    assertThat(textEntity.asText().content()).isEqualTo("Content");
+                    assertThat(parts.hasNext()).isFalse();
+                }
+
+                @Test
+                @DisplayName("遍历分块后获取所有分块，缓存文件分块剩余的内容")
+                void givenPartsIteratedThenEntitiesKeepRemainingContent() throws IOException {
+                    PartitionedEntity partitioned = this.deserialize(MultiPartEntitySerializer.INSTANCE);
+                    FileEntity fileEntity = partitioned.parts().next().asFile();
+                    assertThat(IoUtils.read(fileEntity.getInputStream(), 4)).hasSize(4);
+                    assertThat(partitioned.entities()).hasSize(2);
+                    assertThat(fileEntity.length()).isEqualTo(6);
+                    assertThat(IoUtils.content(fileEntity.getInputStream())).isEqualTo("456789");
+                }
+
+                @Test
+                @DisplayName("文件分块超过内存阈值时，写入临时文件")
+                void givenFileOverThresholdThenSpillToFile() throws IOException {
+                    List<NamedEntity> entities =
+                            this.deserialize(EntitySerializer.multiPartSerializer(4, -1, -1)).entities();
+                    assertThat(entities).hasSize(2);
+                    FileEntity fileEntity = entities.get(0).asFile();
+                    assertThat(fileEntity.length()).isEqualTo(10);
+                    assertThat(IoUtils.content(fileEntity.getInputStream())).isEqualTo("0123456789");
+                }
+
+                @Test
+                @DisplayName("分块超过大小限制时，抛出异常")
+                void givenPartOverLimitThenThrowException() {
+                    PartitionedEntity partitioned = this.deserialize(EntitySerializer.multiPartSerializer(1024, 8, -1));
+                    EntityReadException exception = catchThrowableOfType(EntityReadException.class,
+                            partitioned::entities);
+                    assertThat(exception.getCause()).hasMessage("The multipart part is too large. [limit=8]");
+                }
+
+                @Test
+                @DisplayName("消息体超过大小限制时，抛出异常")
+                void givenBodyOverLimitThenThrowException() {
+                    EntityReadException exception = catchThrowableOfType(EntityReadException.class,
+                            () -> this.deserialize(EntitySerializer.multiPartSerializer(1024, -1, 16)));
+                    assertThat(exception.getCause()).hasMessage("The multipart body is too large. [limit=16]");
+                }
+            }
         }
     }
 }
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.mock;
 import modelengine.fit.http.HttpMessage;
 import modelengine.fit.http.entity.TextEvent;
 import modelengine.fit.http.entity.TextEventStreamEntity;
+import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ObjectUtils;
 
@@ -26,8 +27,11 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 /**
@@ -83,4 +87,26 @@ public class TextEventStreamEntitySerializerTest {
                 .extracting(TextEvent::id, TextEvent::event, TextEvent::retry, TextEvent::comment, TextEvent::data)
                 .contains("001", "message", Duration.ofMillis(1000), null, "test");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("调用 deserializeEntity() 方法，按照请求数量解析事件，并忽略仅包含注释的心跳")
+    void giveTextStreamWithHeartbeatThenDeserializeOnDemand() {
+        String text = ":\n\nid:1\ndata:a\n\n: ping\n\ndata:b\n\n";
+        TextEventStreamEntity entity = ObjectUtils.cast(this.textEventStreamSerializer.deserializeEntity(
+                text.getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8,
+                this.httpMessage));
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        List<String> records = new ArrayList<>();
+        entity.stream()
+                .subscribe(subscription::set,
+                        (ignore, event) -> records.add(event.id() + "=" + event.data()),
+                        ignore -> records.add("complete"),
+                        (ignore, cause) -> records.add("fail"));
+        assertThat(records).isEmpty();
+        subscription.get().request(1);
+        assertThat(records).isEqualTo(Arrays.asList("1=a"));
+        subscription.get().request(2);
+        assertThat(records).isEqualTo(Arrays.asList("1=a", "null=b", "complete"));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * 表示 {@link ByteRange} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 ByteRange 类")
+class ByteRangeTest {
+    @Test
+    @DisplayName("解析单个范围、开放范围及后缀范围")
+    void shouldParseSingleRanges() {
+        assertThat(ByteRange.parse("bytes=0-99", 1000)).hasToString("[0-99]");
+        assertThat(ByteRange.parse("bytes=900-", 1000)).hasToString("[900-999]");
+        assertThat(ByteRange.parse("bytes=-100", 1000)).hasToString("[900-999]");
+        assertThat(ByteRange.parse("bytes=990-2000", 1000)).hasToString("[990-999]");
+        assertThat(ByteRange.parse("bytes=-2000", 1000)).hasToString("[0-999]");
+    }
+
+    @Test
+    @DisplayName("多个范围按起始位置排序，并合并重叠或相邻的范围")
+    void shouldSortAndMergeRanges() {
+        List<ByteRange> ranges = ByteRange.parse("bytes=500-599, 0-99, 100-199, 150-250", 1000);
+        assertThat(ranges).hasToString("[0-250, 500-599]");
+        assertThat(ranges.get(1).length()).isEqualTo(100L);
+        assertThat(ranges.get(1).toContentRange(1000)).isEqualTo("bytes 500-599/1000");
+    }
+
+    @Test
+    @DisplayName("范围全部无法满足时，返回空列表")
+    void shouldReturnEmptyWhenUnsatisfiable() {
+        assertThat(ByteRange.parse("bytes=1000-", 1000)).isEmpty();
+        assertThat(ByteRange.parse("bytes=-0", 1000)).isEmpty();
+        assertThat(ByteRange.parse("bytes=0-", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("消息头不合法或范围过多时，忽略范围请求")
+    void shouldIgnoreInvalidRanges() {
+        assertThat(ByteRange.parse(null, 1000)).isNull();
+        assertThat(ByteRange.parse("items=0-1", 1000)).isNull();
+        assertThat(ByteRange.parse("bytes=a-b", 1000)).isNull();
+        assertThat(ByteRange.parse("bytes=5-1", 1000)).isNull();
+        assertThat(ByteRange.parse("bytes=-", 1000)).isNull();
+        StringBuilder builder = new StringBuilder("bytes=0-0");
+        for (int i = 1; i <= ByteRange.MAX_RANGES; i++) {
+            builder.append(',').append(i * 2).append('-').append(i * 2);
+        }
+        assertThat(ByteRange.parse(builder.toString(), 1000)).isNull();
+    }
+}
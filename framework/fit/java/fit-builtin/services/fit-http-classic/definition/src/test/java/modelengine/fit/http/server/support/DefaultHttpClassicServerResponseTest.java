@@ -8,10 +8,13 @@ package modelengine.fit.http.server.support;
 
 import static modelengine.fit.http.protocol.MimeType.TEXT_PLAIN;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.fit.http.HttpResource;
@@ -24,15 +27,12 @@ import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
 import modelengine.fit.http.protocol.ConfigurableStatusLine;
 import modelengine.fit.http.protocol.MimeType;
 import modelengine.fit.http.protocol.ServerResponse;
-import modelengine.fit.http.server.InternalServerErrorException;
 import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.serialization.ObjectSerializer;
-import modelengine.fitframework.util.ObjectUtils;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.util.Optional;
@@ -89,8 +89,8 @@ class DefaultHttpClassicServerResponseTest {
     }
 
     @Test
-    @DisplayName("当返回事件流遇到错误时，返回 Http 响应错误")
-    void shouldThrowExceptionWhenSendTextStreamError() throws IOException {
+    @DisplayName("当返回事件流遇到写入错误时，中止输出且不发送响应结束标识符")
+    void shouldAbortWhenSendTextStreamError() throws IOException {
         ObjectSerializer jsonSerializer = mock(ObjectSerializer.class);
         Serializers serializers = mock(Serializers.class);
         when(serializers.json()).thenReturn(Optional.ofNullable(jsonSerializer));
@@ -99,18 +99,18 @@ class DefaultHttpClassicServerResponseTest {
         ServerResponse serverResponse = mock(ServerResponse.class);
         when(serverResponse.startLine()).thenReturn(mock(ConfigurableStatusLine.class));
         when(serverResponse.headers()).thenReturn(mock(ConfigurableMessageHeaders.class));
-        doThrow(new IOException("Error")).when(serverResponse).writeBody(new byte[1]);
-        Choir<byte[]> mappedChoir = Choir.just(new byte[1], new byte[2]);
-        Choir<TextEvent> stream = ObjectUtils.cast(mock(Choir.class));
-        when(stream.map(Mockito.any())).thenReturn(ObjectUtils.cast(mappedChoir));
+        doThrow(new IOException("Error")).when(serverResponse).writeBody(any(byte[].class));
+        Choir<TextEvent> stream = Choir.just(TextEvent.custom("1").build(), TextEvent.custom("2").build());
         TextEventStreamEntity mockedEntity = mock(TextEventStreamEntity.class);
         when(mockedEntity.resolvedMimeType()).thenReturn(MimeType.TEXT_EVENT_STREAM);
         when(mockedEntity.stream()).thenReturn(stream);
         DefaultHttpClassicServerResponse actualResponse =
                 new DefaultHttpClassicServerResponse(httpResource, serverResponse);
         actualResponse.entity(mockedEntity);
-        InternalServerErrorException cause =
-                catchThrowableOfType(InternalServerErrorException.class, actualResponse::send);
-        assertThat(cause).isNotNull().cause().isNotNull().hasMessage("Error");
+        assertDoesNotThrow(actualResponse::send);
+        verify(serverResponse, times(1)).writeBody(any(byte[].class));
+        verify(serverResponse, never()).flush();
+        actualResponse.close();
+        verify(serverResponse).close();
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.http.server.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fit.http.protocol.ServerResponse;
+import modelengine.fit.http.server.TextEventStreamConfig;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Emitter;
+import modelengine.fitframework.flowable.emitter.DefaultEmitter;
+import modelengine.fitframework.serialization.ObjectSerializer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 表示 {@link TextEventStreamWriter} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 TextEventStreamWriter 类")
+class TextEventStreamWriterTest {
+    private final ObjectSerializer serializer = mock(ObjectSerializer.class);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private ServerResponse serverResponse;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.serverResponse = mock(ServerResponse.class);
+        doAnswer(invocation -> {
+            this.body.write(invocation.getArgument(0, byte[].class));
+            return null;
+        }).when(this.serverResponse).writeBody(any(byte[].class));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(this.serverResponse).whenWritable(any());
+    }
+
+    @AfterEach
+    void teardown() {
+        this.serverResponse.scheduler().ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+
+    @Test
+    @DisplayName("按照预取数量分批请求事件，全部输出后发送响应结束标识符并执行结束后的操作")
+    void shouldWriteAllEventsInBatches() throws IOException {
+        when(this.serverResponse.scheduler()).thenReturn(Optional.empty());
+        List<TextEvent> events = IntStream.range(0, 10)
+                .mapToObj(i -> TextEvent.custom(String.valueOf(i)).build())
+                .collect(Collectors.toList());
+        TextEventStreamWriter writer = new TextEventStreamWriter(this.serverResponse,
+                this.serializer,
+                TextEventStreamConfig.custom().prefetch(4).build());
+        writer.start(Choir.fromIterable(events));
+
+        String expected = events.stream().map(event -> event.serialize(this.serializer)).collect(Collectors.joining());
+        assertThat(this.body.toString(StandardCharsets.UTF_8.name())).isEqualTo(expected);
+        verify(this.serverResponse).flush();
+        AtomicBoolean closed = new AtomicBoolean();
+        writer.closeOnTerminated(() -> closed.set(true));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("事件流空闲时发送注释行作为心跳")
+    void shouldSendHeartbeatWhenIdle() throws IOException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        when(this.serverResponse.scheduler()).thenReturn(Optional.of(scheduler));
+        Emitter<TextEvent> emitter = new DefaultEmitter<>();
+        TextEventStreamWriter writer = new TextEventStreamWriter(this.serverResponse,
+                this.serializer,
+                TextEventStreamConfig.custom().heartbeatMillis(10).build());
+        writer.start(Choir.fromEmitter(emitter));
+
+        verify(this.serverResponse, timeout(1000)).writeBody(":\n\n".getBytes(StandardCharsets.UTF_8));
+        emitter.complete();
+        verify(this.serverResponse).flush();
+    }
+
+    @Test
+    @DisplayName("写入失败时中止输出，取消事件流且不发送响应结束标识符")
+    void shouldAbortWhenWriteFailed() throws IOException {
+        when(this.serverResponse.scheduler()).thenReturn(Optional.empty());
+        doThrow(new IOException("Disconnected")).when(this.serverResponse).flushBody();
+        Choir<TextEvent> stream = Choir.just(TextEvent.custom("1").build(), TextEvent.custom("2").build());
+        TextEventStreamWriter writer = new TextEventStreamWriter(this.serverResponse, this.serializer, null);
+        AtomicBoolean closed = new AtomicBoolean();
+        writer.closeOnTerminated(() -> closed.set(true));
+        writer.start(stream);
+
+        assertThat(this.body.toString(StandardCharsets.UTF_8.name())).isEqualTo("data:1\n\n");
+        assertThat(closed).isTrue();
+        verify(this.serverResponse, never()).flush();
+    }
+}
@@ -157,6 +157,9 @@ public class MessageHeaderNames {
     /** @see <a href="https://datatracker.ietf.org/doc/html/rfc2616#section-14.28">RFC 2616</a> */
     public static final String IF_UNMODIFIED_SINCE = "If-Unmodified-Since";
 
+    /** @see <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">Server-sent events</a> */
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
     /** @see <a href="https://datatracker.ietf.org/doc/html/rfc2616#section-14.29">RFC 2616</a> */
     public static final String LAST_MODIFIED = "Last-Modified";
 
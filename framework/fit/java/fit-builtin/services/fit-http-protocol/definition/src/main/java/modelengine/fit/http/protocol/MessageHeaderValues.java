@@ -33,4 +33,7 @@ public class MessageHeaderValues {
 
     /** 用于 {@link MessageHeaderNames#CONNECTION}，表示后续 Http 协议需要保持连接。 */
     public static final String KEEP_ALIVE = "keep-alive";
+
+    /** 用于 {@link MessageHeaderNames#ACCEPT_RANGES}，表示支持以字节为单位的范围请求。 */
+    public static final String BYTES = "bytes";
 }
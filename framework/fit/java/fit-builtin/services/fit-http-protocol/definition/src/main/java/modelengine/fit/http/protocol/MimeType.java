@@ -58,6 +58,11 @@ public enum MimeType {
      */
     MULTIPART_MIXED("multipart/mixed"),
 
+    /**
+     * {@code "multipart/byteranges"}
+     */
+    MULTIPART_BYTERANGES("multipart/byteranges"),
+
     /**
      * {@code "text/css"}
      */
@@ -10,6 +10,10 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * 表示服务端的 Http 响应。
@@ -60,6 +64,62 @@ public interface ServerResponse
      */
     void writeBody(byte[] bytes, int off, int len) throws IOException;
 
+    /**
+     * 将已经写入缓冲区的起始行、消息头及消息体数据立即对外输出，但不发送响应结束标识符。
+     * <p>实现可以合并多次写入的数据后再输出，流式响应在每次写入需要立即送达的数据后应调用该方法。</p>
+     *
+     * @throws IOException 当发生 I/O 异常时。
+     */
+    default void flushBody() throws IOException {}
+
+    /**
+     * 向 Http 消息体中写入文件指定区域的数据。
+     * <p>实现可以将文件区域直接交给底层传输，避免数据在用户空间中复制。方法返回时，文件区域中的数据已经全部写出，调用方可以关闭
+     * 文件通道。</p>
+     *
+     * @param channel 表示待写入数据所在文件的 {@link FileChannel}。
+     * @param position 表示待写入数据在文件中的起始位置的 {@code long}。
+     * @param count 表示待写入数据的字节数的 {@code long}。
+     * @throws IOException 当发生 I/O 异常时。
+     * @throws IllegalArgumentException 当 {@code channel} 为 {@code null} 时。
+     */
+    default void writeFile(FileChannel channel, long position, long count) throws IOException {
+        notNull(channel, "The file channel to write cannot be null.");
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(Math.min(count, 8192L), 0L));
+        long written = 0;
+        while (written < count) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), count - written));
+            int read = channel.read(buffer, position + written);
+            if (read < 0) {
+                throw new IOException("The file ends before all the requested bytes are written.");
+            }
+            this.writeBody(buffer.array(), 0, read);
+            written += read;
+        }
+    }
+
+    /**
+     * 在响应可以继续写入时执行指定的操作。
+     * <p>当底层连接的待发送数据过多时，实现可以将操作延迟到连接重新变为可写时再执行，从而在不阻塞线程的情况下实现背压。默认立即
+     * 执行。</p>
+     *
+     * @param action 表示待执行的操作的 {@link Runnable}。
+     * @throws IllegalArgumentException 当 {@code action} 为 {@code null} 时。
+     */
+    default void whenWritable(Runnable action) {
+        notNull(action, "The action to run when writable cannot be null.").run();
+    }
+
+    /**
+     * 获取驱动当前响应输出的调度器。
+     * <p>流式响应可以通过该调度器执行定时任务，例如发送心跳或延迟合并输出，而无需额外占用线程。</p>
+     *
+     * @return 表示调度器的 {@link Optional}{@code <}{@link ScheduledExecutorService}{@code >}。
+     */
+    default Optional<ScheduledExecutorService> scheduler() {
+        return Optional.empty();
+    }
+
     /**
      * 强制已经写入的数据执行写出，也就是说将之前写入到缓冲区的数据全部对外输出；同时发送响应结束标识符。
      *
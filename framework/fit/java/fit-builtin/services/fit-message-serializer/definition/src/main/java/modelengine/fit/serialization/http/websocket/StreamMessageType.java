@@ -28,6 +28,9 @@ public enum StreamMessageType {
     /** 表示异常终结信号下行消息。 */
     FAIL(2),
 
+    /** 表示批量数据消费下行消息，仅用于多路复用协议。 */
+    CONSUME_BATCH(3),
+
     /** 表示请求元素上行消息。 */
     REQUEST_ELEMENT(10),
 
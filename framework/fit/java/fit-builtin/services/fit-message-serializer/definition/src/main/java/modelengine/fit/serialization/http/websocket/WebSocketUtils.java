@@ -11,10 +11,21 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fitframework.serialization.TagLengthValues;
 import modelengine.fitframework.serialization.tlv.TagValuesChecker;
+import modelengine.fitframework.serialization.util.VaryingNumber;
+import modelengine.fitframework.util.IoUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 表示 WebSocket 通信过程中通过 TLV 来传输流式调用信息的工具类。
  * <p>流式调用消息中各字段的标识与 http 调用中请求头位于不同通道，与其不会产生标识的冲突。</p>
+ * <p>携带流标识的消息属于多路复用协议，多个流式调用共享同一个 WebSocket 会话，通过流标识区分。多路复用协议中，请求元素的
+ * 数量使用变长整数编码；不携带流标识的消息保持一个会话对应一个调用的原有协议，请求元素的数量使用十进制字符串编码。</p>
  *
  * @author 何天放
  * @since 2024-04-15
@@ -23,6 +34,7 @@ public class WebSocketUtils extends TagValuesChecker {
     private static final int STREAM_MESSAGE_TYPE_TAG = 0x80;
     private static final int STREAM_MESSAGE_INDEX_TAG = 0x81;
     private static final int STREAM_MESSAGE_CONTENT_TAG = 0x82;
+    private static final int STREAM_MESSAGE_STREAM_ID_TAG = 0x83;
 
     static {
         // 校验标签值，确保所有标签值不冲突。
@@ -103,4 +115,113 @@ public class WebSocketUtils extends TagValuesChecker {
         notNull(type, "The content cannot be null.");
         tagValues.putTag(STREAM_MESSAGE_CONTENT_TAG, type);
     }
+
+    /**
+     * 判断 TLV 中是否包含流标识。
+     * <p>包含流标识的消息属于多路复用协议。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 如果包含流标识，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    public static boolean hasStreamId(TagLengthValues tagValues) {
+        notNull(tagValues, "The TLV cannot be null.");
+        return tagValues.getTags().contains(STREAM_MESSAGE_STREAM_ID_TAG);
+    }
+
+    /**
+     * 从 TLV 中获取流标识。
+     * <p>不包含流标识时，返回 {@code 0}。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 表示流标识的 {@code int}。
+     */
+    public static int getStreamId(TagLengthValues tagValues) {
+        notNull(tagValues, "The TLV cannot be null.");
+        if (!hasStreamId(tagValues)) {
+            return 0;
+        }
+        return VaryingNumber.valueOf(tagValues.getValue(STREAM_MESSAGE_STREAM_ID_TAG)).intValue();
+    }
+
+    /**
+     * 向 TLV 中设置流标识。
+     * <p>流标识必须为正数，不大于 {@code 0} 时表示不使用多路复用协议，不设置本字段。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @param streamId 表示流标识的 {@code int}。
+     */
+    public static void setStreamId(TagLengthValues tagValues, int streamId) {
+        notNull(tagValues, "The TLV cannot be null.");
+        if (streamId > 0) {
+            tagValues.putTag(STREAM_MESSAGE_STREAM_ID_TAG, VaryingNumber.valueOf(streamId).bytes());
+        }
+    }
+
+    /**
+     * 从请求元素消息的 TLV 中获取请求元素的数量。
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 表示请求元素的数量的 {@code long}。
+     */
+    public static long getRequestCount(TagLengthValues tagValues) {
+        byte[] content = getContent(tagValues);
+        if (hasStreamId(tagValues)) {
+            return VaryingNumber.valueOf(content).longValue();
+        }
+        return Long.parseLong(new String(content, UTF_8));
+    }
+
+    /**
+     * 向请求元素消息的 TLV 中设置请求元素的数量。
+     * <p>编码方式取决于 TLV 中是否包含流标识，因此需要在设置流标识之后调用。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @param count 表示请求元素的数量的 {@code long}。
+     */
+    public static void setRequestCount(TagLengthValues tagValues, long count) {
+        if (hasStreamId(tagValues)) {
+            setContent(tagValues, VaryingNumber.valueOf(count).bytes());
+        } else {
+            setContent(tagValues, Long.toString(count).getBytes(UTF_8));
+        }
+    }
+
+    /**
+     * 从批量数据消息的 TLV 中获取所有元素的内容。
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 表示所有元素的内容的 {@link List}{@code <byte[]>}。
+     * @throws IllegalStateException 当批量数据消息的内容不完整时。
+     */
+    public static List<byte[]> getBatchContent(TagLengthValues tagValues) {
+        byte[] content = getContent(tagValues);
+        List<byte[]> elements = new ArrayList<>();
+        try (InputStream in = new ByteArrayInputStream(content)) {
+            VaryingNumber length;
+            while ((length = VaryingNumber.serializer().deserialize(in)) != null) {
+                elements.add(IoUtils.read(in, length.intValue()));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("The batch content is incomplete.", e);
+        }
+        return elements;
+    }
+
+    /**
+     * 向批量数据消息的 TLV 中设置所有元素的内容。
+     * <p>每个元素的内容之前以变长整数记录其长度。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @param elements 表示所有元素的内容的 {@link List}{@code <byte[]>}。
+     */
+    public static void setBatchContent(TagLengthValues tagValues, List<byte[]> elements) {
+        notNull(elements, "The batch elements cannot be null.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] element : elements) {
+            byte[] length = VaryingNumber.valueOf(element.length).bytes();
+            out.write(length, 0, length.length);
+            out.write(element, 0, element.length);
+        }
+        setContent(tagValues, out.toByteArray());
+    }
 }
@@ -15,12 +15,19 @@ import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.flowable.util.worker.Worker;
 import modelengine.fitframework.flowable.util.worker.WorkerObserver;
 import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.util.LockUtils;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
 import java.util.function.BiConsumer;
 
 /**
  * 表示 {@link Worker} 用于处理流式调用的实现。
+ * <p>指定了流标识时，发送的所有消息都携带流标识，以便在共享的 WebSocket 会话中区分不同的调用。批量大小大于 {@code 1} 时，通过
+ * {@link #request(long)} 请求元素的过程中同步产生的元素会合并为一个 {@link StreamMessageType#CONSUME_BATCH} 消息，
+ * 在请求结束或达到批量大小时立即发送，因此不会额外延迟元素的送达；异步产生的元素仍然逐个发送。</p>
  *
  * @author 何天放
  * @since 2024-04-30
@@ -31,6 +38,16 @@ public class WebSocketWorkerObserver implements WorkerObserver<Object> {
     private final Type type;
     private final int index;
     private final BiConsumer<Session, Integer> tryCloseFunction;
+    private final int streamId;
+    private final int batchSize;
+    private final Lock lock = LockUtils.newReentrantLock();
+    private final List<byte[]> batch = new ArrayList<>();
+
+    private Subscription subscription;
+    private long pendingRequest;
+    private boolean pendingBatchable;
+    private boolean pendingCancel;
+    private int batchDepth;
 
     /**
      * 使用指定的会话、消息序列化器、参数类型、参数索引和参数关闭方法初始化 {@link WebSocketWorkerObserver} 的新实例。
@@ -46,26 +63,150 @@ public class WebSocketWorkerObserver implements WorkerObserver<Object> {
      */
     public WebSocketWorkerObserver(Session session, MessageSerializer messageSerializer, Type type, int index,
             BiConsumer<Session, Integer> tryCloseFunction) {
+        this(session, messageSerializer, type, index, tryCloseFunction, 0, 1);
+    }
+
+    /**
+     * 使用指定的会话、消息序列化器、参数类型、参数索引、参数关闭方法、流标识和批量大小初始化
+     * {@link WebSocketWorkerObserver} 的新实例。
+     *
+     * @param session 表示会话的 {@link Session}。
+     * @param messageSerializer 表示消息序列化器的 {@link MessageSerializer}。
+     * @param type 表示参数类型的 {@link Type}。
+     * @param index 表示参数索引的 {@code int}。
+     * @param tryCloseFunction 表示对应参数的关闭方法的
+     * {@link BiConsumer}{@code <}{@link Session}{@code , }{@link Integer}{@code >}。
+     * @param streamId 表示流标识的 {@code int}，不大于 {@code 0} 时不使用多路复用协议。
+     * @param batchSize 表示一个批量消息中最多包含的元素数量的 {@code int}，不大于 {@code 1} 时逐个发送元素。
+     * @throws IllegalArgumentException 当 {@code session}、{@code messageSerializer}、{@code type} 或
+     * {@code tryCloseFunction} 为 {@code null} 时。
+     */
+    public WebSocketWorkerObserver(Session session, MessageSerializer messageSerializer, Type type, int index,
+            BiConsumer<Session, Integer> tryCloseFunction, int streamId, int batchSize) {
         this.session = notNull(session, "The session cannot be null.");
         this.messageSerializer = notNull(messageSerializer, "The message serializer cannot be null.");
         this.type = notNull(type, "The type cannot be null.");
         this.index = index;
         this.tryCloseFunction = notNull(tryCloseFunction, "The try close function cannot be null.");
+        this.streamId = streamId;
+        this.batchSize = streamId > 0 ? Math.max(batchSize, 1) : 1;
+    }
+
+    /**
+     * 向响应式流请求元素。
+     * <p>订阅关系建立之前的请求会在订阅关系建立后执行。</p>
+     *
+     * @param count 表示请求元素数量的 {@code long}。
+     */
+    public void request(long count) {
+        this.request(count, true);
+    }
+
+    /**
+     * 向响应式流请求元素。
+     * <p>对端的请求不属于多路复用协议时，对端无法识别批量消息，此时不应合并请求过程中产生的元素。</p>
+     *
+     * @param count 表示请求元素数量的 {@code long}。
+     * @param batchable 表示是否可以合并请求过程中同步产生的元素的 {@code boolean}。
+     */
+    public void request(long count, boolean batchable) {
+        Subscription actual;
+        this.lock.lock();
+        try {
+            if (this.subscription == null) {
+                long sum = this.pendingRequest + count;
+                this.pendingRequest = sum < 0 ? Long.MAX_VALUE : sum;
+                this.pendingBatchable = batchable;
+                return;
+            }
+            actual = this.subscription;
+        } finally {
+            this.lock.unlock();
+        }
+        if (!batchable || this.batchSize <= 1) {
+            actual.request(count);
+            return;
+        }
+        this.lock.lock();
+        try {
+            this.batchDepth++;
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            actual.request(count);
+        } finally {
+            this.lock.lock();
+            try {
+                this.batchDepth--;
+                if (this.batchDepth == 0) {
+                    this.sendBatch();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 取消对响应式流的订阅。
+     */
+    public void cancel() {
+        Subscription actual;
+        this.lock.lock();
+        try {
+            if (this.subscription == null) {
+                this.pendingCancel = true;
+                return;
+            }
+            actual = this.subscription;
+        } finally {
+            this.lock.unlock();
+        }
+        actual.cancel();
     }
 
     @Override
     public void onWorkerSubscribed(Subscription subscription) {
-
+        long count;
+        boolean batchable;
+        boolean cancelled;
+        this.lock.lock();
+        try {
+            this.subscription = subscription;
+            count = this.pendingRequest;
+            batchable = this.pendingBatchable;
+            cancelled = this.pendingCancel;
+            this.pendingRequest = 0;
+        } finally {
+            this.lock.unlock();
+        }
+        if (cancelled) {
+            subscription.cancel();
+        } else if (count > 0) {
+            this.request(count, batchable);
+        }
     }
 
     @Override
     public void onWorkerConsumed(Object data, long id) {
         byte[] content = this.messageSerializer.serializeResponse(type, data);
-        TagLengthValues tlvs = TagLengthValues.create();
-        WebSocketUtils.setIndex(tlvs, this.index);
-        WebSocketUtils.setType(tlvs, StreamMessageType.CONSUME.code());
-        WebSocketUtils.setContent(tlvs, content);
-        this.session.send(tlvs.serialize());
+        this.lock.lock();
+        try {
+            if (this.batchDepth > 0) {
+                this.batch.add(content);
+                if (this.batch.size() >= this.batchSize) {
+                    this.sendBatch();
+                }
+                return;
+            }
+            this.sendBatch();
+            TagLengthValues tlvs = this.createMessage(StreamMessageType.CONSUME);
+            WebSocketUtils.setContent(tlvs, content);
+            this.session.send(tlvs.serialize());
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     @Override
@@ -79,20 +220,52 @@ public class WebSocketWorkerObserver implements WorkerObserver<Object> {
             FailMessageContentUtils.setCode(failMessageContent, -1);
             FailMessageContentUtils.setMessage(failMessageContent, cause.getMessage());
         }
-        TagLengthValues tlvs = TagLengthValues.create();
-        WebSocketUtils.setIndex(tlvs, this.index);
-        WebSocketUtils.setType(tlvs, StreamMessageType.FAIL.code());
+        TagLengthValues tlvs = this.createMessage(StreamMessageType.FAIL);
         WebSocketUtils.setContent(tlvs, failMessageContent.serialize());
-        this.session.send(tlvs.serialize());
-        this.tryCloseFunction.accept(this.session, this.index);
+        this.sendTerminal(tlvs);
     }
 
     @Override
     public void onWorkerCompleted() {
+        this.sendTerminal(this.createMessage(StreamMessageType.COMPLETE));
+    }
+
+    private void sendTerminal(TagLengthValues tlvs) {
+        this.lock.lock();
+        try {
+            this.sendBatch();
+            this.session.send(tlvs.serialize());
+        } finally {
+            this.lock.unlock();
+        }
+        this.tryCloseFunction.accept(this.session, this.index);
+    }
+
+    /**
+     * 发送已经积累的元素。
+     * <p>调用方需要持有锁，以保证消息的发送顺序与元素产生的顺序一致。</p>
+     */
+    private void sendBatch() {
+        if (this.batch.isEmpty()) {
+            return;
+        }
+        TagLengthValues tlvs;
+        if (this.batch.size() == 1) {
+            tlvs = this.createMessage(StreamMessageType.CONSUME);
+            WebSocketUtils.setContent(tlvs, this.batch.get(0));
+        } else {
+            tlvs = this.createMessage(StreamMessageType.CONSUME_BATCH);
+            WebSocketUtils.setBatchContent(tlvs, this.batch);
+        }
+        this.batch.clear();
+        this.session.send(tlvs.serialize());
+    }
+
+    private TagLengthValues createMessage(StreamMessageType messageType) {
         TagLengthValues tlvs = TagLengthValues.create();
+        WebSocketUtils.setStreamId(tlvs, this.streamId);
         WebSocketUtils.setIndex(tlvs, this.index);
-        WebSocketUtils.setType(tlvs, StreamMessageType.COMPLETE.code());
-        this.session.send(tlvs.serialize());
-        this.tryCloseFunction.accept(this.session, this.index);
+        WebSocketUtils.setType(tlvs, messageType.code());
+        return tlvs;
     }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.serialization.http.websocket;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Emitter;
+import modelengine.fitframework.util.LockUtils;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+/**
+ * 表示接收远端流式数据时带有流量控制窗口的 {@link Emitter}。
+ * <p>从远端收到的元素先进入本地缓冲区，再按照本地订阅者的请求数量发送。向远端请求元素的数量不再与订阅者的每次请求一一对应，
+ * 而是由窗口决定：</p>
+ * <ul>
+ *     <li>订阅者首次请求元素时，向远端请求窗口大小数量的元素；</li>
+ *     <li>已请求未到达的元素与缓冲区中的元素之和不超过窗口大小，空闲的额度达到窗口大小的一半时，一次性向远端补充请求；</li>
+ *     <li>订阅者请求 {@link Long#MAX_VALUE} 个元素时，向远端请求无限数量的元素，此后不再补充请求；</li>
+ *     <li>窗口大小不大于 {@code 0} 时不使用窗口，订阅者的每次请求直接转发给远端。</li>
+ * </ul>
+ * <p>订阅者停止请求时，缓冲区最多积累窗口大小数量的元素，远端随之停止发送，从而将背压传递给远端。终结信号在缓冲区中的元素全部
+ * 发送后才通知订阅者。</p>
+ *
+ * @param <T> 表示元素类型的 {@link T}。
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class WindowedEmitter<T> implements Emitter<T> {
+    private final Emitter<T> emitter = Emitter.create();
+    private final int window;
+    private final int threshold;
+    private final Consumer<Long> requester;
+    private final Queue<T> buffer = new ArrayDeque<>();
+    private final Lock lock = LockUtils.newReentrantLock();
+
+    private long demand;
+    private long outstanding;
+    private boolean started;
+    private boolean unbounded;
+    private boolean draining;
+    private boolean terminated;
+    private Runnable terminal;
+
+    /**
+     * 使用指定的窗口大小和远端请求方法初始化 {@link WindowedEmitter} 的新实例。
+     *
+     * @param window 表示窗口大小的 {@code int}，不大于 {@code 0} 时不使用窗口。
+     * @param requester 表示向远端请求元素的方法的 {@link Consumer}{@code <}{@link Long}{@code >}。
+     * @throws IllegalArgumentException 当 {@code requester} 为 {@code null} 时。
+     */
+    public WindowedEmitter(int window, Consumer<Long> requester) {
+        this.window = Math.max(window, 0);
+        this.threshold = Math.max(this.window / 2, 1);
+        this.requester = notNull(requester, "The requester cannot be null.");
+    }
+
+    /**
+     * 处理订阅者对元素的请求。
+     *
+     * @param count 表示订阅者请求的元素数量的 {@code long}。
+     */
+    public void request(long count) {
+        if (this.window == 0) {
+            this.requester.accept(count);
+            return;
+        }
+        this.lock.lock();
+        try {
+            if (this.terminated) {
+                return;
+            }
+            this.started = true;
+            this.demand = add(this.demand, count);
+        } finally {
+            this.lock.unlock();
+        }
+        this.drain();
+    }
+
+    /**
+     * 处理订阅者的取消，丢弃缓冲区中的元素，且不再通知订阅者。
+     */
+    public void cancel() {
+        this.lock.lock();
+        try {
+            this.terminated = true;
+            this.terminal = null;
+            this.buffer.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void emit(T data) {
+        if (this.window == 0) {
+            this.emitter.emit(data);
+            return;
+        }
+        this.lock.lock();
+        try {
+            if (this.terminated) {
+                return;
+            }
+            if (!this.unbounded && this.outstanding > 0) {
+                this.outstanding--;
+            }
+            this.buffer.add(data);
+        } finally {
+            this.lock.unlock();
+        }
+        this.drain();
+    }
+
+    @Override
+    public void complete() {
+        this.terminate(this.emitter::complete);
+    }
+
+    @Override
+    public void fail(Exception cause) {
+        this.terminate(() -> this.emitter.fail(cause));
+    }
+
+    @Override
+    public void observe(Observer<T> observer) {
+        this.emitter.observe(observer);
+    }
+
+    private void terminate(Runnable action) {
+        if (this.window == 0) {
+            action.run();
+            return;
+        }
+        this.lock.lock();
+        try {
+            if (this.terminated || this.terminal != null) {
+                return;
+            }
+            this.terminal = action;
+        } finally {
+            this.lock.unlock();
+        }
+        this.drain();
+    }
+
+    private void drain() {
+        this.lock.lock();
+        try {
+            // 已经有线程在发送元素时，由该线程处理新的状态，保证元素按照到达的顺序发送。
+            if (this.draining) {
+                return;
+            }
+            this.draining = true;
+        } finally {
+            this.lock.unlock();
+        }
+        while (true) {
+            T data = null;
+            Runnable action = null;
+            long credit;
+            this.lock.lock();
+            try {
+                if (this.demand > 0 && !this.buffer.isEmpty()) {
+                    data = this.buffer.poll();
+                    if (this.demand != Long.MAX_VALUE) {
+                        this.demand--;
+                    }
+                } else if (this.buffer.isEmpty() && this.terminal != null) {
+                    action = this.terminal;
+                    this.terminal = null;
+                    this.terminated = true;
+                }
+                credit = this.credit();
+                if (data == null && action == null && credit == 0) {
+                    this.draining = false;
+                    return;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            if (credit > 0) {
+                this.requester.accept(credit);
+            }
+            if (data != null) {
+                this.emitter.emit(data);
+            }
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+
+    private long credit() {
+        if (!this.started || this.unbounded || this.terminated || this.terminal != null) {
+            return 0;
+        }
+        if (this.demand == Long.MAX_VALUE) {
+            this.unbounded = true;
+            return Long.MAX_VALUE;
+        }
+        long free = this.window - this.outstanding - this.buffer.size();
+        if (free < this.threshold) {
+            return 0;
+        }
+        this.outstanding += free;
+        return free;
+    }
+
+    private static long add(long current, long count) {
+        long sum = current + count;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
@@ -36,7 +36,8 @@ public class StreamMessageTypeTest {
     @ParameterizedTest
     @DisplayName("通过编码转换为枚举时，转换的方式正确")
     @CsvSource({
-            "-1, UNKNOWN", "0, CONSUME", "1, COMPLETE", "2, FAIL", "10, REQUEST", "11, CANCEL", "100, UNKNOWN"
+            "-1, UNKNOWN", "0, CONSUME", "1, COMPLETE", "2, FAIL", "3, CONSUME_BATCH", "10, REQUEST", "11, CANCEL",
+            "100, UNKNOWN"
     })
     void shouldReturnCorrectEnumAfterConvertFromCode(int code, StreamMessageType expected) {
         StreamMessageType type = StreamMessageType.fromCode(code);
@@ -14,6 +14,10 @@ import modelengine.fitframework.serialization.TagLengthValues;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * {@link WebSocketUtils} 的基本测试用例。
  *
@@ -46,4 +50,43 @@ public class WebSocketUtilsTest {
         WebSocketUtils.setContent(tlvs, byteArray);
         assertThat(WebSocketUtils.getContent(tlvs)).isEqualTo(byteArray);
     }
+
+    @Test
+    @DisplayName("能够向 TagLengthValues 中正确设置流标识并获取到所设定值，未设置时流标识为 0")
+    void shouldReturnCorrectStreamIdFromTagLengthValues() {
+        TagLengthValues tlvs = TagLengthValues.create();
+        assertThat(WebSocketUtils.hasStreamId(tlvs)).isFalse();
+        assertThat(WebSocketUtils.getStreamId(tlvs)).isEqualTo(0);
+        WebSocketUtils.setStreamId(tlvs, 300);
+        TagLengthValues actual = TagLengthValues.deserialize(tlvs.serialize());
+        assertThat(WebSocketUtils.hasStreamId(actual)).isTrue();
+        assertThat(WebSocketUtils.getStreamId(actual)).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("多路复用协议中请求元素的数量使用变长整数编码，原有协议中使用十进制字符串编码")
+    void shouldEncodeRequestCountByProtocol() {
+        TagLengthValues multiplexed = TagLengthValues.create();
+        WebSocketUtils.setStreamId(multiplexed, 1);
+        WebSocketUtils.setRequestCount(multiplexed, Long.MAX_VALUE);
+        assertThat(WebSocketUtils.getContent(multiplexed)).hasSizeLessThan(Long.toString(Long.MAX_VALUE).length());
+        assertThat(WebSocketUtils.getRequestCount(multiplexed)).isEqualTo(Long.MAX_VALUE);
+
+        TagLengthValues legacy = TagLengthValues.create();
+        WebSocketUtils.setRequestCount(legacy, 42);
+        assertThat(new String(WebSocketUtils.getContent(legacy), StandardCharsets.UTF_8)).isEqualTo("42");
+        assertThat(WebSocketUtils.getRequestCount(legacy)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("能够向 TagLengthValues 中正确设置批量内容并获取到所设定值")
+    void shouldReturnCorrectBatchContentFromTagLengthValues() {
+        TagLengthValues tlvs = TagLengthValues.create();
+        WebSocketUtils.setBatchContent(tlvs, Arrays.asList(new byte[] {1, 2}, new byte[200], new byte[0]));
+        List<byte[]> actual = WebSocketUtils.getBatchContent(TagLengthValues.deserialize(tlvs.serialize()));
+        assertThat(actual).hasSize(3);
+        assertThat(actual.get(0)).isEqualTo(new byte[] {1, 2});
+        assertThat(actual.get(1)).hasSize(200);
+        assertThat(actual.get(2)).isEmpty();
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.serialization.http.websocket.StreamMessageType;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
+import modelengine.fit.serialization.http.websocket.WebSocketWorkerObserver;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.util.worker.Worker;
+import modelengine.fitframework.serialization.TagLengthValues;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link WebSocketWorkerObserver} 的基本测试用例。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 WebSocketWorkerObserver")
+public class WebSocketWorkerObserverTest {
+    private final List<TagLengthValues> messages = new ArrayList<>();
+    private final MessageSerializer serializer = mock(MessageSerializer.class);
+    private final Session session = mock(Session.class);
+
+    @BeforeEach
+    void setup() {
+        when(this.serializer.serializeResponse(eq(Integer.class), any())).thenAnswer(invocation -> String.valueOf(
+                invocation.getArgument(1, Object.class)).getBytes(StandardCharsets.UTF_8));
+        doAnswer(invocation -> this.messages.add(TagLengthValues.deserialize(invocation.getArgument(0, byte[].class))))
+                .when(this.session)
+                .send(any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("多路复用时，一次请求中同步产生的元素合并为一个批量消息发送，且所有消息都携带流标识")
+    void shouldSendElementsInBatch() {
+        WebSocketWorkerObserver observer =
+                new WebSocketWorkerObserver(this.session, this.serializer, Integer.class, -1, (s, i) -> {}, 5, 2);
+        Worker.create(observer, Choir.just(1, 2, 3)).run();
+        observer.request(3);
+
+        assertThat(this.messages).hasSize(3);
+        assertThat(this.messages).allMatch(message -> WebSocketUtils.getStreamId(message) == 5);
+        assertThat(WebSocketUtils.getType(this.messages.get(0))).isEqualTo(StreamMessageType.CONSUME_BATCH.code());
+        assertThat(WebSocketUtils.getBatchContent(this.messages.get(0))).hasSize(2);
+        assertThat(WebSocketUtils.getType(this.messages.get(1))).isEqualTo(StreamMessageType.CONSUME.code());
+        assertThat(WebSocketUtils.getType(this.messages.get(2))).isEqualTo(StreamMessageType.COMPLETE.code());
+    }
+
+    @Test
+    @DisplayName("不使用多路复用时，逐个发送元素且消息不携带流标识")
+    void shouldSendElementsOneByOneWhenNotMultiplexed() {
+        WebSocketWorkerObserver observer =
+                new WebSocketWorkerObserver(this.session, this.serializer, Integer.class, -1, (s, i) -> {});
+        Worker.create(observer, Choir.just(1, 2, 3)).run();
+        observer.request(3);
+
+        assertThat(this.messages).hasSize(4);
+        assertThat(this.messages).noneMatch(WebSocketUtils::hasStreamId);
+        assertThat(this.messages.subList(0, 3)).allMatch(message -> WebSocketUtils.getType(message)
+                == StreamMessageType.CONSUME.code());
+    }
+}
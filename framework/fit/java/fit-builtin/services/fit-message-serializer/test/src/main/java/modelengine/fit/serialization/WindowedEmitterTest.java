@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.serialization.http.websocket.WindowedEmitter;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.choir.FlexibleEmitterChoir;
+import modelengine.fitframework.flowable.util.OnSubscribedObserver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link WindowedEmitter} 的基本测试用例。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 WindowedEmitter")
+public class WindowedEmitterTest {
+    private final List<Long> credits = new ArrayList<>();
+    private final List<Integer> received = new ArrayList<>();
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private Choir<Integer> subscribe(WindowedEmitter<Integer> emitter) {
+        Choir<Integer> choir = new FlexibleEmitterChoir<>(() -> emitter,
+                null,
+                OnSubscribedObserver::notifyOnSubscribed,
+                emitter::request,
+                emitter::cancel);
+        choir.subscribe(this.subscription::set,
+                (actual, data) -> this.received.add(data),
+                actual -> this.completed.set(true),
+                null);
+        return choir;
+    }
+
+    @Test
+    @DisplayName("首次请求时向远端请求窗口大小的元素，空闲额度达到窗口的一半时补充请求")
+    void shouldRequestRemoteByWindow() {
+        WindowedEmitter<Integer> emitter = new WindowedEmitter<>(4, this.credits::add);
+        this.subscribe(emitter);
+        this.subscription.get().request(1);
+        assertThat(this.credits).containsExactly(4L);
+
+        for (int i = 0; i < 4; i++) {
+            emitter.emit(i);
+        }
+        assertThat(this.received).containsExactly(0);
+        assertThat(this.credits).containsExactly(4L);
+
+        this.subscription.get().request(2);
+        assertThat(this.received).containsExactly(0, 1, 2);
+        assertThat(this.credits).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("缓冲区中的元素全部发送后才通知订阅者结束")
+    void shouldCompleteAfterBufferDrained() {
+        WindowedEmitter<Integer> emitter = new WindowedEmitter<>(4, this.credits::add);
+        this.subscribe(emitter);
+        this.subscription.get().request(1);
+        emitter.emit(0);
+        emitter.emit(1);
+        emitter.complete();
+        assertThat(this.completed).isFalse();
+
+        this.subscription.get().request(1);
+        assertThat(this.received).containsExactly(0, 1);
+        assertThat(this.completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("请求无限数量的元素时向远端请求一次无限数量，窗口大小为 0 时直接转发请求")
+    void shouldRequestUnboundedOrPassThrough() {
+        WindowedEmitter<Integer> unbounded = new WindowedEmitter<>(4, this.credits::add);
+        this.subscribe(unbounded);
+        this.subscription.get().request(Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            unbounded.emit(i);
+        }
+        assertThat(this.received).hasSize(10);
+        assertThat(this.credits).containsExactly(Long.MAX_VALUE);
+
+        this.credits.clear();
+        WindowedEmitter<Integer> direct = new WindowedEmitter<>(0, this.credits::add);
+        this.subscribe(direct);
+        this.subscription.get().request(1);
+        this.subscription.get().request(2);
+        assertThat(this.credits).containsExactly(1L, 2L);
+    }
+}
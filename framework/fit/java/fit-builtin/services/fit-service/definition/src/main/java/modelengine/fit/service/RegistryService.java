@@ -7,6 +7,7 @@
 package modelengine.fit.service;
 
 import modelengine.fit.service.entity.Application;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.FitableMeta;
@@ -53,6 +54,18 @@ public interface RegistryService {
     @Genericable(id = "33be4142494e4742aa122555a451d996")
     List<FitableAddressInstance> queryFitables(List<FitableInfo> fitables, String workerId);
 
+    /**
+     * 向注册中心服务端查询指定服务实现从指定版本以来的实例变化。
+     * <p>当指定的版本不大于 {@code 0}、早于注册中心保留的最早版本或者注册中心已经重启时，注册中心将返回全量快照。</p>
+     *
+     * @param fitables 表示指定服务实现列表的 {@link List}{@code <}{@link FitableInfo}{@code >}。
+     * @param workerId 表示指定的进程的唯一标识的 {@link String}。
+     * @param revision 表示客户端当前已知的注册中心版本的 {@code long}。
+     * @return 表示指定服务实现的实例变化的 {@link FitableAddressChanges}。
+     */
+    @Genericable(id = "8d81cd7257b24cea8a1a416cd1619782")
+    FitableAddressChanges queryFitableChanges(List<FitableInfo> fitables, String workerId, long revision);
+
     /**
      * 向注册中心服务端订阅指定服务实现的实例信息。
      *
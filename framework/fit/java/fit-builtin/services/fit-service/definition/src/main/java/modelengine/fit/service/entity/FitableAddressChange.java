@@ -0,0 +1,80 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.service.entity;
+
+import static modelengine.fitframework.util.ObjectUtils.getIfNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表示服务实现的实例信息在两个版本之间的变化。
+ * <p>新增的进程按照所属应用组织为 {@link ApplicationInstance 应用实例}，删除的进程仅通过其唯一标识表示。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class FitableAddressChange {
+    private FitableInfo fitable;
+    private List<ApplicationInstance> addedApplicationInstances = new ArrayList<>();
+    private List<String> removedWorkerIds = new ArrayList<>();
+
+    /**
+     * 获取发生变化的服务实现信息。
+     *
+     * @return 表示发生变化的服务实现信息的 {@link FitableInfo}。
+     */
+    public FitableInfo getFitable() {
+        return this.fitable;
+    }
+
+    /**
+     * 设置发生变化的服务实现信息。
+     *
+     * @param fitable 表示发生变化的服务实现信息的 {@link FitableInfo}。
+     */
+    public void setFitable(FitableInfo fitable) {
+        this.fitable = fitable;
+    }
+
+    /**
+     * 获取新增或更新的进程所在的应用实例列表。
+     *
+     * @return 表示新增或更新的进程所在的应用实例列表的 {@link List}{@code <}{@link ApplicationInstance}{@code >}。
+     */
+    public List<ApplicationInstance> getAddedApplicationInstances() {
+        return this.addedApplicationInstances;
+    }
+
+    /**
+     * 设置新增或更新的进程所在的应用实例列表。
+     *
+     * @param addedApplicationInstances 表示新增或更新的进程所在的应用实例列表的 {@link List}{@code <}{@link
+     * ApplicationInstance}{@code >}。
+     */
+    public void setAddedApplicationInstances(List<ApplicationInstance> addedApplicationInstances) {
+        this.addedApplicationInstances = getIfNull(addedApplicationInstances, ArrayList::new);
+    }
+
+    /**
+     * 获取被删除的进程的唯一标识列表。
+     *
+     * @return 表示被删除的进程的唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public List<String> getRemovedWorkerIds() {
+        return this.removedWorkerIds;
+    }
+
+    /**
+     * 设置被删除的进程的唯一标识列表。
+     *
+     * @param removedWorkerIds 表示被删除的进程的唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public void setRemovedWorkerIds(List<String> removedWorkerIds) {
+        this.removedWorkerIds = getIfNull(removedWorkerIds, ArrayList::new);
+    }
+}
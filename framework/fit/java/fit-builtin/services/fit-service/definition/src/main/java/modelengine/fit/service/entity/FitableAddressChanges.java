@@ -0,0 +1,80 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.service.entity;
+
+import static modelengine.fitframework.util.ObjectUtils.getIfNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表示注册中心从指定版本到最新版本之间，一组服务实现的实例信息的变化。
+ * <p>当 {@link #isSnapshot()} 为 {@code true} 时，表示注册中心无法计算增量（例如客户端的版本过旧或注册中心已重启），
+ * 此时 {@link #getChanges()} 中的新增列表即为对应服务实现的全量实例信息，客户端需要使用其替换本地缓存。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class FitableAddressChanges {
+    private long revision;
+    private boolean snapshot;
+    private List<FitableAddressChange> changes = new ArrayList<>();
+
+    /**
+     * 获取变化计算完成时注册中心的最新版本。
+     *
+     * @return 表示注册中心的最新版本的 {@code long}。
+     */
+    public long getRevision() {
+        return this.revision;
+    }
+
+    /**
+     * 设置变化计算完成时注册中心的最新版本。
+     *
+     * @param revision 表示注册中心的最新版本的 {@code long}。
+     */
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * 判断当前变化是否为全量快照。
+     *
+     * @return 如果当前变化为全量快照，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    public boolean isSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * 设置当前变化是否为全量快照。
+     *
+     * @param snapshot 表示当前变化是否为全量快照的 {@code boolean}。
+     */
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * 获取所有发生变化的服务实现的变化列表。
+     *
+     * @return 表示服务实现的变化列表的 {@link List}{@code <}{@link FitableAddressChange}{@code >}。
+     */
+    public List<FitableAddressChange> getChanges() {
+        return this.changes;
+    }
+
+    /**
+     * 设置所有发生变化的服务实现的变化列表。
+     *
+     * @param changes 表示服务实现的变化列表的 {@link List}{@code <}{@link FitableAddressChange}{@code >}。
+     */
+    public void setChanges(List<FitableAddressChange> changes) {
+        this.changes = getIfNull(changes, ArrayList::new);
+    }
+}
@@ -20,22 +20,31 @@ import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * 为 {@link Config} 提供组合模式的实现。
+ * <p>读取配置时使用合并结果的快照：快照按照规范化的键缓存合并后的值，并按照键和目标类型缓存不可变类型的转换结果。当链中的配置被添加、
+ * 移除、配置值发生变化、链中的配置被解密，或者嵌套的 {@link DefaultConfigChain} 发生以上变化时，快照失效并在下次读取时重建。
+ * 无法感知变化的配置（例如装饰其他配置的实现）不会被缓存，每次读取时实时获取。</p>
  *
  * @author 梁济时
  * @since 2022-05-18
@@ -48,6 +57,10 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
     private volatile List<Config> currentConfigs;
     private volatile List<ConfigChainListener> currentListeners;
 
+    private final Set<DefaultConfigChain> parents;
+    private final AtomicLong version;
+    private volatile Snapshot snapshot;
+
     /**
      * 使用配置的名称初始化 {@link DefaultConfigChain} 类的新实例。
      *
@@ -58,6 +71,8 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         this.configs = new ArrayList<>();
         this.listeners = new LinkedList<>();
         this.configListener = this.new ConfigListener();
+        this.parents = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        this.version = new AtomicLong();
     }
 
     private List<Config> configs() {
@@ -93,17 +108,71 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
 
     @Override
     protected Object getWithCanonicalKey(String key) {
-        Object result = null;
-        for (Config config : this.configs()) {
-            Object value = ConfigValueSupplier.get(config, key);
-            result = merge(result, value);
+        return this.snapshot().get(key);
+    }
+
+    @Override
+    public Object get(String key, Type type) {
+        if (!Snapshot.isImmutable(type)) {
+            return super.get(key, type);
         }
-        return result;
+        return this.snapshot().convert(key, type, () -> super.get(key, type));
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> clazz) {
+        if (!Snapshot.isImmutable(clazz)) {
+            return super.get(key, clazz);
+        }
+        return ObjectUtils.cast(this.snapshot().convert(key, clazz, () -> super.get(key, clazz)));
     }
 
     @Override
     public void decrypt(@Nonnull ConfigDecryptor decryptor) {
         this.configs().forEach(config -> config.decrypt(decryptor));
+        this.invalidate();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot actual = this.snapshot;
+        long currentVersion = this.version.get();
+        if (actual == null || actual.version != currentVersion) {
+            actual = new Snapshot(currentVersion, this.configs());
+            this.snapshot = actual;
+        }
+        return actual;
+    }
+
+    private boolean isTracked() {
+        return this.snapshot().tracked;
+    }
+
+    /**
+     * 使当前链及所有包含当前链的链的快照失效。
+     * <p>包含当前链的链通过弱引用记录，因此被嵌套的链不会阻止外层链被回收。</p>
+     */
+    private void invalidate() {
+        this.version.incrementAndGet();
+        this.snapshot = null;
+        List<DefaultConfigChain> actualParents;
+        synchronized (this.parents) {
+            actualParents = new ArrayList<>(this.parents);
+        }
+        actualParents.forEach(DefaultConfigChain::invalidate);
+    }
+
+    private void onConfigAttached(Config config) {
+        this.configListener.subscribe(config);
+        if (config instanceof DefaultConfigChain) {
+            ((DefaultConfigChain) config).parents.add(this);
+        }
+    }
+
+    private void onConfigDetached(Config config) {
+        this.configListener.unsubscribe(config);
+        if (config instanceof DefaultConfigChain) {
+            ((DefaultConfigChain) config).parents.remove(this);
+        }
     }
 
     @Override
@@ -117,7 +186,8 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
             this.configs.add(config);
             this.currentConfigs = null;
         }
-        this.configListener.subscribe(config);
+        this.onConfigAttached(config);
+        this.invalidate();
         this.notifyConfigAdded(config);
         return index;
     }
@@ -135,7 +205,8 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
             this.configs.add(index, config);
             this.currentConfigs = null;
         }
-        this.configListener.subscribe(config);
+        this.onConfigAttached(config);
+        this.invalidate();
         this.notifyConfigAdded(config);
     }
 
@@ -152,8 +223,9 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
             this.configs.addAll(actual);
             this.currentConfigs = null;
         }
+        actual.forEach(this::onConfigAttached);
+        this.invalidate();
         for (Config config : actual) {
-            this.configListener.subscribe(config);
             this.notifyConfigAdded(config);
         }
     }
@@ -169,7 +241,8 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
             }
             this.currentConfigs = null;
         }
-        this.configListener.unsubscribe(config);
+        this.onConfigDetached(config);
+        this.invalidate();
         this.notifyConfigRemoved(config);
     }
 
@@ -181,8 +254,9 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
             this.configs.clear();
             this.currentConfigs = null;
         }
+        clearingConfigs.forEach(this::onConfigDetached);
+        this.invalidate();
         for (Config config : clearingConfigs) {
-            this.configListener.unsubscribe(config);
             this.notifyConfigRemoved(config);
         }
     }
@@ -222,6 +296,7 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
     private class ConfigListener implements ModifiableConfigListener {
         @Override
         public void onValueChanged(ModifiableConfig config, String key) {
+            DefaultConfigChain.this.invalidate();
             DefaultConfigChain.this.notifyConfigChanged(config, key);
         }
 
@@ -317,4 +392,172 @@ public class DefaultConfigChain extends AbstractConfig implements ConfigChain {
         results.addAll(list2);
         return results;
     }
+
+    /**
+     * 表示配置链在某个版本下的合并结果的快照。
+     * <p>链中的配置被划分为连续的段：能够感知变化的配置组成的段按照键缓存合并结果，其余配置单独成段并在每次读取时实时获取。</p>
+     */
+    private static final class Snapshot {
+        private static final Object NULL_VALUE = new Object();
+        private static final int MAX_CACHED_KEYS = 4096;
+        private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class,
+                Boolean.class,
+                Character.class,
+                Byte.class,
+                Short.class,
+                Integer.class,
+                Long.class,
+                Float.class,
+                Double.class);
+
+        private final long version;
+        private final List<Segment> segments;
+        private final boolean tracked;
+        private final Map<ConversionKey, Object> conversions;
+
+        private Snapshot(long version, List<Config> configs) {
+            this.version = version;
+            this.segments = new ArrayList<>();
+            List<Config> run = new ArrayList<>();
+            for (Config config : configs) {
+                if (isTracked(config)) {
+                    run.add(config);
+                    continue;
+                }
+                if (!run.isEmpty()) {
+                    this.segments.add(new Segment(run, true));
+                    run = new ArrayList<>();
+                }
+                this.segments.add(new Segment(Collections.singletonList(config), false));
+            }
+            if (!run.isEmpty()) {
+                this.segments.add(new Segment(run, true));
+            }
+            this.tracked = this.segments.stream().allMatch(segment -> segment.values != null);
+            this.conversions = this.tracked ? new ConcurrentHashMap<>() : null;
+        }
+
+        private static boolean isTracked(Config config) {
+            if (config instanceof DefaultConfigChain) {
+                return ((DefaultConfigChain) config).isTracked();
+            }
+            return config instanceof ModifiableConfig || config instanceof ReadonlyMapConfig
+                    || config instanceof ReadonlyPropertiesConfig;
+        }
+
+        private static boolean isImmutable(Type type) {
+            if (!(type instanceof Class)) {
+                return false;
+            }
+            Class<?> clazz = (Class<?>) type;
+            return clazz.isPrimitive() || clazz.isEnum() || IMMUTABLE_TYPES.contains(clazz);
+        }
+
+        private Object get(String key) {
+            Object result = null;
+            for (Segment segment : this.segments) {
+                result = merge(result, segment.get(key));
+            }
+            return result;
+        }
+
+        private Object convert(String key, Type type, Supplier<Object> converter) {
+            if (this.conversions == null) {
+                return converter.get();
+            }
+            ConversionKey conversionKey = new ConversionKey(key, type);
+            Object value = this.conversions.get(conversionKey);
+            if (value == null) {
+                value = ObjectUtils.nullIf(converter.get(), NULL_VALUE);
+                putBounded(this.conversions, conversionKey, value);
+            }
+            return value == NULL_VALUE ? null : value;
+        }
+
+        private static <K> void putBounded(Map<K, Object> map, K key, Object value) {
+            if (map.size() >= MAX_CACHED_KEYS) {
+                map.clear();
+            }
+            map.put(key, value);
+        }
+    }
+
+    private static final class Segment {
+        private final List<Config> configs;
+        private final Map<String, Object> values;
+
+        private Segment(List<Config> configs, boolean cacheable) {
+            this.configs = configs;
+            this.values = cacheable ? new ConcurrentHashMap<>() : null;
+        }
+
+        private Object get(String key) {
+            if (this.values == null || key == null) {
+                return this.compute(key);
+            }
+            Object value = this.values.get(key);
+            if (value == null) {
+                value = ObjectUtils.nullIf(this.compute(key), Snapshot.NULL_VALUE);
+                Snapshot.putBounded(this.values, key, value);
+            }
+            return value == Snapshot.NULL_VALUE ? null : copy(value);
+        }
+
+        /**
+         * 复制缓存的值中的映射和列表，使调用方对返回值的修改不会影响缓存。
+         *
+         * @param value 表示缓存的值的 {@link Object}。
+         * @return 表示复制后的值的 {@link Object}。
+         */
+        private static Object copy(Object value) {
+            if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                Map<Object, Object> copied = new LinkedHashMap<>(map.size());
+                map.forEach((key, element) -> copied.put(key, copy(element)));
+                return copied;
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                List<Object> copied = new ArrayList<>(list.size());
+                list.forEach(element -> copied.add(copy(element)));
+                return copied;
+            } else {
+                return value;
+            }
+        }
+
+        private Object compute(String key) {
+            Object result = null;
+            for (Config config : this.configs) {
+                result = merge(result, ConfigValueSupplier.get(config, key));
+            }
+            return result;
+        }
+    }
+
+    private static final class ConversionKey {
+        private final String key;
+        private final Type type;
+
+        private ConversionKey(String key, Type type) {
+            this.key = key;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConversionKey)) {
+                return false;
+            }
+            ConversionKey another = (ConversionKey) obj;
+            return Objects.equals(this.key, another.key) && Objects.equals(this.type, another.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.type);
+        }
+    }
 }
@@ -19,9 +19,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.ConfigChainListener;
+import modelengine.fitframework.conf.ConfigValueSupplier;
 import modelengine.fitframework.conf.ModifiableConfig;
 import modelengine.fitframework.conf.ModifiableConfigListener;
 import modelengine.fitframework.util.MapBuilder;
@@ -291,4 +293,66 @@ class DefaultConfigChainTest {
         assertEquals("kitty", map.get("name"));
         assertEquals(19, map.get("age"));
     }
+
+    @Test
+    @DisplayName("修改读取到的对象和列表，不影响再次读取的结果")
+    void shouldNotAffectCachedValueWhenReturnedValueModified() {
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        MapConfig config1 = new MapConfig("m1", null);
+        config1.set("a.b", MapBuilder.<String, Object>get().put("name", "kitty").build());
+        config1.set("a.c", Arrays.asList("hello", "world"));
+        MapConfig config2 = new MapConfig("m2", null);
+        config2.set("a.b", MapBuilder.<String, Object>get().put("age", 19).build());
+        chain.addConfig(config1);
+        chain.addConfig(config2);
+
+        Map<?, ?> map = (Map<?, ?>) chain.get("a.b");
+        map.clear();
+        List<?> list = (List<?>) chain.get("a.c");
+        list.clear();
+        assertEquals(2, ((Map<?, ?>) chain.get("a.b")).size());
+        assertEquals(Arrays.asList("hello", "world"), chain.get("a.c"));
+    }
+
+    @Test
+    @DisplayName("当配置的值被修改后，再次读取时返回修改后的值")
+    void shouldReturnModifiedValueAfterValueChanged() {
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        MapConfig config = new MapConfig("m1", null);
+        config.set("a.b", "1");
+        chain.addConfig(config);
+        assertEquals("1", chain.get("a.b"));
+        assertEquals(1, chain.get("a.b", Integer.class));
+        config.set("a.b", "2");
+        assertEquals("2", chain.get("a.b"));
+        assertEquals(2, chain.get("a.b", Integer.class));
+    }
+
+    @Test
+    @DisplayName("当嵌套的配置链发生变化后，外层配置链读取到变化后的值")
+    void shouldReturnLatestValueWhenNestedChainChanged() {
+        DefaultConfigChain outer = new DefaultConfigChain(null);
+        DefaultConfigChain inner = new DefaultConfigChain(null);
+        outer.addConfig(inner);
+        MapConfig config = new MapConfig("m1", null);
+        config.set("a.b", "1");
+        inner.addConfig(config);
+        assertEquals("1", outer.get("a.b"));
+        config.set("a.b", "2");
+        assertEquals("2", outer.get("a.b"));
+        inner.removeConfig(config);
+        Assertions.assertNull(outer.get("a.b"));
+    }
+
+    @Test
+    @DisplayName("当链中包含无法感知变化的配置时，每次读取该配置的最新值")
+    void shouldReadUntrackedConfigEveryTime() {
+        DefaultConfigChain chain = new DefaultConfigChain(null);
+        Config config = mock(Config.class, withSettings().extraInterfaces(ConfigValueSupplier.class));
+        when(config.get("a.b")).thenReturn("1");
+        chain.addConfig(config);
+        assertEquals("1", chain.get("a.b"));
+        when(config.get("a.b")).thenReturn("2");
+        assertEquals("2", chain.get("a.b"));
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 表示定时任务在集群中的租约存储。
+ * <p>多个实例共享同一个租约存储，通过租约保证同一调度时间的定时任务只被一个实例执行，并记录任务的执行历史。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public interface ScheduleLeaseStore {
+    /**
+     * 尝试获取指定任务在指定调度时间的租约。
+     * <p>仅当租约未被其他实例持有（或已过期），且上一次获取租约的调度时间距本次调度时间不小于
+     * {@code interval} 时，才能获取成功。</p>
+     *
+     * @param task 表示任务名字的 {@link String}。
+     * @param owner 表示当前实例标识的 {@link String}。
+     * @param fireTime 表示本次调度时间的 {@link Instant}。
+     * @param interval 表示两次调度之间的最小间隔的 {@link Duration}。
+     * @param ttl 表示租约有效时长的 {@link Duration}。
+     * @return 如果获取租约成功，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean acquire(String task, String owner, Instant fireTime, Duration interval, Duration ttl);
+
+    /**
+     * 释放当前实例持有的指定任务的租约。
+     *
+     * @param task 表示任务名字的 {@link String}。
+     * @param owner 表示当前实例标识的 {@link String}。
+     */
+    void release(String task, String owner);
+
+    /**
+     * 记录一次任务执行。
+     *
+     * @param run 表示任务执行记录的 {@link ScheduledRun}。
+     */
+    void record(ScheduledRun run);
+
+    /**
+     * 获取指定任务最近的执行记录，按照开始时间倒序排列。
+     *
+     * @param task 表示任务名字的 {@link String}。
+     * @param limit 表示最多返回的记录数量的 {@code int}。
+     * @return 表示执行记录列表的 {@link List}{@code <}{@link ScheduledRun}{@code >}。
+     */
+    List<ScheduledRun> history(String task, int limit);
+}
@@ -6,29 +6,44 @@
 
 package modelengine.fitframework.schedule;
 
+import static modelengine.fitframework.inspection.Validation.greaterThan;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.annotation.Initialize;
+import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
+import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.model.Tuple;
 import modelengine.fitframework.schedule.annotation.Scheduled;
+import modelengine.fitframework.schedule.support.JdbcScheduleLeaseStore;
+import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.MethodInvoker;
 import modelengine.fitframework.util.ObjectUtils;
-import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.TypeUtils;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
+import javax.sql.DataSource;
+
 /**
  * 表示定时调度执行器。
+ * <p>标记为 {@link Scheduled#exclusive() 互斥执行} 的任务通过 {@link ScheduleLeaseStore} 在集群中互斥执行，
+ * 所有任务的执行指标可以通过 {@link #metrics()} 获取。</p>
  *
  * @author 季聿阶
  * @since 2023-01-18
@@ -43,11 +58,42 @@ public class ScheduledExecutor {
                     .put(Scheduled.Strategy.FIXED_RATE, ScheduledExecutor::createFixedRateTask)
                     .build();
 
+    private static final Logger log = Logger.get(ScheduledExecutor.class);
+
     private final BeanContainer container;
+    private final String instanceId;
+    private final Duration leaseTtl;
+    private final Duration historyRetention;
+    private final boolean isSchemaAutoCreated;
+    private final LazyLoader<Optional<ScheduleLeaseStore>> leaseStoreLoader;
     private final List<Tuple> initialDelayAndTasks = new ArrayList<>();
+    private final Map<String, ScheduledTaskMetrics> metrics = new ConcurrentHashMap<>();
 
-    public ScheduledExecutor(BeanContainer container) {
+    public ScheduledExecutor(BeanContainer container, @Value("${schedule.cluster.instance-id}") String instanceId,
+            @Value("${schedule.cluster.lease-ttl}") long leaseTtlMillis,
+            @Value("${schedule.cluster.history-retention}") long historyRetentionMillis,
+            @Value("${schedule.cluster.initialize-schema}") boolean isSchemaAutoCreated) {
         this.container = notNull(container, "The bean container cannot be null.");
+        this.instanceId = StringUtils.isBlank(instanceId)
+                ? ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : instanceId;
+        this.leaseTtl = Duration.ofMillis(greaterThan(leaseTtlMillis,
+                0L,
+                "The lease ttl of scheduled task must be positive. [leaseTtl={0}]",
+                leaseTtlMillis));
+        this.historyRetention = Duration.ofMillis(historyRetentionMillis);
+        this.isSchemaAutoCreated = isSchemaAutoCreated;
+        this.leaseStoreLoader = new LazyLoader<>(this::loadLeaseStore);
+    }
+
+    /**
+     * 获取当前插件中所有定时任务的执行指标。
+     *
+     * @return 表示任务名字到执行指标的映射的 {@link Map}{@code <}{@link String}{@code ,
+     * }{@link ScheduledTaskMetrics}{@code >}。
+     */
+    public Map<String, ScheduledTaskMetrics> metrics() {
+        return Collections.unmodifiableMap(this.metrics);
     }
 
     @Initialize
@@ -64,13 +110,40 @@ public class ScheduledExecutor {
             if (annotations.isAnnotationPresent(Scheduled.class)) {
                 Scheduled scheduled = annotations.getAnnotation(Scheduled.class);
                 long initialDelay = scheduled.timeUnit().toMillis(scheduled.initialDelay());
-                Runnable runnable = () -> ReflectionUtils.invoke(factory.get(), beanMethod);
-                Task task = this.createTask(runnable, scheduled);
+                MethodInvoker invoker = MethodInvoker.of(beanMethod);
+                String name = beanClass.getName() + "#" + beanMethod.getName();
+                ScheduledRunner runner = new ScheduledRunner(name,
+                        () -> invoker.invoke(factory.get()),
+                        scheduled,
+                        scheduled.exclusive() ? this.leaseStoreLoader.get().orElse(null) : null,
+                        this.instanceId,
+                        this.leaseTtl);
+                this.metrics.put(name, runner.metrics());
+                Task task = this.createTask(runner, scheduled);
+                task = Task.builder(task).policy(runner.observe(task.policy())).build();
                 this.initialDelayAndTasks.add(Tuple.duet(initialDelay, task));
             }
         }
     }
 
+    private Optional<ScheduleLeaseStore> loadLeaseStore() {
+        Optional<ScheduleLeaseStore> store = this.container.lookup(ScheduleLeaseStore.class)
+                .map(BeanFactory::get)
+                .map(ScheduleLeaseStore.class::cast);
+        if (store.isPresent()) {
+            return store;
+        }
+        Optional<DataSource> dataSource =
+                this.container.lookup(DataSource.class).map(BeanFactory::get).map(DataSource.class::cast);
+        if (dataSource.isPresent()) {
+            JdbcScheduleLeaseStore jdbcStore = new JdbcScheduleLeaseStore(dataSource.get(), this.historyRetention);
+            return Optional.of(this.isSchemaAutoCreated ? jdbcStore.initialize() : jdbcStore);
+        }
+        log.warn("No schedule lease store or data source found, exclusive scheduled tasks run on every instance. "
+                + "[plugin={}]", this.container.plugin().metadata().name());
+        return Optional.empty();
+    }
+
     private void scheduleTasks() {
         ThreadPoolScheduler scheduler = ThreadPoolScheduler.custom()
                 .corePoolSize(this.initialDelayAndTasks.size())
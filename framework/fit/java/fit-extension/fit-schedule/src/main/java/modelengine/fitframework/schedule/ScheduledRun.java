@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import java.time.Instant;
+
+/**
+ * 表示定时任务的一次执行记录。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public final class ScheduledRun {
+    private final String task;
+    private final String owner;
+    private final Instant fireTime;
+    private final Instant startTime;
+    private final Instant endTime;
+    private final Status status;
+    private final String message;
+
+    /**
+     * 初始化 {@link ScheduledRun} 的新实例。
+     *
+     * @param task 表示任务名字的 {@link String}。
+     * @param owner 表示执行任务的实例标识的 {@link String}。
+     * @param fireTime 表示调度时间的 {@link Instant}。
+     * @param startTime 表示开始执行时间的 {@link Instant}。
+     * @param endTime 表示执行结束时间的 {@link Instant}。
+     * @param status 表示执行结果的 {@link Status}。
+     * @param message 表示执行失败时的错误信息的 {@link String}。
+     * @throws IllegalArgumentException 当 {@code task} 或 {@code owner} 为空白字符串，或其余时间及状态为
+     * {@code null} 时。
+     */
+    public ScheduledRun(String task, String owner, Instant fireTime, Instant startTime, Instant endTime,
+            Status status, String message) {
+        this.task = notBlank(task, "The task name cannot be blank.");
+        this.owner = notBlank(owner, "The owner cannot be blank.");
+        this.fireTime = notNull(fireTime, "The fire time cannot be null.");
+        this.startTime = notNull(startTime, "The start time cannot be null.");
+        this.endTime = notNull(endTime, "The end time cannot be null.");
+        this.status = notNull(status, "The status cannot be null.");
+        this.message = message;
+    }
+
+    /**
+     * 获取任务名字。
+     *
+     * @return 表示任务名字的 {@link String}。
+     */
+    public String task() {
+        return this.task;
+    }
+
+    /**
+     * 获取执行任务的实例标识。
+     *
+     * @return 表示实例标识的 {@link String}。
+     */
+    public String owner() {
+        return this.owner;
+    }
+
+    /**
+     * 获取调度时间。
+     *
+     * @return 表示调度时间的 {@link Instant}。
+     */
+    public Instant fireTime() {
+        return this.fireTime;
+    }
+
+    /**
+     * 获取开始执行时间。
+     *
+     * @return 表示开始执行时间的 {@link Instant}。
+     */
+    public Instant startTime() {
+        return this.startTime;
+    }
+
+    /**
+     * 获取执行结束时间。
+     *
+     * @return 表示执行结束时间的 {@link Instant}。
+     */
+    public Instant endTime() {
+        return this.endTime;
+    }
+
+    /**
+     * 获取执行结果。
+     *
+     * @return 表示执行结果的 {@link Status}。
+     */
+    public Status status() {
+        return this.status;
+    }
+
+    /**
+     * 获取执行失败时的错误信息。
+     *
+     * @return 表示错误信息的 {@link String}，执行成功时为 {@code null}。
+     */
+    public String message() {
+        return this.message;
+    }
+
+    /**
+     * 表示执行结果。
+     */
+    public enum Status {
+        /** 表示执行成功。 */
+        SUCCEEDED,
+
+        /** 表示执行失败。 */
+        FAILED,
+
+        /** 表示错过执行而被跳过。 */
+        MISFIRED
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 表示一个定时任务的执行过程。
+ * <p>在执行任务之前处理错过执行及集群租约，执行之后记录执行历史与指标。调度时间通过包装任务的
+ * {@link ExecutePolicy} 获得，同一任务的各次执行是串行的，因此不需要额外同步。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class ScheduledRunner implements Runnable {
+    private static final Logger log = Logger.get(ScheduledRunner.class);
+    private static final int MAX_MESSAGE_LENGTH = 1024;
+
+    private final String task;
+    private final Runnable action;
+    private final ScheduleLeaseStore store;
+    private final String owner;
+    private final Duration interval;
+    private final Duration leaseTtl;
+    private final Scheduled.Misfire misfire;
+    private final long misfireThresholdMillis;
+    private final ScheduledTaskMetrics metrics;
+    private volatile Instant fireTime;
+
+    /**
+     * 初始化 {@link ScheduledRunner} 的新实例。
+     *
+     * @param task 表示任务名字的 {@link String}。
+     * @param action 表示任务执行过程的 {@link Runnable}。
+     * @param scheduled 表示任务调度配置的 {@link Scheduled}。
+     * @param store 表示集群租约存储的 {@link ScheduleLeaseStore}，为 {@code null} 时任务只在本实例内调度。
+     * @param owner 表示当前实例标识的 {@link String}。
+     * @param leaseTtl 表示租约有效时长的 {@link Duration}。
+     */
+    ScheduledRunner(String task, Runnable action, Scheduled scheduled, ScheduleLeaseStore store, String owner,
+            Duration leaseTtl) {
+        this.task = notBlank(task, "The task name cannot be blank.");
+        this.action = notNull(action, "The action cannot be null.");
+        notNull(scheduled, "The scheduled annotation cannot be null.");
+        this.store = scheduled.exclusive() ? store : null;
+        this.owner = owner;
+        this.interval = interval(scheduled);
+        this.leaseTtl = leaseTtl;
+        this.misfire = scheduled.misfire();
+        this.misfireThresholdMillis = scheduled.timeUnit().toMillis(scheduled.misfireThreshold());
+        this.metrics = new ScheduledTaskMetrics(task);
+    }
+
+    private static Duration interval(Scheduled scheduled) {
+        switch (scheduled.strategy()) {
+            case FIXED_RATE:
+            case FIXED_DELAY:
+                return Duration.ofMillis(Long.parseLong(scheduled.value()));
+            default:
+                // 各实例按照相同的表达式得到相同的调度时间，只需保证同一调度时间不被重复执行。
+                return Duration.ofMillis(1);
+        }
+    }
+
+    /**
+     * 获取任务的执行指标。
+     *
+     * @return 表示任务执行指标的 {@link ScheduledTaskMetrics}。
+     */
+    ScheduledTaskMetrics metrics() {
+        return this.metrics;
+    }
+
+    /**
+     * 包装任务的执行策略，以记录每一次的调度时间，并统计执行超时。
+     *
+     * @param policy 表示原始执行策略的 {@link ExecutePolicy}。
+     * @return 表示包装后的执行策略的 {@link ExecutePolicy}。
+     */
+    ExecutePolicy observe(ExecutePolicy policy) {
+        notNull(policy, "The execute policy cannot be null.");
+        return (execution, startTime) -> {
+            Optional<Instant> next = policy.nextExecuteTime(execution, startTime);
+            next.ifPresent(time -> {
+                this.fireTime = time;
+                if (execution.lastCompleteTime().filter(time::isBefore).isPresent()) {
+                    this.metrics.onOverrun();
+                }
+            });
+            return next;
+        };
+    }
+
+    @Override
+    public void run() {
+        Instant start = Instant.now();
+        Instant scheduledTime = this.fireTime == null ? start : this.fireTime;
+        long lagMillis = Math.max(0, Duration.between(scheduledTime, start).toMillis());
+        if (this.misfireThresholdMillis > 0 && lagMillis > this.misfireThresholdMillis
+                && this.misfire == Scheduled.Misfire.SKIP) {
+            log.warn("Scheduled task misfired, skip it. [task={}, fireTime={}, lag={}ms]",
+                    this.task,
+                    scheduledTime,
+                    lagMillis);
+            this.metrics.onSkipped();
+            this.record(new ScheduledRun(this.task,
+                    this.owner,
+                    scheduledTime,
+                    start,
+                    start,
+                    ScheduledRun.Status.MISFIRED,
+                    null));
+            return;
+        }
+        if (!this.acquire(scheduledTime)) {
+            this.metrics.onSkipped();
+            return;
+        }
+        RuntimeException failure = null;
+        try {
+            this.action.run();
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            Instant end = Instant.now();
+            this.metrics.onCompleted(lagMillis, Duration.between(start, end).toMillis(), failure != null);
+            this.release();
+            this.record(new ScheduledRun(this.task,
+                    this.owner,
+                    scheduledTime,
+                    start,
+                    end,
+                    failure == null ? ScheduledRun.Status.SUCCEEDED : ScheduledRun.Status.FAILED,
+                    failure == null ? null : message(failure)));
+        }
+    }
+
+    private boolean acquire(Instant scheduledTime) {
+        if (this.store == null) {
+            return true;
+        }
+        try {
+            return this.store.acquire(this.task, this.owner, scheduledTime, this.interval, this.leaseTtl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to acquire lease of scheduled task, skip it. [task={}, cause={}]",
+                    this.task,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private void release() {
+        if (this.store == null) {
+            return;
+        }
+        try {
+            this.store.release(this.task, this.owner);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release lease of scheduled task. [task={}, cause={}]", this.task, e.getMessage());
+        }
+    }
+
+    private void record(ScheduledRun run) {
+        if (this.store == null) {
+            return;
+        }
+        try {
+            this.store.record(run);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record scheduled task execution. [task={}, cause={}]", this.task, e.getMessage());
+        }
+    }
+
+    private static String message(Throwable cause) {
+        String message = cause.getClass().getName() + ": " + cause.getMessage();
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+}
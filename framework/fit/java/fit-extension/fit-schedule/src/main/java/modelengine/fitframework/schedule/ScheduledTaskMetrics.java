@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 表示定时任务的执行指标。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public final class ScheduledTaskMetrics {
+    private final String task;
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder overruns = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    ScheduledTaskMetrics(String task) {
+        this.task = notBlank(task, "The task name cannot be blank.");
+    }
+
+    /**
+     * 获取任务名字。
+     *
+     * @return 表示任务名字的 {@link String}。
+     */
+    public String task() {
+        return this.task;
+    }
+
+    /**
+     * 获取当前实例实际执行任务的次数。
+     *
+     * @return 表示执行次数的 {@code long}。
+     */
+    public long runs() {
+        return this.runs.sum();
+    }
+
+    /**
+     * 获取执行失败的次数。
+     *
+     * @return 表示执行失败次数的 {@code long}。
+     */
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * 获取跳过执行的次数，包括错过执行以及租约由其他实例持有的情况。
+     *
+     * @return 表示跳过执行次数的 {@code long}。
+     */
+    public long skipped() {
+        return this.skipped.sum();
+    }
+
+    /**
+     * 获取执行超时的次数，即执行结束时已经晚于下一次调度时间的次数。
+     *
+     * @return 表示执行超时次数的 {@code long}。
+     */
+    public long overruns() {
+        return this.overruns.sum();
+    }
+
+    /**
+     * 获取单次执行耗时的平均值。
+     *
+     * @return 表示平均执行耗时毫秒数的 {@code long}。
+     */
+    public long averageLatencyMillis() {
+        long count = this.runs.sum();
+        return count == 0 ? 0 : this.totalLatencyMillis.sum() / count;
+    }
+
+    /**
+     * 获取单次执行耗时的最大值。
+     *
+     * @return 表示最大执行耗时毫秒数的 {@code long}。
+     */
+    public long maxLatencyMillis() {
+        return this.maxLatencyMillis.get();
+    }
+
+    /**
+     * 获取开始执行时间晚于调度时间的最大值。
+     *
+     * @return 表示最大延迟毫秒数的 {@code long}。
+     */
+    public long maxLagMillis() {
+        return this.maxLagMillis.get();
+    }
+
+    void onCompleted(long lagMillis, long latencyMillis, boolean isFailed) {
+        this.runs.increment();
+        if (isFailed) {
+            this.failures.increment();
+        }
+        this.totalLatencyMillis.add(latencyMillis);
+        this.maxLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+        this.maxLagMillis.accumulateAndGet(lagMillis, Math::max);
+    }
+
+    void onSkipped() {
+        this.skipped.increment();
+    }
+
+    void onOverrun() {
+        this.overruns.increment();
+    }
+}
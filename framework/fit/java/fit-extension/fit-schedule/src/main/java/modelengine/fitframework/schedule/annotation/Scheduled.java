@@ -59,6 +59,32 @@ public @interface Scheduled {
      */
     TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
 
+    /**
+     * 获取定时调度是否在集群内互斥执行。
+     * <p>互斥执行时，同一调度时间的任务在集群中只会被一个实例执行，需要容器中存在
+     * {@link modelengine.fitframework.schedule.ScheduleLeaseStore} 或 {@link javax.sql.DataSource}，
+     * 否则退化为每个实例各自执行。</p>
+     *
+     * @return 如果在集群内互斥执行，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean exclusive() default false;
+
+    /**
+     * 获取判定调度错过执行的阈值。
+     * <p>实际开始执行的时间晚于调度时间超过该阈值时，视为错过执行，按照 {@link #misfire()} 处理。单位为
+     * {@link #timeUnit()}，非正数表示不判定错过执行。</p>
+     *
+     * @return 表示判定调度错过执行的阈值的 {@code long}。
+     */
+    long misfireThreshold() default 0;
+
+    /**
+     * 获取调度错过执行时的处理策略。
+     *
+     * @return 表示调度错过执行时的处理策略的 {@link Misfire}。
+     */
+    Misfire misfire() default Misfire.FIRE_NOW;
+
     /**
      * 表示定时调度的策略。
      */
@@ -75,4 +101,15 @@ public @interface Scheduled {
         /** 表示一次性的调度策略。 */
         DISPOSABLE
     }
+
+    /**
+     * 表示调度错过执行时的处理策略。
+     */
+    enum Misfire {
+        /** 表示立即补充执行。 */
+        FIRE_NOW,
+
+        /** 表示跳过本次执行，等待下一次调度。 */
+        SKIP
+    }
 }
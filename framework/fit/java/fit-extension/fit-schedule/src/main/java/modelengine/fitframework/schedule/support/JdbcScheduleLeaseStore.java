@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.schedule.ScheduleLeaseStore;
+import modelengine.fitframework.schedule.ScheduledRun;
+import modelengine.fitframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * 表示基于 JDBC 的 {@link ScheduleLeaseStore} 实现。
+ * <p>租约与执行历史保存在 {@code fit_schedule_lease} 与 {@code fit_schedule_history} 两张表中，时间均以毫秒时间戳保存，
+ * 以避免不同数据库时间类型的差异。租约通过带条件的 {@code UPDATE} 与主键唯一约束的 {@code INSERT} 获取，
+ * 不依赖特定数据库的锁语法。两张表默认需要预先创建，也可以通过 {@link #initialize()} 创建。</p>
+ * <p>当指定了执行历史的保留时长时，记录执行历史的同时会定期删除结束时间早于保留时长的执行历史，删除的间隔不超过
+ * {@value #MAX_PRUNE_INTERVAL_MILLIS} 毫秒。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class JdbcScheduleLeaseStore implements ScheduleLeaseStore {
+    private static final String CREATE_LEASE_TABLE = "CREATE TABLE IF NOT EXISTS fit_schedule_lease ("
+            + "task_name VARCHAR(255) NOT NULL PRIMARY KEY, owner_id VARCHAR(255) NOT NULL, "
+            + "fire_time BIGINT NOT NULL, lease_until BIGINT NOT NULL)";
+    private static final String CREATE_HISTORY_TABLE = "CREATE TABLE IF NOT EXISTS fit_schedule_history ("
+            + "task_name VARCHAR(255) NOT NULL, owner_id VARCHAR(255) NOT NULL, fire_time BIGINT NOT NULL, "
+            + "start_time BIGINT NOT NULL, end_time BIGINT NOT NULL, status VARCHAR(16) NOT NULL, "
+            + "message VARCHAR(1024))";
+    private static final String UPDATE_LEASE = "UPDATE fit_schedule_lease SET owner_id = ?, fire_time = ?, "
+            + "lease_until = ? WHERE task_name = ? AND fire_time <= ? AND (lease_until <= ? OR owner_id = ?)";
+    private static final String INSERT_LEASE =
+            "INSERT INTO fit_schedule_lease (task_name, owner_id, fire_time, lease_until) VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_LEASE =
+            "UPDATE fit_schedule_lease SET lease_until = 0 WHERE task_name = ? AND owner_id = ?";
+    private static final String INSERT_HISTORY = "INSERT INTO fit_schedule_history (task_name, owner_id, "
+            + "fire_time, start_time, end_time, status, message) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_HISTORY = "SELECT task_name, owner_id, fire_time, start_time, end_time, "
+            + "status, message FROM fit_schedule_history WHERE task_name = ? ORDER BY start_time DESC";
+    private static final String DELETE_HISTORY = "DELETE FROM fit_schedule_history WHERE end_time < ?";
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+    private static final long MAX_PRUNE_INTERVAL_MILLIS = 60L * 60 * 1000;
+
+    private final DataSource dataSource;
+    private final Duration historyRetention;
+    private final long pruneIntervalMillis;
+    private final AtomicLong nextPruneTime = new AtomicLong();
+
+    /**
+     * 使用数据源初始化 {@link JdbcScheduleLeaseStore} 的新实例，执行历史永久保留。
+     *
+     * @param dataSource 表示数据源的 {@link DataSource}。
+     * @throws IllegalArgumentException 当 {@code dataSource} 为 {@code null} 时。
+     */
+    public JdbcScheduleLeaseStore(DataSource dataSource) {
+        this(dataSource, Duration.ZERO);
+    }
+
+    /**
+     * 使用数据源和执行历史的保留时长初始化 {@link JdbcScheduleLeaseStore} 的新实例。
+     *
+     * @param dataSource 表示数据源的 {@link DataSource}。
+     * @param historyRetention 表示执行历史保留时长的 {@link Duration}，不大于 {@code 0} 时执行历史永久保留。
+     * @throws IllegalArgumentException 当 {@code dataSource} 或 {@code historyRetention} 为 {@code null} 时。
+     */
+    public JdbcScheduleLeaseStore(DataSource dataSource, Duration historyRetention) {
+        this.dataSource = notNull(dataSource, "The data source cannot be null.");
+        this.historyRetention = notNull(historyRetention, "The history retention cannot be null.");
+        this.pruneIntervalMillis = Math.min(historyRetention.toMillis(), MAX_PRUNE_INTERVAL_MILLIS);
+    }
+
+    /**
+     * 创建租约与执行历史所需的表，如果表已经存在，则忽略。
+     *
+     * @return 表示当前租约存储的 {@link JdbcScheduleLeaseStore}。
+     * @throws IllegalStateException 当创建表失败时。
+     */
+    public JdbcScheduleLeaseStore initialize() {
+        try (Connection connection = this.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_LEASE_TABLE);
+            statement.execute(CREATE_HISTORY_TABLE);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to create tables of schedule lease store.", e);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean acquire(String task, String owner, Instant fireTime, Duration interval, Duration ttl) {
+        notBlank(task, "The task name cannot be blank.");
+        notBlank(owner, "The owner cannot be blank.");
+        notNull(fireTime, "The fire time cannot be null.");
+        notNull(interval, "The interval cannot be null.");
+        notNull(ttl, "The lease ttl cannot be null.");
+        long now = System.currentTimeMillis();
+        long fire = fireTime.toEpochMilli();
+        long leaseUntil = now + ttl.toMillis();
+        try (Connection connection = this.dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_LEASE)) {
+                statement.setString(1, owner);
+                statement.setLong(2, fire);
+                statement.setLong(3, leaseUntil);
+                statement.setString(4, task);
+                statement.setLong(5, fire - interval.toMillis());
+                statement.setLong(6, now);
+                statement.setString(7, owner);
+                if (statement.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_LEASE)) {
+                statement.setString(1, task);
+                statement.setString(2, owner);
+                statement.setLong(3, fire);
+                statement.setLong(4, leaseUntil);
+                return statement.executeUpdate() > 0;
+            } catch (SQLException e) {
+                if (StringUtils.startsWithIgnoreCase(e.getSQLState(), INTEGRITY_CONSTRAINT_VIOLATION)) {
+                    // 租约已经存在，且不满足获取条件。
+                    return false;
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(StringUtils.format("Failed to acquire schedule lease. [task={0}]", task),
+                    e);
+        }
+    }
+
+    @Override
+    public void release(String task, String owner) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(RELEASE_LEASE)) {
+            statement.setString(1, task);
+            statement.setString(2, owner);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(StringUtils.format("Failed to release schedule lease. [task={0}]", task),
+                    e);
+        }
+    }
+
+    @Override
+    public void record(ScheduledRun run) {
+        notNull(run, "The scheduled run cannot be null.");
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_HISTORY)) {
+            statement.setString(1, run.task());
+            statement.setString(2, run.owner());
+            statement.setLong(3, run.fireTime().toEpochMilli());
+            statement.setLong(4, run.startTime().toEpochMilli());
+            statement.setLong(5, run.endTime().toEpochMilli());
+            statement.setString(6, run.status().name());
+            statement.setString(7, run.message());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(StringUtils.format("Failed to record scheduled run. [task={0}]",
+                    run.task()), e);
+        }
+        this.pruneIfNecessary();
+    }
+
+    private void pruneIfNecessary() {
+        if (this.pruneIntervalMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long next = this.nextPruneTime.get();
+        if (now < next || !this.nextPruneTime.compareAndSet(next, now + this.pruneIntervalMillis)) {
+            return;
+        }
+        this.prune(Instant.ofEpochMilli(now).minus(this.historyRetention));
+    }
+
+    /**
+     * 删除结束时间早于指定时间的执行历史。
+     *
+     * @param before 表示指定时间的 {@link Instant}。
+     * @return 表示删除的执行历史数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code before} 为 {@code null} 时。
+     * @throws IllegalStateException 当删除失败时。
+     */
+    public int prune(Instant before) {
+        notNull(before, "The prune time cannot be null.");
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_HISTORY)) {
+            statement.setLong(1, before.toEpochMilli());
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to prune scheduled runs.", e);
+        }
+    }
+
+    @Override
+    public List<ScheduledRun> history(String task, int limit) {
+        greaterThan(limit, 0, "The history limit must be positive. [limit={0}]", limit);
+        List<ScheduledRun> runs = new ArrayList<>();
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_HISTORY)) {
+            statement.setMaxRows(limit);
+            statement.setString(1, task);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    runs.add(new ScheduledRun(resultSet.getString(1),
+                            resultSet.getString(2),
+                            Instant.ofEpochMilli(resultSet.getLong(3)),
+                            Instant.ofEpochMilli(resultSet.getLong(4)),
+                            Instant.ofEpochMilli(resultSet.getLong(5)),
+                            ScheduledRun.Status.valueOf(resultSet.getString(6)),
+                            resultSet.getString(7)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(StringUtils.format("Failed to query scheduled runs. [task={0}]", task),
+                    e);
+        }
+        return runs;
+    }
+}
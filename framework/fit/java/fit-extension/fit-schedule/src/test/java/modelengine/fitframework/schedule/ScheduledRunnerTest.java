@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.schedule.annotation.Scheduled;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link ScheduledRunner} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 ScheduledRunner")
+class ScheduledRunnerTest {
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    @DisplayName("获取到租约时执行任务，并记录执行历史与指标")
+    void shouldRunAndRecordWhenLeaseAcquired() throws NoSuchMethodException {
+        ScheduleLeaseStore store = mock(ScheduleLeaseStore.class);
+        when(store.acquire(eq("task"), eq("owner"), any(), eq(Duration.ofMillis(1000)), eq(TTL))).thenReturn(true);
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledRunner runner =
+                new ScheduledRunner("task", counter::incrementAndGet, scheduled("exclusive"), store, "owner", TTL);
+        runner.run();
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(runner.metrics().runs()).isEqualTo(1);
+        verify(store).release("task", "owner");
+        ArgumentCaptor<ScheduledRun> captor = ArgumentCaptor.forClass(ScheduledRun.class);
+        verify(store).record(captor.capture());
+        assertThat(captor.getValue().status()).isEqualTo(ScheduledRun.Status.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("租约由其他实例持有时跳过执行")
+    void shouldSkipWhenLeaseHeldByOthers() throws NoSuchMethodException {
+        ScheduleLeaseStore store = mock(ScheduleLeaseStore.class);
+        when(store.acquire(anyString(), anyString(), any(), any(), any())).thenReturn(false);
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledRunner runner =
+                new ScheduledRunner("task", counter::incrementAndGet, scheduled("exclusive"), store, "owner", TTL);
+        runner.run();
+        assertThat(counter.get()).isZero();
+        assertThat(runner.metrics().skipped()).isEqualTo(1);
+        verify(store, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("错过执行且策略为跳过时，不执行任务")
+    void shouldSkipMisfiredRun() throws NoSuchMethodException {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledRunner runner =
+                new ScheduledRunner("task", counter::incrementAndGet, scheduled("misfire"), null, "owner", TTL);
+        ExecutePolicy policy = runner.observe((execution, startTime) -> Optional.of(Instant.now().minusSeconds(5)));
+        policy.nextExecuteTime(mock(ExecutePolicy.Execution.class), Instant.now());
+        runner.run();
+        assertThat(counter.get()).isZero();
+        assertThat(runner.metrics().skipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("非互斥任务忽略租约存储，直接执行")
+    void shouldIgnoreStoreWhenNotExclusive() throws NoSuchMethodException {
+        ScheduleLeaseStore store = mock(ScheduleLeaseStore.class);
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledRunner runner =
+                new ScheduledRunner("task", counter::incrementAndGet, scheduled("local"), store, "owner", TTL);
+        runner.run();
+        assertThat(counter.get()).isEqualTo(1);
+        verify(store, never()).acquire(anyString(), anyString(), any(), any(), any());
+    }
+
+    private static Scheduled scheduled(String method) throws NoSuchMethodException {
+        return ScheduledRunnerTest.class.getDeclaredMethod(method).getAnnotation(Scheduled.class);
+    }
+
+    @Scheduled(strategy = Scheduled.Strategy.FIXED_RATE, value = "1000", exclusive = true)
+    private static void exclusive() {}
+
+    @Scheduled(strategy = Scheduled.Strategy.FIXED_RATE, value = "1000", misfireThreshold = 1000,
+            misfire = Scheduled.Misfire.SKIP)
+    private static void misfire() {}
+
+    @Scheduled(strategy = Scheduled.Strategy.FIXED_RATE, value = "1000")
+    private static void local() {}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.schedule.ScheduledRun;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 表示 {@link JdbcScheduleLeaseStore} 的单元测试（基于 H2 数据库）。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 JdbcScheduleLeaseStore")
+class JdbcScheduleLeaseStoreTest {
+    private static final String URL = "jdbc:h2:mem:schedule;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String TASK = "demo#run";
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private JdbcDataSource dataSource;
+    private JdbcScheduleLeaseStore store;
+
+    @BeforeEach
+    void setup() {
+        this.dataSource = new JdbcDataSource();
+        this.dataSource.setURL(URL);
+        this.store = new JdbcScheduleLeaseStore(this.dataSource).initialize();
+    }
+
+    @AfterEach
+    void teardown() throws SQLException {
+        try (Connection connection = this.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE fit_schedule_lease");
+            statement.execute("DROP TABLE fit_schedule_history");
+        }
+    }
+
+    @Test
+    @DisplayName("同一调度时间只有一个实例可以获取租约")
+    void shouldGrantLeaseToOnlyOneInstanceForSameFireTime() {
+        Instant fireTime = Instant.now();
+        assertThat(this.store.acquire(TASK, "instance-1", fireTime, INTERVAL, TTL)).isTrue();
+        assertThat(this.store.acquire(TASK, "instance-2", fireTime, INTERVAL, TTL)).isFalse();
+        this.store.release(TASK, "instance-1");
+        assertThat(this.store.acquire(TASK, "instance-2", fireTime, INTERVAL, TTL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("租约被持有时，其他实例无法获取下一次调度的租约")
+    void shouldRejectOtherInstanceWhileLeaseIsHeld() {
+        Instant fireTime = Instant.now();
+        assertThat(this.store.acquire(TASK, "instance-1", fireTime, INTERVAL, TTL)).isTrue();
+        assertThat(this.store.acquire(TASK, "instance-2", fireTime.plus(INTERVAL), INTERVAL, TTL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("租约释放或过期后，其他实例可以获取下一次调度的租约")
+    void shouldGrantNextFireTimeAfterReleaseOrExpiration() {
+        Instant fireTime = Instant.now();
+        assertThat(this.store.acquire(TASK, "instance-1", fireTime, INTERVAL, TTL)).isTrue();
+        this.store.release(TASK, "instance-1");
+        assertThat(this.store.acquire(TASK, "instance-2", fireTime.plusSeconds(5), INTERVAL, TTL)).isFalse();
+        assertThat(this.store.acquire(TASK, "instance-2", fireTime.plus(INTERVAL), INTERVAL, Duration.ZERO)).isTrue();
+        assertThat(this.store.acquire(TASK, "instance-1", fireTime.plus(INTERVAL.multipliedBy(2)), INTERVAL, TTL))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("执行记录按照开始时间倒序返回")
+    void shouldReturnHistoryInDescendingOrder() {
+        Instant now = Instant.now();
+        this.store.record(new ScheduledRun(TASK,
+                "instance-1",
+                now,
+                now,
+                now.plusMillis(10),
+                ScheduledRun.Status.SUCCEEDED,
+                null));
+        this.store.record(new ScheduledRun(TASK,
+                "instance-2",
+                now.plus(INTERVAL),
+                now.plus(INTERVAL),
+                now.plus(INTERVAL).plusMillis(10),
+                ScheduledRun.Status.FAILED,
+                "java.lang.IllegalStateException: failed"));
+        List<ScheduledRun> history = this.store.history(TASK, 10);
+        assertThat(history).hasSize(2);
+        assertThat(history.get(0).owner()).isEqualTo("instance-2");
+        assertThat(history.get(0).status()).isEqualTo(ScheduledRun.Status.FAILED);
+        assertThat(history.get(0).message()).contains("failed");
+        assertThat(history.get(1).status()).isEqualTo(ScheduledRun.Status.SUCCEEDED);
+        assertThat(this.store.history(TASK, 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("指定执行历史的保留时长时，记录执行历史的同时删除过期的执行历史")
+    void shouldPruneExpiredHistoryWhenRecord() {
+        JdbcScheduleLeaseStore retained = new JdbcScheduleLeaseStore(this.dataSource, Duration.ofMinutes(1));
+        Instant now = Instant.now();
+        Instant expired = now.minus(Duration.ofHours(2));
+        this.store.record(new ScheduledRun(TASK,
+                "instance-1",
+                expired,
+                expired,
+                expired.plusMillis(10),
+                ScheduledRun.Status.SUCCEEDED,
+                null));
+        retained.record(new ScheduledRun(TASK,
+                "instance-2",
+                now,
+                now,
+                now.plusMillis(10),
+                ScheduledRun.Status.SUCCEEDED,
+                null));
+        List<ScheduledRun> history = this.store.history(TASK, 10);
+        assertThat(history).hasSize(1);
+        assertThat(history.get(0).owner()).isEqualTo("instance-2");
+        assertThat(retained.prune(now.plusSeconds(1))).isEqualTo(1);
+    }
+}
@@ -16,7 +16,6 @@ import modelengine.fitframework.pattern.builder.BuilderFactory;
 import modelengine.fitframework.util.AnnotationUtils;
 import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.CollectionUtils;
-import modelengine.fitframework.util.MapUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
@@ -35,14 +34,12 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * 校验入口类。
@@ -51,6 +48,7 @@ import java.util.stream.Stream;
  *     <li>方法参数直接包含 {@link Validated} 注解，此时校验的是该参数对象的字段。</li>
  *     <li>方法参数包含约束注解，如 {@link modelengine.fitframework.validation.constraints.NotEmpty}，此时校验的是该参数对象。</li>
  * </ol>
+ * <p>每个方法在第一次校验时生成 {@link ValidationPlan} 并缓存，此后的调用不再解析注解，不包含约束的方法直接跳过校验。</p>
  *
  * @author 邬涨财
  * @since 2023-03-14
@@ -61,6 +59,7 @@ public class ValidationHandler {
     private final BeanContainer container;
     private final Map<ValidatorKey, List<ConstraintValidator<Annotation, Object>>> validatorMap =
             new ConcurrentHashMap<>();
+    private final Map<Method, ValidationPlan> plans = new ConcurrentHashMap<>();
 
     /**
      * 使用指定的 Bean 容器初始化 {@link ValidationHandler} 的新实例。
@@ -76,37 +75,41 @@ public class ValidationHandler {
     @Before(value = "@params(validated)", argNames = "joinPoint, validated")
     private void handle(JoinPoint joinPoint, Validated validated) {
         Method method = joinPoint.getMethod();
-        Object[] args = joinPoint.getArgs();
-        List<ConstraintViolation> violations = this.handleValidationMethod(method, args)
-                .stream()
-                .flatMap(validationMetadata -> this.validate(validationMetadata).stream())
-                .collect(Collectors.toList());
+        ValidationPlan plan = this.plans.computeIfAbsent(method, this::compile);
+        if (plan.isEmpty()) {
+            return;
+        }
+        List<ConstraintViolation> violations = plan.validate(method, joinPoint.getArgs());
         Validation.isTrue(violations.isEmpty(), () -> new ConstraintViolationException(violations));
     }
 
-    private List<ValidationMetadata> handleValidationMethod(Method method, Object[] args) {
+    /**
+     * 为指定方法生成校验计划，解析方法参数上的约束注解、{@link Validated} 注解及其分组。
+     *
+     * @param method 表示需要生成校验计划的方法的 {@link Method}。
+     * @return 表示方法的校验计划的 {@link ValidationPlan}。
+     */
+    private ValidationPlan compile(Method method) {
         Class<?>[] classGroups = this.getClassGroups(method);
         Parameter[] parameters = ReflectionUtils.getParameters(method);
-        List<ValidationMetadata> validationMetadataList = new ArrayList<>();
+        List<ValidationPlan.ParameterCheck> checks = new ArrayList<>();
         for (int index = 0; index < parameters.length; index++) {
+            ValidationPlan.Check check = ValidationPlan.Check.NONE;
             if (this.hasConstraintAnnotation(parameters[index])) {
-                ValidationMetadata validationMetadata = ValidationMetadata.createValidationParameter(parameters[index],
-                        classGroups,
-                        args[index],
-                        method);
-                validationMetadataList.add(validationMetadata);
-                continue;
-            }
-            if (this.hasValidatedAnnotation(parameters[index])) {
+                check = this.compileElement(parameters[index],
+                        parameters[index].getName(),
+                        parameters[index].getAnnotations(),
+                        classGroups);
+            } else if (this.hasValidatedAnnotation(parameters[index])) {
                 Class<?>[] validationGroups = this.getValidationGroups(parameters[index], classGroups);
                 PropertyValue parameterValue = PropertyValue.createParameterValue(parameters[index]);
-                validationMetadataList.addAll(this.getValidationFields(parameterValue.getParameterizedType(),
-                        args[index],
-                        method,
-                        validationGroups));
+                check = this.compileType(parameterValue.getParameterizedType(), validationGroups, new HashMap<>());
+            }
+            if (check != ValidationPlan.Check.NONE) {
+                checks.add(new ValidationPlan.ParameterCheck(index, check));
             }
         }
-        return validationMetadataList;
+        return checks.isEmpty() ? ValidationPlan.EMPTY : new ValidationPlan(checks);
     }
 
     private Class<?>[] getClassGroups(Method method) {
@@ -131,114 +134,93 @@ public class ValidationHandler {
         return AnnotationUtils.getAnnotation(this.container, element, Constraint.class).isPresent();
     }
 
-    private List<ValidationMetadata> getValidationFields(Type validationObject, Object validationValue, Method method,
-            Class<?>[] validationGroups) {
+    /**
+     * 为指定类型生成校验过程。
+     * <p>数据类的校验过程按照类型记录在 {@code compiled} 中，类型的字段直接或间接引用类型自身时，复用正在生成的校验过程，
+     * 因此自引用的数据类不会无限递归。</p>
+     *
+     * @param validationObject 表示待校验的类型的 {@link Type}。
+     * @param validationGroups 表示校验分组的 {@link Class}{@code <?>[]}。
+     * @param compiled 表示已经生成或正在生成的数据类校验过程的 {@link Map}{@code <}{@link Class}{@code <?>, }{@link
+     * ValidationPlan.Check}{@code >}。
+     * @return 表示类型的校验过程的 {@link ValidationPlan.Check}。
+     */
+    private ValidationPlan.Check compileType(Type validationObject, Class<?>[] validationGroups,
+            Map<Class<?>, ValidationPlan.Check> compiled) {
         if (validationObject instanceof ParameterizedType) {
             ParameterizedType parameterizedType = ObjectUtils.cast(validationObject);
+            Type[] actualTypeArgs = parameterizedType.getActualTypeArguments();
             if (Collection.class.isAssignableFrom(ObjectUtils.cast(parameterizedType.getRawType()))) {
-                return this.handleCollection(parameterizedType.getActualTypeArguments(),
-                        ObjectUtils.cast(validationValue),
-                        method,
-                        validationGroups);
+                Validation.equals(actualTypeArgs.length, 1, "The collection must have exactly 1 parameterized type.");
+                ValidationPlan.Check element = this.compileType(actualTypeArgs[0], validationGroups, compiled);
+                return element == ValidationPlan.Check.NONE
+                        ? ValidationPlan.Check.NONE
+                        : new ValidationPlan.CollectionCheck(element);
             }
             if (Map.class.isAssignableFrom(ObjectUtils.cast(parameterizedType.getRawType()))) {
-                return this.handleMap(parameterizedType.getActualTypeArguments(),
-                        ObjectUtils.cast(validationValue),
-                        method,
-                        validationGroups);
+                Validation.equals(actualTypeArgs.length, 2, "The map must have exactly 2 parameterized types.");
+                ValidationPlan.Check key = this.compileType(actualTypeArgs[0], validationGroups, compiled);
+                ValidationPlan.Check value = this.compileType(actualTypeArgs[1], validationGroups, compiled);
+                return key == ValidationPlan.Check.NONE && value == ValidationPlan.Check.NONE
+                        ? ValidationPlan.Check.NONE
+                        : new ValidationPlan.MapCheck(key, value);
             }
         }
-        if (validationObject instanceof Class) {
-            Field[] fields = new Field[0];
-            Map<String, Object> fieldNameValues = Collections.emptyMap();
-            if (!isSimpleClass(ObjectUtils.cast(validationObject))) {
-                fields = ReflectionUtils.getDeclaredFields(ObjectUtils.cast(validationObject), true);
-                fieldNameValues = Arrays.stream(fields)
-                        .collect(HashMap::new,
-                                (map, field) -> map.put(field.getName(),
-                                        validationValue == null
-                                                ? null
-                                                : ReflectionUtils.getField(validationValue, field)),
-                                HashMap::putAll);
+        if (!(validationObject instanceof Class) || isSimpleClass(ObjectUtils.cast(validationObject))) {
+            return ValidationPlan.Check.NONE;
+        }
+        Class<?> validationClass = ObjectUtils.cast(validationObject);
+        ValidationPlan.Check existing = compiled.get(validationClass);
+        if (existing != null) {
+            return existing;
+        }
+        List<ValidationPlan.FieldCheck> fieldChecks = new ArrayList<>();
+        ValidationPlan.BeanCheck beanCheck = new ValidationPlan.BeanCheck(fieldChecks);
+        compiled.put(validationClass, beanCheck);
+        Field[] fields = ReflectionUtils.getDeclaredFields(validationClass, true);
+        List<ValidationPlan.FieldCheck> constrainedFields = new ArrayList<>();
+        List<ValidationPlan.FieldCheck> nestedFields = new ArrayList<>();
+        for (Field field : fields) {
+            if (this.hasConstraintAnnotation(field)) {
+                ValidationPlan.Check check =
+                        this.compileElement(field, field.getName(), field.getAnnotations(), validationGroups);
+                if (check != ValidationPlan.Check.NONE) {
+                    constrainedFields.add(new ValidationPlan.FieldCheck(field, check));
+                }
+            }
+            if (this.hasValidatedAnnotation(field)) {
+                ValidationPlan.Check check = this.compileType(PropertyValue.createFieldValue(field)
+                        .getParameterizedType(), validationGroups, compiled);
+                if (check != ValidationPlan.Check.NONE) {
+                    nestedFields.add(new ValidationPlan.FieldCheck(field, check));
+                }
             }
-            List<ValidationMetadata> constraintFieldMetadata =
-                    this.getConstraintFieldMetadata(method, validationGroups, fields, fieldNameValues);
-            List<ValidationMetadata> validatedFieldMetadata =
-                    this.getValidatedFieldMetadata(method, validationGroups, fields, fieldNameValues);
-            return CollectionUtils.merge(constraintFieldMetadata, validatedFieldMetadata);
         }
-        return Collections.emptyList();
-    }
-
-    private List<ValidationMetadata> handleCollection(Type[] actualTypeArgs, Collection<?> validationValueCollection,
-            Method method, Class<?>[] validationGroups) {
-        Validation.equals(actualTypeArgs.length, 1, "The collection must have exactly 1 parameterized type.");
-        if (CollectionUtils.isEmpty(validationValueCollection)) {
-            return Collections.emptyList();
+        fieldChecks.addAll(CollectionUtils.merge(constrainedFields, nestedFields));
+        if (fieldChecks.isEmpty()) {
+            compiled.put(validationClass, ValidationPlan.Check.NONE);
+            return ValidationPlan.Check.NONE;
         }
-        return validationValueCollection.stream()
-                .flatMap(element -> this.getValidationFields(actualTypeArgs[0], element, method, validationGroups)
-                        .stream())
-                .collect(Collectors.toList());
+        return beanCheck;
     }
 
-    private List<ValidationMetadata> handleMap(Type[] actualTypeArgs, Map<?, ?> validationValueMap, Method method,
+    private ValidationPlan.Check compileElement(AnnotatedElement element, String name, Annotation[] annotations,
             Class<?>[] validationGroups) {
-        Validation.equals(actualTypeArgs.length, 2, "The map must have exactly 2 parameterized types.");
-        if (MapUtils.isEmpty(validationValueMap)) {
-            return Collections.emptyList();
-        }
-        return validationValueMap.entrySet()
-                .stream()
-                .flatMap(entry -> Stream.concat(
-                        this.getValidationFields(actualTypeArgs[0], entry.getKey(), method, validationGroups).stream(),
-                        this.getValidationFields(actualTypeArgs[1], entry.getValue(), method, validationGroups).stream()
-                ))
-                .collect(Collectors.toList());
-    }
-
-    private List<ValidationMetadata> getConstraintFieldMetadata(Method method, Class<?>[] validationGroups,
-            Field[] fields, Map<String, Object> fieldNameValues) {
-        return Arrays.stream(fields)
-                .filter(this::hasConstraintAnnotation)
-                .map(field -> ValidationMetadata.createValidationField(field,
-                        validationGroups,
-                        fieldNameValues.get(field.getName()),
-                        method))
-                .collect(Collectors.toList());
-    }
-
-    private List<ValidationMetadata> getValidatedFieldMetadata(Method method, Class<?>[] validationGroups,
-            Field[] fields, Map<String, Object> fieldNameValues) {
-        return Arrays.stream(fields)
-                .filter(this::hasValidatedAnnotation)
-                .flatMap(field -> this.getValidationFields(PropertyValue.createFieldValue(field).getParameterizedType(),
-                        fieldNameValues.get(field.getName()),
-                        method,
-                        validationGroups).stream())
-                .collect(Collectors.toList());
-    }
-
-    private List<ConstraintViolation> validate(ValidationMetadata validationMetadata) {
-        List<ConstraintViolation> violations = new ArrayList<>();
-        for (Annotation annotation : validationMetadata.annotations()) {
-            if (!this.needValidate(annotation, validationMetadata)) {
+        List<ValidationPlan.ConstraintRule> rules = new ArrayList<>();
+        for (Annotation annotation : annotations) {
+            if (!this.needValidate(annotation, validationGroups)) {
                 continue;
             }
-            this.getConstraintValidators(annotation, validationMetadata)
-                    .stream()
-                    .filter(validator -> !validator.isValid(validationMetadata.value()))
-                    .forEach((validator) -> violations.add(this.buildConstraintViolation(validationMetadata,
-                            annotation,
-                            validator.args())));
+            String message =
+                    String.valueOf(this.getAnnotationPropertyValue(annotation, "message").orElse(StringUtils.EMPTY));
+            rules.add(new ValidationPlan.ConstraintRule(this.getConstraintValidators(annotation, element), message));
         }
-        return violations;
+        return rules.isEmpty() ? ValidationPlan.Check.NONE : new ValidationPlan.ElementCheck(name, rules);
     }
 
     private List<ConstraintValidator<Annotation, Object>> getConstraintValidators(Annotation annotation,
-            ValidationMetadata validationMetadata) {
-        ValidatorKey validatorKey =
-                ValidatorKey.builder().annotation(annotation).annotatedElement(validationMetadata.element()).build();
+            AnnotatedElement element) {
+        ValidatorKey validatorKey = ValidatorKey.builder().annotation(annotation).annotatedElement(element).build();
         return this.validatorMap.computeIfAbsent(validatorKey, (key) -> this.buildConstraintValidators(annotation));
     }
 
@@ -260,33 +242,19 @@ public class ValidationHandler {
         return validator;
     }
 
-    private ConstraintViolation buildConstraintViolation(ValidationMetadata validationMetadata, Annotation annotation,
-            Object[] args) {
-        String message =
-                String.valueOf(this.getAnnotationPropertyValue(annotation, "message").orElse(StringUtils.EMPTY));
-        return ConstraintViolation.builder()
-                .message(message)
-                .propertyName(validationMetadata.name())
-                .propertyValue(validationMetadata.value())
-                .validationMethod(validationMetadata.getValidationMethod())
-                .args(args)
-                .build();
-    }
-
     /**
      * 判断该校验对象是否需要校验，通过比较校验对象的 {@link Validated} 注解和 {@link Constraint} 注解是否有相同的分组。
-     * <p>其中通过校验元数据 {@link ValidationMetadata} 可以获得 {@link Validated} 注解的分组；通过约束注解可以获得 {@link Constraint}
-     * 上的分组值。</p>
+     * <p>其中 {@link Validated} 注解的分组在生成校验计划时确定；通过约束注解可以获得 {@link Constraint} 上的分组值。</p>
      *
      * @param constraintAnnotation 表示约束注解的 {@link Annotation}。
-     * @param validationMetadata 表示需要校验的元数据的 {@link ValidationMetadata}。
+     * @param validationGroups 表示校验对象的分组的 {@link Class}{@code <?>[]}。
      * @return 表示是否需要校验的 {@code boolean}。
      */
-    private boolean needValidate(Annotation constraintAnnotation, ValidationMetadata validationMetadata) {
+    private boolean needValidate(Annotation constraintAnnotation, Class<?>[] validationGroups) {
         if (constraintAnnotation.annotationType().getAnnotation(Constraint.class) == null) {
             return false;
         }
-        List<Class<?>> validationClasses = Arrays.asList(validationMetadata.groups());
+        List<Class<?>> validationClasses = Arrays.asList(validationGroups);
         Optional<Object> optionGroups = this.getAnnotationPropertyValue(constraintAnnotation, "groups");
         if (!optionGroups.isPresent()) {
             return validationClasses.contains(DefaultGroup.class);
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.validation;
+
+import modelengine.fitframework.util.CollectionUtils;
+import modelengine.fitframework.util.MapUtils;
+import modelengine.fitframework.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 表示一个方法预编译的校验计划。
+ * <p>校验计划在方法第一次被调用时生成，其中已经解析了每个参数需要执行的约束注解、匹配的分组以及对应的约束校验器，
+ * 调用时只需要按照计划读取参数及字段的值并执行校验器，不再需要解析注解。不包含任何约束的方法对应一个空的计划。</p>
+ *
+ * @author 何天放
+ * @since 2026-10-19
+ */
+final class ValidationPlan {
+    /** 表示不包含任何约束的校验计划。 */
+    static final ValidationPlan EMPTY = new ValidationPlan(Collections.emptyList());
+
+    private final List<ParameterCheck> parameters;
+
+    /**
+     * 使用参数的校验项初始化 {@link ValidationPlan} 的新实例。
+     *
+     * @param parameters 表示参数校验项列表的 {@link List}{@code <}{@link ParameterCheck}{@code >}。
+     */
+    ValidationPlan(List<ParameterCheck> parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * 判断校验计划是否为空。
+     *
+     * @return 如果计划中不包含任何约束，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isEmpty() {
+        return this.parameters.isEmpty();
+    }
+
+    /**
+     * 按照校验计划校验方法的参数。
+     *
+     * @param method 表示被校验方法的 {@link Method}。
+     * @param args 表示方法参数值的 {@link Object}{@code []}。
+     * @return 表示违反约束的信息列表的 {@link List}{@code <}{@link ConstraintViolation}{@code >}。
+     */
+    List<ConstraintViolation> validate(Method method, Object[] args) {
+        List<ConstraintViolation> violations = new ArrayList<>();
+        for (ParameterCheck parameter : this.parameters) {
+            parameter.check.validate(args[parameter.index], method, violations);
+        }
+        return violations;
+    }
+
+    /**
+     * 表示对一个值的校验过程。
+     */
+    @FunctionalInterface
+    interface Check {
+        /** 表示不执行任何校验的校验过程。 */
+        Check NONE = (value, method, violations) -> {};
+
+        /**
+         * 校验指定的值，并将违反约束的信息添加到列表中。
+         *
+         * @param value 表示待校验的值的 {@link Object}。
+         * @param method 表示被校验方法的 {@link Method}。
+         * @param violations 表示违反约束的信息列表的 {@link List}{@code <}{@link ConstraintViolation}{@code >}。
+         */
+        void validate(Object value, Method method, List<ConstraintViolation> violations);
+    }
+
+    /**
+     * 表示一个参数的校验项。
+     */
+    static final class ParameterCheck {
+        private final int index;
+        private final Check check;
+
+        ParameterCheck(int index, Check check) {
+            this.index = index;
+            this.check = check;
+        }
+    }
+
+    /**
+     * 表示一个约束注解及其校验器。
+     */
+    static final class ConstraintRule {
+        private final List<ConstraintValidator<Annotation, Object>> validators;
+        private final String message;
+
+        ConstraintRule(List<ConstraintValidator<Annotation, Object>> validators, String message) {
+            this.validators = validators;
+            this.message = message;
+        }
+    }
+
+    /**
+     * 表示对一个参数或字段上的约束注解的校验。
+     */
+    static final class ElementCheck implements Check {
+        private final String name;
+        private final List<ConstraintRule> constraints;
+
+        ElementCheck(String name, List<ConstraintRule> constraints) {
+            this.name = name;
+            this.constraints = constraints;
+        }
+
+        @Override
+        public void validate(Object value, Method method, List<ConstraintViolation> violations) {
+            for (ConstraintRule constraint : this.constraints) {
+                for (ConstraintValidator<Annotation, Object> validator : constraint.validators) {
+                    if (!validator.isValid(value)) {
+                        violations.add(ConstraintViolation.builder()
+                                .message(constraint.message)
+                                .propertyName(this.name)
+                                .propertyValue(value)
+                                .validationMethod(method)
+                                .args(validator.args())
+                                .build());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 表示对一个数据类字段的校验项。
+     */
+    static final class FieldCheck {
+        private final Field field;
+        private final Check check;
+
+        FieldCheck(Field field, Check check) {
+            this.field = field;
+            this.check = check;
+        }
+    }
+
+    /**
+     * 表示对一个数据类的字段的校验。
+     * <p>字段的校验项已经按照先约束字段、后包含 {@link Validated} 注解的嵌套字段的顺序排列。</p>
+     */
+    static final class BeanCheck implements Check {
+        private final List<FieldCheck> fields;
+
+        BeanCheck(List<FieldCheck> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public void validate(Object value, Method method, List<ConstraintViolation> violations) {
+            for (FieldCheck field : this.fields) {
+                Object fieldValue = value == null ? null : ReflectionUtils.getField(value, field.field);
+                field.check.validate(fieldValue, method, violations);
+            }
+        }
+    }
+
+    /**
+     * 表示对集合中每一个元素的校验。
+     */
+    static final class CollectionCheck implements Check {
+        private final Check element;
+
+        CollectionCheck(Check element) {
+            this.element = element;
+        }
+
+        @Override
+        public void validate(Object value, Method method, List<ConstraintViolation> violations) {
+            Collection<?> collection = (Collection<?>) value;
+            if (CollectionUtils.isEmpty(collection)) {
+                return;
+            }
+            for (Object element : collection) {
+                this.element.validate(element, method, violations);
+            }
+        }
+    }
+
+    /**
+     * 表示对映射中每一个键值对的校验。
+     */
+    static final class MapCheck implements Check {
+        private final Check key;
+        private final Check value;
+
+        MapCheck(Check key, Check value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public void validate(Object value, Method method, List<ConstraintViolation> violations) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            if (MapUtils.isEmpty(map)) {
+                return;
+            }
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                this.key.validate(entry.getKey(), method, violations);
+                this.value.validate(entry.getValue(), method, violations);
+            }
+        }
+    }
+}
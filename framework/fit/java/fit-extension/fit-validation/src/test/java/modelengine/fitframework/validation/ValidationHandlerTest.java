@@ -8,7 +8,10 @@ package modelengine.fitframework.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.fitframework.aop.JoinPoint;
@@ -20,6 +23,7 @@ import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.validation.data.Car;
 import modelengine.fitframework.validation.data.CarValidate;
+import modelengine.fitframework.validation.data.Category;
 import modelengine.fitframework.validation.data.Company;
 import modelengine.fitframework.validation.data.NestedValidate;
 import modelengine.fitframework.validation.data.Product;
@@ -485,5 +489,90 @@ public class ValidationHandlerTest {
             List<String> msgList = Arrays.asList("经理只能有0-1个！", INVALID_CAR1_MSG, INVALID_CAR2_MSG);
             assertThat(expectedException.getMessage()).isEqualTo(String.join(", ", msgList));
         }
+
+        @Test
+        @DisplayName("测试递归嵌套的类 Category")
+        void shouldReturnMsgWhenValidateRecursiveType() {
+            Method validateMethod = ReflectionUtils.getDeclaredMethod(NestedValidate.class, "test10", Category.class);
+            when(this.joinPoint.getMethod()).thenReturn(validateMethod);
+            Category leaf = new Category("", null);
+            Category child = new Category("child", List.of(leaf));
+            Category root = new Category("", List.of(child, new Category("", List.of())));
+            when(this.joinPoint.getArgs()).thenReturn(new Object[] {root});
+            InvocationTargetException invocationTargetException = catchThrowableOfType(InvocationTargetException.class,
+                    () -> handleValidatedMethod.invoke(handler, this.joinPoint, validated));
+
+            // then
+            ConstraintViolationException expectedException =
+                    ObjectUtils.cast(invocationTargetException.getTargetException());
+            List<String> msgList = Arrays.asList("分类名不能为空", "分类名不能为空", "分类名不能为空");
+            assertThat(expectedException.getMessage()).isEqualTo(String.join(", ", msgList));
+        }
+    }
+
+    @Nested
+    @DisplayName("测试校验计划缓存")
+    class ValidationPlanTest {
+        private final Method handleValidatedMethod =
+                ReflectionUtils.getDeclaredMethod(ValidationHandler.class, "handle", JoinPoint.class, Validated.class);
+        private final JoinPoint joinPoint = mock(JoinPoint.class);
+
+        @BeforeEach
+        void setUp() {
+            when(validated.value()).thenReturn(new Class[0]);
+            when(fitRuntime.resolverOfAnnotations()).thenReturn(annotationMetadataResolver);
+            when(beanContainer.runtime()).thenReturn(fitRuntime);
+            this.handleValidatedMethod.setAccessible(true);
+        }
+
+        @Test
+        @DisplayName("参数不包含约束时，再次调用不再解析注解")
+        void shouldSkipUnconstrainedMethodWithoutResolvingAnnotations() {
+            Method validateMethod =
+                    ReflectionUtils.getDeclaredMethod(CarValidate.class, "validate4", String.class, int.class);
+            when(this.joinPoint.getMethod()).thenReturn(validateMethod);
+            when(this.joinPoint.getArgs()).thenReturn(new Object[] {"", -1});
+            assertThat(this.invoke()).isNull();
+            clearInvocations(beanContainer);
+            assertThat(this.invoke()).isNull();
+            verify(beanContainer, never()).runtime();
+        }
+
+        @Test
+        @DisplayName("校验参数约束时，再次调用复用校验计划")
+        void shouldReusePlanForConstrainedParameters() {
+            Method validateMethod =
+                    ReflectionUtils.getDeclaredMethod(CarValidate.class, "validate2", int.class, int.class);
+            when(this.joinPoint.getMethod()).thenReturn(validateMethod);
+            when(this.joinPoint.getArgs()).thenReturn(new Object[] {-1, -1});
+            assertThat(this.invoke().getMessage()).isEqualTo("座位数量范围只能在0和6！");
+            clearInvocations(beanContainer);
+            when(this.joinPoint.getArgs()).thenReturn(new Object[] {7, -1});
+            assertThat(this.invoke().getMessage()).isEqualTo("座位数量范围只能在0和6！");
+            when(this.joinPoint.getArgs()).thenReturn(new Object[] {3, -1});
+            assertThat(this.invoke()).isNull();
+            verify(beanContainer, never()).runtime();
+        }
+
+        @Test
+        @DisplayName("校验嵌套数据类时，再次调用复用校验计划")
+        void shouldReusePlanForNestedBeans() {
+            Method validateMethod = ReflectionUtils.getDeclaredMethod(NestedValidate.class, "test9", List.class);
+            when(this.joinPoint.getMethod()).thenReturn(validateMethod);
+            Car invalidCar = new Car(-1, 1, "", "model", 2024, 1999);
+            Company company = new Company(-1, 100, new Product("name", 1.0, 1, "category"), List.of(invalidCar));
+            when(this.joinPoint.getArgs()).thenReturn(new Object[] {List.of(company)});
+            String expected = "经理只能有0-1个！, 座位数量范围只能在0和6！, 品牌不能为空！";
+            assertThat(this.invoke().getMessage()).isEqualTo(expected);
+            clearInvocations(beanContainer);
+            assertThat(this.invoke().getMessage()).isEqualTo(expected);
+            verify(beanContainer, never()).runtime();
+        }
+
+        private ConstraintViolationException invoke() {
+            InvocationTargetException exception = catchThrowableOfType(InvocationTargetException.class,
+                    () -> this.handleValidatedMethod.invoke(handler, this.joinPoint, validated));
+            return exception == null ? null : ObjectUtils.cast(exception.getTargetException());
+        }
     }
 }
@@ -39,4 +39,12 @@ public class CarValidate {
      * @param car 表示校验的 Car 对象 {@link Car}。
      */
     public void validate3(@Validated(NormalCarGroup.class) Car car) {}
+
+    /**
+     * Car 类的校验方法四，参数不包含任何约束。
+     *
+     * @param brand 表示输入的品牌 {@link String}。
+     * @param seats 表示输入的座位数量 {@link int}。
+     */
+    public void validate4(@Validated String brand, int seats) {}
 }
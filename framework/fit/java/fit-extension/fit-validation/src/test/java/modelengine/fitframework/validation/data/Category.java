@@ -0,0 +1,42 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.validation.data;
+
+import modelengine.fitframework.validation.Validated;
+import modelengine.fitframework.validation.constraints.NotBlank;
+
+import java.util.List;
+
+/**
+ * 表示测试递归嵌套校验的数据类，子分类的类型与自身相同。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class Category {
+    @NotBlank(message = "分类名不能为空")
+    private String name;
+
+    @Validated
+    private List<Category> children;
+
+    /**
+     * 表示创建一个 {@link Category} 的新实例。
+     */
+    public Category() {}
+
+    /**
+     * 表示创建一个 {@link Category} 的新实例。
+     *
+     * @param name 表示分类名的 {@link String}。
+     * @param children 表示子分类的 {@link List}{@code <}{@link Category}{@code >}。
+     */
+    public Category(String name, List<Category> children) {
+        this.name = name;
+        this.children = children;
+    }
+}
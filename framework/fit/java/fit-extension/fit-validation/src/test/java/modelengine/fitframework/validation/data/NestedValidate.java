@@ -81,4 +81,11 @@ public class NestedValidate {
      * @param obj 需要被校验的对象的 {@link List}{@code <}{@link Company}{@code >}。
      */
     public void test9(@Validated List<Company> obj) {}
+
+    /**
+     * 嵌套校验的测试方法十。
+     *
+     * @param obj 需要被校验的对象的 {@link Category}。
+     */
+    public void test10(@Validated Category obj) {}
 }
@@ -35,18 +35,22 @@ import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.support.AbstractDisposable;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -65,6 +69,19 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     private final List<BeanRegisteredObserver> beanRegisteredObservers;
 
+    private final AtomicLong localVersion;
+
+    /**
+     * 表示以当前容器为根的插件树的版本号。
+     * <p>{@link #lookup(Type)} 和 {@link #all(Type)} 的结果依赖于所在插件树上的所有容器，因此树上任一容器中的 Bean 发生注册、
+     * 移除，或任一容器启动、停止时，都会递增根容器的该版本号，使同一插件树上依赖全局的缓存失效，其他插件树上的缓存不受影响。
+     * 非根容器的该版本号不会被使用。</p>
+     */
+    private final AtomicLong treeVersion;
+    private final TypeResolutionCache<List<BeanFactory>> localFactories;
+    private final TypeResolutionCache<Optional<BeanFactory>> lookupFactories;
+    private final TypeResolutionCache<List<BeanFactory>> allFactories;
+
     public DefaultBeanContainer(Plugin plugin) {
         this.plugin = notNull(plugin, "The owning plugin of a bean container cannot be null.");
 
@@ -74,6 +91,42 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
         this.monitor = LockUtils.newReentrantReadWriteLock();
 
         this.beanRegisteredObservers = new LinkedList<>();
+
+        this.localVersion = new AtomicLong();
+        this.treeVersion = new AtomicLong();
+        this.localFactories = new TypeResolutionCache<>(() -> this.localVersion);
+        this.lookupFactories = new TypeResolutionCache<>(this::treeVersion);
+        this.allFactories = new TypeResolutionCache<>(this::treeVersion);
+    }
+
+    private void onFactoriesChanged() {
+        this.localVersion.incrementAndGet();
+        this.onTreeChanged();
+    }
+
+    private void onTreeChanged() {
+        AtomicLong version = this.treeVersion();
+        if (version != null) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 获取当前容器所在插件树的版本号。
+     *
+     * @return 表示插件树的根容器中版本号的 {@link AtomicLong}，当根容器不是 {@link DefaultBeanContainer} 时，无法感知其变化，
+     * 返回 {@code null}。
+     */
+    private AtomicLong treeVersion() {
+        Plugin root = this.plugin;
+        while (root.parent() != null) {
+            root = root.parent();
+        }
+        BeanContainer container = root == this.plugin ? this : root.container();
+        if (container instanceof DefaultBeanContainer) {
+            return ((DefaultBeanContainer) container).treeVersion;
+        }
+        return null;
     }
 
     private BeanMetadata register(BeanFactory factory) {
@@ -86,6 +139,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
                     .collect(Collectors.toSet());
             if (existing.isEmpty()) {
                 this.factories.add(factory);
+                this.onFactoriesChanged();
             } else {
                 throw new BeanDefinitionException(StringUtils.format(
                         "Beans with the same name already exists. [names={0}]",
@@ -197,9 +251,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public void removeBean(String beanName) {
-        synchronized (this.monitor) {
-            this.factories.removeIf(beanFactory -> names(beanFactory).contains(beanName));
-        }
+        LockUtils.synchronize(this.monitor.writeLock(), () -> {
+            if (this.factories.removeIf(beanFactory -> names(beanFactory).contains(beanName))) {
+                this.onFactoriesChanged();
+            }
+        });
     }
 
     @Override
@@ -245,10 +301,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> factories(Type type) {
-        return LockUtils.synchronize(this.monitor.readLock(),
-                () -> this.factories.stream()
-                        .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
-                        .collect(Collectors.toList()));
+        return new ArrayList<>(this.localFactories.get(type,
+                () -> LockUtils.synchronize(this.monitor.readLock(),
+                        () -> this.factories.stream()
+                                .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
+                                .collect(Collectors.toList()))));
     }
 
     @Override
@@ -263,7 +320,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public Optional<BeanFactory> lookup(Type type) {
-        return this.lookup(container -> container.factory(type));
+        return this.lookupFactories.get(type, () -> this.lookup(container -> container.factory(type)));
     }
 
     private Optional<BeanFactory> lookup(Function<BeanContainer, Optional<BeanFactory>> mapper) {
@@ -282,11 +339,12 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> all(Type type) {
-        return LockUtils.synchronize(this.monitor.readLock(),
-                () -> this.all()
-                        .stream()
-                        .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
-                        .collect(Collectors.toList()));
+        return new ArrayList<>(this.allFactories.get(type,
+                () -> LockUtils.synchronize(this.monitor.readLock(),
+                        () -> this.all()
+                                .stream()
+                                .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
+                                .collect(Collectors.toList()))));
     }
 
     @Override
@@ -308,6 +366,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public void start() {
+        this.onTreeChanged();
         BeanContainerInitializedObserver.notify(this);
         this.start0();
         BeanContainerStartedObserver.notify(this);
@@ -428,6 +487,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
         LockUtils.synchronize(this.monitor.writeLock(), () -> {
             this.factories.forEach(Disposable::safeDispose);
             this.factories.clear();
+            this.onFactoriesChanged();
         });
     }
 
@@ -457,4 +517,61 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
                 throw new IllegalStateException("Unknown applicable scope: " + scope);
         }
     }
+
+    /**
+     * 为按类型解析 Bean 工厂的结果提供缓存。
+     * <p>每个缓存项记录其计算时的版本号，仅当版本号与当前版本号一致时有效，因此版本号递增后的旧结果不会被返回。当无法获取版本号时，
+     * 不使用缓存。仅缓存 {@link Class} 和 {@link ParameterizedType}，它们具备稳定的 {@code equals} 和 {@code hashCode}。
+     * 缓存项数量达到上限时，淘汰最久未被访问的一项。</p>
+     *
+     * @param <V> 表示解析结果的类型。
+     */
+    private static final class TypeResolutionCache<V> {
+        private static final int MAX_CACHED_TYPES = 1024;
+
+        private final Map<Type, Entry<V>> entries = new LinkedHashMap<Type, Entry<V>>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Type, Entry<V>> eldest) {
+                return this.size() > MAX_CACHED_TYPES;
+            }
+        };
+        private final Supplier<AtomicLong> version;
+
+        TypeResolutionCache(Supplier<AtomicLong> version) {
+            this.version = version;
+        }
+
+        V get(Type type, Supplier<V> resolver) {
+            if (!(type instanceof Class) && !(type instanceof ParameterizedType)) {
+                return resolver.get();
+            }
+            AtomicLong actual = this.version.get();
+            if (actual == null) {
+                return resolver.get();
+            }
+            long current = actual.get();
+            Entry<V> entry;
+            synchronized (this.entries) {
+                entry = this.entries.get(type);
+            }
+            if (entry != null && entry.version == current) {
+                return entry.value;
+            }
+            V value = resolver.get();
+            synchronized (this.entries) {
+                this.entries.put(type, new Entry<>(current, value));
+            }
+            return value;
+        }
+
+        private static final class Entry<V> {
+            private final long version;
+            private final V value;
+
+            private Entry(long version, V value) {
+                this.version = version;
+                this.value = value;
+            }
+        }
+    }
 }
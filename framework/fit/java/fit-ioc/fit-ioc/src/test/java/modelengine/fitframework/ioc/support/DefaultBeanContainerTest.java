@@ -419,6 +419,61 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
         }
     }
 
+    @Nested
+    @DisplayName("测试按类型解析 Bean 工厂的缓存")
+    class TestTypeResolutionCache {
+        @Test
+        @DisplayName("当注册新的 Bean 后，按类型解析的结果包含新的 Bean")
+        void givenNewBeanRegisteredThenResolutionRefreshed() {
+            DefaultBeanContainer container = DefaultBeanContainerTest.this.container;
+            container.register(new Bean(1L), "bean1");
+            assertThat(container.factories(Bean.class)).hasSize(1);
+            assertThat(container.all(Bean.class)).hasSize(1);
+            container.register(new Bean(2L), "bean2");
+            assertThat(container.factories(Bean.class)).hasSize(2);
+            assertThat(container.all(Bean.class)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("当移除 Bean 后，按类型解析的结果不再包含该 Bean")
+        void givenBeanRemovedThenResolutionRefreshed() {
+            DefaultBeanContainer container = DefaultBeanContainerTest.this.container;
+            container.register(new Bean(1L), "bean1");
+            assertThat(container.lookup(Bean.class)).isPresent();
+            container.removeBean("bean1");
+            assertThat(container.factories(Bean.class)).isEmpty();
+            assertThat(container.lookup(Bean.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("修改返回的 Bean 工厂列表，不影响后续解析的结果")
+        void givenReturnedListModifiedThenResolutionNotAffected() {
+            DefaultBeanContainer container = DefaultBeanContainerTest.this.container;
+            container.register(new Bean(1L), "bean1");
+            container.factories(Bean.class).clear();
+            assertThat(container.factories(Bean.class)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("当子容器注册新的 Bean 后，父容器按类型解析的结果包含新的 Bean")
+        void givenNewBeanRegisteredInChildThenParentResolutionRefreshed() {
+            DefaultBeanContainer parent = DefaultBeanContainerTest.this.container;
+            Plugin parentPlugin = parent.plugin();
+            Plugin childPlugin = mock(Plugin.class);
+            FitRuntime runtime = parentPlugin.runtime();
+            when(childPlugin.runtime()).thenReturn(runtime);
+            when(childPlugin.parent()).thenReturn(parentPlugin);
+            when(childPlugin.metadata()).thenReturn(DefaultBeanContainerTest.this.pluginMetadata);
+            DefaultBeanContainer child = new DefaultBeanContainer(childPlugin);
+            when(childPlugin.container()).thenReturn(child);
+            when(childPlugin.children()).thenReturn(EMPTY_PLUGIN_COLLECTION);
+            when(parentPlugin.children()).thenReturn(plugins(Collections.singletonList(childPlugin)));
+            assertThat(parent.all(Bean.class)).isEmpty();
+            child.register(new Bean(1L), "bean1");
+            assertThat(parent.all(Bean.class)).hasSize(1);
+        }
+    }
+
     @Test
     @DisplayName("释放对象占用的资源，释放成功")
     void disposeResourceThenExecuteSuccessfully() {
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.log.console;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.text.SimpleDateFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 表示异步输出日志的 {@link ConsoleAppender}。
+ * <p>日志事件写入有界的无锁环形缓冲区，由唯一的后台线程批量取出，编码到可复用的字节缓冲区后一次性写入标准输出，
+ * 使业务线程不再阻塞于控制台 I/O，且多线程的日志按行完整输出。</p>
+ * <p>缓冲区写满时，按照 {@link OverflowPolicy} 决定阻塞等待还是丢弃日志，被丢弃的日志数量按级别计数。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class AsyncConsoleAppender implements ConsoleAppender {
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int BYTE_BUFFER_SIZE = 16 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<ConsoleLogEvent> slots;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    private final OverflowPolicy policy;
+    private final Logger.Level discardingLevel;
+    private final int sampleRate;
+    private final AtomicLong overflows = new AtomicLong();
+    private final LongAdder[] dropped;
+
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private final AtomicBoolean waiting = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat(ConsoleLogEvent.DATE_FORMAT);
+    private final StringBuilder lines = new StringBuilder(BYTE_BUFFER_SIZE);
+    private final CharsetEncoder encoder = Charset.defaultCharset()
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+
+    /**
+     * 使用缓冲区大小及溢出策略初始化 {@link AsyncConsoleAppender} 的新实例，并启动后台输出线程。
+     *
+     * @param bufferSize 表示环形缓冲区大小的 {@code int}，将向上取整为 2 的幂。
+     * @param policy 表示缓冲区写满时的处理策略的 {@link OverflowPolicy}。
+     * @param discardingLevel 表示 {@link OverflowPolicy#DISCARD} 策略下可被丢弃的日志级别上限（不含）的
+     * {@link Logger.Level}。
+     * @param sampleRate 表示 {@link OverflowPolicy#SAMPLE} 策略下溢出日志的采样间隔的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code bufferSize} 或 {@code sampleRate} 不是正数，或 {@code policy}
+     * 为 {@code null} 时。
+     */
+    AsyncConsoleAppender(int bufferSize, OverflowPolicy policy, Logger.Level discardingLevel, int sampleRate) {
+        greaterThan(bufferSize, 0, "The buffer size of async console appender must be positive. [size={0}]",
+                bufferSize);
+        greaterThan(sampleRate, 0, "The sample rate of async console appender must be positive. [rate={0}]",
+                sampleRate);
+        this.policy = notNull(policy, "The overflow policy cannot be null.");
+        this.discardingLevel = discardingLevel == null ? Logger.Level.WARN : discardingLevel;
+        this.sampleRate = sampleRate;
+        int capacity = Integer.highestOneBit(Math.max(bufferSize - 1, 1)) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.dropped = new LongAdder[Logger.Level.values().length];
+        for (int i = 0; i < this.dropped.length; i++) {
+            this.dropped[i] = new LongAdder();
+        }
+        this.writer = new Thread(this::run, "fit-console-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(this::close, "fit-console-log-shutdown");
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+
+    @Override
+    public void append(ConsoleLogEvent event) {
+        if (this.closed) {
+            this.appendDirectly(event);
+            return;
+        }
+        if (this.offer(event)) {
+            this.signal();
+            return;
+        }
+        if (this.shouldDiscard(event)) {
+            this.dropped[event.level().ordinal()].increment();
+            return;
+        }
+        while (!this.offer(event)) {
+            if (this.closed) {
+                this.appendDirectly(event);
+                return;
+            }
+            this.signal();
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        this.signal();
+    }
+
+    private boolean shouldDiscard(ConsoleLogEvent event) {
+        switch (this.policy) {
+            case DISCARD:
+                return event.level().priority() < this.discardingLevel.priority();
+            case SAMPLE:
+                return this.overflows.incrementAndGet() % this.sampleRate != 0;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public long dropped(Logger.Level level) {
+        if (level != null) {
+            return this.dropped[level.ordinal()].sum();
+        }
+        long total = 0L;
+        for (LongAdder counter : this.dropped) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        LockSupport.unpark(this.writer);
+        if (Thread.currentThread() != this.writer) {
+            try {
+                this.writer.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (Thread.currentThread() != this.shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            } catch (IllegalStateException ignored) {
+                // 虚拟机正在关闭，关闭钩子会再次调用本方法，此时已经是关闭状态，无需处理。
+            }
+        }
+        if (!this.writer.isAlive()) {
+            // 输出线程退出之后，当前线程是缓冲区唯一的消费者，补充输出关闭过程中仍然写入的日志。
+            synchronized (this) {
+                this.drainAll();
+            }
+        }
+    }
+
+    private void appendDirectly(ConsoleLogEvent event) {
+        synchronized (this) {
+            this.drainAll();
+            this.write(event);
+            this.flush();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            int count;
+            synchronized (this) {
+                count = this.drain();
+            }
+            if (count > 0) {
+                continue;
+            }
+            if (this.closed) {
+                return;
+            }
+            this.waiting.set(true);
+            if (this.isEmpty() && !this.closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            this.waiting.set(false);
+        }
+    }
+
+    private void signal() {
+        if (this.waiting.get() && this.waiting.compareAndSet(true, false)) {
+            LockSupport.unpark(this.writer);
+        }
+    }
+
+    private void drainAll() {
+        while (this.drain() > 0) {
+            // 持续输出，直到缓冲区为空。
+        }
+    }
+
+    private int drain() {
+        int count = 0;
+        ConsoleLogEvent event;
+        while (count < MAX_BATCH_SIZE && (event = this.poll()) != null) {
+            this.write(event);
+            count++;
+        }
+        this.flush();
+        return count;
+    }
+
+    private void write(ConsoleLogEvent event) {
+        this.lines.append(event.render(this.dateFormat)).append(System.lineSeparator());
+        if (event.error() != null) {
+            // 异常堆栈输出到标准错误，需先输出已缓冲的日志，以保持日志与堆栈的先后顺序。
+            this.flush();
+            event.error().printStackTrace();
+        } else if (this.lines.length() >= BYTE_BUFFER_SIZE) {
+            this.flush();
+        }
+    }
+
+    private void flush() {
+        if (this.lines.length() < 1) {
+            return;
+        }
+        PrintStream out = System.out;
+        CharBuffer chars = CharBuffer.wrap(this.lines);
+        this.encoder.reset();
+        boolean flushing = false;
+        while (true) {
+            CoderResult result =
+                    flushing ? this.encoder.flush(this.bytes) : this.encoder.encode(chars, this.bytes, true);
+            if (result.isOverflow()) {
+                this.writeBytes(out);
+                continue;
+            }
+            if (flushing) {
+                break;
+            }
+            flushing = true;
+        }
+        this.writeBytes(out);
+        out.flush();
+        this.lines.setLength(0);
+    }
+
+    private void writeBytes(PrintStream out) {
+        this.bytes.flip();
+        out.write(this.bytes.array(), this.bytes.arrayOffset() + this.bytes.position(), this.bytes.remaining());
+        this.bytes.clear();
+    }
+
+    private boolean offer(ConsoleLogEvent event) {
+        while (true) {
+            long position = this.tail.get();
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.slots.lazySet(index, event);
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    private ConsoleLogEvent poll() {
+        int index = (int) (this.head & this.mask);
+        if (this.sequences.get(index) != this.head + 1) {
+            return null;
+        }
+        ConsoleLogEvent event = this.slots.get(index);
+        this.slots.lazySet(index, null);
+        this.sequences.set(index, this.head + this.mask + 1);
+        this.head++;
+        return event;
+    }
+
+    private boolean isEmpty() {
+        return this.sequences.get((int) (this.head & this.mask)) != this.head + 1;
+    }
+
+    /**
+     * 表示环形缓冲区写满时的处理策略。
+     */
+    enum OverflowPolicy {
+        /** 表示阻塞等待缓冲区出现空位。 */
+        BLOCK,
+
+        /** 表示丢弃低于指定级别的日志，不低于该级别的日志仍阻塞等待。 */
+        DISCARD,
+
+        /** 表示按照采样间隔保留溢出的日志，保留的日志阻塞等待，其余丢弃。 */
+        SAMPLE;
+
+        /**
+         * 根据指定名字获取溢出处理策略。
+         *
+         * @param name 表示指定名字的 {@link String}。
+         * @return 表示对应的溢出处理策略的 {@link OverflowPolicy}，如果无法对应，则获取 {@link #BLOCK}。
+         */
+        static OverflowPolicy from(String name) {
+            for (OverflowPolicy policy : values()) {
+                if (StringUtils.equalsIgnoreCase(policy.name(), name)) {
+                    return policy;
+                }
+            }
+            return BLOCK;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.log.console;
+
+import modelengine.fitframework.log.Logger;
+
+import java.text.SimpleDateFormat;
+
+/**
+ * 表示控制台日志的输出器。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+interface ConsoleAppender extends AutoCloseable {
+    /**
+     * 输出一条日志事件。
+     *
+     * @param event 表示待输出的日志事件的 {@link ConsoleLogEvent}。
+     */
+    void append(ConsoleLogEvent event);
+
+    /**
+     * 获取因缓冲区溢出而被丢弃的日志事件数量。
+     *
+     * @param level 表示待统计的日志级别的 {@link Logger.Level}，为 {@code null} 时统计所有级别。
+     * @return 表示被丢弃的日志事件数量的 {@code long}。
+     */
+    long dropped(Logger.Level level);
+
+    /**
+     * 关闭输出器，并输出所有尚未输出的日志事件。
+     */
+    @Override
+    void close();
+
+    /**
+     * 获取在调用线程上同步输出日志的输出器。
+     *
+     * @return 表示同步输出器的 {@link ConsoleAppender}。
+     */
+    static ConsoleAppender synchronous() {
+        return Synchronous.INSTANCE;
+    }
+
+    /**
+     * 表示在调用线程上同步输出日志的 {@link ConsoleAppender}。
+     */
+    enum Synchronous implements ConsoleAppender {
+        /** 表示当前输出器的唯一实例。 */
+        INSTANCE;
+
+        @Override
+        public void append(ConsoleLogEvent event) {
+            System.out.println(event.render(new SimpleDateFormat(ConsoleLogEvent.DATE_FORMAT)));
+            if (event.error() != null) {
+                event.error().printStackTrace();
+            }
+        }
+
+        @Override
+        public long dropped(Logger.Level level) {
+            return 0L;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.log.console;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * 表示一条待输出到控制台的日志事件。
+ * <p>时间与线程名在日志产生时捕获，使得异步输出时仍能反映日志产生的现场。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class ConsoleLogEvent {
+    /** 表示日志时间的格式。 */
+    static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    private final long timestamp;
+    private final String thread;
+    private final Logger.Level level;
+    private final ConsoleColor color;
+    private final String scope;
+    private final String message;
+    private final Throwable error;
+
+    ConsoleLogEvent(Logger.Level level, ConsoleColor color, String scope, String message, Throwable error) {
+        this.timestamp = System.currentTimeMillis();
+        this.thread = Thread.currentThread().getName();
+        this.level = level;
+        this.color = color;
+        this.scope = scope;
+        this.message = message;
+        this.error = error;
+    }
+
+    /**
+     * 获取日志事件的级别。
+     *
+     * @return 表示日志级别的 {@link Logger.Level}。
+     */
+    Logger.Level level() {
+        return this.level;
+    }
+
+    /**
+     * 获取日志事件附带的异常。
+     *
+     * @return 表示附带异常的 {@link Throwable}，没有异常时为 {@code null}。
+     */
+    Throwable error() {
+        return this.error;
+    }
+
+    /**
+     * 将日志事件渲染为带颜色的单行文本，不包含换行符。
+     *
+     * @param dateFormat 表示时间格式的 {@link SimpleDateFormat}，调用方需保证其不被并发使用。
+     * @return 表示渲染后文本的 {@link String}。
+     */
+    String render(SimpleDateFormat dateFormat) {
+        String log = StringUtils.format("[{0}] [{1}] [{2}] [{3}] {4}",
+                dateFormat.format(new Date(this.timestamp)),
+                label(this.level),
+                this.thread,
+                this.scope,
+                this.message);
+        // 去除日志中的 '\r', '\b', '\n', '\f', '\t' 特殊字符，预防日志审计的抵赖的安全风险
+        log = log.replaceAll("[\r\b\n\f\t]", "");
+        return this.color.format(log);
+    }
+
+    private static String label(Logger.Level level) {
+        String name = level.name();
+        return name.length() < 5 ? name + " " : name;
+    }
+}
@@ -14,9 +14,6 @@ import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
 /**
  * 表示 {@link Logger} 的控制台实现。
  * <p>该实现的日志打印级别为 {@code DEBUG}。</p>
@@ -27,11 +24,17 @@ import java.util.Date;
  */
 public class ConsoleLogger implements Logger {
     private final String name;
+    private final ConsoleAppender appender;
     private Level level;
 
     ConsoleLogger(String name, Level level) {
+        this(name, level, ConsoleAppender.synchronous());
+    }
+
+    ConsoleLogger(String name, Level level, ConsoleAppender appender) {
         this.name = notBlank(name, "The logger name cannot be blank.");
         this.level = nullIf(level, Level.NONE);
+        this.appender = nullIf(appender, ConsoleAppender.synchronous());
     }
 
     @Override
@@ -88,7 +91,7 @@ public class ConsoleLogger implements Logger {
     @Override
     public void trace(String message, Throwable error) {
         if (this.isTraceEnabled()) {
-            write(ConsoleColor.PURPLE, Level.TRACE.name(), this.name, message, error);
+            this.write(Level.TRACE, ConsoleColor.PURPLE, message, error);
         }
     }
 
@@ -102,7 +105,7 @@ public class ConsoleLogger implements Logger {
     @Override
     public void debug(String message, Throwable error) {
         if (this.isDebugEnabled()) {
-            write(ConsoleColor.AZURE, Level.DEBUG.name(), this.name, message, error);
+            this.write(Level.DEBUG, ConsoleColor.AZURE, message, error);
         }
     }
 
@@ -116,7 +119,7 @@ public class ConsoleLogger implements Logger {
     @Override
     public void info(String message, Throwable error) {
         if (this.isInfoEnabled()) {
-            write(ConsoleColor.WHITE, Level.INFO.name() + " ", this.name, message, error);
+            this.write(Level.INFO, ConsoleColor.WHITE, message, error);
         }
     }
 
@@ -130,7 +133,7 @@ public class ConsoleLogger implements Logger {
     @Override
     public void warn(String message, Throwable error) {
         if (this.isWarnEnabled()) {
-            write(ConsoleColor.YELLOW, Level.WARN.name() + " ", this.name, message, error);
+            this.write(Level.WARN, ConsoleColor.YELLOW, message, error);
         }
     }
 
@@ -144,7 +147,7 @@ public class ConsoleLogger implements Logger {
     @Override
     public void error(String message, Throwable error) {
         if (this.isErrorEnabled()) {
-            write(ConsoleColor.RED, Level.ERROR.name(), this.name, message, error);
+            this.write(Level.ERROR, ConsoleColor.RED, message, error);
         }
     }
 
@@ -186,20 +189,7 @@ public class ConsoleLogger implements Logger {
         return builder.toString();
     }
 
-    private static void write(ConsoleColor color, String level, String scope, String message, Throwable error) {
-        String now = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date());
-        String log = StringUtils.format("[{0}] [{1}] [{2}] [{3}] {4}",
-                now,
-                level,
-                Thread.currentThread().getName(),
-                scope,
-                message);
-        // 去除日志中的 '\r', '\b', '\n', '\f', '\t' 特殊字符，预防日志审计的抵赖的安全风险
-        log = log.replaceAll("[\r\b\n\f\t]", "");
-        log = color.format(log);
-        System.out.println(log);
-        if (error != null) {
-            error.printStackTrace();
-        }
+    private void write(Level level, ConsoleColor color, String message, Throwable error) {
+        this.appender.append(new ConsoleLogEvent(level, color, this.name, message, error));
     }
 }
@@ -17,12 +17,21 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示 {@link LoggerFactory} 的控制台实现。
+ * <p>默认在调用线程上同步输出日志。通过 {@code logging.console.async.enabled} 配置可开启异步输出，此时日志事件进入有界的环形缓冲区，
+ * 由后台线程批量输出，缓冲区大小及溢出策略通过 {@code logging.console.async} 下的其余配置项指定。</p>
+ * <p>重新初始化时，已创建的日志记录器改为使用新的输出器，原有的输出器在输出所有尚未输出的日志后关闭。</p>
  *
  * @author 季聿阶
  * @since 2023-06-13
  */
 public class ConsoleLoggerFactory implements LoggerFactory {
+    private static final String ASYNC_PREFIX = "logging.console.async.";
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_SAMPLE_RATE = 10;
+
     private Logger.Level level = Logger.Level.INFO;
+    private volatile ConsoleAppender appender = ConsoleAppender.synchronous();
+    private final ConsoleAppender current = new CurrentAppender();
     private final Map<String, Logger> loggers = new ConcurrentHashMap<>();
 
     @Override
@@ -31,6 +40,36 @@ public class ConsoleLoggerFactory implements LoggerFactory {
         if (StringUtils.isNotBlank(initialLevel)) {
             this.level = Logger.Level.from(initialLevel);
         }
+        ConsoleAppender previous = this.appender;
+        this.appender = createAppender(config);
+        if (previous != this.appender) {
+            previous.close();
+        }
+    }
+
+    private static ConsoleAppender createAppender(Config config) {
+        if (!Boolean.TRUE.equals(config.get(ASYNC_PREFIX + "enabled", Boolean.class))) {
+            return ConsoleAppender.synchronous();
+        }
+        Integer bufferSize = config.get(ASYNC_PREFIX + "buffer-size", Integer.class);
+        String policy = config.get(ASYNC_PREFIX + "overflow-policy", String.class);
+        String discardingLevel = config.get(ASYNC_PREFIX + "discarding-level", String.class);
+        Integer sampleRate = config.get(ASYNC_PREFIX + "sample-rate", Integer.class);
+        return new AsyncConsoleAppender(ObjectUtils.nullIf(bufferSize, DEFAULT_BUFFER_SIZE),
+                AsyncConsoleAppender.OverflowPolicy.from(policy),
+                StringUtils.isBlank(discardingLevel) ? Logger.Level.WARN : Logger.Level.from(discardingLevel),
+                ObjectUtils.nullIf(sampleRate, DEFAULT_SAMPLE_RATE));
+    }
+
+    /**
+     * 获取因异步输出缓冲区溢出而被丢弃的日志数量。
+     * <p>同步输出时不会丢弃日志，始终返回 {@code 0}。</p>
+     *
+     * @param level 表示待统计的日志级别的 {@link Logger.Level}，为 {@code null} 时统计所有级别。
+     * @return 表示被丢弃的日志数量的 {@code long}。
+     */
+    public long getDroppedCount(Logger.Level level) {
+        return this.appender.dropped(level);
     }
 
     @Override
@@ -41,7 +80,7 @@ public class ConsoleLoggerFactory implements LoggerFactory {
     @Override
     public Logger getLogger(String name) {
         String actualName = StringUtils.isBlank(name) ? "ROOT" : name;
-        return this.loggers.computeIfAbsent(actualName, key -> new ConsoleLogger(key, this.level));
+        return this.loggers.computeIfAbsent(actualName, key -> new ConsoleLogger(key, this.level, this.current));
     }
 
     @Override
@@ -62,4 +101,24 @@ public class ConsoleLoggerFactory implements LoggerFactory {
             }
         }
     }
+
+    /**
+     * 表示始终转发到当前输出器的 {@link ConsoleAppender}，使重新初始化后已创建的日志记录器使用新的输出器。
+     */
+    private class CurrentAppender implements ConsoleAppender {
+        @Override
+        public void append(ConsoleLogEvent event) {
+            ConsoleLoggerFactory.this.appender.append(event);
+        }
+
+        @Override
+        public long dropped(Logger.Level level) {
+            return ConsoleLoggerFactory.this.appender.dropped(level);
+        }
+
+        @Override
+        public void close() {
+            ConsoleLoggerFactory.this.appender.close();
+        }
+    }
 }
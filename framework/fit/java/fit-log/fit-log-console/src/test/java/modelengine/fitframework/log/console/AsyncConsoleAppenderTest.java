@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.log.console;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.log.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AsyncConsoleAppender} 的单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 AsyncConsoleAppender")
+class AsyncConsoleAppenderTest {
+    private PrintStream original;
+
+    @BeforeEach
+    void setup() {
+        this.original = System.out;
+    }
+
+    @AfterEach
+    void teardown() {
+        System.setOut(this.original);
+    }
+
+    @Test
+    @DisplayName("多线程写入的日志在关闭后全部按行输出")
+    void shouldWriteAllEventsWhenClosed() throws InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        AsyncConsoleAppender appender =
+                new AsyncConsoleAppender(16, AsyncConsoleAppender.OverflowPolicy.BLOCK, null, 1);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    appender.append(event(Logger.Level.INFO, "message-" + j));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        appender.close();
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertThat(lines).hasSize(4000).allMatch(line -> line.contains("[INFO ]"));
+        assertThat(appender.dropped(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("关闭之后写入的日志同步输出")
+    void shouldWriteDirectlyAfterClosed() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        AsyncConsoleAppender appender =
+                new AsyncConsoleAppender(16, AsyncConsoleAppender.OverflowPolicy.BLOCK, null, 1);
+        appender.close();
+        appender.append(event(Logger.Level.ERROR, "after-close"));
+        assertThat(output.toString()).contains("[ERROR]").contains("after-close");
+    }
+
+    @Test
+    @DisplayName("缓冲区写满时丢弃低于指定级别的日志并计数")
+    void shouldDiscardEventsBelowLevelWhenFull() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, true));
+        AsyncConsoleAppender appender =
+                new AsyncConsoleAppender(4, AsyncConsoleAppender.OverflowPolicy.DISCARD, Logger.Level.WARN, 1);
+        appender.append(event(Logger.Level.INFO, "blocking"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            appender.append(event(Logger.Level.DEBUG, "message-" + i));
+        }
+        release.countDown();
+        appender.close();
+        assertThat(appender.dropped(Logger.Level.DEBUG)).isEqualTo(6L);
+        assertThat(appender.dropped(Logger.Level.WARN)).isZero();
+        assertThat(appender.dropped(null)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("缓冲区写满时按照采样间隔保留日志")
+    void shouldSampleEventsWhenFull() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, true));
+        AsyncConsoleAppender appender =
+                new AsyncConsoleAppender(4, AsyncConsoleAppender.OverflowPolicy.SAMPLE, null, 100);
+        appender.append(event(Logger.Level.INFO, "blocking"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            appender.append(event(Logger.Level.INFO, "message-" + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            appender.append(event(Logger.Level.INFO, "overflow-" + i));
+        }
+        release.countDown();
+        appender.close();
+        assertThat(appender.dropped(Logger.Level.INFO)).isEqualTo(10L);
+    }
+
+    private static ConsoleLogEvent event(Logger.Level level, String message) {
+        return new ConsoleLogEvent(level, ConsoleColor.WHITE, AsyncConsoleAppenderTest.class.getName(), message, null);
+    }
+}
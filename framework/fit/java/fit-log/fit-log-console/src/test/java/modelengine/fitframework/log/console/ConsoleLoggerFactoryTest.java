@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.log.console;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.log.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+/**
+ * {@link ConsoleLoggerFactory} 的单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 ConsoleLoggerFactory")
+class ConsoleLoggerFactoryTest {
+    private PrintStream original;
+
+    @BeforeEach
+    void setup() {
+        this.original = System.out;
+    }
+
+    @AfterEach
+    void teardown() {
+        System.setOut(this.original);
+    }
+
+    @Test
+    @DisplayName("重新初始化时输出原有输出器中的日志，已创建的日志记录器使用新的输出器")
+    void shouldFlushPreviousAppenderWhenReinitialized() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        Config async = mock(Config.class);
+        when(async.get("logging.console.async.enabled", Boolean.class)).thenReturn(true);
+        Config sync = mock(Config.class);
+        ConsoleLoggerFactory factory = new ConsoleLoggerFactory();
+        factory.initialize(async, null);
+        Logger logger = factory.getLogger("test");
+        for (int i = 0; i < 100; i++) {
+            logger.info("before-" + i);
+        }
+        factory.initialize(sync, null);
+        assertThat(output.toString()).contains("before-0").contains("before-99");
+        logger.info("after");
+        assertThat(output.toString().indexOf("after")).isGreaterThan(output.toString().indexOf("before-99"));
+    }
+}
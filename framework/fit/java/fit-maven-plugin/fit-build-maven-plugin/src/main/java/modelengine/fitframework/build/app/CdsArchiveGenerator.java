@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.build.app;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import modelengine.fitframework.launch.AggregatedFitLauncher;
+import modelengine.fitframework.plugin.maven.support.AbstractExecutor;
+import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.util.FileUtils;
+import modelengine.fitframework.util.IoUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 为应用程序生成类列表及 AppCDS 归档。
+ * <p>生成过程分为两步：首先以训练模式运行已经打包完成的应用，应用启动完成后立即退出，在此过程中由 JVM 输出加载的类列表；
+ * 然后使用该类列表生成静态的类数据共享归档。归档与应用 JAR 位于相同目录，同时生成用以启动应用的 JVM 参数文件，通过
+ * {@code java @<name>.jvmargs -jar <name>.jar} 启动时即可使用归档。参数文件使用 {@code -Xshare:auto}，当运行时的 JVM
+ * 与生成归档的 JVM 版本不一致时，JVM 会忽略归档并正常启动。</p>
+ * <p>JVM 只归档从文件系统中的 JAR 加载的类，而框架、共享库及三方库位于应用 JAR 内嵌的 JAR 中，由 FIT 的类加载器加载，
+ * 因此默认情况下归档只覆盖 JDK 及启动程序中的类，应用 JAR 及其类加载模型不会被改变。</p>
+ * <p>开启 {@code extractClassPath} 后，在训练之前将这些 JAR 及应用自身的类解压到应用 JAR 所在目录的 {@code <name>.cds}
+ * 目录中，并生成独立的启动 JAR {@code <name>-cds.jar}，其清单的 {@code Class-Path} 依次引用应用 JAR 及解压的 JAR。
+ * 通过 {@code java @<name>.jvmargs -jar <name>-cds.jar} 启动时，这些类由系统类加载器从文件系统加载，从而可以被归档。
+ * 应用 JAR 保持不变，仍然可以按原有方式启动。代价是类隔离被削弱：按照双亲委派，FIT 的类加载器中的同名类均由系统类加载器加载，
+ * 框架、三方库及应用自身的类对共享库可见，{@link ClassLoader#getResources(String)} 也会分别从解压的 JAR 和内嵌的 JAR
+ * 中返回相同的资源。插件仍然由 FIT 的类加载器从内嵌的 JAR 中加载，不会被归档。依赖上述隔离的应用不应开启该选项。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+public final class CdsArchiveGenerator extends AbstractExecutor {
+    /** 表示类列表文件的扩展名。 */
+    public static final String CLASS_LIST_EXTENSION = ".classlist";
+
+    /** 表示类数据共享归档文件的扩展名。 */
+    public static final String ARCHIVE_EXTENSION = ".jsa";
+
+    /** 表示 JVM 参数文件的扩展名。 */
+    public static final String JVM_ARGUMENTS_EXTENSION = ".jvmargs";
+
+    /** 表示存放解压的类路径的目录的扩展名。 */
+    public static final String CLASS_PATH_EXTENSION = ".cds";
+
+    /** 表示引用解压的类路径的启动 JAR 的文件名后缀。 */
+    public static final String LAUNCHER_SUFFIX = "-cds" + Jar.FILE_EXTENSION;
+
+    private static final String CLASSES_JAR_NAME = "classes" + Jar.FILE_EXTENSION;
+
+    private static final String LOG_EXTENSION = ".log";
+    private static final Pattern TRAINING_REPORT_PATTERN = Pattern.compile(
+            Pattern.quote(AggregatedFitLauncher.TRAINING_REPORT_PREFIX) + "\\s*startup=(-?\\d+)ms, rss=(-?\\d+)kB");
+
+    private final File java;
+    private final List<String> jvmArguments;
+    private final List<String> trainingArguments;
+    private final long trainingTimeout;
+    private final boolean extractClassPath;
+
+    /**
+     * 使用生成归档所需的信息初始化 {@link CdsArchiveGenerator} 类的新实例。
+     *
+     * @param project 表示 Maven 项目的 {@link MavenProject}。
+     * @param log 表示 Maven 日志的 {@link Log}。
+     * @param javaHome 表示用以训练及生成归档的 JDK 的主目录的 {@link File}。
+     * @param jvmArguments 表示训练时附加的 JVM 参数的 {@link List}{@code <}{@link String}{@code >}。
+     * @param trainingArguments 表示训练时传递给应用的参数的 {@link List}{@code <}{@link String}{@code >}。
+     * @param trainingTimeout 表示训练的最长时间的秒数的 64 位整数。
+     * @param extractClassPath 表示是否解压框架、共享库、三方库及应用自身的类并生成独立的启动 JAR，使这些类可以被归档的
+     * {@code boolean}。
+     */
+    public CdsArchiveGenerator(MavenProject project, Log log, File javaHome, List<String> jvmArguments,
+            List<String> trainingArguments, long trainingTimeout, boolean extractClassPath) {
+        super(project, log, null);
+        this.java = javaExecutable(javaHome);
+        this.jvmArguments = jvmArguments == null ? Collections.emptyList() : jvmArguments;
+        this.trainingArguments = trainingArguments == null ? Collections.emptyList() : trainingArguments;
+        this.trainingTimeout = trainingTimeout;
+        this.extractClassPath = extractClassPath;
+    }
+
+    /**
+     * 为应用程序生成类列表、归档及 JVM 参数文件。
+     *
+     * @param measure 表示是否在生成后分别测量不使用和使用归档时的启动耗时及内存占用的 {@code boolean}。
+     * @throws MojoExecutionException 当训练或生成归档失败时。
+     */
+    public void generate(boolean measure) throws MojoExecutionException {
+        File jar = this.project().getArtifact().getFile();
+        if (jar == null || !jar.isFile()) {
+            throw new MojoExecutionException("The application JAR is not packaged. Run goal 'package-app' first.");
+        }
+        File directory = jar.getAbsoluteFile().getParentFile();
+        String name = FileUtils.ignoreExtension(jar.getName());
+        File classList = new File(directory, name + CLASS_LIST_EXTENSION);
+        File archive = new File(directory, name + ARCHIVE_EXTENSION);
+        File arguments = new File(directory, name + JVM_ARGUMENTS_EXTENSION);
+        String launcher = jar.getName();
+        if (this.extractClassPath) {
+            File classPath = new File(directory, name + CLASS_PATH_EXTENSION);
+            File launcherJar = new File(directory, name + LAUNCHER_SUFFIX);
+            List<String> classPathEntries;
+            try {
+                classPathEntries = prepareClassPath(jar, classPath, launcherJar);
+            } catch (IOException e) {
+                throw new MojoExecutionException(StringUtils.format("Failed to prepare class path for CDS. [jar={0}]",
+                        FileUtils.path(jar)), e);
+            }
+            this.log()
+                    .info(StringUtils.format(
+                            "Prepare class path for CDS successfully. [directory={0}, entries={1}, launcher={2}]",
+                            classPath.getName(),
+                            classPathEntries.size(),
+                            launcherJar.getName()));
+            launcher = launcherJar.getName();
+        }
+        this.log().info(StringUtils.format("Prepare to train application for class list. [jar={0}]", launcher));
+        List<String> training = trainingCommand(this.java, this.jvmArguments, classList.getName(), launcher,
+                this.trainingArguments);
+        this.run(training, directory, new File(directory, name + ".training" + LOG_EXTENSION), true);
+        if (!classList.isFile() || classList.length() == 0L) {
+            throw new MojoExecutionException(StringUtils.format("No class list generated by training. [file={0}]",
+                    FileUtils.path(classList)));
+        }
+        this.log().info(StringUtils.format("Generate class list successfully. [file={0}]", classList.getName()));
+
+        List<String> dump = dumpCommand(this.java, classList.getName(), archive.getName(), launcher);
+        this.run(dump, directory, new File(directory, name + ".dump" + LOG_EXTENSION), false);
+        if (!archive.isFile()) {
+            throw new MojoExecutionException(StringUtils.format("No CDS archive generated. [file={0}]",
+                    FileUtils.path(archive)));
+        }
+        try {
+            Files.write(arguments.toPath(), archiveArguments(archive.getName()), UTF_8);
+        } catch (IOException e) {
+            throw new MojoExecutionException(StringUtils.format("Failed to write JVM arguments file. [file={0}]",
+                    FileUtils.path(arguments)), e);
+        }
+        this.log()
+                .info(StringUtils.format("Generate CDS archive successfully. [archive={0}, size={1}, jvm={2}]",
+                        archive.getName(),
+                        archive.length(),
+                        System.getProperty("java.vm.version")));
+
+        if (measure) {
+            this.measure(directory, name, launcher, arguments.getName());
+        }
+    }
+
+    private void measure(File directory, String name, String jar, String arguments) throws MojoExecutionException {
+        TrainingReport before = this.measure(directory,
+                name + ".baseline",
+                launchCommand(this.java, this.jvmArguments, null, jar, this.trainingArguments));
+        TrainingReport after = this.measure(directory,
+                name + ".archived",
+                launchCommand(this.java, this.jvmArguments, arguments, jar, this.trainingArguments));
+        this.log()
+                .info(StringUtils.format(
+                        "Application startup with CDS archive. [startup={0}ms -> {1}ms, rss={2}kB -> {3}kB]",
+                        before.startup(),
+                        after.startup(),
+                        before.rss(),
+                        after.rss()));
+    }
+
+    private TrainingReport measure(File directory, String name, List<String> command)
+            throws MojoExecutionException {
+        File output = new File(directory, name + LOG_EXTENSION);
+        this.run(command, directory, output, false);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(output.toPath(), UTF_8);
+        } catch (IOException e) {
+            throw new MojoExecutionException(StringUtils.format("Failed to read training output. [file={0}]",
+                    FileUtils.path(output)), e);
+        }
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            TrainingReport report = TrainingReport.parse(lines.get(i));
+            if (report != null) {
+                return report;
+            }
+        }
+        throw new MojoExecutionException(StringUtils.format("No startup report found in training output. [file={0}]",
+                FileUtils.path(output)));
+    }
+
+    private void run(List<String> command, File directory, File output, boolean tolerateTimeout)
+            throws MojoExecutionException {
+        this.log().debug(StringUtils.format("Run command. [command={0}]", StringUtils.join(" ", command)));
+        Process process;
+        try {
+            process = new ProcessBuilder(command).directory(directory)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output)
+                    .start();
+        } catch (IOException e) {
+            throw new MojoExecutionException(StringUtils.format("Failed to start process. [command={0}]",
+                    StringUtils.join(" ", command)), e);
+        }
+        try {
+            if (!process.waitFor(this.trainingTimeout, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+                if (!tolerateTimeout) {
+                    throw new MojoExecutionException(StringUtils.format(
+                            "Process timed out. [timeout={0}s, output={1}]",
+                            this.trainingTimeout,
+                            FileUtils.path(output)));
+                }
+                // 类列表在类加载时即时写出，训练超时后已经输出的内容仍然可用。
+                this.log()
+                        .warn(StringUtils.format("Training timed out, use loaded classes so far. [timeout={0}s]",
+                                this.trainingTimeout));
+            } else if (process.exitValue() != 0) {
+                throw new MojoExecutionException(StringUtils.format(
+                        "Process exited abnormally. [exitValue={0}, output={1}]",
+                        process.exitValue(),
+                        FileUtils.path(output)));
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while waiting for process.", e);
+        }
+    }
+
+    /**
+     * 将应用 JAR 中的框架、共享库、三方库及应用自身的类解压到指定目录，并生成在清单的 {@code Class-Path} 中引用它们的启动 JAR。
+     * <p>应用 JAR 位于类路径的首位，以便启动程序从应用 JAR 中加载并定位内嵌的插件，其余类路径的顺序与
+     * {@link AggregatedFitLauncher} 中类加载器的委派顺序一致：共享库、应用自身的类、框架及三方库。应用 JAR 不会被修改。</p>
+     *
+     * @param jar 表示应用 JAR 的 {@link File}。
+     * @param directory 表示存放解压的类路径的目录的 {@link File}，需要与应用 JAR 位于相同目录，已经存在时先被删除。
+     * @param launcher 表示待生成的启动 JAR 的 {@link File}，需要与应用 JAR 位于相同目录，已经存在时被覆盖。
+     * @return 表示写入启动 JAR 清单的类路径的 {@link List}{@code <}{@link String}{@code >}，为相对于应用 JAR
+     * 所在目录的路径。
+     * @throws IOException 当解压或生成启动 JAR 过程发生输入输出异常时。
+     */
+    static List<String> prepareClassPath(File jar, File directory, File launcher) throws IOException {
+        FileUtils.delete(directory);
+        FileUtils.ensureDirectory(directory);
+        String prefix = directory.getName() + '/';
+        List<String> shared = new ArrayList<>();
+        List<String> framework = new ArrayList<>();
+        try (JarFile file = new JarFile(jar);
+             ZipOutputStream classes = new ZipOutputStream(new FileOutputStream(new File(directory,
+                     CLASSES_JAR_NAME)))) {
+            framework.add(prefix + CLASSES_JAR_NAME);
+            for (JarEntry entry : Collections.list(file.entries())) {
+                String name = entry.getName();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (StringUtils.startsWithIgnoreCase(name, AggregatedFitLauncher.CLASS_DIRECTORY_ENTRY_NAME)) {
+                    classes.putNextEntry(new ZipEntry(name.substring(
+                            AggregatedFitLauncher.CLASS_DIRECTORY_ENTRY_NAME.length())));
+                    try (InputStream in = file.getInputStream(entry)) {
+                        IoUtils.copy(in, classes);
+                    }
+                    classes.closeEntry();
+                    continue;
+                }
+                if (!StringUtils.endsWithIgnoreCase(name, Jar.FILE_EXTENSION)) {
+                    continue;
+                }
+                List<String> target;
+                if (StringUtils.startsWithIgnoreCase(name, AggregatedFitLauncher.SHARED_ENTRY_NAME)) {
+                    target = shared;
+                } else if (StringUtils.startsWithIgnoreCase(name, AggregatedFitLauncher.LIB_ENTRY_NAME)
+                        || StringUtils.startsWithIgnoreCase(name, AggregatedFitLauncher.THIRD_PARTY_ENTRY_NAME)) {
+                    target = framework;
+                } else {
+                    continue;
+                }
+                String relative = name.substring(AggregatedFitLauncher.FIT_ROOT_ENTRY_NAME.length());
+                File extracted = new File(directory, relative);
+                FileUtils.ensureDirectory(extracted.getParentFile());
+                try (InputStream in = file.getInputStream(entry)) {
+                    Files.copy(in, extracted.toPath());
+                }
+                target.add(prefix + relative);
+            }
+        }
+        List<String> classPath = new ArrayList<>();
+        classPath.add(jar.getName());
+        classPath.addAll(shared);
+        classPath.addAll(framework);
+        writeLauncher(jar, launcher, classPath);
+        return classPath;
+    }
+
+    private static void writeLauncher(File jar, File launcher, List<String> classPath) throws IOException {
+        Manifest manifest = new Manifest();
+        Attributes attributes = manifest.getMainAttributes();
+        attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        String mainClass = null;
+        try (JarFile file = new JarFile(jar)) {
+            Manifest origin = file.getManifest();
+            if (origin != null) {
+                mainClass = origin.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+            }
+        }
+        if (StringUtils.isBlank(mainClass)) {
+            mainClass = AggregatedFitLauncher.class.getName();
+        }
+        attributes.put(Attributes.Name.MAIN_CLASS, mainClass);
+        attributes.put(Attributes.Name.CLASS_PATH,
+                StringUtils.join(' ', path -> StringUtils.replace(path, " ", "%20"), classPath));
+        try (JarOutputStream ignored = new JarOutputStream(new FileOutputStream(launcher), manifest)) {
+            // 启动 JAR 只包含清单，类均从清单的类路径中加载。
+        }
+    }
+
+    static List<String> trainingCommand(File java, List<String> jvmArguments, String classList, String jar,
+            List<String> arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(java.getPath());
+        command.add("-Xshare:off");
+        command.add("-XX:DumpLoadedClassList=" + classList);
+        command.add("-D" + AggregatedFitLauncher.TRAINING_PROPERTY_KEY + "=true");
+        command.addAll(jvmArguments);
+        command.add("-jar");
+        command.add(jar);
+        command.addAll(arguments);
+        return command;
+    }
+
+    static List<String> dumpCommand(File java, String classList, String archive, String jar) {
+        List<String> command = new ArrayList<>();
+        command.add(java.getPath());
+        command.add("-Xshare:dump");
+        command.add("-XX:SharedClassListFile=" + classList);
+        command.add("-XX:SharedArchiveFile=" + archive);
+        command.add("-cp");
+        command.add(jar);
+        return command;
+    }
+
+    static List<String> launchCommand(File java, List<String> jvmArguments, String argumentsFile, String jar,
+            List<String> arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(java.getPath());
+        if (argumentsFile != null) {
+            command.add("@" + argumentsFile);
+        }
+        command.add("-D" + AggregatedFitLauncher.TRAINING_PROPERTY_KEY + "=true");
+        command.addAll(jvmArguments);
+        command.add("-jar");
+        command.add(jar);
+        command.addAll(arguments);
+        return command;
+    }
+
+    static List<String> archiveArguments(String archive) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-Xshare:auto");
+        arguments.add("-XX:SharedArchiveFile=" + archive);
+        return arguments;
+    }
+
+    private static File javaExecutable(File javaHome) {
+        String executable = System.getProperty("os.name", StringUtils.EMPTY)
+                .toLowerCase(Locale.ROOT)
+                .startsWith("windows") ? "java.exe" : "java";
+        return new File(new File(javaHome, "bin"), executable);
+    }
+
+    /**
+     * 表示训练模式下应用输出的启动报告。
+     */
+    static final class TrainingReport {
+        private final long startup;
+        private final long rss;
+
+        private TrainingReport(long startup, long rss) {
+            this.startup = startup;
+            this.rss = rss;
+        }
+
+        /**
+         * 获取应用启动的耗时。
+         *
+         * @return 表示启动耗时的毫秒数的 64 位整数。
+         */
+        long startup() {
+            return this.startup;
+        }
+
+        /**
+         * 获取应用启动过程中的内存占用峰值。
+         *
+         * @return 若可以获取，则为表示内存占用峰值的千字节数的 64 位整数，否则为 {@code -1}。
+         */
+        long rss() {
+            return this.rss;
+        }
+
+        /**
+         * 从一行输出中解析启动报告。
+         *
+         * @param line 表示应用输出的一行内容的 {@link String}。
+         * @return 若该行为启动报告，则为表示解析得到的启动报告的 {@link TrainingReport}，否则为 {@code null}。
+         */
+        static TrainingReport parse(String line) {
+            Matcher matcher = TRAINING_REPORT_PATTERN.matcher(line);
+            if (!matcher.find()) {
+                return null;
+            }
+            return new TrainingReport(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)));
+        }
+    }
+}
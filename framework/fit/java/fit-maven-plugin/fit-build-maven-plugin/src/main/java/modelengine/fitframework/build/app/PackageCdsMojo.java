@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.build.app;
+
+import modelengine.fitframework.plugin.maven.support.AbstractMojo;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * 表示为应用生成类列表及 AppCDS 归档的任务。
+ * <p>该任务需要在 {@code package-app} 之后执行。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@Mojo(name = "package-cds", defaultPhase = LifecyclePhase.PACKAGE,
+        requiresDependencyResolution = ResolutionScope.RUNTIME)
+public class PackageCdsMojo extends AbstractMojo {
+    @Parameter(property = "cds.skip", defaultValue = "false")
+    private boolean skip;
+    @Parameter(property = "cds.javaHome", defaultValue = "${java.home}")
+    private File javaHome;
+    @Parameter(property = "cds.jvmArguments")
+    private List<String> jvmArguments;
+    @Parameter(property = "cds.trainingArguments")
+    private List<String> trainingArguments;
+    @Parameter(property = "cds.trainingTimeout", defaultValue = "120")
+    private long trainingTimeout;
+    @Parameter(property = "cds.measure", defaultValue = "false")
+    private boolean measure;
+    @Parameter(property = "cds.extractClassPath", defaultValue = "false")
+    private boolean extractClassPath;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (this.skip) {
+            this.getLog().info("Skip generating CDS archive.");
+            return;
+        }
+        CdsArchiveGenerator generator = new CdsArchiveGenerator(this.project(),
+                this.getLog(),
+                this.javaHome,
+                this.jvmArguments,
+                this.trainingArguments,
+                this.trainingTimeout,
+                this.extractClassPath);
+        generator.generate(this.measure);
+    }
+}
@@ -13,6 +13,7 @@ import modelengine.fitframework.protocol.jar.JarEntryLocation;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -22,6 +23,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.CodeSource;
 import java.util.Locale;
 import java.util.Objects;
@@ -61,6 +66,18 @@ public final class AggregatedFitLauncher {
     /** 表示 FIT 的入口类的键。 */
     public static final String MANIFEST_ENTRY_CLASS_KEY = "FIT-Entry-Class";
 
+    /**
+     * 表示训练模式的系统属性的名称。
+     * <p>训练模式下，应用启动完成后输出启动耗时及内存占用，并立即退出，用以在构建时生成类列表及类数据共享归档。</p>
+     */
+    public static final String TRAINING_PROPERTY_KEY = "fit.launch.training";
+
+    /** 表示训练模式下输出的启动报告的前缀。 */
+    public static final String TRAINING_REPORT_PREFIX = "FIT-Training:";
+
+    private static final String PROCESS_STATUS_FILE = "/proc/self/status";
+    private static final String PEAK_RSS_KEY = "VmHWM:";
+
     public static void main(String[] args) throws Throwable {
         Handlers.register();
         UrlClassLoader sharedClassLoader = obtainSharedClassLoader();
@@ -81,6 +98,33 @@ public final class AggregatedFitLauncher {
         } catch (InvocationTargetException e) {
             throw e.getCause();
         }
+        if (Boolean.getBoolean(TRAINING_PROPERTY_KEY)) {
+            System.out.printf(Locale.ROOT,
+                    "%s startup=%dms, rss=%dkB%n",
+                    TRAINING_REPORT_PREFIX,
+                    ManagementFactory.getRuntimeMXBean().getUptime(),
+                    peakResidentSetSize());
+            System.out.flush();
+            System.exit(0);
+        }
+    }
+
+    private static long peakResidentSetSize() {
+        Path status = Paths.get(PROCESS_STATUS_FILE);
+        if (!Files.isReadable(status)) {
+            return -1L;
+        }
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith(PEAK_RSS_KEY)) {
+                    String value = line.substring(PEAK_RSS_KEY.length()).trim();
+                    return Long.parseLong(value.substring(0, value.indexOf(' ')));
+                }
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // 内存占用仅用于报告，读取失败时不影响训练。
+        }
+        return -1L;
     }
 
     private static File startup() {
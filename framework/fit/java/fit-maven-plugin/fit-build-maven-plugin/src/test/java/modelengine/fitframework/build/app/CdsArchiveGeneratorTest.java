@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.build.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.launch.AggregatedFitLauncher;
+import modelengine.fitframework.util.FileUtils;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 表示 {@link CdsArchiveGenerator} 的单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 CdsArchiveGenerator")
+public class CdsArchiveGeneratorTest {
+    private static final File JAVA = new File("java");
+
+    @Test
+    @DisplayName("训练命令以训练模式启动应用并输出类列表")
+    void shouldBuildTrainingCommand() {
+        assertThat(CdsArchiveGenerator.trainingCommand(JAVA,
+                Collections.singletonList("-Xmx256m"),
+                "app.classlist",
+                "app.jar",
+                Collections.singletonList("--server.port=0"))).containsExactly("java",
+                "-Xshare:off",
+                "-XX:DumpLoadedClassList=app.classlist",
+                "-D" + AggregatedFitLauncher.TRAINING_PROPERTY_KEY + "=true",
+                "-Xmx256m",
+                "-jar",
+                "app.jar",
+                "--server.port=0");
+    }
+
+    @Test
+    @DisplayName("生成归档的命令与启动时使用相同的类路径")
+    void shouldBuildDumpCommand() {
+        assertThat(CdsArchiveGenerator.dumpCommand(JAVA, "app.classlist", "app.jsa", "app.jar")).containsExactly(
+                "java",
+                "-Xshare:dump",
+                "-XX:SharedClassListFile=app.classlist",
+                "-XX:SharedArchiveFile=app.jsa",
+                "-cp",
+                "app.jar");
+        assertThat(CdsArchiveGenerator.archiveArguments("app.jsa")).containsExactly("-Xshare:auto",
+                "-XX:SharedArchiveFile=app.jsa");
+        assertThat(CdsArchiveGenerator.launchCommand(JAVA,
+                Collections.emptyList(),
+                "app.jvmargs",
+                "app.jar",
+                Collections.emptyList())).containsSubsequence("java", "@app.jvmargs", "-jar", "app.jar");
+    }
+
+    @Test
+    @DisplayName("解压框架及共享库并生成引用它们的启动 JAR，应用 JAR 保持不变")
+    void shouldPrepareClassPathForArchive() throws IOException {
+        File directory = Files.createTempDirectory("CdsArchiveGeneratorTest-").toFile();
+        try {
+            File jar = new File(directory, "app.jar");
+            Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, AggregatedFitLauncher.class.getName());
+            try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+                putEntry(out, AggregatedFitLauncher.CLASS_DIRECTORY_ENTRY_NAME + "app/Main.class", ZipEntry.DEFLATED);
+                putEntry(out, AggregatedFitLauncher.LIB_ENTRY_NAME + "fit-runtime.jar", ZipEntry.STORED);
+                putEntry(out, AggregatedFitLauncher.THIRD_PARTY_ENTRY_NAME + "lib.jar", ZipEntry.STORED);
+                putEntry(out, AggregatedFitLauncher.SHARED_ENTRY_NAME + "shared.jar", ZipEntry.STORED);
+                putEntry(out, AggregatedFitLauncher.FIT_ROOT_ENTRY_NAME + "plugins/plugin.jar", ZipEntry.STORED);
+            }
+            byte[] origin = Files.readAllBytes(jar.toPath());
+
+            File launcher = new File(directory, "app" + CdsArchiveGenerator.LAUNCHER_SUFFIX);
+            List<String> classPath =
+                    CdsArchiveGenerator.prepareClassPath(jar, new File(directory, "app.cds"), launcher);
+            assertThat(classPath).containsExactly("app.jar",
+                    "app.cds/shared/shared.jar",
+                    "app.cds/classes.jar",
+                    "app.cds/lib/fit-runtime.jar",
+                    "app.cds/third-party/lib.jar");
+            assertThat(new File(directory, "app.cds/lib/fit-runtime.jar")).hasContent("FIT-INF/lib/fit-runtime.jar");
+            assertThat(new File(directory, "app.cds/plugins")).doesNotExist();
+            try (JarFile file = new JarFile(new File(directory, "app.cds/classes.jar"))) {
+                assertThat(file.getEntry("app/Main.class")).isNotNull();
+            }
+            try (JarFile file = new JarFile(launcher)) {
+                Attributes attributes = file.getManifest().getMainAttributes();
+                assertThat(attributes.getValue(Attributes.Name.CLASS_PATH)).isEqualTo(String.join(" ", classPath));
+                assertThat(attributes.getValue(Attributes.Name.MAIN_CLASS)).isEqualTo(
+                        AggregatedFitLauncher.class.getName());
+            }
+            assertThat(Files.readAllBytes(jar.toPath())).isEqualTo(origin);
+        } finally {
+            FileUtils.delete(directory);
+        }
+    }
+
+    private static void putEntry(ZipOutputStream out, String name, int method) throws IOException {
+        byte[] content = name.getBytes(StandardCharsets.UTF_8);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(method);
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setSize(content.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+    }
+
+    @Test
+    @DisplayName("解析训练模式输出的启动报告")
+    void shouldParseTrainingReport() {
+        CdsArchiveGenerator.TrainingReport report =
+                CdsArchiveGenerator.TrainingReport.parse("FIT-Training: startup=1234ms, rss=204800kB");
+        assertThat(report).isNotNull();
+        assertThat(report.startup()).isEqualTo(1234L);
+        assertThat(report.rss()).isEqualTo(204800L);
+        assertThat(CdsArchiveGenerator.TrainingReport.parse("Application started.")).isNull();
+    }
+
+    @Test
+    @DisplayName("应用未打包时，生成归档失败")
+    void shouldFailWhenApplicationNotPackaged() {
+        MavenProject project = mock(MavenProject.class);
+        Artifact artifact = mock(Artifact.class);
+        when(project.getArtifact()).thenReturn(artifact);
+        when(artifact.getFile()).thenReturn(new File("target/not-exists.jar"));
+        CdsArchiveGenerator generator = new CdsArchiveGenerator(project,
+                mock(Log.class),
+                new File(System.getProperty("java.home")),
+                null,
+                Arrays.asList("a", "b"),
+                1L,
+                false);
+        assertThatThrownBy(() -> generator.generate(false)).isInstanceOf(MojoExecutionException.class);
+    }
+}
@@ -16,6 +16,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.security.Permission;
 import java.util.Arrays;
 import java.util.Date;
@@ -32,19 +33,24 @@ final class DataBlockJar implements Jar {
     private final JarLocation location;
     private final DataLocator locatorOfData;
     private final String comment;
-    private final JarEntryCollection entries;
+    private final IndexedJarEntryCollection entries;
 
     private DataBlockJar(JarLocation location, DataLocator locatorOfData, DataRandomReader reader) throws IOException {
         this.location = location;
         this.locatorOfData = locatorOfData;
-        Zip cd = new Zip(reader);
-        this.comment = cd.comment();
-        this.entries = new JarEntryCollection(cd.size());
-        Enumerator<Zip.FileHeader> enumerator = cd.enumerator();
-        while (enumerator.more()) {
-            Zip.FileHeader header = enumerator.next();
-            Entry entry = this.new Entry(header);
-            entries.add(entry);
+        EntryIndex index = EntryIndex.of(locatorOfData, reader);
+        this.comment = index.comment();
+        this.entries = new IndexedJarEntryCollection(index, position -> this.createEntry(index, position));
+    }
+
+    private Entry createEntry(EntryIndex index, int position) {
+        try {
+            return this.new Entry(index.header(position));
+        } catch (JarFormatException e) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "Failed to read entry of JAR. [jar=%s, index=%d]",
+                    this.location,
+                    position), e);
         }
     }
 
@@ -180,16 +186,9 @@ final class DataBlockJar implements Jar {
 
         @Override
         public InputStream read() throws IOException {
-            // 性能敏感场景，IDEA 提示无情重构为 Files.newInputStream(Path path)，该重构性能劣化严重，禁止该重构。
-            InputStream in = new FileInputStream(DataBlockJar.this.locatorOfData().file());
+            ByteBuffer mapped = MappedFiles.map(DataBlockJar.this.locatorOfData.file());
+            InputStream in = mapped == null ? this.openFile() : this.openMapped(mapped);
             try {
-                long bytesToSkip = DataBlockJar.this.locatorOfData.offset() + this.offsetOfLocalHeader;
-                long skipped = 0L;
-                while (skipped < bytesToSkip) {
-                    skipped += in.skip(bytesToSkip - skipped);
-                }
-                Zip.skipLocalHeader(in);
-                in = new LimitedInputStream(in, this.sizeOfCompressed());
                 switch (this.methodOfCompression()) {
                     case NONE:
                         return in;
@@ -210,6 +209,40 @@ final class DataBlockJar implements Jar {
             }
         }
 
+        private InputStream openMapped(ByteBuffer mapped) throws IOException {
+            DataRandomReader data = new DataRandomReaders.Mapped(DataBlockJar.this.locatorOfData, mapped);
+            long offset = this.offsetOfLocalHeader + Zip.measureLocalHeader(data, this.offsetOfLocalHeader);
+            if (offset + this.sizeOfCompressed > DataBlockJar.this.locatorOfData.length()) {
+                throw new JarFormatException(String.format(Locale.ROOT,
+                        "The data of entry is out of bounds. [entry=%s]",
+                        this));
+            }
+            return new MappedInputStream(mapped,
+                    (int) (DataBlockJar.this.locatorOfData.offset() + offset),
+                    (int) this.sizeOfCompressed);
+        }
+
+        private InputStream openFile() throws IOException {
+            // 性能敏感场景，IDEA 提示无情重构为 Files.newInputStream(Path path)，该重构性能劣化严重，禁止该重构。
+            InputStream in = new FileInputStream(DataBlockJar.this.locatorOfData().file());
+            try {
+                long bytesToSkip = DataBlockJar.this.locatorOfData.offset() + this.offsetOfLocalHeader;
+                long skipped = 0L;
+                while (skipped < bytesToSkip) {
+                    skipped += in.skip(bytesToSkip - skipped);
+                }
+                Zip.skipLocalHeader(in);
+                return new LimitedInputStream(in, this.sizeOfCompressed());
+            } catch (IOException | RuntimeException e) {
+                try {
+                    in.close();
+                } catch (IOException | RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+
         @Override
         public Jar asJar() throws IOException {
             if (this.directory()) {
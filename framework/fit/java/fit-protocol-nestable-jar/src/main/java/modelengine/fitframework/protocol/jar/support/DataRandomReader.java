@@ -8,6 +8,7 @@ package modelengine.fitframework.protocol.jar.support;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * 为数据提供随机访问能力。
@@ -46,12 +47,17 @@ public interface DataRandomReader extends Closeable {
 
     /**
      * 从指定数据定位器处获得一个数据随机读取器。
+     * <p>当数据所在的文件可以被内存映射时，读取器直接读取共享的内存映射，否则通过文件读取数据。</p>
      *
      * @param locator 表示指定数据定位器的 {@link DataLocator}。
      * @return 表示数据随机读取器的 {@link DataRandomReader}。
      * @throws IOException 当创建数据随机读取器过程中发生输入输出异常时。
      */
     static DataRandomReader from(DataLocator locator) throws IOException {
-        return new DataRandomReaders.Default(locator);
+        ByteBuffer mapped = MappedFiles.map(locator.file());
+        if (mapped == null) {
+            return new DataRandomReaders.Default(locator);
+        }
+        return new DataRandomReaders.Mapped(locator, mapped);
     }
 }
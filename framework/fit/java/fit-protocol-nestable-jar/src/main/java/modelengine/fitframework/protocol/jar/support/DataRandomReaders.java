@@ -11,6 +11,7 @@ import static modelengine.fitframework.protocol.jar.location.Locations.path;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.Locale;
 
 /**
@@ -120,4 +121,59 @@ final class DataRandomReaders {
             }
         }
     }
+
+    /**
+     * 表示基于共享内存映射的数据块。
+     *
+     * @author 梁济时
+     * @since 2026-10-19
+     */
+    static final class Mapped implements DataRandomReader {
+        private final DataLocator locator;
+        private final ByteBuffer buffer;
+
+        /**
+         * 使用数据定位器及其所在文件的内存映射初始化 {@link Mapped} 类的新实例。
+         *
+         * @param locator 表示数据定位器的 {@link DataLocator}。
+         * @param buffer 表示数据所在文件的全部内容的 {@link ByteBuffer}。
+         */
+        Mapped(DataLocator locator, ByteBuffer buffer) {
+            this.locator = locator;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void close() {
+            // 内存映射在所有读取器之间共享，不随读取器关闭。
+        }
+
+        @Override
+        public long length() {
+            return this.locator.length();
+        }
+
+        @Override
+        public byte[] read(long position, int length) {
+            Default.validate(position, length, this.locator.length());
+            byte[] bytes = new byte[length];
+            ByteBuffer duplicate = this.buffer.duplicate();
+            duplicate.position((int) (this.locator.offset() + position));
+            duplicate.get(bytes);
+            return bytes;
+        }
+
+        @Override
+        public Mapped sub(long offset, long length) {
+            if (offset == 0L && length == this.locator.length()) {
+                return this;
+            }
+            return new Mapped(this.locator.sub(offset, length), this.buffer);
+        }
+
+        @Override
+        public String toString() {
+            return this.locator.toString();
+        }
+    }
 }
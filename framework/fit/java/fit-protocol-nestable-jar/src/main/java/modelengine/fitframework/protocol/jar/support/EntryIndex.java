@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.protocol.jar.support;
+
+import modelengine.fitframework.protocol.jar.JarEntryLocation;
+import modelengine.fitframework.protocol.jar.JarFormatException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 表示 JAR 中心目录的紧凑索引。
+ * <p>索引仅保存中心目录的原始数据、每个文件头的偏移量，以及按照条目名称哈希值排序的 {@code (哈希值, 序号)} 数组。
+ * 条目名称的哈希值直接基于中心目录中的 UTF-8 字节计算，因此建立索引时不需要解析文件头或创建字符串，文件头在被访问时才解析。</p>
+ * <p>索引以数据定位器为键在所有类加载器之间共享，并在所在文件的修改时间变化时重建，因此归档件实例被回收后再次加载时，
+ * 不需要重新读取中心目录。索引通过软引用缓存，插件卸载后不再被使用的索引可以被回收。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class EntryIndex {
+    private static final SoftCache<DataLocator, EntryIndex> INDEXES = new SoftCache<>();
+
+    private static final int FILE_HEADER_SIGNATURE = 0x02014b50;
+    private static final int FILE_HEADER_MINIMUM_SIZE = 46;
+    private static final int FILE_NAME_LENGTH_POSITION = 28;
+    private static final int EXTRA_FIELD_LENGTH_POSITION = 30;
+    private static final int FILE_COMMENT_LENGTH_POSITION = 32;
+
+    private static final int FNV_OFFSET_BASIS = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final long POSITION_MASK = 0xffffffffL;
+
+    private final String comment;
+    private final byte[] directory;
+    private final int[] offsets;
+    private final long[] keys;
+
+    private EntryIndex(Zip zip) throws JarFormatException {
+        this.comment = zip.comment();
+        this.directory = zip.directory();
+        int size = zip.size();
+        this.offsets = new int[size];
+        this.keys = new long[size];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            if (offset + FILE_HEADER_MINIMUM_SIZE > this.directory.length
+                    || Bytes.s4(this.directory, offset) != FILE_HEADER_SIGNATURE) {
+                throw new JarFormatException(String.format(Locale.ROOT,
+                        "Bad central directory file header. [index=%d, offset=%d]",
+                        i,
+                        offset));
+            }
+            int lengthOfFileName = Bytes.u2(this.directory, offset + FILE_NAME_LENGTH_POSITION);
+            this.offsets[i] = offset;
+            this.keys[i] = ((long) hash(this.directory, offset + FILE_HEADER_MINIMUM_SIZE,
+                    lengthOfKey(this.directory, offset + FILE_HEADER_MINIMUM_SIZE, lengthOfFileName)) << 32) | i;
+            offset += FILE_HEADER_MINIMUM_SIZE + lengthOfFileName
+                    + Bytes.u2(this.directory, offset + EXTRA_FIELD_LENGTH_POSITION)
+                    + Bytes.u2(this.directory, offset + FILE_COMMENT_LENGTH_POSITION);
+        }
+        Arrays.sort(this.keys);
+    }
+
+    /**
+     * 获取指定数据块中 JAR 的中心目录索引。
+     *
+     * @param locator 表示 JAR 所在数据块的定位器的 {@link DataLocator}。
+     * @param reader 表示用以读取数据块的读取器的 {@link DataRandomReader}。
+     * @return 表示中心目录索引的 {@link EntryIndex}。
+     * @throws IOException 读取中心目录过程发生输入输出异常。
+     */
+    static EntryIndex of(DataLocator locator, DataRandomReader reader) throws IOException {
+        return INDEXES.get(locator, locator.file().lastModified(), () -> new EntryIndex(new Zip(reader)));
+    }
+
+    /**
+     * 获取条目的数量。
+     *
+     * @return 表示条目数量的 32 位整数。
+     */
+    int size() {
+        return this.offsets.length;
+    }
+
+    /**
+     * 获取归档件的备注信息。
+     *
+     * @return 表示归档件备注信息的 {@link String}。
+     */
+    String comment() {
+        return this.comment;
+    }
+
+    /**
+     * 解析指定序号的条目的文件头。
+     *
+     * @param index 表示条目在中心目录中的序号的 32 位整数。
+     * @return 表示条目文件头的 {@link Zip.FileHeader}。
+     * @throws JarFormatException 文件头的格式不正确。
+     */
+    Zip.FileHeader header(int index) throws JarFormatException {
+        return Zip.FileHeader.load(this.directory, this.offsets[index]);
+    }
+
+    /**
+     * 查找指定名称的条目的序号。
+     * <p>名称末尾的路径分隔符会被忽略。当存在多个同名条目时，返回中心目录中的最后一个。</p>
+     *
+     * @param name 表示条目名称的 {@link String}。
+     * @return 若存在该条目，则为表示条目序号的 32 位整数，否则为 {@code -1}。
+     */
+    int find(String name) {
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int length = lengthOfKey(key, 0, key.length);
+        long hash = hash(key, 0, length);
+        int position = Arrays.binarySearch(this.keys, hash << 32);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        int found = -1;
+        for (; position < this.keys.length && (this.keys[position] >> 32) == hash; position++) {
+            int index = (int) (this.keys[position] & POSITION_MASK);
+            if (this.matches(index, key, length)) {
+                found = index;
+            }
+        }
+        return found;
+    }
+
+    private boolean matches(int index, byte[] key, int length) {
+        int offset = this.offsets[index];
+        int start = offset + FILE_HEADER_MINIMUM_SIZE;
+        int lengthOfFileName = Bytes.u2(this.directory, offset + FILE_NAME_LENGTH_POSITION);
+        if (lengthOfKey(this.directory, start, lengthOfFileName) != length) {
+            return false;
+        }
+        return Arrays.equals(this.directory, start, start + length, key, 0, length);
+    }
+
+    private static int lengthOfKey(byte[] bytes, int offset, int length) {
+        if (length > 0 && bytes[offset + length - 1] == JarEntryLocation.ENTRY_PATH_SEPARATOR) {
+            return length - 1;
+        } else {
+            return length;
+        }
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int i = offset; i < offset + length; i++) {
+            hash ^= bytes[i] & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.protocol.jar.support;
+
+import modelengine.fitframework.protocol.jar.Jar;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 为 {@link Jar.EntryCollection} 提供基于中心目录索引的实现。
+ * <p>条目在第一次被访问时才根据中心目录的文件头创建，并在当前集合中缓存。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class IndexedJarEntryCollection implements Jar.EntryCollection {
+    private final EntryIndex index;
+    private final IntFunction<Jar.Entry> factory;
+    private final AtomicReferenceArray<Jar.Entry> entries;
+
+    /**
+     * 使用中心目录索引及条目的创建方法初始化 {@link IndexedJarEntryCollection} 类的新实例。
+     *
+     * @param index 表示中心目录索引的 {@link EntryIndex}。
+     * @param factory 表示根据条目序号创建条目的方法的 {@link IntFunction}{@code <}{@link Jar.Entry}{@code >}。
+     */
+    IndexedJarEntryCollection(EntryIndex index, IntFunction<Jar.Entry> factory) {
+        this.index = index;
+        this.factory = factory;
+        this.entries = new AtomicReferenceArray<>(index.size());
+    }
+
+    @Override
+    public int size() {
+        return this.entries.length();
+    }
+
+    @Override
+    public Jar.Entry get(int index) {
+        Jar.Entry entry = this.entries.get(index);
+        if (entry == null) {
+            entry = this.factory.apply(index);
+            if (!this.entries.compareAndSet(index, null, entry)) {
+                entry = this.entries.get(index);
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public Jar.Entry get(String name) {
+        int found = this.index.find(name);
+        return found < 0 ? null : this.get(found);
+    }
+
+    @Override
+    public Stream<Jar.Entry> stream() {
+        return IntStream.range(0, this.size()).mapToObj(this::get);
+    }
+
+    @Override
+    public java.util.Iterator<Jar.Entry> iterator() {
+        return this.new Iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + this.size();
+    }
+
+    private final class Iterator implements java.util.Iterator<Jar.Entry> {
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            return this.position < IndexedJarEntryCollection.this.size();
+        }
+
+        @Override
+        public Jar.Entry next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return IndexedJarEntryCollection.this.get(this.position++);
+        }
+    }
+}
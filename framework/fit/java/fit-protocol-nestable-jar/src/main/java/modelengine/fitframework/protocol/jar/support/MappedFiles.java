@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.protocol.jar.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 为 JAR 文件提供共享的只读内存映射。
+ * <p>同一个文件在所有类加载器之间只映射一次，当文件的长度或修改时间发生变化时重新映射。映射通过软引用缓存，
+ * 不再被使用的映射可以被回收并解除。超过 2GB 的文件，或通过系统属性
+ * {@value #ENABLED_PROPERTY_KEY} 设置为 {@code false} 时，不进行映射，由调用方回退到基于文件读取的方式。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class MappedFiles {
+    /** 表示是否启用内存映射的系统属性的名称。 */
+    static final String ENABLED_PROPERTY_KEY = "fit.protocol.jar.mapped";
+
+    private static final boolean ENABLED =
+            !Boolean.FALSE.toString().equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY_KEY));
+    private static final SoftCache<File, ByteBuffer> MAPPINGS = new SoftCache<>();
+
+    private MappedFiles() {}
+
+    /**
+     * 获取指定文件的只读内存映射。
+     * <p>返回的缓冲区在多个调用方之间共享，调用方需要通过 {@link ByteBuffer#duplicate()} 等方式使用独立的位置信息。</p>
+     *
+     * @param file 表示待映射的文件的 {@link File}。
+     * @return 若文件可以被映射，则为表示文件全部内容的 {@link ByteBuffer}，否则为 {@code null}。
+     * @throws IOException 映射文件过程发生输入输出异常。
+     */
+    static ByteBuffer map(File file) throws IOException {
+        if (!ENABLED) {
+            return null;
+        }
+        long length = file.length();
+        if (length > Integer.MAX_VALUE) {
+            return null;
+        }
+        long lastModified = file.lastModified();
+        ByteBuffer buffer = MAPPINGS.get(file, lastModified, () -> map(file, length));
+        if (buffer.capacity() != length) {
+            // 文件在修改时间的精度内被改写，长度发生了变化。
+            MAPPINGS.remove(file);
+            buffer = MAPPINGS.get(file, lastModified, () -> map(file, length));
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer map(File file, long length) throws IOException {
+        try (RandomAccessFile access = new RandomAccessFile(file, "r");
+             FileChannel channel = access.getChannel()) {
+            // 映射在通道关闭后仍然有效，直到缓冲区被回收。
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0L, length).asReadOnlyBuffer();
+        }
+    }
+}
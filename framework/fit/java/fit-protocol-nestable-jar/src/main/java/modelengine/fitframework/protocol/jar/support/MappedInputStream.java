@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.protocol.jar.support;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 表示读取内存映射中一段数据的输入流。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class MappedInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    /**
+     * 使用内存映射及数据所在的位置初始化 {@link MappedInputStream} 类的新实例。
+     *
+     * @param mapped 表示文件内存映射的 {@link ByteBuffer}。
+     * @param offset 表示数据在映射中的偏移量的 32 位整数。
+     * @param length 表示数据长度的 32 位整数。
+     */
+    MappedInputStream(ByteBuffer mapped, int offset, int length) {
+        ByteBuffer duplicate = mapped.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(offset + length);
+        this.buffer = duplicate.slice();
+    }
+
+    @Override
+    public int read() {
+        if (this.buffer.hasRemaining()) {
+            return this.buffer.get() & 0xff;
+        } else {
+            return -1;
+        }
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!this.buffer.hasRemaining()) {
+            return -1;
+        }
+        int actual = Math.min(length, this.buffer.remaining());
+        this.buffer.get(bytes, offset, actual);
+        return actual;
+    }
+
+    @Override
+    public long skip(long bytes) {
+        if (bytes <= 0) {
+            return 0L;
+        }
+        int actual = (int) Math.min(bytes, this.buffer.remaining());
+        this.buffer.position(this.buffer.position() + actual);
+        return actual;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.protocol.jar.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示通过软引用持有缓存值的缓存。
+ * <p>每个缓存值带有一个版本号，通常为所在文件的修改时间，版本号变化时重新加载。缓存值不再被使用时，可以在内存不足时被回收，
+ * 被回收的缓存项在后续访问缓存时清除，因此插件卸载后，其文件对应的缓存值不会一直驻留在内存中。</p>
+ *
+ * @param <K> 表示缓存键的类型。
+ * @param <V> 表示缓存值的类型。
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class SoftCache<K, V> {
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * 获取指定键的缓存值，缓存值不存在、已被回收或版本号不一致时，重新加载。
+     *
+     * @param key 表示缓存键的 {@link K}。
+     * @param version 表示期望的版本号的 {@code long}。
+     * @param loader 表示缓存值的加载器的 {@link Loader}{@code <}{@link V}{@code >}。
+     * @return 表示缓存值的 {@link V}。
+     * @throws IOException 加载缓存值过程发生输入输出异常。
+     */
+    V get(K key, long version, Loader<V> loader) throws IOException {
+        this.expunge();
+        Entry<K, V> entry = this.entries.get(key);
+        V value = entry == null || entry.version != version ? null : entry.get();
+        if (value != null) {
+            return value;
+        }
+        try {
+            // 缓存值需要在替换缓存项的同时被强引用，避免新的缓存项在返回前被回收。
+            Object[] loaded = new Object[1];
+            this.entries.compute(key, (k, current) -> {
+                V currentValue = current == null || current.version != version ? null : current.get();
+                if (currentValue != null) {
+                    loaded[0] = currentValue;
+                    return current;
+                }
+                try {
+                    V newValue = loader.load();
+                    loaded[0] = newValue;
+                    return new Entry<>(k, version, newValue, this.queue);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            @SuppressWarnings("unchecked")
+            V result = (V) loaded[0];
+            return result;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 移除指定键的缓存值。
+     *
+     * @param key 表示缓存键的 {@link K}。
+     */
+    void remove(K key) {
+        this.entries.remove(key);
+    }
+
+    /**
+     * 获取缓存项的数量，包括已被回收但尚未清除的缓存项。
+     *
+     * @return 表示缓存项数量的 32 位整数。
+     */
+    int size() {
+        this.expunge();
+        return this.entries.size();
+    }
+
+    private void expunge() {
+        Reference<? extends V> reference;
+        while ((reference = this.queue.poll()) != null) {
+            Entry<?, ?> entry = (Entry<?, ?>) reference;
+            this.entries.remove(entry.key, entry);
+        }
+    }
+
+    /**
+     * 表示缓存值的加载器。
+     *
+     * @param <V> 表示缓存值的类型。
+     */
+    @FunctionalInterface
+    interface Loader<V> {
+        /**
+         * 加载缓存值。
+         *
+         * @return 表示缓存值的 {@link V}。
+         * @throws IOException 加载缓存值过程发生输入输出异常。
+         */
+        V load() throws IOException;
+    }
+
+    private static final class Entry<K, V> extends SoftReference<V> {
+        private final K key;
+        private final long version;
+
+        private Entry(K key, long version, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+            this.version = version;
+        }
+    }
+}
@@ -57,6 +57,15 @@ final class Zip implements Enumerable<Zip.FileHeader> {
         return this.end.commentOfZipFile;
     }
 
+    /**
+     * 获取中心目录的原始数据。
+     *
+     * @return 表示中心目录数据的字节数组。
+     */
+    byte[] directory() {
+        return this.bytes;
+    }
+
     /**
      * 返回一个枚举程序，用以遍历包含的所有文件头信息。
      *
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.protocol.jar.JarBuilder;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 为 {@link EntryIndex} 提供单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 EntryIndex 类")
+class EntryIndexTest {
+    private static final String NESTED_JAR_ENTRY_NAME = "FIT-INF/lib/nested.jar";
+    private static final byte[] CONTENT = "hello, nestable jar".getBytes(StandardCharsets.UTF_8);
+
+    private static File jarFile;
+
+    @BeforeAll
+    static void setupAll() throws IOException {
+        jarFile = Files.createTempFile("EntryIndex-", ".jar").toFile();
+        byte[] nested;
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("com/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("com/Demo.class"));
+            zip.write(CONTENT);
+            zip.closeEntry();
+            zip.finish();
+            nested = out.toByteArray();
+        }
+        try (JarBuilder builder = JarBuilder.of(jarFile)) {
+            builder.store("a/b/c.txt", CONTENT);
+            builder.store("a/d.txt", CONTENT);
+            builder.store(NESTED_JAR_ENTRY_NAME, nested);
+        }
+    }
+
+    @AfterAll
+    static void teardownAll() throws IOException {
+        Files.deleteIfExists(jarFile.toPath());
+    }
+
+    @Test
+    @DisplayName("按照名称查找条目，目录条目忽略末尾的路径分隔符")
+    void shouldFindEntriesByName() throws IOException {
+        Jar jar = DataBlockJar.load(jarFile);
+        List<String> names = jar.entries().stream().map(Jar.Entry::name).collect(Collectors.toList());
+        assertThat(names).containsExactly("a/",
+                "a/b/",
+                "a/b/c.txt",
+                "a/d.txt",
+                "FIT-INF/",
+                "FIT-INF/lib/",
+                NESTED_JAR_ENTRY_NAME);
+        assertThat(jar.entries().get("a/b").name()).isEqualTo("a/b/");
+        assertThat(jar.entries().get("a/b/").directory()).isTrue();
+        assertThat(jar.entries().get("a/d.txt")).isSameAs(jar.entries().get(3));
+        assertThat(jar.entries().get("a/e.txt")).isNull();
+        assertThat(jar.entries().get("")).isNull();
+    }
+
+    @Test
+    @DisplayName("多次加载同一个归档件时，共享中心目录索引")
+    void shouldShareIndexBetweenLoads() throws IOException {
+        DataLocator locator = DataLocator.of(jarFile);
+        EntryIndex first;
+        try (DataRandomReader reader = DataRandomReader.from(locator)) {
+            first = EntryIndex.of(locator, reader);
+        }
+        EntryIndex second;
+        try (DataRandomReader reader = DataRandomReader.from(DataLocator.of(jarFile))) {
+            second = EntryIndex.of(DataLocator.of(jarFile), reader);
+        }
+        assertThat(second).isSameAs(first);
+        assertThat(second.find("a/b/c.txt")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("直接从外层文件读取未压缩的内嵌归档件中的条目")
+    void shouldReadEntryOfStoredNestedJar() throws IOException {
+        Jar jar = DataBlockJar.load(jarFile);
+        Jar nested = jar.entries().get(NESTED_JAR_ENTRY_NAME).asJar();
+        assertThat(nested.entries().size()).isEqualTo(2);
+        try (InputStream in = nested.entries().get("com/Demo.class").read()) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+        try (InputStream in = jar.entries().get("a/b/c.txt").read()) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * 为 {@link SoftCache} 提供单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 SoftCache 类")
+class SoftCacheTest {
+    private final SoftCache<String, Object> cache = new SoftCache<>();
+
+    @Test
+    @DisplayName("版本号相同时返回缓存值，版本号变化时重新加载")
+    void shouldReloadWhenVersionChanged() throws IOException {
+        Object first = this.cache.get("jar", 1L, Object::new);
+        assertThat(this.cache.get("jar", 1L, Object::new)).isSameAs(first);
+        Object second = this.cache.get("jar", 2L, Object::new);
+        assertThat(second).isNotSameAs(first);
+        assertThat(this.cache.get("jar", 2L, Object::new)).isSameAs(second);
+        assertThat(this.cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("加载失败时抛出原始异常，且不缓存")
+    void shouldThrowLoaderExceptionAndCacheNothing() {
+        assertThatThrownBy(() -> this.cache.get("jar", 1L, () -> {
+            throw new IOException("broken");
+        })).isInstanceOf(IOException.class).hasMessage("broken");
+        assertThat(this.cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("缓存值被回收后，清除缓存项并在再次访问时重新加载")
+    void shouldExpungeEntryWhenValueCollected() throws Exception {
+        Object first = this.cache.get("jar", 1L, Object::new);
+        Field field = SoftCache.class.getDeclaredField("entries");
+        field.setAccessible(true);
+        Map<?, ?> entries = (Map<?, ?>) field.get(this.cache);
+        Reference<?> reference = (Reference<?>) entries.get("jar");
+        reference.clear();
+        reference.enqueue();
+
+        assertThat(this.cache.size()).isEqualTo(0);
+        assertThat(this.cache.get("jar", 1L, Object::new)).isNotSameAs(first);
+    }
+}
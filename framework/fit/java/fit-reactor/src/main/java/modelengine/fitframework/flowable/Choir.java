@@ -11,16 +11,19 @@ import static modelengine.fitframework.inspection.Validation.greaterThan;
 import modelengine.fitframework.flowable.choir.FlexibleEmitterChoir;
 import modelengine.fitframework.flowable.choir.IterableChoir;
 import modelengine.fitframework.flowable.choir.PublisherChoirAdapter;
+import modelengine.fitframework.flowable.publisher.ZipPublisher;
 import modelengine.fitframework.flowable.subscriber.EmptySubscriber;
 import modelengine.fitframework.flowable.util.OnSubscribedObserver;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.schedule.ThreadPoolExecutors;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -107,6 +110,38 @@ public interface Choir<T> extends Publisher<T> {
         return fromIterable(Arrays.asList(array));
     }
 
+    /**
+     * 将指定的多个发布者合并为一个响应式流，同时订阅所有发布者，并按照元素到达的先后发送给下游。
+     *
+     * @param publishers 表示待合并的发布者的 {@link Publisher}{@code <}{@link T}{@code >[]}。
+     * @param <T> 表示发布者中数据类型的 {@link T}。
+     * @return 表示合并后的响应式流的 {@link Choir}{@code <}{@link T}{@code >}。
+     */
+    @SafeVarargs
+    static <T> Choir<T> merge(Publisher<T>... publishers) {
+        if (publishers == null || publishers.length == 0) {
+            return empty();
+        }
+        return fromIterable(Arrays.asList(publishers)).flatMap(Function.identity(), publishers.length);
+    }
+
+    /**
+     * 将两个发布者的元素按照顺序两两组合后发送，任意一个发布者结束时，组合后的响应式流结束。
+     *
+     * @param first 表示第一个发布者的 {@link Publisher}{@code <}{@link T1}{@code >}。
+     * @param second 表示第二个发布者的 {@link Publisher}{@code <}{@link T2}{@code >}。
+     * @param zipper 表示组合方式的
+     * {@link BiFunction}{@code <}{@link T1}{@code , }{@link T2}{@code , }{@link R}{@code >}。
+     * @param <T1> 表示第一个发布者中数据类型的 {@link T1}。
+     * @param <T2> 表示第二个发布者中数据类型的 {@link T2}。
+     * @param <R> 表示组合后的数据类型的 {@link R}。
+     * @return 表示组合后的响应式流的 {@link Choir}{@code <}{@link R}{@code >}。
+     * @throws IllegalArgumentException 当 {@code first}、{@code second} 或 {@code zipper} 为 {@code null} 时。
+     */
+    static <T1, T2, R> Choir<R> zip(Publisher<T1> first, Publisher<T2> second, BiFunction<T1, T2, R> zipper) {
+        return fromPublisher(new ZipPublisher<>(first, second, zipper, ZipPublisher.DEFAULT_PREFETCH));
+    }
+
     /**
      * 从 1 开始，到指定的终止值（不包含）结束，间隔步长为 1，将所有整数转换成响应式流。
      *
@@ -163,6 +198,19 @@ public interface Choir<T> extends Publisher<T> {
      */
     Choir<List<T>> buffer(int size);
 
+    /**
+     * 将数据按照指定大小或指定时间进行分组，转换成列表数据后继续发送。
+     * <p>分组在元素数量达到指定大小，或自分组的第一个元素到达起经过指定时间时结束，二者以先到者为准。</p>
+     *
+     * @param size 表示分组大小的 {@code int}。
+     * @param timeoutMillis 表示分组超时时间的毫秒数的 {@code long}。
+     * @param scheduler 表示调度分组超时任务的 {@link ThreadPoolScheduler}。
+     * @return 表示分组后的列表数据的新的响应式流的 {@link Choir}{@code <}{@link List}{@code <}{@link T}{@code >>}。
+     * @throws IllegalArgumentException 当 {@code scheduler} 为 {@code null}，或 {@code size}、{@code timeoutMillis}
+     * 小于等于 0 时。
+     */
+    Choir<List<T>> bufferTimeout(int size, long timeoutMillis, ThreadPoolScheduler scheduler);
+
     /**
      * 计算响应式流中的元素数量后，将元素数量发送。
      *
@@ -210,6 +258,18 @@ public interface Choir<T> extends Publisher<T> {
      */
     <R> Choir<R> flatMap(Function<T, Publisher<R>> flatMapper);
 
+    /**
+     * 将每个数据通过指定的方式转换为一个响应式流，最多同时订阅指定数量的响应式流，并将其中的元素按到达的先后发送给下游。
+     *
+     * @param flatMapper 表示指定元素转换为响应式流方式的
+     * {@link Function}{@code <}{@link T}{@code , }{@link Publisher}{@code <}{@link R}{@code >>}。
+     * @param maxConcurrency 表示同时订阅的响应式流的最大数量的 {@code int}。
+     * @param <R> 表示元素按指定方式转换后的响应式流的元素数据类型的 {@link R}。
+     * @return 表示包含当前各数据转换为响应式流并合并发送元素的新响应式流的 {@link Choir}{@code <}{@link R}{@code >}。
+     * @throws IllegalArgumentException 当 {@code maxConcurrency} 小于等于 0 时。
+     */
+    <R> Choir<R> flatMap(Function<T, Publisher<R>> flatMapper, int maxConcurrency);
+
     /**
      * 将每个数据通过指定的方式进行转换后继续发送。
      *
@@ -219,6 +279,23 @@ public interface Choir<T> extends Publisher<T> {
      */
     <R> Choir<R> map(Function<T, R> mapper);
 
+    /**
+     * 将数据分发到指定数量的通道上并行处理，并将各通道处理后的数据按照到达的先后合并发送。
+     * <p>每个通道在指定的执行器上依次处理分发给它的数据，通道上的处理逻辑由通道转换函数指定，例如
+     * {@code choir.parallel(4, executor, rail -> rail.map(mapper))}。空闲的通道会优先获取新的数据，因此下游收到的数据顺序与
+     * 上游不一定一致。</p>
+     *
+     * @param parallelism 表示通道数量的 {@code int}。
+     * @param executor 表示通道处理数据所在的执行器的 {@link ThreadPoolExecutor}，其线程数量决定实际的并行度。
+     * @param railMapper 表示通道转换函数的
+     * {@link Function}{@code <}{@link Choir}{@code <}{@link T}{@code >, }{@link Publisher}{@code <}{@link R}{@code >>}。
+     * @param <R> 表示通道处理后的数据类型的 {@link R}。
+     * @return 表示合并各通道处理结果的新的响应式流的 {@link Choir}{@code <}{@link R}{@code >}。
+     * @throws IllegalArgumentException 当 {@code executor} 或 {@code railMapper} 为 {@code null}，或 {@code parallelism}
+     * 小于等于 0 时。
+     */
+    <R> Choir<R> parallel(int parallelism, ThreadPoolExecutor executor, Function<Choir<T>, Publisher<R>> railMapper);
+
     /**
      * 将每个数据通过指定的方式进行合并后，形成一个新的数据，并继续发送。
      *
@@ -272,6 +349,29 @@ public interface Choir<T> extends Publisher<T> {
      */
     Choir<T> subscribeOn(ThreadPoolExecutor executor);
 
+    /**
+     * 在指定的执行器之上执行下游的元素消费、正常终结和异常终结操作。
+     * <p>上游发送的元素会先进入有界的队列，因此上游的发送线程不会被下游的消费逻辑阻塞。</p>
+     *
+     * @param executor 表示执行器的 {@link ThreadPoolExecutor}，可通过 {@link ThreadPoolExecutors} 获取或创建执行器。
+     * @return 表示下游的元素消费、正常终结和异常终结操作在指定的执行器之上执行的响应式流的 {@link Choir}。
+     */
+    Choir<T> publishOn(ThreadPoolExecutor executor);
+
+    /**
+     * 将数据按照指定大小或指定时间划分窗口，每个窗口作为一个响应式流发送。
+     * <p>窗口的划分规则与 {@link #bufferTimeout(int, long, ThreadPoolScheduler)} 相同，窗口结束之后才会发送，
+     * 因此窗口中的数据已经全部就绪，可以被多次订阅。</p>
+     *
+     * @param size 表示窗口大小的 {@code int}。
+     * @param timeoutMillis 表示窗口超时时间的毫秒数的 {@code long}。
+     * @param scheduler 表示调度窗口超时任务的 {@link ThreadPoolScheduler}。
+     * @return 表示窗口组成的新的响应式流的 {@link Choir}{@code <}{@link Choir}{@code <}{@link T}{@code >>}。
+     * @throws IllegalArgumentException 当 {@code scheduler} 为 {@code null}，或 {@code size}、{@code timeoutMillis}
+     * 小于等于 0 时。
+     */
+    Choir<Choir<T>> window(int size, long timeoutMillis, ThreadPoolScheduler scheduler);
+
     /**
      * 订阅响应式流，并阻塞等待所有结果。
      *
@@ -12,10 +12,12 @@ import modelengine.fitframework.flowable.Solo;
 import modelengine.fitframework.flowable.Subscriber;
 import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.flowable.publisher.BufferPublisherDecorator;
+import modelengine.fitframework.flowable.publisher.BufferTimeoutPublisherDecorator;
+import modelengine.fitframework.flowable.publisher.ConcurrentFlatMapPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.CountPublisherDecorator;
-import modelengine.fitframework.flowable.publisher.FilterPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.FlatMapPublisherDecorator;
-import modelengine.fitframework.flowable.publisher.MapPublisherDecorator;
+import modelengine.fitframework.flowable.publisher.ParallelPublisherDecorator;
+import modelengine.fitframework.flowable.publisher.PublishOnPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.ReducePublisherDecorator;
 import modelengine.fitframework.flowable.publisher.SkipPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.SubscribeOnPublisherDecorator;
@@ -23,6 +25,7 @@ import modelengine.fitframework.flowable.subscriber.BlockAllSubscriber;
 import modelengine.fitframework.flowable.subscriber.FunctionalSubscriber;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
 import modelengine.fitframework.util.ObjectUtils;
 
 import java.util.HashSet;
@@ -47,6 +50,11 @@ public abstract class AbstractChoir<T> implements Choir<T> {
         return Choir.fromPublisher(new BufferPublisherDecorator<>(this, size));
     }
 
+    @Override
+    public Choir<List<T>> bufferTimeout(int size, long timeoutMillis, ThreadPoolScheduler scheduler) {
+        return Choir.fromPublisher(new BufferTimeoutPublisherDecorator<>(this, size, timeoutMillis, scheduler));
+    }
+
     @Override
     public Choir<T> distinct() {
         Set<T> elements = new HashSet<>();
@@ -64,7 +72,7 @@ public abstract class AbstractChoir<T> implements Choir<T> {
 
     @Override
     public Choir<T> filter(Predicate<T> filter) {
-        return Choir.fromPublisher(new FilterPublisherDecorator<>(this, filter));
+        return FusedChoir.filter(this, filter);
     }
 
     @Override
@@ -82,9 +90,17 @@ public abstract class AbstractChoir<T> implements Choir<T> {
         return Choir.fromPublisher(new FlatMapPublisherDecorator<>(this, flatMapper));
     }
 
+    @Override
+    public <R> Choir<R> flatMap(Function<T, Publisher<R>> flatMapper, int maxConcurrency) {
+        return Choir.fromPublisher(new ConcurrentFlatMapPublisherDecorator<>(this,
+                flatMapper,
+                maxConcurrency,
+                ConcurrentFlatMapPublisherDecorator.DEFAULT_PREFETCH));
+    }
+
     @Override
     public <R> Choir<R> map(Function<T, R> mapper) {
-        return Choir.fromPublisher(new MapPublisherDecorator<>(this, mapper));
+        return FusedChoir.map(this, mapper);
     }
 
     @Override
@@ -92,6 +108,23 @@ public abstract class AbstractChoir<T> implements Choir<T> {
         return Choir.fromPublisher(new SubscribeOnPublisherDecorator<>(this, executor, true));
     }
 
+    @Override
+    public Choir<T> publishOn(ThreadPoolExecutor executor) {
+        return Choir.fromPublisher(new PublishOnPublisherDecorator<>(this,
+                executor,
+                PublishOnPublisherDecorator.DEFAULT_PREFETCH));
+    }
+
+    @Override
+    public <R> Choir<R> parallel(int parallelism, ThreadPoolExecutor executor,
+            Function<Choir<T>, Publisher<R>> railMapper) {
+        return Choir.fromPublisher(new ParallelPublisherDecorator<>(this,
+                parallelism,
+                executor,
+                railMapper,
+                ParallelPublisherDecorator.DEFAULT_PREFETCH));
+    }
+
     @Override
     public Solo<T> reduce(BinaryOperator<T> reducer) {
         return Solo.fromPublisher(new ReducePublisherDecorator<>(this, reducer));
@@ -134,6 +167,11 @@ public abstract class AbstractChoir<T> implements Choir<T> {
      */
     protected abstract void subscribe0(@Nonnull Subscriber<T> subscriber);
 
+    @Override
+    public Choir<Choir<T>> window(int size, long timeoutMillis, ThreadPoolScheduler scheduler) {
+        return this.bufferTimeout(size, timeoutMillis, scheduler).map(Choir::fromIterable);
+    }
+
     @Override
     public List<T> blockAll() {
         BlockAllSubscriber<T> subscriber = new BlockAllSubscriber<>();
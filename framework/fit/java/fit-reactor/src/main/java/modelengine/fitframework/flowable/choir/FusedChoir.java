@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.flowable.choir;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.operation.AbstractOperation;
+import modelengine.fitframework.flowable.subscription.AbstractSubscription;
+import modelengine.fitframework.flowable.util.DemandUtils;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 表示将相邻的无状态操作（{@link #map(Function)} 和 {@link #filter(Predicate)}）融合为一个阶段的 {@link Choir} 实现。
+ * <p>相邻的无状态操作会被组合为一个转换函数，因此无论链路多长，每个元素只经过一次订阅者跳转。当数据源为
+ * {@link IterableChoir} 时，融合后的阶段直接从迭代器中同步拉取元素，被过滤的元素不会产生额外的请求。</p>
+ *
+ * @param <S> 表示数据源中数据类型的 {@link S}。
+ * @param <T> 表示响应式流中数据类型的 {@link T}。
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class FusedChoir<S, T> extends AbstractChoir<T> {
+    /** 表示元素被过滤的标记，与 {@code null} 元素区分。 */
+    private static final Object DROPPED = new Object();
+
+    private final Publisher<S> source;
+    private final Iterable<S> iterable;
+    private final Function<S, Object> stage;
+
+    private FusedChoir(Publisher<S> source, Iterable<S> iterable, Function<S, Object> stage) {
+        this.source = source;
+        this.iterable = iterable;
+        this.stage = stage;
+    }
+
+    /**
+     * 创建以指定发布者为数据源的映射阶段。
+     *
+     * @param source 表示数据源的 {@link Publisher}{@code <}{@link S}{@code >}。
+     * @param mapper 表示映射函数的 {@link Function}{@code <}{@link S}{@code , }{@link T}{@code >}。
+     * @param <S> 表示数据源中数据类型的 {@link S}。
+     * @param <T> 表示映射后数据类型的 {@link T}。
+     * @return 表示融合阶段的 {@link FusedChoir}{@code <}{@link S}{@code , }{@link T}{@code >}。
+     * @throws IllegalArgumentException 当 {@code source} 或 {@code mapper} 为 {@code null} 时。
+     */
+    static <S, T> FusedChoir<S, T> map(Publisher<S> source, Function<S, T> mapper) {
+        notNull(source, "The fused source publisher cannot be null.");
+        notNull(mapper, "The mapper cannot be null.");
+        return new FusedChoir<>(source, null, mapper::apply);
+    }
+
+    /**
+     * 创建以指定发布者为数据源的过滤阶段。
+     *
+     * @param source 表示数据源的 {@link Publisher}{@code <}{@link S}{@code >}。
+     * @param filter 表示过滤器的 {@link Predicate}{@code <}{@link S}{@code >}。
+     * @param <S> 表示数据源中数据类型的 {@link S}。
+     * @return 表示融合阶段的 {@link FusedChoir}{@code <}{@link S}{@code , }{@link S}{@code >}。
+     * @throws IllegalArgumentException 当 {@code source} 或 {@code filter} 为 {@code null} 时。
+     */
+    static <S> FusedChoir<S, S> filter(Publisher<S> source, Predicate<S> filter) {
+        notNull(source, "The fused source publisher cannot be null.");
+        return new FusedChoir<>(source, null, filterStage(filter));
+    }
+
+    /**
+     * 创建以指定可迭代对象为数据源的映射阶段。
+     *
+     * @param iterable 表示数据源的 {@link Iterable}{@code <}{@link S}{@code >}。
+     * @param mapper 表示映射函数的 {@link Function}{@code <}{@link S}{@code , }{@link T}{@code >}。
+     * @param <S> 表示数据源中数据类型的 {@link S}。
+     * @param <T> 表示映射后数据类型的 {@link T}。
+     * @return 表示融合阶段的 {@link FusedChoir}{@code <}{@link S}{@code , }{@link T}{@code >}。
+     * @throws IllegalArgumentException 当 {@code iterable} 或 {@code mapper} 为 {@code null} 时。
+     */
+    static <S, T> FusedChoir<S, T> map(Iterable<S> iterable, Function<S, T> mapper) {
+        notNull(iterable, "The fused source iterable cannot be null.");
+        notNull(mapper, "The mapper cannot be null.");
+        return new FusedChoir<>(null, iterable, mapper::apply);
+    }
+
+    /**
+     * 创建以指定可迭代对象为数据源的过滤阶段。
+     *
+     * @param iterable 表示数据源的 {@link Iterable}{@code <}{@link S}{@code >}。
+     * @param filter 表示过滤器的 {@link Predicate}{@code <}{@link S}{@code >}。
+     * @param <S> 表示数据源中数据类型的 {@link S}。
+     * @return 表示融合阶段的 {@link FusedChoir}{@code <}{@link S}{@code , }{@link S}{@code >}。
+     * @throws IllegalArgumentException 当 {@code iterable} 或 {@code filter} 为 {@code null} 时。
+     */
+    static <S> FusedChoir<S, S> filter(Iterable<S> iterable, Predicate<S> filter) {
+        notNull(iterable, "The fused source iterable cannot be null.");
+        return new FusedChoir<>(null, iterable, filterStage(filter));
+    }
+
+    private static <S> Function<S, Object> filterStage(Predicate<S> filter) {
+        notNull(filter, "The filter cannot be null.");
+        return data -> filter.test(data) ? data : DROPPED;
+    }
+
+    @Override
+    public <R> Choir<R> map(Function<T, R> mapper) {
+        notNull(mapper, "The mapper cannot be null.");
+        Function<S, Object> previous = this.stage;
+        return new FusedChoir<>(this.source, this.iterable, data -> {
+            Object value = previous.apply(data);
+            return value == DROPPED ? DROPPED : mapper.apply(ObjectUtils.cast(value));
+        });
+    }
+
+    @Override
+    public Choir<T> filter(Predicate<T> filter) {
+        notNull(filter, "The filter cannot be null.");
+        Function<S, Object> previous = this.stage;
+        return new FusedChoir<>(this.source, this.iterable, data -> {
+            Object value = previous.apply(data);
+            return value == DROPPED || !filter.test(ObjectUtils.cast(value)) ? DROPPED : value;
+        });
+    }
+
+    @Override
+    protected void subscribe0(@Nonnull Subscriber<T> subscriber) {
+        if (this.iterable != null) {
+            subscriber.onSubscribed(new FusedIterableSubscription<>(subscriber, this.iterable.iterator(), this.stage));
+        } else {
+            this.source.subscribe(new FusedOperation<>(this.stage, subscriber));
+        }
+    }
+
+    private static class FusedOperation<S, T> extends AbstractOperation<S, T> {
+        private final Function<S, Object> stage;
+
+        FusedOperation(Function<S, Object> stage, Subscriber<T> subscriber) {
+            super(subscriber);
+            this.stage = stage;
+        }
+
+        @Override
+        protected void consume0(Subscription subscription, S data) {
+            Object result;
+            try {
+                result = this.stage.apply(data);
+            } catch (Exception cause) {
+                this.getPreSubscription().cancel();
+                this.getNextSubscriber().fail(cause);
+                return;
+            }
+            if (result == DROPPED) {
+                this.getPreSubscription().request(1);
+            } else {
+                this.getNextSubscriber().consume(ObjectUtils.cast(result));
+            }
+        }
+    }
+
+    /**
+     * 表示直接从迭代器中同步拉取元素的订阅关系。
+     * <p>仅由将请求数量从 {@code 0} 增加的线程执行发送循环，因此迭代器和转换函数总是被串行调用。</p>
+     */
+    private static class FusedIterableSubscription<S, T> extends AbstractSubscription {
+        private final Subscriber<T> subscriber;
+        private final Iterator<S> iterator;
+        private final Function<S, Object> stage;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean done;
+
+        FusedIterableSubscription(Subscriber<T> subscriber, Iterator<S> iterator, Function<S, Object> stage) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+            this.stage = stage;
+        }
+
+        @Override
+        protected void request0(long count) {
+            if (this.done || DemandUtils.add(this.requested, count) != 0) {
+                return;
+            }
+            this.emit(count);
+        }
+
+        private void emit(long count) {
+            long emitted = 0L;
+            long requestedCount = count;
+            while (true) {
+                while (emitted != requestedCount) {
+                    if (this.isCancelled() || this.done || this.completeIfExhausted()) {
+                        return;
+                    }
+                    try {
+                        Object result = this.stage.apply(this.iterator.next());
+                        if (result != DROPPED) {
+                            emitted++;
+                            this.subscriber.consume(ObjectUtils.cast(result));
+                        }
+                    } catch (Exception cause) {
+                        this.done = true;
+                        this.subscriber.fail(cause);
+                        return;
+                    }
+                }
+                if (this.isCancelled() || this.done || this.completeIfExhausted()) {
+                    return;
+                }
+                requestedCount = this.requested.get();
+                if (requestedCount == emitted) {
+                    requestedCount = DemandUtils.produced(this.requested, emitted);
+                    if (requestedCount == 0L) {
+                        return;
+                    }
+                    emitted = 0L;
+                }
+            }
+        }
+
+        private boolean completeIfExhausted() {
+            boolean hasNext;
+            try {
+                hasNext = this.iterator.hasNext();
+            } catch (Exception cause) {
+                this.done = true;
+                this.subscriber.fail(cause);
+                return true;
+            }
+            if (hasNext) {
+                return false;
+            }
+            this.done = true;
+            this.subscriber.complete();
+            return true;
+        }
+    }
+}
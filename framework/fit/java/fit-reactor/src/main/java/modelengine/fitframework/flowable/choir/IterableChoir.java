@@ -18,6 +18,8 @@ import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * 表示 {@link Choir} 的迭代器实现。
@@ -38,6 +40,16 @@ public class IterableChoir<T> extends AbstractChoir<T> {
         this.iterable = ObjectUtils.getIfNull(iterable, Collections::emptyList);
     }
 
+    @Override
+    public <R> Choir<R> map(Function<T, R> mapper) {
+        return FusedChoir.map(this.iterable, mapper);
+    }
+
+    @Override
+    public Choir<T> filter(Predicate<T> filter) {
+        return FusedChoir.filter(this.iterable, filter);
+    }
+
     @Override
     protected void subscribe0(@Nonnull Subscriber<T> subscriber) {
         subscriber.onSubscribed(new IterableSubscription<>(subscriber, this.iterable.iterator()));
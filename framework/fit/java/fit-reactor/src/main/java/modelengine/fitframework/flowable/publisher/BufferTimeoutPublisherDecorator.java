@@ -0,0 +1,244 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.operation.AbstractOperation;
+import modelengine.fitframework.flowable.util.DemandUtils;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.util.LockUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示 {@link Publisher} 的将数据按指定大小或指定时间进行分组的实现。
+ * <p>分组在元素数量达到指定大小，或自分组的第一个元素到达起经过指定时间时结束，二者以先到者为准，因此低流量时元素的等待时间有上限。
+ * 结束的分组先进入无锁队列，再按照下游的请求数量发送给下游。下游每请求一个分组，向上游请求指定大小个元素，由于超时结束的分组
+ * 不足指定大小，队列中的分组数量不会超过向上游请求的元素数量，因此队列是有界的。上游异常终结时，未发送的分组被丢弃，
+ * 下游立即收到异常。</p>
+ *
+ * @param <T> 表示发布者中数据类型的 {@link T}。
+ * @author 何天放
+ * @since 2026-10-19
+ */
+public class BufferTimeoutPublisherDecorator<T> implements Publisher<List<T>> {
+    private final Publisher<T> decorated;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ThreadPoolScheduler scheduler;
+
+    /**
+     * 使用指定的发布者、分组大小、分组超时时间和调度器初始化 {@link BufferTimeoutPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param bufferSize 表示分组大小的 {@code int}。
+     * @param timeoutMillis 表示分组超时时间的毫秒数的 {@code long}。
+     * @param scheduler 表示调度分组超时任务的 {@link ThreadPoolScheduler}。
+     * @throws IllegalArgumentException 当 {@code decorated} 或 {@code scheduler} 为 {@code null}，或 {@code bufferSize}、
+     * {@code timeoutMillis} 小于等于 0 时。
+     */
+    public BufferTimeoutPublisherDecorator(Publisher<T> decorated, int bufferSize, long timeoutMillis,
+            ThreadPoolScheduler scheduler) {
+        this.decorated = notNull(decorated, "The decorated buffer timeout publisher cannot be null.");
+        this.bufferSize = greaterThan(bufferSize, 0, "The buffer size must be positive. [bufferSize={0}]", bufferSize);
+        this.timeoutMillis = greaterThan(timeoutMillis,
+                0L,
+                "The buffer timeout must be positive. [timeoutMillis={0}]",
+                timeoutMillis);
+        this.scheduler = notNull(scheduler, "The scheduler cannot be null.");
+    }
+
+    @Override
+    public void subscribe(Subscriber<List<T>> subscriber) {
+        this.decorated.subscribe(new BufferTimeoutOperation<>(subscriber,
+                this.bufferSize,
+                this.timeoutMillis,
+                this.scheduler));
+    }
+
+    private static class BufferTimeoutOperation<T> extends AbstractOperation<T, List<T>> {
+        private final int bufferSize;
+        private final long timeoutMillis;
+        private final ThreadPoolScheduler scheduler;
+        private final Object lock = LockUtils.newSynchronizedLock();
+        private final Queue<List<T>> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean done;
+        private volatile Exception error;
+
+        /** 以下字段由 {@link #lock} 保护。 */
+        private List<T> buffer;
+        private long generation;
+        private ScheduledFuture<?> timeout;
+
+        /** 仅在排空循环中访问，由 {@link #wip} 保证可见性。 */
+        private boolean terminated;
+
+        BufferTimeoutOperation(Subscriber<List<T>> subscriber, int bufferSize, long timeoutMillis,
+                ThreadPoolScheduler scheduler) {
+            super(subscriber);
+            this.bufferSize = bufferSize;
+            this.timeoutMillis = timeoutMillis;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        protected void request0(long count) {
+            DemandUtils.add(this.requested, count);
+            long elements = count > Long.MAX_VALUE / this.bufferSize ? Long.MAX_VALUE : count * this.bufferSize;
+            this.getPreSubscription().request(elements);
+            this.drain();
+        }
+
+        @Override
+        protected void cancel0() {
+            super.cancel0();
+            this.close(false);
+            this.drain();
+        }
+
+        @Override
+        protected void consume0(Subscription subscription, T data) {
+            synchronized (this.lock) {
+                if (this.buffer == null) {
+                    this.buffer = new ArrayList<>(this.bufferSize);
+                    long current = ++this.generation;
+                    this.timeout = this.scheduler.schedule(Task.builder()
+                            .runnable(() -> this.onTimeout(current))
+                            .build(), this.timeoutMillis);
+                }
+                this.buffer.add(data);
+                if (this.buffer.size() < this.bufferSize) {
+                    return;
+                }
+                this.flush();
+            }
+            this.drain();
+        }
+
+        @Override
+        protected void complete0(Subscription subscription) {
+            this.close(true);
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        protected void fail0(Subscription subscription, Exception cause) {
+            this.close(false);
+            this.error = cause;
+            this.done = true;
+            this.drain();
+        }
+
+        private void onTimeout(long expected) {
+            synchronized (this.lock) {
+                if (this.generation != expected || this.buffer == null) {
+                    return;
+                }
+                this.flush();
+            }
+            this.drain();
+        }
+
+        private void close(boolean shouldFlush) {
+            synchronized (this.lock) {
+                if (this.buffer == null) {
+                    return;
+                }
+                if (shouldFlush) {
+                    this.flush();
+                } else {
+                    this.buffer = null;
+                    this.timeout.cancel(false);
+                }
+            }
+        }
+
+        /**
+         * 结束当前分组并放入待发送的队列，调用方需要持有 {@link #lock}。
+         */
+        private void flush() {
+            this.ready.offer(this.buffer);
+            this.buffer = null;
+            this.timeout.cancel(false);
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            Subscriber<List<T>> next = this.getNextSubscriber();
+            while (true) {
+                long requestedCount = this.requested.get();
+                long emitted = 0L;
+                while (emitted != requestedCount) {
+                    if (this.isStopped()) {
+                        return;
+                    }
+                    List<T> element = this.ready.poll();
+                    if (element == null) {
+                        break;
+                    }
+                    next.consume(element);
+                    emitted++;
+                }
+                if (this.isStopped()) {
+                    return;
+                }
+                if (emitted != 0L) {
+                    DemandUtils.produced(this.requested, emitted);
+                }
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isStopped() {
+            if (this.terminated) {
+                return true;
+            }
+            if (this.isCancelled()) {
+                this.terminated = true;
+                this.ready.clear();
+                return true;
+            }
+            if (!this.done) {
+                return false;
+            }
+            Exception cause = this.error;
+            if (cause != null) {
+                this.terminated = true;
+                this.ready.clear();
+                this.getNextSubscriber().fail(cause);
+                return true;
+            }
+            if (this.ready.isEmpty()) {
+                this.terminated = true;
+                this.getNextSubscriber().complete();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.operation.AbstractOperation;
+import modelengine.fitframework.flowable.util.DemandUtils;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 表示 {@link Publisher} 的并发扁平映射的实现。
+ * <p>与 {@link FlatMapPublisherDecorator} 依次订阅每个转换后的发布者不同，该实现最多同时订阅指定数量的内部发布者，
+ * 内部发布者发送的元素先进入各自的无锁队列，再由排空循环按照下游的请求数量合并发送给下游，因此下游的消费是串行的，
+ * 而元素之间的顺序取决于内部发布者发送的先后。每个内部发布者以预取数量为上限向其请求元素，每当一个内部发布者结束，
+ * 再向上游请求一个元素。</p>
+ *
+ * @param <T> 表示上游发布者中数据类型的 {@link T}。
+ * @param <R> 表示转换后的发布者中数据类型的 {@link R}。
+ * @author 何天放
+ * @since 2026-10-19
+ */
+public class ConcurrentFlatMapPublisherDecorator<T, R> implements Publisher<R> {
+    /** 表示每个内部发布者默认的预取数量。 */
+    public static final int DEFAULT_PREFETCH = 32;
+
+    private final Publisher<T> decorated;
+    private final Function<T, Publisher<R>> flatMapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    /**
+     * 使用指定的发布者、扁平映射函数、最大并发数量和预取数量初始化 {@link ConcurrentFlatMapPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param flatMapper 表示扁平映射函数的 {@link Function}{@code <}{@link T}, {@link Publisher}{@code <}{@link R}{@code >>}。
+     * @param maxConcurrency 表示同时订阅的内部发布者的最大数量的 {@code int}。
+     * @param prefetch 表示每个内部发布者的预取数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code decorated} 或 {@code flatMapper} 为 {@code null}，或
+     * {@code maxConcurrency}、{@code prefetch} 小于等于 0 时。
+     */
+    public ConcurrentFlatMapPublisherDecorator(Publisher<T> decorated, Function<T, Publisher<R>> flatMapper,
+            int maxConcurrency, int prefetch) {
+        this.decorated = notNull(decorated, "The decorated flat map publisher cannot be null.");
+        this.flatMapper = notNull(flatMapper, "The flat mapper cannot be null.");
+        this.maxConcurrency = greaterThan(maxConcurrency,
+                0,
+                "The max concurrency must be positive. [maxConcurrency={0}]",
+                maxConcurrency);
+        this.prefetch = greaterThan(prefetch, 0, "The prefetch must be positive. [prefetch={0}]", prefetch);
+    }
+
+    @Override
+    public void subscribe(Subscriber<R> subscriber) {
+        this.decorated.subscribe(new ConcurrentFlatMapOperation<>(subscriber,
+                this.flatMapper,
+                this.maxConcurrency,
+                this.prefetch));
+    }
+
+    private static class ConcurrentFlatMapOperation<T, R> extends AbstractOperation<T, R> {
+        private final Function<T, Publisher<R>> flatMapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+        private final Set<InnerSubscriber<R>> inners = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Exception> error = new AtomicReference<>();
+        private volatile boolean done;
+
+        /** 仅在排空循环中访问，由 {@link #wip} 保证可见性。 */
+        private boolean terminated;
+
+        ConcurrentFlatMapOperation(Subscriber<R> subscriber, Function<T, Publisher<R>> flatMapper, int maxConcurrency,
+                int prefetch) {
+            super(subscriber);
+            this.flatMapper = flatMapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        protected void onSubscribed0(Subscription subscription) {
+            super.onSubscribed0(subscription);
+            subscription.request(this.isUnbounded() ? Long.MAX_VALUE : this.maxConcurrency);
+        }
+
+        @Override
+        protected void request0(long count) {
+            DemandUtils.add(this.requested, count);
+            this.drain();
+        }
+
+        @Override
+        protected void cancel0() {
+            super.cancel0();
+            this.inners.forEach(InnerSubscriber::cancel);
+            this.drain();
+        }
+
+        @Override
+        protected void consume0(Subscription subscription, T data) {
+            Publisher<R> publisher;
+            try {
+                publisher = notNull(this.flatMapper.apply(data), "The flat mapped publisher cannot be null.");
+            } catch (Exception cause) {
+                this.getPreSubscription().cancel();
+                this.onInnerFailed(cause);
+                return;
+            }
+            InnerSubscriber<R> inner = new InnerSubscriber<>(this, this.prefetch);
+            this.inners.add(inner);
+            publisher.subscribe(inner);
+        }
+
+        @Override
+        protected void complete0(Subscription subscription) {
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        protected void fail0(Subscription subscription, Exception cause) {
+            this.onInnerFailed(cause);
+        }
+
+        void onInnerFailed(Exception cause) {
+            this.error.compareAndSet(null, cause);
+            this.done = true;
+            this.drain();
+        }
+
+        void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            Subscriber<R> next = this.getNextSubscriber();
+            while (true) {
+                if (this.isStopped()) {
+                    return;
+                }
+                boolean isUpstreamDone = this.done;
+                long requestedCount = this.requested.get();
+                long emitted = 0L;
+                int finishedInners = 0;
+                for (InnerSubscriber<R> inner : this.inners) {
+                    while (emitted != requestedCount) {
+                        Object element = inner.queue.poll();
+                        if (element == null) {
+                            break;
+                        }
+                        next.consume(ObjectUtils.cast(DemandUtils.unwrap(element)));
+                        emitted++;
+                        inner.replenish();
+                        if (this.isStopped()) {
+                            return;
+                        }
+                    }
+                    if (inner.done && inner.queue.isEmpty()) {
+                        this.inners.remove(inner);
+                        finishedInners++;
+                    }
+                }
+                if (emitted != 0L) {
+                    DemandUtils.produced(this.requested, emitted);
+                }
+                if (isUpstreamDone && this.inners.isEmpty()) {
+                    this.terminated = true;
+                    next.complete();
+                    return;
+                }
+                if (finishedInners > 0 && !isUpstreamDone && !this.isUnbounded()) {
+                    this.getPreSubscription().request(finishedInners);
+                }
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isUnbounded() {
+            return this.maxConcurrency == Integer.MAX_VALUE;
+        }
+
+        private boolean isStopped() {
+            if (this.terminated) {
+                return true;
+            }
+            if (this.isCancelled()) {
+                this.terminated = true;
+                this.inners.forEach(inner -> inner.queue.clear());
+                this.inners.clear();
+                return true;
+            }
+            Exception cause = this.error.get();
+            if (cause != null) {
+                this.terminated = true;
+                this.getPreSubscription().cancel();
+                this.inners.forEach(InnerSubscriber::cancel);
+                this.inners.clear();
+                this.getNextSubscriber().fail(cause);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static class InnerSubscriber<R> implements Subscriber<R> {
+        private final ConcurrentFlatMapOperation<?, R> parent;
+        private final int prefetch;
+        private final int limit;
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private volatile Subscription subscription;
+        private volatile boolean done;
+        private volatile boolean failed;
+
+        /** 仅在排空循环中访问。 */
+        private long consumed;
+
+        InnerSubscriber(ConcurrentFlatMapOperation<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onSubscribed(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(this.prefetch);
+        }
+
+        @Override
+        public void consume(R data) {
+            this.queue.offer(DemandUtils.wrap(data));
+            this.parent.drain();
+        }
+
+        @Override
+        public void complete() {
+            this.done = true;
+            this.parent.drain();
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return this.done && !this.failed;
+        }
+
+        @Override
+        public void fail(Exception cause) {
+            this.failed = true;
+            this.done = true;
+            this.parent.onInnerFailed(cause);
+        }
+
+        @Override
+        public boolean isFailed() {
+            return this.failed;
+        }
+
+        void replenish() {
+            if (++this.consumed == this.limit) {
+                this.consumed = 0L;
+                this.subscription.request(this.limit);
+            }
+        }
+
+        void cancel() {
+            Subscription actual = this.subscription;
+            if (actual != null) {
+                actual.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.util.DemandUtils;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 表示 {@link Publisher} 的并行处理的实现。
+ * <p>上游的元素被分发到指定数量的通道上，每个通道在指定的执行器上依次处理其中的元素，通道上的处理逻辑由通道转换函数指定，
+ * 各通道处理后的元素按照到达的先后合并发送给下游，因此下游收到的元素顺序与上游不一定一致。</p>
+ * <p>上游的元素先进入所有通道共享的无锁队列，每个通道的排空任务按照其下游的请求数量从共享队列中逐个取出元素处理，
+ * 处理较快的通道会取出更多的元素，从而使各通道的负载保持均衡。对上游的请求数量以预取数量为上限，每消费预取数量的
+ * {@code 3/4} 后补充请求，从而保证共享队列有界。所有通道都被订阅之后才订阅上游，所有通道都被取消之后才取消上游。</p>
+ *
+ * @param <T> 表示上游发布者中数据类型的 {@link T}。
+ * @param <R> 表示通道处理后的数据类型的 {@link R}。
+ * @author 何天放
+ * @since 2026-10-19
+ */
+public class ParallelPublisherDecorator<T, R> implements Publisher<R> {
+    /** 表示默认的预取数量。 */
+    public static final int DEFAULT_PREFETCH = 256;
+
+    private final Publisher<T> decorated;
+    private final int parallelism;
+    private final ThreadPoolExecutor executor;
+    private final Function<Choir<T>, Publisher<R>> railMapper;
+    private final int prefetch;
+
+    /**
+     * 使用指定的发布者、通道数量、执行器、通道转换函数和预取数量初始化 {@link ParallelPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param parallelism 表示通道数量的 {@code int}。
+     * @param executor 表示通道处理元素所在的执行器的 {@link ThreadPoolExecutor}。
+     * @param railMapper 表示通道转换函数的
+     * {@link Function}{@code <}{@link Choir}{@code <}{@link T}{@code >, }{@link Publisher}{@code <}{@link R}{@code >>}。
+     * @param prefetch 表示向上游预取的元素数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code decorated}、{@code executor} 或 {@code railMapper} 为 {@code null}，或
+     * {@code parallelism}、{@code prefetch} 小于等于 0 时。
+     */
+    public ParallelPublisherDecorator(Publisher<T> decorated, int parallelism, ThreadPoolExecutor executor,
+            Function<Choir<T>, Publisher<R>> railMapper, int prefetch) {
+        this.decorated = notNull(decorated, "The decorated parallel publisher cannot be null.");
+        this.parallelism = greaterThan(parallelism,
+                0,
+                "The parallelism must be positive. [parallelism={0}]",
+                parallelism);
+        this.executor = notNull(executor, "The executor cannot be null.");
+        this.railMapper = notNull(railMapper, "The rail mapper cannot be null.");
+        this.prefetch = greaterThan(prefetch, 0, "The prefetch must be positive. [prefetch={0}]", prefetch);
+    }
+
+    @Override
+    public void subscribe(Subscriber<R> subscriber) {
+        RailSource<T> source = new RailSource<>(this.decorated, this.parallelism, this.executor, this.prefetch);
+        List<Publisher<R>> rails = new ArrayList<>(this.parallelism);
+        for (Rail<T> rail : source.rails) {
+            rails.add(notNull(this.railMapper.apply(Choir.fromPublisher(rail)), "The rail publisher cannot be null."));
+        }
+        Choir.fromIterable(rails).flatMap(Function.identity(), this.parallelism).subscribe(subscriber);
+    }
+
+    private static class RailSource<T> implements Subscriber<T> {
+        private final Publisher<T> decorated;
+        private final List<Rail<T>> rails;
+        private final int prefetch;
+        private final int limit;
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger subscribedRails = new AtomicInteger();
+        private final AtomicInteger cancelledRails = new AtomicInteger();
+        private final AtomicLong consumed = new AtomicLong();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile Subscription subscription;
+        private volatile boolean done;
+        private volatile Exception error;
+
+        RailSource(Publisher<T> decorated, int parallelism, ThreadPoolExecutor executor, int prefetch) {
+            this.decorated = decorated;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.rails = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                this.rails.add(new Rail<>(this, executor));
+            }
+        }
+
+        void onRailSubscribed() {
+            if (this.subscribedRails.incrementAndGet() == this.rails.size()) {
+                this.decorated.subscribe(this);
+            }
+        }
+
+        void onRailCancelled() {
+            if (this.cancelledRails.incrementAndGet() != this.rails.size()) {
+                return;
+            }
+            this.cancelled.set(true);
+            Subscription actual = this.subscription;
+            if (actual != null) {
+                actual.cancel();
+            }
+            this.queue.clear();
+        }
+
+        void onRailConsumed() {
+            if (this.consumed.incrementAndGet() % this.limit == 0 && !this.done) {
+                this.subscription.request(this.limit);
+            }
+        }
+
+        @Override
+        public void onSubscribed(Subscription subscription) {
+            this.subscription = subscription;
+            if (this.cancelled.get()) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(this.prefetch);
+        }
+
+        @Override
+        public void consume(T data) {
+            this.queue.offer(DemandUtils.wrap(data));
+            for (Rail<T> rail : this.rails) {
+                if (rail.hasDemand()) {
+                    rail.schedule();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            this.done = true;
+            this.rails.forEach(Rail::schedule);
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return this.done && this.error == null;
+        }
+
+        @Override
+        public void fail(Exception cause) {
+            this.error = cause;
+            this.done = true;
+            this.rails.forEach(Rail::schedule);
+        }
+
+        @Override
+        public boolean isFailed() {
+            return this.error != null;
+        }
+    }
+
+    private static class Rail<T> implements Publisher<T>, Subscription {
+        private final RailSource<T> source;
+        private final ThreadPoolExecutor executor;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile Subscriber<T> subscriber;
+
+        /** 仅在排空任务中访问，由 {@link #wip} 保证可见性。 */
+        private boolean terminated;
+
+        Rail(RailSource<T> source, ThreadPoolExecutor executor) {
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        public void subscribe(Subscriber<T> subscriber) {
+            notNull(subscriber, "The rail subscriber cannot be null.");
+            if (!this.subscribed.compareAndSet(false, true)) {
+                throw new IllegalStateException("The rail can only be subscribed once.");
+            }
+            this.subscriber = subscriber;
+            subscriber.onSubscribed(this);
+            this.source.onRailSubscribed();
+        }
+
+        @Override
+        public void request(long count) {
+            greaterThan(count, 0, "The number of elements to request must be positive. [count={0}]", count);
+            if (this.cancelled.get()) {
+                return;
+            }
+            DemandUtils.add(this.requested, count);
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (!this.cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            this.source.onRailCancelled();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled.get();
+        }
+
+        boolean hasDemand() {
+            return this.requested.get() > 0L;
+        }
+
+        void schedule() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            this.executor.execute(Task.builder().runnable(this::drain).buildDisposable());
+        }
+
+        private void drain() {
+            int missed = 1;
+            Subscriber<T> next = this.subscriber;
+            while (true) {
+                long requestedCount = this.requested.get();
+                long emitted = 0L;
+                while (emitted != requestedCount) {
+                    if (this.isStopped()) {
+                        return;
+                    }
+                    Object element = this.source.queue.poll();
+                    if (element == null) {
+                        break;
+                    }
+                    next.consume(ObjectUtils.cast(DemandUtils.unwrap(element)));
+                    emitted++;
+                    this.source.onRailConsumed();
+                }
+                if (this.isStopped()) {
+                    return;
+                }
+                if (emitted != 0L) {
+                    DemandUtils.produced(this.requested, emitted);
+                }
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isStopped() {
+            if (this.terminated) {
+                return true;
+            }
+            if (this.cancelled.get()) {
+                this.terminated = true;
+                return true;
+            }
+            if (!this.source.done) {
+                return false;
+            }
+            Exception cause = this.source.error;
+            if (cause != null) {
+                this.terminated = true;
+                this.subscriber.fail(cause);
+                return true;
+            }
+            if (this.source.queue.isEmpty()) {
+                this.terminated = true;
+                this.subscriber.complete();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.operation.AbstractOperation;
+import modelengine.fitframework.flowable.util.DemandUtils;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示 {@link Publisher} 的切换下游消费执行器的实现。
+ * <p>上游发送的元素先进入无锁队列，再由指定执行器上的排空任务按照下游的请求数量依次发送给下游，因此上游的发送线程不会被下游的消费逻辑阻塞。
+ * 对上游的请求数量以预取数量为上限，每消费预取数量的 {@code 3/4} 后补充请求，从而保证队列有界。</p>
+ *
+ * @param <T> 表示发布者中数据类型的 {@link T}。
+ * @author 何天放
+ * @since 2026-10-19
+ */
+public class PublishOnPublisherDecorator<T> implements Publisher<T> {
+    /** 表示默认的预取数量。 */
+    public static final int DEFAULT_PREFETCH = 256;
+
+    private final Publisher<T> decorated;
+    private final ThreadPoolExecutor executor;
+    private final int prefetch;
+
+    /**
+     * 使用指定的发布者、线程池执行器和预取数量初始化 {@link PublishOnPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param executor 表示下游消费所在的线程池执行器的 {@link ThreadPoolExecutor}。
+     * @param prefetch 表示向上游预取的元素数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code decorated} 或 {@code executor} 为 {@code null}，或 {@code prefetch}
+     * 小于等于 0 时。
+     */
+    public PublishOnPublisherDecorator(Publisher<T> decorated, ThreadPoolExecutor executor, int prefetch) {
+        this.decorated = notNull(decorated, "The decorated publish on publisher cannot be null.");
+        this.executor = notNull(executor, "The executor cannot be null.");
+        this.prefetch = greaterThan(prefetch, 0, "The prefetch must be positive. [prefetch={0}]", prefetch);
+    }
+
+    @Override
+    public void subscribe(Subscriber<T> subscriber) {
+        this.decorated.subscribe(new PublishOnOperation<>(subscriber, this.executor, this.prefetch));
+    }
+
+    private static class PublishOnOperation<T> extends AbstractOperation<T, T> {
+        private final ThreadPoolExecutor executor;
+        private final int prefetch;
+        private final int limit;
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean done;
+        private volatile Exception error;
+
+        /** 以下字段仅在排空任务中访问，由 {@link #wip} 保证可见性。 */
+        private long consumed;
+        private boolean terminated;
+
+        PublishOnOperation(Subscriber<T> subscriber, ThreadPoolExecutor executor, int prefetch) {
+            super(subscriber);
+            this.executor = executor;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        protected void onSubscribed0(Subscription subscription) {
+            super.onSubscribed0(subscription);
+            subscription.request(this.prefetch);
+        }
+
+        @Override
+        protected void request0(long count) {
+            DemandUtils.add(this.requested, count);
+            this.schedule();
+        }
+
+        @Override
+        protected void cancel0() {
+            super.cancel0();
+            this.schedule();
+        }
+
+        @Override
+        protected void consume0(Subscription subscription, T data) {
+            this.queue.offer(DemandUtils.wrap(data));
+            this.schedule();
+        }
+
+        @Override
+        protected void complete0(Subscription subscription) {
+            this.done = true;
+            this.schedule();
+        }
+
+        @Override
+        protected void fail0(Subscription subscription, Exception cause) {
+            this.error = cause;
+            this.done = true;
+            this.schedule();
+        }
+
+        private void schedule() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            this.executor.execute(Task.builder().runnable(this::drain).buildDisposable());
+        }
+
+        private void drain() {
+            int missed = 1;
+            Subscriber<T> next = this.getNextSubscriber();
+            while (true) {
+                long requestedCount = this.requested.get();
+                long emitted = 0L;
+                while (emitted != requestedCount) {
+                    if (this.isStopped()) {
+                        return;
+                    }
+                    Object element = this.queue.poll();
+                    if (element == null) {
+                        break;
+                    }
+                    next.consume(ObjectUtils.cast(DemandUtils.unwrap(element)));
+                    emitted++;
+                    if (++this.consumed == this.limit) {
+                        this.consumed = 0L;
+                        this.getPreSubscription().request(this.limit);
+                    }
+                }
+                if (this.isStopped()) {
+                    return;
+                }
+                if (emitted != 0L) {
+                    DemandUtils.produced(this.requested, emitted);
+                }
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isStopped() {
+            if (this.terminated) {
+                this.queue.clear();
+                return true;
+            }
+            if (this.isCancelled()) {
+                this.terminated = true;
+                this.queue.clear();
+                return true;
+            }
+            if (!this.done) {
+                return false;
+            }
+            Exception cause = this.error;
+            if (cause != null) {
+                this.terminated = true;
+                this.queue.clear();
+                this.getNextSubscriber().fail(cause);
+                return true;
+            }
+            if (this.queue.isEmpty()) {
+                this.terminated = true;
+                this.getNextSubscriber().complete();
+                return true;
+            }
+            return false;
+        }
+    }
+}
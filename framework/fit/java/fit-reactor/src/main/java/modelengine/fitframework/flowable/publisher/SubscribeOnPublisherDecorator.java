@@ -10,9 +10,9 @@ import modelengine.fitframework.flowable.Publisher;
 import modelengine.fitframework.flowable.Subscriber;
 import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.flowable.operation.AbstractOperation;
+import modelengine.fitframework.flowable.util.DemandUtils;
 import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
-import modelengine.fitframework.util.LockUtils;
 
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -57,7 +57,6 @@ public class SubscribeOnPublisherDecorator<T> implements Publisher<T> {
         private final boolean requestOnSeparateThread;
         private final AtomicReference<Subscription> subscription = new AtomicReference<>();
         private final AtomicLong requested = new AtomicLong();
-        private final Object lock = LockUtils.newSynchronizedLock();
 
         SubscribeOnOperation(Publisher<T> publisher, Subscriber<T> subscriber, ThreadPoolExecutor executor,
                 boolean requestOnSeparateThread) {
@@ -69,29 +68,29 @@ public class SubscribeOnPublisherDecorator<T> implements Publisher<T> {
 
         @Override
         protected void request0(long count) {
-            synchronized (this.lock) {
-                if (this.subscription.get() == null) {
-                    this.requested.addAndGet(count);
-                    return;
-                }
+            if (this.subscription.get() != null) {
+                this.requestUpstream(count);
+                return;
+            }
+            DemandUtils.add(this.requested, count);
+            // 上游的订阅关系可能在累加请求数量的同时建立，此时需要由当前线程取走尚未转发的请求数量。
+            if (this.subscription.get() != null) {
+                this.requestPending();
             }
-            this.requestUpstream(count);
         }
 
         @Override
         protected void onSubscribed0(Subscription subscription) {
-            long count;
-            synchronized (this.lock) {
-                if (this.subscription.compareAndSet(null, subscription)) {
-                    count = this.requested.getAndSet(0L);
-                } else {
-                    return;
-                }
+            if (this.subscription.compareAndSet(null, subscription)) {
+                this.requestPending();
             }
-            if (count == 0) {
-                return;
+        }
+
+        private void requestPending() {
+            long count = this.requested.getAndSet(0L);
+            if (count > 0) {
+                this.requestUpstream(count);
             }
-            this.requestUpstream(count);
         }
 
         @Override
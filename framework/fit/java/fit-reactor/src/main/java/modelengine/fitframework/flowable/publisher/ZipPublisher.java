@@ -0,0 +1,291 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.util.DemandUtils;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * 表示将两个 {@link Publisher} 的元素按照顺序两两组合的实现。
+ * <p>两个发布者发送的元素先进入各自的无锁队列，再由排空循环按照下游的请求数量，每次从两个队列中各取出一个元素进行组合后发送给下游。
+ * 每个发布者以预取数量为上限向其请求元素，每消费预取数量的 {@code 3/4} 后补充请求。任意一个发布者结束且其队列为空时，
+ * 不会再有新的组合，因此取消另一个发布者并正常终结。</p>
+ *
+ * @param <T1> 表示第一个发布者中数据类型的 {@link T1}。
+ * @param <T2> 表示第二个发布者中数据类型的 {@link T2}。
+ * @param <R> 表示组合后的数据类型的 {@link R}。
+ * @author 何天放
+ * @since 2026-10-19
+ */
+public class ZipPublisher<T1, T2, R> implements Publisher<R> {
+    /** 表示每个发布者默认的预取数量。 */
+    public static final int DEFAULT_PREFETCH = 32;
+
+    private final Publisher<T1> first;
+    private final Publisher<T2> second;
+    private final BiFunction<T1, T2, R> zipper;
+    private final int prefetch;
+
+    /**
+     * 使用指定的两个发布者、组合函数和预取数量初始化 {@link ZipPublisher} 的新实例。
+     *
+     * @param first 表示第一个发布者的 {@link Publisher}{@code <}{@link T1}{@code >}。
+     * @param second 表示第二个发布者的 {@link Publisher}{@code <}{@link T2}{@code >}。
+     * @param zipper 表示组合函数的
+     * {@link BiFunction}{@code <}{@link T1}{@code , }{@link T2}{@code , }{@link R}{@code >}。
+     * @param prefetch 表示每个发布者的预取数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code first}、{@code second} 或 {@code zipper} 为 {@code null}，或
+     * {@code prefetch} 小于等于 0 时。
+     */
+    public ZipPublisher(Publisher<T1> first, Publisher<T2> second, BiFunction<T1, T2, R> zipper, int prefetch) {
+        this.first = notNull(first, "The first zip publisher cannot be null.");
+        this.second = notNull(second, "The second zip publisher cannot be null.");
+        this.zipper = notNull(zipper, "The zipper cannot be null.");
+        this.prefetch = greaterThan(prefetch, 0, "The prefetch must be positive. [prefetch={0}]", prefetch);
+    }
+
+    @Override
+    public void subscribe(Subscriber<R> subscriber) {
+        ZipCoordinator<T1, T2, R> coordinator = new ZipCoordinator<>(subscriber, this.zipper, this.prefetch);
+        subscriber.onSubscribed(coordinator);
+        this.first.subscribe(coordinator.first);
+        this.second.subscribe(coordinator.second);
+    }
+
+    private static class ZipCoordinator<T1, T2, R> implements Subscription {
+        private final Subscriber<R> next;
+        private final BiFunction<T1, T2, R> zipper;
+        private final ZipInner<T1> first;
+        private final ZipInner<T2> second;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicReference<Exception> error = new AtomicReference<>();
+
+        /** 仅在排空循环中访问，由 {@link #wip} 保证可见性。 */
+        private boolean terminated;
+
+        ZipCoordinator(Subscriber<R> next, BiFunction<T1, T2, R> zipper, int prefetch) {
+            this.next = notNull(next, "The next subscriber cannot be null.");
+            this.zipper = zipper;
+            this.first = new ZipInner<>(this, prefetch);
+            this.second = new ZipInner<>(this, prefetch);
+        }
+
+        @Override
+        public void request(long count) {
+            greaterThan(count, 0, "The number of elements to request must be positive. [count={0}]", count);
+            if (this.cancelled.get()) {
+                return;
+            }
+            DemandUtils.add(this.requested, count);
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!this.cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            this.first.cancel();
+            this.second.cancel();
+            this.drain();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled.get();
+        }
+
+        void onInnerFailed(Exception cause) {
+            this.error.compareAndSet(null, cause);
+            this.drain();
+        }
+
+        void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                long requestedCount = this.requested.get();
+                long emitted = 0L;
+                while (emitted != requestedCount) {
+                    if (this.isStopped()) {
+                        return;
+                    }
+                    Object left = this.first.queue.peek();
+                    Object right = this.second.queue.peek();
+                    if (left == null || right == null) {
+                        break;
+                    }
+                    this.first.queue.poll();
+                    this.second.queue.poll();
+                    R zipped;
+                    try {
+                        zipped = this.zipper.apply(ObjectUtils.cast(DemandUtils.unwrap(left)),
+                                ObjectUtils.cast(DemandUtils.unwrap(right)));
+                    } catch (Exception cause) {
+                        this.error.compareAndSet(null, cause);
+                        continue;
+                    }
+                    this.next.consume(zipped);
+                    emitted++;
+                    this.first.replenish();
+                    this.second.replenish();
+                }
+                if (this.isStopped()) {
+                    return;
+                }
+                if (emitted != 0L) {
+                    DemandUtils.produced(this.requested, emitted);
+                }
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isStopped() {
+            if (this.terminated) {
+                return true;
+            }
+            if (this.cancelled.get()) {
+                this.terminate();
+                return true;
+            }
+            Exception cause = this.error.get();
+            if (cause != null) {
+                this.terminate();
+                this.next.fail(cause);
+                return true;
+            }
+            if (this.first.isExhausted() || this.second.isExhausted()) {
+                this.terminate();
+                this.next.complete();
+                return true;
+            }
+            return false;
+        }
+
+        private void terminate() {
+            this.terminated = true;
+            this.first.cancel();
+            this.second.cancel();
+            this.first.queue.clear();
+            this.second.queue.clear();
+        }
+    }
+
+    private static class ZipInner<T> implements Subscriber<T> {
+        private final ZipCoordinator<?, ?, ?> parent;
+        private final int prefetch;
+        private final int limit;
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        private volatile boolean done;
+        private volatile boolean failed;
+
+        /** 仅在排空循环中访问。 */
+        private long consumed;
+
+        ZipInner(ZipCoordinator<?, ?, ?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onSubscribed(Subscription subscription) {
+            if (!this.subscription.compareAndSet(null, subscription)) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(this.prefetch);
+        }
+
+        @Override
+        public void consume(T data) {
+            this.queue.offer(DemandUtils.wrap(data));
+            this.parent.drain();
+        }
+
+        @Override
+        public void complete() {
+            this.done = true;
+            this.parent.drain();
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return this.done && !this.failed;
+        }
+
+        @Override
+        public void fail(Exception cause) {
+            this.failed = true;
+            this.done = true;
+            this.parent.onInnerFailed(cause);
+        }
+
+        @Override
+        public boolean isFailed() {
+            return this.failed;
+        }
+
+        boolean isExhausted() {
+            return this.done && this.queue.isEmpty();
+        }
+
+        void replenish() {
+            if (++this.consumed == this.limit) {
+                this.consumed = 0L;
+                this.subscription.get().request(this.limit);
+            }
+        }
+
+        void cancel() {
+            Subscription actual = this.subscription.getAndSet(CancelledSubscription.INSTANCE);
+            if (actual != null) {
+                actual.cancel();
+            }
+        }
+    }
+
+    /**
+     * 表示已经取消的订阅关系，用于在订阅关系建立之前取消时，使之后建立的订阅关系被立即取消。
+     */
+    private enum CancelledSubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long count) {}
+
+        @Override
+        public void cancel() {}
+
+        @Override
+        public boolean isCancelled() {
+            return true;
+        }
+    }
+}
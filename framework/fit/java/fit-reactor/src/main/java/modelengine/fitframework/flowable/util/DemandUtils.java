@@ -0,0 +1,94 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 为响应式流的请求数量计算提供工具方法。
+ * <p>请求数量的值域为 {@code [0, Long.MAX_VALUE]}，其中 {@link Long#MAX_VALUE} 表示无限量请求，一旦达到便不再减少。</p>
+ *
+ * @author 何天放
+ * @since 2026-10-19
+ */
+public final class DemandUtils {
+    /** 表示元素为 {@code null} 时放入队列中的占位对象。 */
+    private static final Object NULL_ELEMENT = new Object();
+
+    private DemandUtils() {}
+
+    /**
+     * 以不溢出的方式计算两个请求数量之和。
+     *
+     * @param current 表示当前请求数量的 {@code long}。
+     * @param count 表示新增请求数量的 {@code long}。
+     * @return 表示请求数量之和的 {@code long}，溢出时为 {@link Long#MAX_VALUE}。
+     */
+    public static long addCap(long current, long count) {
+        long result = current + count;
+        return result < 0L ? Long.MAX_VALUE : result;
+    }
+
+    /**
+     * 以原子且不溢出的方式增加请求数量。
+     *
+     * @param requested 表示请求数量的 {@link AtomicLong}。
+     * @param count 表示新增请求数量的 {@code long}。
+     * @return 表示增加之前的请求数量的 {@code long}。
+     */
+    public static long add(AtomicLong requested, long count) {
+        while (true) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, addCap(current, count))) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * 以原子的方式扣减已经发送的元素数量，无限量请求不扣减。
+     *
+     * @param requested 表示请求数量的 {@link AtomicLong}。
+     * @param produced 表示已经发送的元素数量的 {@code long}。
+     * @return 表示扣减之后的请求数量的 {@code long}。
+     */
+    public static long produced(AtomicLong requested, long produced) {
+        while (true) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long updated = Math.max(current - produced, 0L);
+            if (requested.compareAndSet(current, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * 将元素包装为可以放入无锁队列中的非空对象。
+     *
+     * @param element 表示待包装的元素的 {@link Object}。
+     * @return 表示包装后的非空对象的 {@link Object}。
+     */
+    public static Object wrap(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    /**
+     * 将从无锁队列中取出的对象还原为原始元素。
+     *
+     * @param wrapped 表示从队列中取出的对象的 {@link Object}。
+     * @return 表示原始元素的 {@link Object}。
+     */
+    public static Object unwrap(Object wrapped) {
+        return wrapped == NULL_ELEMENT ? null : wrapped;
+    }
+}
@@ -9,18 +9,27 @@ package modelengine.fitframework.flowable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import modelengine.fitframework.flowable.subscriber.ConcurrentRecordSubscriber;
 import modelengine.fitframework.flowable.subscriber.RecordSubscriber;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPool;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.schedule.ThreadPoolExecutors;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
 import modelengine.fitframework.util.ThreadUtils;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -31,6 +40,35 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 @DisplayName("测试 Choir")
 public class ChoirTest {
+    private final List<ThreadPool> executors = new ArrayList<>();
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        for (ThreadPool executor : this.executors) {
+            executor.shutdown();
+        }
+        this.executors.clear();
+    }
+
+    private ThreadPoolExecutor single(String name) {
+        ThreadPoolExecutor executor = ThreadPoolExecutors.newSingle(name, true);
+        this.executors.add(executor);
+        return executor;
+    }
+
+    private ThreadPoolExecutor parallel(String name, int parallelism) {
+        ThreadPoolExecutor executor = ThreadPoolExecutors.newParallel(name, parallelism, true);
+        this.executors.add(executor);
+        return executor;
+    }
+
+    private ThreadPoolScheduler scheduler(String name) {
+        ThreadPoolScheduler scheduler =
+                ThreadPoolScheduler.custom().threadPoolName(name).corePoolSize(1).isDaemonThread(true).build();
+        this.executors.add(scheduler);
+        return scheduler;
+    }
+
     @Nested
     @DisplayName("测试创建 Choir")
     class TestCreate {
@@ -411,4 +449,237 @@ public class ChoirTest {
             assertThat(threadName1.get()).isEqualTo(threadName2.get());
         }
     }
+
+    @Nested
+    @DisplayName("测试 publishOn 方法")
+    class TestPublishOn {
+        @Test
+        @DisplayName("当通过 publishOn 方法切换执行器时，下游在指定执行器之上按顺序消费所有元素")
+        void shouldConsumeInOrderOnExecutorWhenPublishOn() {
+            ThreadPoolExecutor executor = ChoirTest.this.single("publish-on");
+            AtomicReference<String> threadName = new AtomicReference<>();
+            List<Integer> actual = Choir.range(0, 1000, 1).publishOn(executor).map(integer -> {
+                threadName.set(Thread.currentThread().getName());
+                return integer;
+            }).blockAll();
+            assertThat(actual).hasSize(1000).isSorted();
+            assertThat(threadName.get()).startsWith("publish-on");
+        }
+
+        @Test
+        @DisplayName("当通过 publishOn 方法切换执行器并且请求定量元素时，仅发送请求的元素")
+        void shouldRespectRequestWhenPublishOn() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(2);
+            Choir.just(1, 2, 3, 4).publishOn(ChoirTest.this.single("publish-on")).subscribe(subscriber);
+            while (subscriber.getElements().size() < 2) {
+                ThreadUtils.sleep(1);
+            }
+            ThreadUtils.sleep(10);
+            assertThat(subscriber.getElements()).containsExactly(1, 2);
+            assertThat(subscriber.receivedCompleted()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("测试有并发上限的 flatMap 方法和 merge 方法")
+    class TestConcurrentFlatMap {
+        @Test
+        @DisplayName("使用有并发上限的 flatMap 展平响应式流，所有元素均被发送")
+        void shouldEmitAllElementsWhenFlatMapWithMaxConcurrency() {
+            ThreadPoolExecutor executor = ChoirTest.this.parallel("flat-map", 4);
+            List<Integer> actual = Choir.range(0, 10, 1)
+                    .flatMap(integer -> Choir.range(integer * 10, integer * 10 + 10, 1).subscribeOn(executor), 3)
+                    .blockAll();
+            assertThat(actual).hasSize(100).containsExactlyInAnyOrderElementsOf(Choir.range(0, 100, 1).blockAll());
+        }
+
+        @Test
+        @DisplayName("使用有并发上限的 flatMap 展平响应式流，同时未结束的转换后响应式流数量不超过并发上限")
+        void shouldNotExceedMaxConcurrencyWhenFlatMap() {
+            ThreadPoolExecutor executor = ChoirTest.this.parallel("flat-map-inner", 8);
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            List<Integer> actual = Choir.range(0, 50, 1).flatMap(integer -> Choir.<Integer>create(emitter -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                executor.execute(Task.builder().runnable(() -> {
+                    ThreadUtils.sleep(2);
+                    active.decrementAndGet();
+                    emitter.emit(integer);
+                    emitter.complete();
+                }).buildDisposable());
+            }), 3).blockAll();
+            assertThat(actual).hasSize(50).containsExactlyInAnyOrderElementsOf(Choir.range(0, 50, 1).blockAll());
+            assertThat(peak.get()).isGreaterThan(1).isLessThanOrEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("使用有并发上限的 flatMap 展平响应式流并请求定量元素时，仅发送请求的元素")
+        void shouldRespectRequestWhenFlatMapWithMaxConcurrency() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(3);
+            Choir.range(0, 10, 1).flatMap(integer -> Choir.just(integer, integer), 2).subscribe(subscriber);
+            assertThat(subscriber.getElements()).hasSize(3);
+            assertThat(subscriber.receivedCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("使用有并发上限的 flatMap 展平响应式流，当转换后的响应式流异常终结时，下游收到异常")
+        void shouldFailWhenInnerFailed() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>();
+            Choir.just(1, 2, 3).<Integer>flatMap(integer -> {
+                if (integer == 2) {
+                    return Choir.create(emitter -> emitter.fail(new IllegalStateException()));
+                }
+                return Choir.just(integer);
+            }, 2).subscribe(subscriber);
+            assertThat(subscriber.receivedFailed()).isTrue();
+            assertThat(subscriber.receivedCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("使用 merge 合并多个响应式流，所有元素均被发送")
+        void shouldEmitAllElementsWhenMerge() {
+            List<Integer> actual = Choir.merge(Choir.just(1, 2), Choir.just(3), Choir.<Integer>empty()).blockAll();
+            assertThat(actual).containsExactlyInAnyOrder(1, 2, 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 zip 方法")
+    class TestZip {
+        @Test
+        @DisplayName("使用 zip 组合两个响应式流，按照顺序两两组合，较短的响应式流结束时结束")
+        void shouldZipInOrderUntilShorterCompleted() {
+            List<String> actual = Choir.zip(Choir.range(0, 5, 1), Choir.just("a", "b", "c"), (i, s) -> s + i)
+                    .blockAll();
+            assertThat(actual).containsExactly("a0", "b1", "c2");
+        }
+
+        @Test
+        @DisplayName("使用 zip 组合两个响应式流并请求定量元素时，仅发送请求的元素")
+        void shouldRespectRequestWhenZip() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(2);
+            Choir.zip(Choir.range(0, 10, 1), Choir.range(0, 10, 1), Integer::sum).subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(0, 2);
+            assertThat(subscriber.receivedCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("使用 zip 组合两个响应式流，当任意一个响应式流异常终结时，下游收到异常")
+        void shouldFailWhenZippedPublisherFailed() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>();
+            Choir.zip(Choir.just(1, 2), Choir.<Integer>create(emitter -> {
+                emitter.emit(1);
+                emitter.fail(new IllegalStateException());
+            }), Integer::sum).subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(2);
+            assertThat(subscriber.receivedFailed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("使用 zip 组合两个响应式流在多个执行器上发送的元素，所有组合均被发送")
+        void shouldZipAllWhenPublishersOnDifferentExecutors() {
+            List<Integer> actual = Choir.zip(Choir.range(0, 1000, 1).subscribeOn(ChoirTest.this.single("zip-left")),
+                    Choir.range(0, 1000, 1).subscribeOn(ChoirTest.this.single("zip-right")),
+                    Integer::sum).blockAll();
+            assertThat(actual).hasSize(1000).containsExactlyElementsOf(Choir.range(0, 2000, 2).blockAll());
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 parallel 方法")
+    class TestParallel {
+        @Test
+        @DisplayName("使用 parallel 并行处理响应式流，所有元素均在多个通道上被处理")
+        void shouldProcessAllElementsOnRails() {
+            ThreadPoolExecutor executor = ChoirTest.this.parallel("rails", 4);
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            List<Integer> actual = Choir.range(0, 200, 1).parallel(4, executor, rail -> rail.map(integer -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                ThreadUtils.sleep(1);
+                active.decrementAndGet();
+                return integer * 2;
+            })).blockAll();
+            assertThat(actual).hasSize(200).containsExactlyInAnyOrderElementsOf(Choir.range(0, 400, 2).blockAll());
+            assertThat(peak.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("使用 parallel 并行处理响应式流并请求定量元素时，仅发送请求的元素")
+        void shouldRespectRequestWhenParallel() {
+            RecordSubscriber<Integer> subscriber = new ConcurrentRecordSubscriber<>(5);
+            Choir.range(0, 100, 1)
+                    .parallel(3, ChoirTest.this.parallel("rails", 3), rail -> rail.map(integer -> integer))
+                    .subscribe(subscriber);
+            while (subscriber.getElements().size() < 5) {
+                ThreadUtils.sleep(1);
+            }
+            ThreadUtils.sleep(50);
+            assertThat(subscriber.getElements()).hasSize(5);
+            assertThat(subscriber.receivedCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("使用 parallel 并行处理响应式流，当通道上的处理逻辑抛出异常时，下游收到异常")
+        void shouldFailWhenRailFailed() {
+            Choir<Integer> choir = Choir.range(0, 100, 1)
+                    .parallel(2, ChoirTest.this.parallel("rails", 2), rail -> rail.map(integer -> {
+                        if (integer == 50) {
+                            throw new IllegalStateException();
+                        }
+                        return integer;
+                    }));
+            assertThatExceptionOfType(FlowableException.class).isThrownBy(choir::blockAll);
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 bufferTimeout 方法和 window 方法")
+    class TestBufferTimeout {
+        @Test
+        @DisplayName("使用 bufferTimeout 分组响应式流，元素数量达到分组大小时发送分组，结束时发送剩余元素")
+        void shouldBufferBySizeWhenElementsArriveQuickly() {
+            List<List<Integer>> actual =
+                    Choir.range(0, 7, 1).bufferTimeout(3, 60_000L, ChoirTest.this.scheduler("buffer")).blockAll();
+            assertThat(actual).containsExactly(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5),
+                    Collections.singletonList(6));
+        }
+
+        @Test
+        @DisplayName("使用 bufferTimeout 分组响应式流，分组超时时发送不足分组大小的分组")
+        void shouldBufferByTimeoutWhenElementsArriveSlowly() {
+            AtomicReference<Emitter<Integer>> emitter = new AtomicReference<>();
+            RecordSubscriber<List<Integer>> subscriber = new ConcurrentRecordSubscriber<>();
+            Choir.<Integer>create(emitter::set).bufferTimeout(10, 20L, ChoirTest.this.scheduler("buffer"))
+                    .subscribe(subscriber);
+            emitter.get().emit(1);
+            emitter.get().emit(2);
+            while (subscriber.getElements().isEmpty()) {
+                ThreadUtils.sleep(1);
+            }
+            emitter.get().emit(3);
+            emitter.get().complete();
+            assertThat(subscriber.getElements()).containsExactly(Arrays.asList(1, 2), Collections.singletonList(3));
+            assertThat(subscriber.receivedCompleted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("使用 bufferTimeout 分组响应式流并请求定量分组时，仅发送请求的分组")
+        void shouldRespectRequestWhenBufferTimeout() {
+            RecordSubscriber<List<Integer>> subscriber = new RecordSubscriber<>(2);
+            Choir.range(0, 10, 1).bufferTimeout(2, 60_000L, ChoirTest.this.scheduler("buffer")).subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(Arrays.asList(0, 1), Arrays.asList(2, 3));
+            assertThat(subscriber.receivedCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("使用 window 划分响应式流，每个窗口包含按照大小划分的元素")
+        void shouldSplitIntoWindows() {
+            List<List<Integer>> actual = Choir.range(0, 5, 1)
+                    .window(2, 60_000L, ChoirTest.this.scheduler("window"))
+                    .map(Choir::blockAll)
+                    .blockAll();
+            assertThat(actual).containsExactly(Arrays.asList(0, 1), Arrays.asList(2, 3), Collections.singletonList(4));
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.flowable.choir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Emitter;
+import modelengine.fitframework.flowable.subscriber.RecordSubscriber;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * 表示 {@link FusedChoir} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 FusedChoir")
+public class FusedChoirTest {
+    @Test
+    @DisplayName("连续的 map 和 filter 操作被融合为一个阶段，结果符合预期")
+    void shouldFuseAdjacentMapAndFilter() {
+        Choir<Integer> choir = Choir.range(0, 20, 1).map(value -> value * 2).filter(value -> value % 3 == 0);
+        assertThat(choir).isInstanceOf(FusedChoir.class);
+        List<Integer> actual = choir.map(value -> value + 1).blockAll();
+        assertThat(actual).containsExactly(1, 7, 13, 19, 25, 31, 37);
+    }
+
+    @Test
+    @DisplayName("从迭代器同步拉取元素时，被过滤的元素不占用请求数量")
+    void shouldNotCountDroppedElementsWhenPullFromIterable() {
+        RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(2);
+        Choir.just(1, 2, 3, 4, 5).filter(value -> value % 2 == 1).subscribe(subscriber);
+        assertThat(subscriber.getElements()).containsExactly(1, 3);
+        assertThat(subscriber.receivedCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("从迭代器同步拉取元素时，在消费过程中再次请求，结果符合预期")
+    void shouldEmitAllWhenRequestInConsume() {
+        RecordSubscriber<String> subscriber = new RecordSubscriber<>(1, 1);
+        Choir.range(0, 1000, 1).map(String::valueOf).subscribe(subscriber);
+        assertThat(subscriber.getElements()).hasSize(1000);
+        assertThat(subscriber.receivedCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("当融合阶段的数据源为发布者时，结果符合预期")
+    void shouldFuseWhenSourceIsPublisher() {
+        RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(1, 1);
+        Emitter<Integer> emitter = Emitter.create();
+        Choir.fromEmitter(emitter).map(value -> value + 1).filter(value -> value > 2).subscribe(subscriber);
+        emitter.emit(1);
+        emitter.emit(2);
+        emitter.emit(3);
+        emitter.complete();
+        assertThat(subscriber.getElements()).containsExactly(3, 4);
+        assertThat(subscriber.receivedCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("当融合阶段中的转换抛出异常时，下游收到异常终结信号")
+    void shouldFailWhenStageThrows() {
+        RecordSubscriber<Integer> subscriber = new RecordSubscriber<>();
+        Choir.just(1, 0, 2).map(value -> 10 / value).subscribe(subscriber);
+        assertThat(subscriber.getElements()).containsExactly(10);
+        assertThat(subscriber.receivedFailed()).isTrue();
+        assertThat(subscriber.receivedCompleted()).isFalse();
+    }
+}
@@ -79,6 +79,8 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
     private static final String WORKER_CONFIG_BEAN_NAME = "workerConfig";
     private static final String APPLICATION_CONFIG = "applicationConfig";
     private static final String GENERICABLE_FILTER_MANAGER_NAME = "genericableServerFilterManager";
+    private static final String STARTUP_PARALLELISM_KEY = "plugin.startup.parallelism";
+    private static final int DEFAULT_STARTUP_PARALLELISM = 4;
     private static final int LEVEL_MAX = 7;
     private static final int LEVEL_MIN = 1;
 
@@ -168,19 +170,26 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
     protected void onStarted() {
         this.obtainChildrenForStartup(PluginCategory.SYSTEM).forEach(Plugin::start);
         super.onStarted();
-        List<Plugin> userPlugins = this.obtainChildrenForStartup(PluginCategory.USER);
-        for (int level = LEVEL_MIN; level <= LEVEL_MAX; level++) {
-            List<Plugin> levelPlugins = this.obtainPluginsByLevel(userPlugins, level);
-            levelPlugins.forEach(Plugin::initialize);
-            levelPlugins.forEach(Plugin::start);
-        }
+        List<Plugin> userPlugins = this.obtainChildrenForStartup(PluginCategory.USER)
+                .stream()
+                .filter(plugin -> plugin.metadata().level() >= LEVEL_MIN && plugin.metadata().level() <= LEVEL_MAX)
+                .collect(Collectors.toList());
+        new PluginStartup(this.startupParallelism()).start(userPlugins);
     }
 
-    private List<Plugin> obtainPluginsByLevel(List<Plugin> plugins, int level) {
-        return plugins.stream()
-                .filter(userPlugin -> userPlugin.metadata().level() == level)
-                .sorted(AbstractRootPlugin::sortPlugins)
-                .collect(Collectors.toList());
+    /**
+     * 获取用户插件启动时的并行度。
+     * <p>未配置时为 {@value #DEFAULT_STARTUP_PARALLELISM}，与 {@code fitframework.yml} 中的默认配置一致，配置为不大于 {@code 1}
+     * 的值时按顺序启动插件。</p>
+     *
+     * @return 表示用户插件启动时的并行度的 32 位整数。
+     */
+    private int startupParallelism() {
+        Integer parallelism = this.config().get(STARTUP_PARALLELISM_KEY, Integer.class);
+        if (parallelism == null) {
+            return DEFAULT_STARTUP_PARALLELISM;
+        }
+        return parallelism;
     }
 
     /**
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.runtime.support;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginComparators;
+import modelengine.fitframework.plugin.PluginKey;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolExecutors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 为插件提供分阶段的并行启动能力。
+ * <p>插件元数据中的类别和级别构成插件之间的依赖关系：同一类别中，每个级别的插件依赖于所有更低级别的插件，同一级别的插件之间相互独立。
+ * 因此启动时按照 {@link PluginComparators#STARTUP} 的顺序逐个级别推进，同一级别的插件先全部完成初始化，再全部完成启动，
+ * 每个步骤中的插件在有界的线程池中并行执行。当并行度不大于 {@code 1} 时，在当前线程中按顺序执行，与串行启动的行为一致。</p>
+ * <p>当任意插件初始化或启动失败时，在当前步骤的所有插件结束后，按照启动顺序的逆序停止或释放本次已经初始化的所有插件，
+ * 并抛出启动顺序中第一个插件的异常，其余异常作为被抑制的异常附加。启动结束后输出每个插件的耗时报告。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+final class PluginStartup {
+    private static final Logger log = Logger.get(PluginStartup.class);
+
+    private static final String THREAD_POOL_NAME = "plugin-startup";
+
+    private final int parallelism;
+    private final Map<Plugin, Timing> timings;
+    private final List<Plugin> touched;
+
+    /**
+     * 使用并行度初始化 {@link PluginStartup} 类的新实例。
+     *
+     * @param parallelism 表示同时初始化或启动的插件的最大数量的 32 位整数。
+     */
+    PluginStartup(int parallelism) {
+        this.parallelism = parallelism;
+        this.timings = new ConcurrentHashMap<>();
+        this.touched = new ArrayList<>();
+    }
+
+    /**
+     * 按照级别分阶段初始化并启动指定的插件。
+     *
+     * @param plugins 表示待启动的插件的 {@link List}{@code <}{@link Plugin}{@code >}。
+     * @throws IllegalStateException 当插件启动的过程被中断时。
+     * @throws RuntimeException 当存在插件初始化或启动失败时，为启动顺序中第一个失败的插件的异常。
+     */
+    void start(List<Plugin> plugins) {
+        if (plugins.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<Plugin>> stages = plugins.stream()
+                .sorted(PluginComparators.STARTUP)
+                .collect(Collectors.groupingBy(plugin -> plugin.metadata().level(),
+                        TreeMap::new,
+                        Collectors.toList()));
+        int threads = Math.max(1,
+                Math.min(this.parallelism, stages.values().stream().mapToInt(List::size).max().orElse(1)));
+        ThreadPoolExecutor executor =
+                threads > 1 ? ThreadPoolExecutors.newParallel(THREAD_POOL_NAME, threads, true) : null;
+        long started = System.nanoTime();
+        try {
+            for (List<Plugin> stage : stages.values()) {
+                this.touched.addAll(stage);
+                this.run(executor, stage, Plugin::initialize, Timing::initialized);
+                this.run(executor, stage, Plugin::start, Timing::started);
+            }
+        } finally {
+            shutdown(executor);
+            this.report(System.nanoTime() - started, threads);
+        }
+    }
+
+    private void run(ThreadPoolExecutor executor, List<Plugin> stage, Consumer<Plugin> action,
+            TimingRecorder recorder) {
+        List<Throwable> failures = new ArrayList<>();
+        if (executor == null || stage.size() < 2) {
+            for (Plugin plugin : stage) {
+                Throwable failure = this.run(plugin, action, recorder);
+                if (failure != null) {
+                    failures.add(failure);
+                    break;
+                }
+            }
+        } else {
+            List<Future<?>> futures = new ArrayList<>(stage.size());
+            for (Plugin plugin : stage) {
+                futures.add(executor.submit(Task.builder()
+                        .callable(() -> this.run(plugin, action, recorder))
+                        .buildDisposable()));
+            }
+            for (Future<?> future : futures) {
+                Throwable failure = await(future);
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            this.rollback();
+            throw propagate(failures);
+        }
+    }
+
+    private Throwable run(Plugin plugin, Consumer<Plugin> action, TimingRecorder recorder) {
+        long started = System.nanoTime();
+        try {
+            action.accept(plugin);
+            return null;
+        } catch (Throwable e) {
+            return e;
+        } finally {
+            recorder.record(this.timings.computeIfAbsent(plugin, key -> new Timing()), System.nanoTime() - started);
+        }
+    }
+
+    private static Throwable await(Future<?> future) {
+        try {
+            return (Throwable) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("Interrupted while starting plugins.", e);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private void rollback() {
+        List<Plugin> plugins = new ArrayList<>(this.touched);
+        Collections.reverse(plugins);
+        for (Plugin plugin : plugins) {
+            try {
+                if (plugin.started()) {
+                    plugin.stop();
+                } else if (plugin.initialized()) {
+                    plugin.dispose();
+                } else {
+                    continue;
+                }
+                log.warn("Plugin rolled back after startup failure. [plugin={}]",
+                        PluginKey.identify(plugin.metadata()));
+            } catch (Throwable e) {
+                log.error("Failed to roll back plugin. [plugin={}]", PluginKey.identify(plugin.metadata()), e);
+            }
+        }
+    }
+
+    private static RuntimeException propagate(List<Throwable> failures) {
+        Throwable first = failures.get(0);
+        for (int i = 1; i < failures.size(); i++) {
+            first.addSuppressed(failures.get(i));
+        }
+        if (first instanceof Error) {
+            throw (Error) first;
+        } else if (first instanceof RuntimeException) {
+            return (RuntimeException) first;
+        } else {
+            return new IllegalStateException("Failed to start plugins.", first);
+        }
+    }
+
+    private static void shutdown(ThreadPoolExecutor executor) {
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(long elapsed, int threads) {
+        if (!log.isInfoEnabled() || this.timings.isEmpty()) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Plugin startup timings. [count=%d, threads=%d, elapsed=%dms]",
+                this.timings.size(),
+                threads,
+                nanosToMillis(elapsed)));
+        this.timings.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Plugin, Timing>comparingByValue(Comparator.comparingLong(Timing::total))
+                        .reversed())
+                .forEach(entry -> builder.append(System.lineSeparator())
+                        .append(String.format("  %6dms (initialize=%dms, start=%dms) level=%d %s",
+                                nanosToMillis(entry.getValue().total()),
+                                nanosToMillis(entry.getValue().initialize),
+                                nanosToMillis(entry.getValue().start),
+                                entry.getKey().metadata().level(),
+                                PluginKey.identify(entry.getKey().metadata()))));
+        log.info(builder.toString());
+    }
+
+    private static long nanosToMillis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+
+    @FunctionalInterface
+    private interface TimingRecorder {
+        void record(Timing timing, long nanos);
+    }
+
+    private static final class Timing {
+        private volatile long initialize;
+        private volatile long start;
+
+        private void initialized(long nanos) {
+            this.initialize = nanos;
+        }
+
+        private void started(long nanos) {
+            this.start = nanos;
+        }
+
+        private long total() {
+            return this.initialize + this.start;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.runtime.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginCategory;
+import modelengine.fitframework.plugin.PluginMetadata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为 {@link PluginStartup} 提供单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 PluginStartup 类")
+class PluginStartupTest {
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    @DisplayName("按照级别分阶段启动，同一级别的插件全部初始化后再启动")
+    void shouldStartPluginsByLevel() {
+        Plugin high = this.plugin("high", 2);
+        Plugin first = this.plugin("first", 1);
+        Plugin second = this.plugin("second", 1);
+        new PluginStartup(1).start(Arrays.asList(high, first, second));
+        assertThat(this.events).containsExactly("initialize:first",
+                "initialize:second",
+                "start:first",
+                "start:second",
+                "initialize:high",
+                "start:high");
+    }
+
+    @Test
+    @DisplayName("同一级别的插件并行初始化")
+    void shouldInitializePluginsOfSameLevelConcurrently() {
+        CountDownLatch latch = new CountDownLatch(2);
+        Plugin first = this.plugin("first", 1);
+        Plugin second = this.plugin("second", 1);
+        for (Plugin plugin : Arrays.asList(first, second)) {
+            doAnswer(invocation -> {
+                latch.countDown();
+                assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+                return null;
+            }).when(plugin).initialize();
+        }
+        new PluginStartup(2).start(Arrays.asList(first, second));
+        assertThat(latch.getCount()).isZero();
+        verify(first).start();
+        verify(second).start();
+    }
+
+    @Test
+    @DisplayName("插件启动失败时，按照启动顺序的逆序回滚已经初始化的插件")
+    void shouldRollbackInReverseOrderWhenPluginFails() {
+        Plugin first = this.plugin("first", 1);
+        Plugin second = this.plugin("second", 1);
+        Plugin failed = this.plugin("failed", 2);
+        Plugin other = this.plugin("other", 2);
+        Plugin pending = this.plugin("pending", 3);
+        IllegalStateException cause = new IllegalStateException("failed to start");
+        doThrow(cause).when(failed).start();
+        when(first.started()).thenReturn(true);
+        when(second.started()).thenReturn(true);
+        when(other.started()).thenReturn(true);
+        when(failed.initialized()).thenReturn(true);
+
+        PluginStartup startup = new PluginStartup(2);
+        List<Plugin> plugins = Arrays.asList(pending, other, failed, second, first);
+        assertThatThrownBy(() -> startup.start(plugins)).isSameAs(cause);
+
+        InOrder order = inOrder(first, second, failed, other);
+        order.verify(failed).dispose();
+        order.verify(other).stop();
+        order.verify(first).stop();
+        order.verify(second).stop();
+        verify(pending, never()).initialize();
+    }
+
+    private Plugin plugin(String name, int level) {
+        PluginMetadata metadata = mock(PluginMetadata.class);
+        when(metadata.group()).thenReturn("modelengine.fit");
+        when(metadata.name()).thenReturn(name);
+        when(metadata.version()).thenReturn("1.0.0");
+        when(metadata.category()).thenReturn(PluginCategory.USER);
+        when(metadata.level()).thenReturn(level);
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.metadata()).thenReturn(metadata);
+        doAnswer(invocation -> this.events.add("initialize:" + name)).when(plugin).initialize();
+        doAnswer(invocation -> this.events.add("start:" + name)).when(plugin).start();
+        return plugin;
+    }
+}
@@ -7,9 +7,11 @@
 package modelengine.fitframework.schedule;
 
 import modelengine.fitframework.schedule.support.DefaultThreadPoolScheduler;
+import modelengine.fitframework.schedule.support.TimingWheelThreadPoolScheduler;
 
 import java.time.Instant;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 表示线程池化的调度器。
@@ -65,6 +67,46 @@ public interface ThreadPoolScheduler extends ThreadPool {
         ThreadPoolScheduler build();
     }
 
+    /**
+     * 表示基于分层时间轮的线程池化的调度器的构建器。
+     * <p>核心线程池、最大线程池等配置作用于执行任务的工作线程池，时间轮由独立的时钟线程推进。</p>
+     */
+    interface TimingWheelBuilder extends ThreadPool.Builder<TimingWheelBuilder> {
+        /**
+         * 向当前构建器中设置时间轮的跳动间隔，即调度的精度。
+         *
+         * @param tickDuration 表示待设置的跳动间隔的 {@code long}。
+         * @param unit 表示待设置的时间单位的 {@link TimeUnit}。
+         * @return 表示当前构建器的 {@link TimingWheelBuilder}。
+         */
+        TimingWheelBuilder tickDuration(long tickDuration, TimeUnit unit);
+
+        /**
+         * 向当前构建器中设置每一层时间轮的槽位数量。
+         * <p>槽位数量将向上取整为 2 的幂。</p>
+         *
+         * @param ticksPerWheel 表示待设置的槽位数量的 {@code int}。
+         * @return 表示当前构建器的 {@link TimingWheelBuilder}。
+         */
+        TimingWheelBuilder ticksPerWheel(int ticksPerWheel);
+
+        /**
+         * 向当前构建器中设置时钟线程的数量。
+         * <p>每个时钟线程独占一个时间轮，任务轮流分配到各个时间轮上。</p>
+         *
+         * @param tickThreads 表示待设置的时钟线程数量的 {@code int}。
+         * @return 表示当前构建器的 {@link TimingWheelBuilder}。
+         */
+        TimingWheelBuilder tickThreads(int tickThreads);
+
+        /**
+         * 构建一个基于分层时间轮的线程池化的调度器。
+         *
+         * @return 表示构建出来的线程池化的调度器的 {@link ThreadPoolScheduler}。
+         */
+        ThreadPoolScheduler build();
+    }
+
     /**
      * 创建一个自定义的线程池化的调度器的构建器。
      *
@@ -73,4 +115,14 @@ public interface ThreadPoolScheduler extends ThreadPool {
     static Builder custom() {
         return new DefaultThreadPoolScheduler.Builder();
     }
+
+    /**
+     * 创建一个基于分层时间轮的线程池化的调度器的构建器。
+     * <p>调度与取消的时间复杂度均为 {@code O(1)}，适合大量定时任务共享同一个调度器的场景。</p>
+     *
+     * @return 表示创建出来的时间轮调度器的构建器的 {@link TimingWheelBuilder}。
+     */
+    static TimingWheelBuilder timingWheel() {
+        return new TimingWheelThreadPoolScheduler.Builder();
+    }
 }
@@ -0,0 +1,565 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.lessThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.schedule.ExecutePolicy;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.LockUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 表示基于分层时间轮的 {@link ThreadPoolScheduler} 实现。
+ * <p>每个时间轮由一个时钟线程独占推进，调度与取消只向无锁队列中投递定时项，由时钟线程在下一次跳动时放入或移出槽位，
+ * 时间复杂度均为 {@code O(1)}。到期的定时项交由独立的工作线程池执行，时钟线程从不执行任务本身，
+ * 因此大量的超时、重试、心跳等定时任务可以共享少量的线程。</p>
+ * <p>调度精度为时间轮的跳动间隔，适合对精度要求为毫秒级的定时任务。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class TimingWheelThreadPoolScheduler extends AbstractThreadPool implements ThreadPoolScheduler {
+    private static final int LEVELS = 4;
+    private static final int MAX_TICKS_PER_WHEEL = 1 << 15;
+
+    private final ExecutorService workers;
+    private final Wheel[] wheels;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean isShutdown;
+
+    private TimingWheelThreadPoolScheduler(String threadPoolName, ExecutorService workers, boolean isImmediateShutdown,
+            long awaitTermination, TimeUnit awaitTerminationUnit, long tickNanos, int ticksPerWheel, int tickThreads,
+            boolean isDaemonThread) {
+        super(threadPoolName, workers, isImmediateShutdown, awaitTermination, awaitTerminationUnit);
+        this.workers = notNull(workers, "The thread pool cannot be null.");
+        this.wheels = new Wheel[tickThreads];
+        for (int i = 0; i < tickThreads; i++) {
+            this.wheels[i] = new Wheel(threadPoolName + "-tick-" + i, tickNanos, ticksPerWheel, isDaemonThread);
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Task task, Instant startTime) {
+        if (this.isShutdown) {
+            throw new RejectedExecutionException("The timing wheel scheduler has been shutdown.");
+        }
+        Wheel wheel = this.wheels[Math.floorMod(this.next.getAndIncrement(), this.wheels.length)];
+        return new WheelTask(wheel, task, startTime).schedule();
+    }
+
+    @Override
+    public boolean shutdown() throws InterruptedException {
+        this.isShutdown = true;
+        for (Wheel wheel : this.wheels) {
+            wheel.stop();
+        }
+        return super.shutdown();
+    }
+
+    private void dispatch(Timeout timeout) {
+        this.workers.execute(timeout);
+    }
+
+    /**
+     * 表示由一个时钟线程独占推进的分层时间轮。
+     * <p>第 {@code n} 层的每个槽位覆盖 {@code ticksPerWheel^n} 次跳动，高层槽位在低层转完一圈时逐级降落到低层，
+     * 到期的定时项只出现在最低层。</p>
+     */
+    private final class Wheel implements Runnable {
+        private final Thread thread;
+        private final long tickNanos;
+        private final int bits;
+        private final int mask;
+        private final Bucket[][] buckets;
+        private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+        private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+        private final long startNanos;
+        private long currentTick;
+        private volatile boolean isStopped;
+
+        private Wheel(String name, long tickNanos, int ticksPerWheel, boolean isDaemonThread) {
+            this.tickNanos = tickNanos;
+            this.bits = Integer.numberOfTrailingZeros(ticksPerWheel);
+            this.mask = ticksPerWheel - 1;
+            this.buckets = new Bucket[LEVELS][ticksPerWheel];
+            for (Bucket[] level : this.buckets) {
+                for (int i = 0; i < level.length; i++) {
+                    level[i] = new Bucket();
+                }
+            }
+            this.startNanos = System.nanoTime();
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(isDaemonThread);
+            this.thread.start();
+        }
+
+        private void add(Timeout timeout) {
+            this.pending.add(timeout);
+            if (this.isStopped && this.pending.remove(timeout)) {
+                timeout.cancel();
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            this.cancelled.add(timeout);
+        }
+
+        private void stop() throws InterruptedException {
+            this.isStopped = true;
+            LockSupport.unpark(this.thread);
+            this.thread.join();
+        }
+
+        @Override
+        public void run() {
+            while (!this.isStopped) {
+                long deadline = this.startNanos + (this.currentTick + 1) * this.tickNanos;
+                long sleepNanos = deadline - System.nanoTime();
+                if (sleepNanos > 0) {
+                    LockSupport.parkNanos(this, sleepNanos);
+                    continue;
+                }
+                this.transferPending();
+                this.transferCancelled();
+                long targetTick = (System.nanoTime() - this.startNanos) / this.tickNanos;
+                while (this.currentTick < targetTick) {
+                    this.currentTick++;
+                    this.cascade();
+                    this.expire(this.buckets[0][(int) (this.currentTick & this.mask)]);
+                }
+            }
+            this.cancelAll();
+        }
+
+        private void transferPending() {
+            Timeout timeout;
+            while ((timeout = this.pending.poll()) != null) {
+                if (timeout.isPending()) {
+                    this.place(timeout);
+                }
+            }
+        }
+
+        private void transferCancelled() {
+            Timeout timeout;
+            while ((timeout = this.cancelled.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+
+        private void place(Timeout timeout) {
+            long deadlineTick =
+                    Math.max(0, timeout.deadlineNanos - this.startNanos + this.tickNanos - 1) / this.tickNanos;
+            long delta = deadlineTick - this.currentTick;
+            if (delta <= 0) {
+                this.fire(timeout);
+                return;
+            }
+            for (int level = 0; level < LEVELS; level++) {
+                if (level == LEVELS - 1 || delta < 1L << (this.bits * (level + 1))) {
+                    // 超出最高层范围的定时项暂存于最高层最远的槽位，降落时会被重新放置。
+                    long placedTick = Math.min(deadlineTick, this.currentTick + (1L << (this.bits * LEVELS)) - 1);
+                    int index = (int) ((placedTick >>> (this.bits * level)) & this.mask);
+                    this.buckets[level][index].add(timeout);
+                    return;
+                }
+            }
+        }
+
+        private void cascade() {
+            int levels = 0;
+            while (levels < LEVELS - 1 && (this.currentTick & ((1L << (this.bits * (levels + 1))) - 1)) == 0) {
+                levels++;
+            }
+            for (int level = levels; level > 0; level--) {
+                Bucket bucket = this.buckets[level][(int) ((this.currentTick >>> (this.bits * level)) & this.mask)];
+                Timeout timeout = bucket.clear();
+                while (timeout != null) {
+                    Timeout following = timeout.next;
+                    timeout.next = null;
+                    timeout.prev = null;
+                    if (timeout.isPending()) {
+                        this.place(timeout);
+                    }
+                    timeout = following;
+                }
+            }
+        }
+
+        private void expire(Bucket bucket) {
+            Timeout timeout = bucket.clear();
+            while (timeout != null) {
+                Timeout following = timeout.next;
+                timeout.next = null;
+                timeout.prev = null;
+                this.fire(timeout);
+                timeout = following;
+            }
+        }
+
+        private void fire(Timeout timeout) {
+            if (!timeout.expire()) {
+                return;
+            }
+            try {
+                TimingWheelThreadPoolScheduler.this.dispatch(timeout);
+            } catch (RejectedExecutionException e) {
+                timeout.result.completeExceptionally(e);
+            }
+        }
+
+        private void cancelAll() {
+            Timeout timeout;
+            while ((timeout = this.pending.poll()) != null) {
+                timeout.cancel();
+            }
+            for (Bucket[] level : this.buckets) {
+                for (Bucket bucket : level) {
+                    timeout = bucket.clear();
+                    while (timeout != null) {
+                        Timeout following = timeout.next;
+                        timeout.cancel();
+                        timeout = following;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 表示时间轮的槽位，是定时项的双向链表，仅由时钟线程访问。
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.prev = this.tail;
+            }
+            this.tail = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                this.head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                this.tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private Timeout clear() {
+            Timeout current = this.head;
+            for (Timeout timeout = current; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+            }
+            this.head = null;
+            this.tail = null;
+            return current;
+        }
+    }
+
+    /**
+     * 表示任务的一次调度对应的定时项。
+     */
+    private static final class Timeout implements Runnable {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final WheelTask owner;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(WheelTask owner, long deadlineNanos) {
+            this.owner = owner;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private boolean isPending() {
+            return this.state.get() == PENDING;
+        }
+
+        private boolean expire() {
+            return this.state.compareAndSet(PENDING, EXPIRED);
+        }
+
+        private boolean cancel() {
+            boolean isCancelled = this.state.compareAndSet(PENDING, CANCELLED);
+            this.result.cancel(false);
+            return isCancelled;
+        }
+
+        @Override
+        public void run() {
+            this.owner.execute(this);
+        }
+    }
+
+    /**
+     * 表示在时间轮上按照 {@link ExecutePolicy} 反复调度的任务。
+     * <p>每次调度生成一个新的 {@link Timeout}，同一任务的各次执行天然串行，因此执行记录的更新无需加锁。发布新的定时项和取消任务
+     * 在同一把锁下进行，保证取消时要么取消的是新的定时项，要么新的定时项在发布时即被取消。</p>
+     */
+    private final class WheelTask implements ScheduledFuture<Object> {
+        private final Wheel wheel;
+        private final Task task;
+        private final Instant startTime;
+        private final ReschedulableExecution execution = new ReschedulableExecution();
+        private final Object lock = LockUtils.newSynchronizedLock();
+        private volatile Timeout current;
+        private volatile boolean isCancelled;
+
+        private WheelTask(Wheel wheel, Task task, Instant startTime) {
+            this.wheel = wheel;
+            this.task = notNull(task, "The task cannot be null.");
+            this.startTime = notNull(startTime, "The start time cannot be null.");
+        }
+
+        private ScheduledFuture<?> schedule() {
+            Optional<Instant> nextExecuteTime = this.task.policy().nextExecuteTime(this.execution, this.startTime);
+            if (!nextExecuteTime.isPresent()) {
+                return this;
+            }
+            this.execution.updateScheduledTime(nextExecuteTime.get());
+            long delayMillis = nextExecuteTime.get().toEpochMilli() - System.currentTimeMillis();
+            Timeout timeout = new Timeout(this, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis));
+            synchronized (this.lock) {
+                if (this.isCancelled) {
+                    timeout.cancel();
+                    this.current = timeout;
+                    return this;
+                }
+                this.current = timeout;
+            }
+            if (delayMillis <= 0 && timeout.expire()) {
+                TimingWheelThreadPoolScheduler.this.dispatch(timeout);
+            } else {
+                this.wheel.add(timeout);
+            }
+            return this;
+        }
+
+        private void execute(Timeout timeout) {
+            if (timeout.result.isCancelled()) {
+                return;
+            }
+            this.execution.updateExecuteTime(Instant.now());
+            Object value;
+            try {
+                value = this.task.call();
+            } catch (Throwable cause) {
+                timeout.result.completeExceptionally(cause);
+                return;
+            }
+            this.execution.updateCompleteTime(Instant.now());
+            // 先发布下一次调度再完成本次结果，使执行期间的取消总能作用于尚未完成的结果或者下一次调度。已经取消的任务在发布时
+            // 即被取消，不会被放入时间轮。
+            try {
+                if (!TimingWheelThreadPoolScheduler.this.isShutdown) {
+                    this.schedule();
+                }
+            } catch (RejectedExecutionException ignored) {
+                // 调度器已经关闭，不再继续调度。
+            } finally {
+                timeout.result.complete(value);
+            }
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            Timeout timeout = this.current;
+            return timeout == null ? 0 : unit.convert(timeout.deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed another) {
+            if (another == this) {
+                return 0;
+            }
+            long diff = this.getDelay(TimeUnit.NANOSECONDS) - another.getDelay(TimeUnit.NANOSECONDS);
+            return diff == 0 ? 0 : diff < 0 ? -1 : 1;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            Timeout timeout;
+            synchronized (this.lock) {
+                this.isCancelled = true;
+                timeout = this.current;
+            }
+            if (timeout == null) {
+                return false;
+            }
+            if (timeout.cancel()) {
+                this.wheel.remove(timeout);
+                return true;
+            }
+            // 定时项已经开始执行时，取消的可能是其尚未完成的结果，也可能是其执行结束后发布的下一次调度。
+            return this.isCancelled();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            Timeout timeout = this.current;
+            return timeout != null && timeout.result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            Timeout timeout = this.current;
+            return timeout != null && timeout.result.isDone();
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            Timeout timeout = this.current;
+            return timeout == null ? null : timeout.result.get();
+        }
+
+        @Override
+        public Object get(long timeout, @Nonnull TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            Timeout current = this.current;
+            return current == null ? null : current.result.get(timeout, unit);
+        }
+    }
+
+    /**
+     * 表示 {@link ThreadPoolScheduler.TimingWheelBuilder} 的默认实现。
+     */
+    public static class Builder extends AbstractThreadPool.Builder<ThreadPoolScheduler.TimingWheelBuilder>
+            implements ThreadPoolScheduler.TimingWheelBuilder {
+        private long tickDuration = 10;
+        private TimeUnit tickDurationUnit = TimeUnit.MILLISECONDS;
+        private int ticksPerWheel = 512;
+        private int tickThreads = 1;
+
+        @Override
+        public ThreadPoolScheduler.TimingWheelBuilder tickDuration(long tickDuration, TimeUnit unit) {
+            this.tickDuration = tickDuration;
+            this.tickDurationUnit = unit;
+            return this;
+        }
+
+        @Override
+        public ThreadPoolScheduler.TimingWheelBuilder ticksPerWheel(int ticksPerWheel) {
+            this.ticksPerWheel = ticksPerWheel;
+            return this;
+        }
+
+        @Override
+        public ThreadPoolScheduler.TimingWheelBuilder tickThreads(int tickThreads) {
+            this.tickThreads = tickThreads;
+            return this;
+        }
+
+        /**
+         * 创建工作线程池的阻塞队列。
+         * <p>未指定队列大小时使用无界队列，使到期的任务在工作线程繁忙时排队等待，而不是被拒绝。</p>
+         *
+         * @return 表示创建后的阻塞队列的 {@link BlockingQueue}{@code <}{@link Runnable}{@code >}。
+         */
+        @Override
+        protected BlockingQueue<Runnable> createWorkQueue() {
+            if (this.getWorkQueueCapacity() <= 0) {
+                return new LinkedBlockingQueue<>();
+            }
+            return super.createWorkQueue();
+        }
+
+        private ExecutorService buildWorkers() {
+            greaterThanOrEquals(this.getCorePoolSize(),
+                    0,
+                    "The core pool size cannot be negative. [corePoolSize={0}]",
+                    this.getCorePoolSize());
+            int corePoolSize = Math.max(this.getCorePoolSize(), 1);
+            int maximumPoolSize = Math.max(this.getMaximumPoolSize(), corePoolSize);
+            TimeUnit keepAliveTimeUnit =
+                    this.getKeepAliveTimeUnit() == null ? TimeUnit.MILLISECONDS : this.getKeepAliveTimeUnit();
+            return new ThreadPoolExecutor(corePoolSize,
+                    maximumPoolSize,
+                    Math.max(this.getKeepAliveTime(), 0),
+                    keepAliveTimeUnit,
+                    this.createWorkQueue(),
+                    new DefaultThreadFactory(this.getThreadPoolName(), this.isDaemonThread(), null),
+                    this.getRejectedExecutionHandler());
+        }
+
+        @Override
+        public ThreadPoolScheduler build() {
+            notNull(this.tickDurationUnit, "The tick duration unit cannot be null.");
+            long tickNanos = this.tickDurationUnit.toNanos(this.tickDuration);
+            greaterThan(tickNanos, 0, "The tick duration must be positive. [tickDuration={0}]", this.tickDuration);
+            greaterThan(this.ticksPerWheel,
+                    1,
+                    "The ticks per wheel must be greater than 1. [ticksPerWheel={0}]",
+                    this.ticksPerWheel);
+            lessThanOrEquals(this.ticksPerWheel,
+                    MAX_TICKS_PER_WHEEL,
+                    "The ticks per wheel cannot be greater than {0}. [ticksPerWheel={1}]",
+                    MAX_TICKS_PER_WHEEL,
+                    this.ticksPerWheel);
+            greaterThan(this.tickThreads,
+                    0,
+                    "The tick threads must be positive. [tickThreads={0}]",
+                    this.tickThreads);
+            int actualTicksPerWheel = Integer.highestOneBit(this.ticksPerWheel - 1) << 1;
+            return new TimingWheelThreadPoolScheduler(this.getThreadPoolName(),
+                    this.buildWorkers(),
+                    this.isImmediateShutdown(),
+                    this.getAwaitTermination(),
+                    this.getAwaitTerminationUnit(),
+                    tickNanos,
+                    actualTicksPerWheel,
+                    this.tickThreads,
+                    this.isDaemonThread());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.util;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+import modelengine.fitframework.util.support.MethodHandleInvoker;
+
+import java.lang.reflect.Method;
+
+/**
+ * 为指定方法提供预先绑定的调用器。
+ * <p>与 {@link ReflectionUtils#invoke(Object, Method, Object...)} 相比，调用器在创建时完成方法的访问检查和绑定，
+ * 每次调用不再经过反射的访问检查，适用于需要反复调用同一方法的场景。调用器的异常行为与
+ * {@link ReflectionUtils#invoke(Object, Method, Object...)} 保持一致。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+    /**
+     * 执行方法。
+     *
+     * @param owner 表示待执行方法的主体对象的 {@link Object}，静态方法时忽略。
+     * @param parameters 表示执行方法时所使用的入参的 {@link Object}{@code []}。
+     * @return 表示执行方法后的返回值的 {@link Object}。
+     * @throws IllegalArgumentException 当方法是实例方法但 {@code owner} 为 {@code null} 时。
+     * @throws MethodInvocationException 当入参与方法不匹配或执行方法发生异常时，其原因为方法抛出的原始异常。
+     */
+    Object invoke(Object owner, Object... parameters);
+
+    /**
+     * 为指定方法创建调用器。
+     * <p>当方法无法通过 {@link java.lang.invoke.MethodHandle} 绑定时，回退为反射调用。</p>
+     *
+     * @param method 表示待执行的方法的 {@link Method}。
+     * @return 表示方法调用器的 {@link MethodInvoker}。
+     * @throws IllegalArgumentException 当 {@code method} 为 {@code null} 时。
+     */
+    static MethodInvoker of(Method method) {
+        return MethodHandleInvoker.create(method);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.util.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.MethodInvoker;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.ReflectionUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 为 {@link MethodInvoker} 提供基于 {@link MethodHandle} 的实现。
+ * <p>方法句柄被适配为 {@code (Object, Object[])Object} 的形式，并通过 {@link MethodHandle#invokeExact(Object...)}
+ * 调用。调用前会校验入参的数量和类型，因此入参不匹配时抛出的异常与反射调用一致，而方法本身抛出的异常与
+ * {@link ReflectionUtils#invoke(Object, Method, Object...)} 一样，剥离所有 {@link InvocationTargetException} 后作为
+ * {@link MethodInvocationException} 的原因抛出。</p>
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+public final class MethodHandleInvoker implements MethodInvoker {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Map<Class<?>, Set<Class<?>>> WIDENINGS = MapBuilder.<Class<?>, Set<Class<?>>>get()
+            .put(byte.class, Set.of(short.class, int.class, long.class, float.class, double.class))
+            .put(short.class, Set.of(int.class, long.class, float.class, double.class))
+            .put(char.class, Set.of(int.class, long.class, float.class, double.class))
+            .put(int.class, Set.of(long.class, float.class, double.class))
+            .put(long.class, Set.of(float.class, double.class))
+            .put(float.class, Set.of(double.class))
+            .build();
+
+    private final Method method;
+    private final boolean isStatic;
+    private final Class<?> declaringClass;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle handle;
+
+    private MethodHandleInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.declaringClass = method.getDeclaringClass();
+        this.parameterTypes = method.getParameterTypes();
+        this.handle = handle;
+    }
+
+    /**
+     * 为指定方法创建调用器。
+     *
+     * @param method 表示待执行的方法的 {@link Method}。
+     * @return 表示方法调用器的 {@link MethodInvoker}。
+     * @throws IllegalArgumentException 当 {@code method} 为 {@code null} 时。
+     */
+    public static MethodInvoker create(Method method) {
+        notNull(method, "The method to invoke cannot be null.");
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+        } catch (IllegalAccessException | RuntimeException e) {
+            // 无法绑定方法句柄时（例如方法所在的模块未开放），回退为反射调用。
+            return (owner, parameters) -> ReflectionUtils.invoke(owner, method, parameters);
+        }
+        int parameterCount = method.getParameterCount();
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        handle = handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount)
+                .asType(INVOKER_TYPE);
+        return new MethodHandleInvoker(method, handle);
+    }
+
+    @Override
+    public Object invoke(Object owner, Object... parameters) {
+        Object[] actual = parameters == null ? new Object[0] : parameters;
+        this.validate(owner, actual);
+        try {
+            return (Object) this.handle.invokeExact(owner, actual);
+        } catch (Throwable cause) {
+            Throwable actualCause = cause;
+            while (actualCause instanceof InvocationTargetException) {
+                InvocationTargetException invocationTargetException = ObjectUtils.cast(actualCause);
+                actualCause = invocationTargetException.getCause();
+            }
+            throw new MethodInvocationException(actualCause);
+        }
+    }
+
+    private void validate(Object owner, Object[] parameters) {
+        if (!this.isStatic) {
+            if (owner == null) {
+                // 当方法是一个实例方法，但调用时方法所在类的实例为 null 时，会抛出 NullPointerException，提前进行校验。
+                throw new IllegalArgumentException(StringUtils.format(
+                        "The specified owner is null and the method is an instance method. [method={0}]",
+                        this.method.getName()));
+            }
+            if (!this.declaringClass.isInstance(owner)) {
+                throw new MethodInvocationException(new IllegalArgumentException(
+                        "object is not an instance of declaring class"));
+            }
+        }
+        if (parameters.length != this.parameterTypes.length) {
+            throw new MethodInvocationException(new IllegalArgumentException(StringUtils.format(
+                    "wrong number of arguments: {0} expected: {1}",
+                    parameters.length,
+                    this.parameterTypes.length)));
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            if (!isAssignable(this.parameterTypes[i], parameters[i])) {
+                throw new MethodInvocationException(new IllegalArgumentException("argument type mismatch"));
+            }
+        }
+    }
+
+    // 与反射调用的规则相同：基本类型的入参允许拆箱后进行宽化转换。
+    private static boolean isAssignable(Class<?> type, Object value) {
+        if (!type.isPrimitive()) {
+            return value == null || type.isInstance(value);
+        }
+        if (value == null) {
+            return false;
+        }
+        Class<?> source = MethodType.methodType(value.getClass()).unwrap().returnType();
+        return source == type || WIDENINGS.getOrDefault(source, Collections.emptySet()).contains(type);
+    }
+}
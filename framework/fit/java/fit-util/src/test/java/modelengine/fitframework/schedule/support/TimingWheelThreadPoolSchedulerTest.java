@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.schedule.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import modelengine.fitframework.schedule.ExecutePolicy;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link TimingWheelThreadPoolScheduler} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 TimingWheelThreadPoolScheduler 类")
+public class TimingWheelThreadPoolSchedulerTest {
+    private ThreadPoolScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        this.scheduler = ThreadPoolScheduler.timingWheel()
+                .threadPoolName("timing-wheel")
+                .tickDuration(1, TimeUnit.MILLISECONDS)
+                .ticksPerWheel(8)
+                .tickThreads(2)
+                .corePoolSize(2)
+                .isDaemonThread(true)
+                .isImmediateShutdown(true)
+                .awaitTermination(500L, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        this.scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("调用无延时调度方法，任务执行成功")
+    void shouldExecuteTaskWithoutDelay() throws ExecutionException, InterruptedException {
+        ScheduledFuture<?> future = this.scheduler.schedule(Task.builder().callable(() -> "final").build());
+        assertThat(future.get()).isEqualTo("final");
+    }
+
+    @Test
+    @DisplayName("延时跨越多层时间轮时，任务不早于指定时间执行")
+    void shouldNotExecuteTaskBeforeDelay() throws ExecutionException, InterruptedException {
+        long start = System.currentTimeMillis();
+        ScheduledFuture<?> future =
+                this.scheduler.schedule(Task.builder().callable(System::currentTimeMillis).build(), 200L);
+        assertThat((long) future.get() - start).isGreaterThanOrEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("取消尚未到期的任务后，任务不再执行")
+    void shouldNotExecuteCancelledTasks() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(50);
+        List<ScheduledFuture<?>> cancelled = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (i % 2 == 0) {
+                cancelled.add(this.scheduler.schedule(Task.builder().runnable(executed::incrementAndGet).build(),
+                        100L + i));
+            } else {
+                this.scheduler.schedule(Task.builder().runnable(latch::countDown).build(), 100L + i);
+            }
+        }
+        for (ScheduledFuture<?> future : cancelled) {
+            assertThat(future.cancel(false)).isTrue();
+            assertThat(future.isCancelled()).isTrue();
+        }
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("固定频率的任务被反复执行，直到被取消")
+    void shouldRescheduleFixedRateTaskUntilCancelled() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> future = this.scheduler.schedule(Task.builder()
+                .runnable(latch::countDown)
+                .policy(ExecutePolicy.fixedRate(10))
+                .build());
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+    }
+
+    @Test
+    @DisplayName("固定频率的任务在执行期间被取消时，任务不再被调度")
+    void shouldNotRescheduleTaskCancelledWhileRunning() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            AtomicInteger executed = new AtomicInteger();
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ScheduledFuture<?> future = this.scheduler.schedule(Task.builder().callable(() -> {
+                executed.incrementAndGet();
+                running.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }).policy(ExecutePolicy.fixedRate(1)).build());
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+            assertThat(future.cancel(false)).isTrue();
+            assertThat(future.isCancelled()).isTrue();
+            Thread.sleep(10);
+            int count = executed.get();
+            Thread.sleep(10);
+            assertThat(executed.get()).isEqualTo(count);
+        }
+    }
+
+    @Test
+    @DisplayName("关闭之后调用调度方法，抛出异常")
+    void shouldRejectTaskAfterShutdown() throws InterruptedException {
+        this.scheduler.shutdown();
+        RejectedExecutionException exception = catchThrowableOfType(RejectedExecutionException.class,
+                () -> this.scheduler.schedule(Task.builder().runnable(() -> {}).build(), 100L));
+        assertThat(exception).isNotNull();
+    }
+}
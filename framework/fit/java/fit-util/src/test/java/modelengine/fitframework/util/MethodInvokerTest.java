@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+/**
+ * {@link MethodInvoker} 的单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 MethodInvoker")
+public class MethodInvokerTest {
+    @Test
+    @DisplayName("调用静态方法，基本类型入参允许宽化转换")
+    void shouldInvokeStaticMethodWithWideningArguments() throws NoSuchMethodException {
+        MethodInvoker invoker = MethodInvoker.of(Target.class.getDeclaredMethod("add", long.class, int.class));
+        assertThat(invoker.invoke(null, 1, 2)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("调用私有实例方法，返回方法的返回值")
+    void shouldInvokePrivateInstanceMethod() throws NoSuchMethodException {
+        MethodInvoker invoker = MethodInvoker.of(Target.class.getDeclaredMethod("greet", String.class));
+        assertThat(invoker.invoke(new Target(), "fit")).isEqualTo("hello fit");
+    }
+
+    @Test
+    @DisplayName("当方法抛出受检异常时，抛出以原始异常为原因的 MethodInvocationException")
+    void shouldUnwrapCheckedExceptionAsCause() throws NoSuchMethodException {
+        MethodInvoker invoker = MethodInvoker.of(Target.class.getDeclaredMethod("fail"));
+        assertThatThrownBy(() -> invoker.invoke(new Target())).isInstanceOf(MethodInvocationException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("当入参类型不匹配时，抛出 MethodInvocationException")
+    void shouldThrowWhenArgumentMismatch() throws NoSuchMethodException {
+        MethodInvoker invoker = MethodInvoker.of(Target.class.getDeclaredMethod("greet", String.class));
+        assertThatThrownBy(() -> invoker.invoke(new Target(), 1)).isInstanceOf(MethodInvocationException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> invoker.invoke(new Target())).isInstanceOf(MethodInvocationException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("当实例方法的主体对象为 null 时，抛出 IllegalArgumentException")
+    void shouldThrowWhenOwnerIsNull() throws NoSuchMethodException {
+        MethodInvoker invoker = MethodInvoker.of(Target.class.getDeclaredMethod("greet", String.class));
+        assertThatThrownBy(() -> invoker.invoke(null, "fit")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static class Target {
+        static long add(long first, int second) {
+            return first + second;
+        }
+
+        private String greet(String name) {
+            return "hello " + name;
+        }
+
+        void fail() throws IOException {
+            throw new IOException("failed");
+        }
+    }
+}
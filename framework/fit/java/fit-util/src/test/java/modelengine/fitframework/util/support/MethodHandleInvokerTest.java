@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fitframework.util.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+import modelengine.fitframework.util.MethodInvoker;
+import modelengine.fitframework.util.ReflectionUtils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link MethodHandleInvoker} 的单元测试。
+ *
+ * @author 梁济时
+ * @since 2026-10-19
+ */
+@DisplayName("测试 MethodHandleInvoker")
+public class MethodHandleInvokerTest {
+    private static final IllegalStateException FAILURE = new IllegalStateException("failed");
+
+    @Test
+    @DisplayName("调用正常返回的方法时，结果与反射调用一致")
+    void givenNormalMethodThenReturnSameResult() throws NoSuchMethodException {
+        Method method = Target.class.getDeclaredMethod("add", int.class, long.class);
+        Target target = new Target();
+        assertThat(MethodHandleInvoker.create(method).invoke(target, 1, 2L)).isEqualTo(3L);
+        assertThat(ReflectionUtils.invoke(target, method, 1, 2L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("方法抛出异常时，与反射调用一样以原始异常作为原因抛出")
+    void givenThrowingMethodThenThrowSameCause() throws NoSuchMethodException {
+        Method method = Target.class.getDeclaredMethod("fail");
+        MethodInvocationException expected = catchThrowableOfType(MethodInvocationException.class,
+                () -> ReflectionUtils.invoke(new Target(), method));
+        MethodInvocationException actual = catchThrowableOfType(MethodInvocationException.class,
+                () -> MethodHandleInvoker.create(method).invoke(new Target()));
+        assertThat(expected.getCause()).isSameAs(FAILURE);
+        assertThat(actual.getCause()).isSameAs(expected.getCause());
+    }
+
+    @Test
+    @DisplayName("方法抛出 InvocationTargetException 时，与反射调用一样剥离后以最内层的原因抛出")
+    void givenMethodThrowingInvocationTargetExceptionThenUnwrapLikeReflection() throws NoSuchMethodException {
+        Method method = Target.class.getDeclaredMethod("failWrapped");
+        MethodInvocationException expected = catchThrowableOfType(MethodInvocationException.class,
+                () -> ReflectionUtils.invoke(null, method));
+        MethodInvocationException actual = catchThrowableOfType(MethodInvocationException.class,
+                () -> MethodHandleInvoker.create(method).invoke(null));
+        assertThat(expected.getCause()).isInstanceOf(IOException.class).hasMessage("wrapped");
+        assertThat(actual.getCause()).isInstanceOf(IOException.class).hasMessage("wrapped");
+    }
+
+    @Test
+    @DisplayName("入参与方法不匹配时，与反射调用一样抛出以参数异常为原因的异常")
+    void givenMismatchedArgumentsThenThrowSameException() throws NoSuchMethodException {
+        Method method = Target.class.getDeclaredMethod("add", int.class, long.class);
+        MethodInvoker invoker = MethodHandleInvoker.create(method);
+        MethodInvocationException expected = catchThrowableOfType(MethodInvocationException.class,
+                () -> ReflectionUtils.invoke(new Target(), method, "1", 2L));
+        MethodInvocationException actual =
+                catchThrowableOfType(MethodInvocationException.class, () -> invoker.invoke(new Target(), "1", 2L));
+        assertThat(expected.getCause()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(actual.getCause()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowableOfType(IllegalArgumentException.class, () -> invoker.invoke(null, 1, 2L)))
+                .hasMessage(catchThrowableOfType(IllegalArgumentException.class,
+                        () -> ReflectionUtils.invoke(null, method, 1, 2L)).getMessage());
+    }
+
+    /**
+     * 表示被调用的目标类。
+     */
+    public static class Target {
+        private long add(int first, long second) {
+            return first + second;
+        }
+
+        private void fail() {
+            throw FAILURE;
+        }
+
+        private static void failWrapped() throws InvocationTargetException {
+            throw new InvocationTargetException(new InvocationTargetException(new IOException("wrapped")));
+        }
+    }
+}